@@ -0,0 +1,29 @@
+#!/usr/bin/env bash
+# =============================================================================
+# JMH 결과 비교 스크립트
+# =============================================================================
+# 사용법:
+#   ./gradlew jmh                       # build/results/jmh/results-{커밋}.json 생성
+#   git checkout <다른 커밋> && ./gradlew jmh
+#   scripts/jmh-compare.sh build/results/jmh/results-abc1234.json build/results/jmh/results-def5678.json
+#
+# 출력: 벤치마크(+파라미터)별 기준/대상 점수와 변화율(%) TSV
+#   AverageTime 기준이므로 변화율이 양수면 느려진 것
+# 전제조건: jq 설치
+# =============================================================================
+
+set -euo pipefail
+
+if [ $# -ne 2 ]; then
+  echo "usage: $0 <base-results.json> <target-results.json>" >&2
+  exit 1
+fi
+
+summarize() {
+  jq -r '.[] | [(.benchmark + (if .params then "(" + (.params | to_entries | map(.key + "=" + .value) | join(",")) + ")" else "" end)),
+               .primaryMetric.score, .primaryMetric.scoreUnit] | @tsv' "$1" | sort
+}
+
+printf "benchmark\tbase\ttarget\tunit\tchange(%%)\n"
+join -t $'\t' <(summarize "$1") <(summarize "$2") |
+  awk -F'\t' '{ change = ($2 == 0) ? 0 : ($4 - $2) / $2 * 100; printf "%s\t%.3f\t%.3f\t%s\t%+.1f\n", $1, $2, $4, $3, change }'
@@ -0,0 +1,82 @@
+package com.ureca.snac.asset.export;
+
+import com.ureca.snac.asset.dto.AssetHistoryExportRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자산 내역 내보내기 직렬화 처리량 (100만 행)
+ * 커서에서 읽는 것처럼 행을 하나씩 만들어 바로 쓰므로 힙 사용량은 행 수와 무관하다.
+ * DB 커서 구간은 포함하지 않으며, 전체 경로는 시드 데이터에 대해 /api/asset-histories/me/export 로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx64m"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class AssetHistoryExportBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Param({"CSV", "NDJSON"})
+    public AssetHistoryExportFormat format;
+
+    @Benchmark
+    public long exportMillionRows() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        AssetHistoryExportWriter writer = AssetHistoryExportWriter.of(format, out);
+
+        writer.writeHeader();
+        for (int i = 0; i < ROWS; i++) {
+            writer.write(row(i));
+        }
+        writer.finish();
+        return out.bytes;
+    }
+
+    // 충전/구매가 번갈아 나오는 시드 행 (충전은 결제 키, 일부 제목은 CSV 이스케이프 대상)
+    private static AssetHistoryExportRow row(int i) {
+        boolean recharge = i % 2 == 0;
+        return new AssetHistoryExportRow(
+                (long) ROWS - i,
+                BASE.plusSeconds(ROWS - i),
+                "MONEY",
+                recharge ? "DEPOSIT" : "WITHDRAWAL",
+                recharge ? "RECHARGE" : "BUY",
+                recharge ? 10_000L : -4_000L,
+                100_000L + i,
+                recharge ? "충전" : (i % 10 == 1 ? "SKT, 2GB" : "KT 5GB"),
+                recharge ? "pk_" + i : null
+        );
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.ureca.snac.auth.util;
+
+import com.ureca.snac.auth.dto.JwtClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 비용
+ * parse : 서명 검증 + 클레임 추출 1회
+ * parseAccessTokenCached : 검증 완료 캐시 적중 (JWTFilter 요청당 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JWTUtilBenchmark {
+
+    private static final String SECRET = "benchmark-jwt-secret-key-minimum-256-bits-long";
+
+    private JWTUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JWTUtil(SECRET, 10_000, new SimpleMeterRegistry());
+        accessToken = jwtUtil.createJwt("access", "benchmark@snac.com", "USER", 3_600_000L);
+        jwtUtil.parseAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public JwtClaims parse() {
+        return jwtUtil.parse(accessToken);
+    }
+
+    @Benchmark
+    public JwtClaims parseAccessTokenCached() {
+        return jwtUtil.parseAccessToken(accessToken);
+    }
+}
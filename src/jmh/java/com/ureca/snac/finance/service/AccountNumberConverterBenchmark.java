@@ -0,0 +1,41 @@
+package com.ureca.snac.finance.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌번호 AES 암복호화 비용 (엔티티 저장/조회마다 호출)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccountNumberConverterBenchmark {
+
+    private static final String ACCOUNT_NUMBER = "110-123-456789";
+
+    private AccountNumberConverter converter;
+    private String encrypted;
+
+    @Setup
+    public void setUp() {
+        converter = new AccountNumberConverter("benchmark-passphrase", "00112233445566778899aabbccddeeff");
+        encrypted = converter.convertToDatabaseColumn(ACCOUNT_NUMBER);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return converter.convertToDatabaseColumn(ACCOUNT_NUMBER);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return converter.convertToEntityAttribute(encrypted);
+    }
+}
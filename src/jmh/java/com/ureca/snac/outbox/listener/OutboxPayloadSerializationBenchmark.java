@@ -0,0 +1,52 @@
+package com.ureca.snac.outbox.listener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ureca.snac.payment.event.PaymentCancelCompensationEvent;
+import com.ureca.snac.wallet.event.WalletCreatedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OutboxEventListener 페이로드 직렬화 비용
+ * 공유 ObjectMapper 는 Spring Boot 자동 설정과 같은 Jackson2ObjectMapperBuilder 로 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OutboxPayloadSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private PaymentCancelCompensationEvent paymentEvent;
+    private WalletCreatedEvent walletEvent;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        paymentEvent = new PaymentCancelCompensationEvent(
+                1L, 100L, 10_000L, "고객 요청 취소", OffsetDateTime.now());
+        walletEvent = new WalletCreatedEvent(1L, 100L);
+    }
+
+    @Benchmark
+    public String serializePaymentCancelCompensation() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(paymentEvent);
+    }
+
+    @Benchmark
+    public String serializeWalletCreated() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(walletEvent);
+    }
+}
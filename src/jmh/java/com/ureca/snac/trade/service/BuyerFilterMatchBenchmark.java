@@ -0,0 +1,84 @@
+package com.ureca.snac.trade.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ureca.snac.board.entity.constants.Carrier;
+import com.ureca.snac.board.entity.constants.PriceRange;
+import com.ureca.snac.trade.controller.request.BuyerFilterRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실시간 판매글 1건에 대한 구매자 필터 매칭 비용
+ * linearScan : 기존 방식 (전체 필터 순회 + carrier/dataAmount/price 비교)
+ * indexLookup : BuyerFilterIndex 버킷 + 가격 구간 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BuyerFilterMatchBenchmark {
+
+    private static final Carrier[] CARRIERS = Carrier.values();
+    private static final int[] DATA_AMOUNTS = {1, 2, 5, 10};
+    private static final PriceRange[] PRICE_RANGES = PriceRange.values();
+
+    @Param({"1000", "10000"})
+    public int buyerCount;
+
+    private final Map<String, BuyerFilterRequest> filters = new HashMap<>();
+    private BuyerFilterIndex index;
+
+    @Setup
+    public void setUp() {
+        // Redis 연동 없이 put/조회만 사용
+        index = new BuyerFilterIndex(null, new ObjectMapper(), new SimpleMeterRegistry());
+
+        for (int i = 0; i < buyerCount; i++) {
+            BuyerFilterRequest filter = new BuyerFilterRequest();
+            filter.setCarrier(CARRIERS[i % CARRIERS.length]);
+            filter.setDataAmount(DATA_AMOUNTS[i % DATA_AMOUNTS.length]);
+            filter.setPriceRange(PRICE_RANGES[i % PRICE_RANGES.length]);
+
+            String username = "buyer" + i;
+            filters.put(username, filter);
+            index.put(username, filter);
+        }
+    }
+
+    @Benchmark
+    public List<String> linearScan() {
+        List<String> buyers = new ArrayList<>();
+        for (Map.Entry<String, BuyerFilterRequest> entry : filters.entrySet()) {
+            BuyerFilterRequest filter = entry.getValue();
+            if (isMatching(Carrier.SKT, 2, 1500, filter) && filter.getActive()) {
+                buyers.add(entry.getKey());
+            }
+        }
+        return buyers;
+    }
+
+    @Benchmark
+    public List<String> indexLookup() {
+        return index.findMatchingBuyers(Carrier.SKT, 2, 1500);
+    }
+
+    // 색인 도입 전 MatchingServiceFacade.isMatching 과 동일한 비교
+    private boolean isMatching(Carrier carrier, Integer dataAmount, Integer price, BuyerFilterRequest filter) {
+        Integer max = filter.getPriceRange().getMax();
+        return carrier.equals(filter.getCarrier())
+                && dataAmount.equals(filter.getDataAmount())
+                && price >= 0 && (max == null || price <= max);
+    }
+}
@@ -0,0 +1,50 @@
+package com.ureca.snac.wallet.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AssetBalance 불변 연산 비용 측정
+ * 거래 1건 = 입금 -> 에스크로 이동 -> 에스크로 차감 (연산마다 새 객체 생성)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AssetBalanceBenchmark {
+
+    private AssetBalance funded;
+
+    @Setup
+    public void setUp() {
+        funded = AssetBalance.init().deposit(1_000_000L);
+    }
+
+    @Benchmark
+    public AssetBalance deposit() {
+        return funded.deposit(1_000L);
+    }
+
+    @Benchmark
+    public AssetBalance withdraw() {
+        return funded.withdraw(1_000L);
+    }
+
+    @Benchmark
+    public AssetBalance escrowRoundTrip() {
+        return funded.moveToEscrow(5_000L).deductEscrow(5_000L);
+    }
+
+    @Benchmark
+    public AssetBalance tradeFlow() {
+        return funded.deposit(5_000L)
+                .moveToEscrow(5_000L)
+                .deductEscrow(5_000L);
+    }
+}
@@ -1,7 +1,11 @@
 package com.ureca.snac.asset.controller;
 
+import com.ureca.snac.asset.dto.AssetHistoryExportRequest;
 import com.ureca.snac.asset.dto.AssetHistoryListRequest;
 import com.ureca.snac.asset.dto.AssetHistoryResponse;
+import com.ureca.snac.asset.dto.AssetMonthlySummaryRequest;
+import com.ureca.snac.asset.dto.AssetMonthlySummaryResponse;
+import com.ureca.snac.asset.export.AssetHistoryExportFormat;
 import com.ureca.snac.asset.service.AssetHistoryService;
 import com.ureca.snac.auth.dto.CustomUserDetails;
 import com.ureca.snac.common.ApiResponse;
@@ -9,10 +13,15 @@ import com.ureca.snac.common.CursorResult;
 import com.ureca.snac.swagger.annotation.UserInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import static com.ureca.snac.common.BaseCode.ASSET_HISTORY_SUCCESS;
+import static com.ureca.snac.common.BaseCode.ASSET_MONTHLY_SUMMARY_SUCCESS;
 
 @Slf4j
 @RestController
@@ -33,4 +42,33 @@ public class AssetHistoryController implements AssetHistorySwagger {
                 userDetails.getUsername(), response.contents().size());
         return ResponseEntity.ok(ApiResponse.of(ASSET_HISTORY_SUCCESS, response));
     }
+
+    @Override
+    public ResponseEntity<ApiResponse<AssetMonthlySummaryResponse>> getMyMonthlySummary(
+            AssetMonthlySummaryRequest request, @UserInfo CustomUserDetails userDetails) {
+        log.info("[월별 자산 집계 조회] 회원 : {}, 요청 : {}", userDetails.getUsername(), request);
+
+        AssetMonthlySummaryResponse response =
+                assetHistoryService.getMonthlySummary(userDetails.getUsername(), request);
+        return ResponseEntity.ok(ApiResponse.of(ASSET_MONTHLY_SUMMARY_SUCCESS, response));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportMyAssetHistories(
+            AssetHistoryExportRequest request, @UserInfo CustomUserDetails userDetails) {
+        log.info("[자산 내역 내보내기 시작] 회원 : {}, 요청 : {}", userDetails.getUsername(), request);
+
+        StreamingResponseBody body =
+                assetHistoryService.exportAssetHistories(userDetails.getUsername(), request);
+
+        AssetHistoryExportFormat format = request.formatOrDefault();
+        String filename = "asset-history-" + request.assetType().name().toLowerCase()
+                + (request.yearMonth() != null ? "-" + request.yearMonth() : "")
+                + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
 }
@@ -1,7 +1,10 @@
 package com.ureca.snac.asset.controller;
 
+import com.ureca.snac.asset.dto.AssetHistoryExportRequest;
 import com.ureca.snac.asset.dto.AssetHistoryListRequest;
 import com.ureca.snac.asset.dto.AssetHistoryResponse;
+import com.ureca.snac.asset.dto.AssetMonthlySummaryRequest;
+import com.ureca.snac.asset.dto.AssetMonthlySummaryResponse;
 import com.ureca.snac.auth.dto.CustomUserDetails;
 import com.ureca.snac.common.ApiResponse;
 import com.ureca.snac.common.CursorResult;
@@ -19,6 +22,7 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "자산 내역 조회", description = "사용자의 자산 변동 내역을 관리")
 @RequestMapping("/api/asset-histories")
@@ -37,4 +41,32 @@ public interface AssetHistorySwagger {
             @ParameterObject @Valid AssetHistoryListRequest request,
             @UserInfo CustomUserDetails userDetails
     );
+
+    @Operation(summary = "내 월별 자산 집계 조회",
+            description = "인증된 사용자의 해당 월 입출금 합계, 카테고리별 건수, 월말 잔액 조회")
+    @SecurityRequirement(name = "Authorization")
+    @ApiSuccessResponse(description = "월별 자산 집계 조회 성공")
+    @ErrorCode400(description = "잘못된 요청 파라미터입니다.")
+    @ErrorCode401
+    @ErrorCode403
+    @ErrorCode500
+    @GetMapping("/me/monthly-summary")
+    ResponseEntity<ApiResponse<AssetMonthlySummaryResponse>> getMyMonthlySummary(
+            @ParameterObject @Valid AssetMonthlySummaryRequest request,
+            @UserInfo CustomUserDetails userDetails
+    );
+
+    @Operation(summary = "내 자산 내역 내보내기",
+            description = "인증된 사용자의 자산 내역 전체를 CSV 또는 NDJSON 파일로 스트리밍 다운로드")
+    @SecurityRequirement(name = "Authorization")
+    @ApiSuccessResponse(description = "자산 내역 파일 스트림")
+    @ErrorCode400(description = "잘못된 요청 파라미터입니다.")
+    @ErrorCode401
+    @ErrorCode403
+    @ErrorCode500
+    @GetMapping("/me/export")
+    ResponseEntity<StreamingResponseBody> exportMyAssetHistories(
+            @ParameterObject @Valid AssetHistoryExportRequest request,
+            @UserInfo CustomUserDetails userDetails
+    );
 }
@@ -0,0 +1,27 @@
+package com.ureca.snac.asset.dto;
+
+import com.ureca.snac.asset.entity.AssetType;
+import com.ureca.snac.asset.export.AssetHistoryExportFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+public record AssetHistoryExportRequest(
+        @Schema(description = "자산 종류 머니 or 포인트",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull
+        AssetType assetType,
+
+        // null 이면 전체 기간
+        @Schema(description = "내보낼 년월 (yyyy-MM)")
+        @Pattern(regexp = "^\\d{4}-(0[1-9]|1[0-2])$", message = "년월은 yyyy-MM 형식이어야 합니다.")
+        String yearMonth,
+
+        @Schema(description = "파일 형식 CSV or NDJSON", defaultValue = "CSV")
+        AssetHistoryExportFormat format
+) {
+
+    public AssetHistoryExportFormat formatOrDefault() {
+        return format != null ? format : AssetHistoryExportFormat.CSV;
+    }
+}
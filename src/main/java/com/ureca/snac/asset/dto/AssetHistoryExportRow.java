@@ -0,0 +1,21 @@
+package com.ureca.snac.asset.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 자산 내역 내보내기 한 행 (충전 내역은 결제 키 포함)
+ *
+ * @param signedAmount 입금 +, 출금 -
+ */
+public record AssetHistoryExportRow(
+        Long id,
+        LocalDateTime createdAt,
+        String assetType,
+        String transactionType,
+        String category,
+        long signedAmount,
+        long balanceAfter,
+        String title,
+        String paymentKey
+) {
+}
@@ -0,0 +1,13 @@
+package com.ureca.snac.asset.dto;
+
+import com.ureca.snac.asset.entity.AssetType;
+
+/**
+ * 회원/자산별 자산 내역 부호 합계 (입금 +, 출금 -)
+ */
+public record AssetHistorySumRow(
+        Long memberId,
+        AssetType assetType,
+        Long signedAmount
+) {
+}
@@ -0,0 +1,20 @@
+package com.ureca.snac.asset.dto;
+
+import com.ureca.snac.asset.entity.AssetType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+public record AssetMonthlySummaryRequest(
+        @Schema(description = "자산 종류 머니 or 포인트",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull
+        AssetType assetType,
+
+        @Schema(description = "조회할 년월 (yyyy-MM)",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull
+        @Pattern(regexp = "^\\d{4}-(0[1-9]|1[0-2])$", message = "년월은 yyyy-MM 형식이어야 합니다.")
+        String yearMonth
+) {
+}
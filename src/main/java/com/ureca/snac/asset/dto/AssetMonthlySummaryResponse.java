@@ -0,0 +1,46 @@
+package com.ureca.snac.asset.dto;
+
+import com.ureca.snac.asset.entity.AssetMonthlySummary;
+import com.ureca.snac.asset.entity.AssetType;
+import com.ureca.snac.asset.entity.TransactionCategory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public record AssetMonthlySummaryResponse(
+        AssetType assetType,
+        String yearMonth,
+        Long depositAmount,
+        Long withdrawalAmount,
+        Map<String, Long> categoryCounts,  // category의 displayName 별 건수 (해당 자산에 유효한 카테고리만)
+        Long closingBalance  // 해당 월 내역이 없으면 null
+) {
+
+    public static AssetMonthlySummaryResponse from(AssetMonthlySummary summary) {
+        Map<String, Long> categoryCounts = new LinkedHashMap<>();
+        for (TransactionCategory category : TransactionCategory.values()) {
+            if (category.isValidFor(summary.getAssetType())) {
+                categoryCounts.put(category.getDisplayName(), summary.countOf(category));
+            }
+        }
+
+        return new AssetMonthlySummaryResponse(
+                summary.getAssetType(),
+                summary.getYearMonth(),
+                summary.getDepositAmount(),
+                summary.getWithdrawalAmount(),
+                categoryCounts,
+                summary.getClosingBalance()
+        );
+    }
+
+    public static AssetMonthlySummaryResponse empty(AssetType assetType, String yearMonth) {
+        Map<String, Long> categoryCounts = new LinkedHashMap<>();
+        for (TransactionCategory category : TransactionCategory.values()) {
+            if (category.isValidFor(assetType)) {
+                categoryCounts.put(category.getDisplayName(), 0L);
+            }
+        }
+        return new AssetMonthlySummaryResponse(assetType, yearMonth, 0L, 0L, categoryCounts, null);
+    }
+}
@@ -362,8 +362,9 @@ public class AssetHistory extends BaseTimeEntity {
 
     @PrePersist
     public void setYearMonth() {
-        // createdAt은 AuditingEntityListener가 설정하므로 아직 null일 수 있음
-        // 현재 시간 기준으로 yearMonth 설정
-        this.yearMonth = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
+        // 엔티티 리스너(AuditingEntityListener)가 먼저 실행되므로 createdAt 과 같은 시각으로 설정
+        // 감사 설정이 없는 환경에서는 createdAt 이 null 일 수 있어 현재 시간 사용
+        LocalDateTime recordedAt = getCreatedAt() != null ? getCreatedAt() : LocalDateTime.now();
+        this.yearMonth = recordedAt.format(DateTimeFormatter.ofPattern("yyyy-MM"));
     }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.ureca.snac.asset.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원/자산/월 단위 자산 내역 집계
+ * 자산 내역 기록과 같은 트랜잭션에서 (member_id, asset_type, tx_year_month) 행에 누적되며
+ * 월별 합계·건수·월말 잔액 조회를 내역 범위 스캔 대신 한 행 조회로 처리한다.
+ */
+@Entity
+@Getter
+@Table(name = "asset_monthly_summary",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_asset_monthly_summary_member_asset_ym",
+                columnNames = {"member_id", "asset_type", "tx_year_month"}
+        ))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AssetMonthlySummary {
+
+    @Id
+    @Column(name = "asset_monthly_summary_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "asset_type", nullable = false, length = 10)
+    private AssetType assetType;
+
+    @Column(name = "tx_year_month", nullable = false, length = 10)
+    private String yearMonth;
+
+    @Column(nullable = false)
+    private long depositAmount;
+
+    @Column(nullable = false)
+    private long withdrawalAmount;
+
+    // 카테고리별 건수
+    @Column(nullable = false)
+    private long rechargeCount;
+
+    @Column(nullable = false)
+    private long rechargeCancelCount;
+
+    @Column(nullable = false)
+    private long buyCount;
+
+    @Column(nullable = false)
+    private long sellCount;
+
+    @Column(nullable = false)
+    private long tradeCancelCount;
+
+    @Column(nullable = false)
+    private long eventCount;
+
+    @Column(nullable = false)
+    private long pointUsageCount;
+
+    @Column(nullable = false)
+    private long settlementCount;
+
+    // 해당 월 마지막 내역의 거래 후 잔액
+    @Column(nullable = false)
+    private long closingBalance;
+
+    // closingBalance 를 기록한 내역 시각 (늦게 커밋된 이전 내역이 덮어쓰지 않도록 비교)
+    @Column(name = "closing_at", nullable = false)
+    private LocalDateTime closingAt;
+
+    public long countOf(TransactionCategory category) {
+        return switch (category) {
+            case RECHARGE -> rechargeCount;
+            case RECHARGE_CANCEL -> rechargeCancelCount;
+            case BUY -> buyCount;
+            case SELL -> sellCount;
+            case TRADE_CANCEL -> tradeCancelCount;
+            case EVENT -> eventCount;
+            case POINT_USAGE -> pointUsageCount;
+            case SETTLEMENT -> settlementCount;
+        };
+    }
+}
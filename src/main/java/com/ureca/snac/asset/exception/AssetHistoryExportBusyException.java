@@ -0,0 +1,11 @@
+package com.ureca.snac.asset.exception;
+
+import com.ureca.snac.common.exception.BusinessException;
+
+import static com.ureca.snac.common.BaseCode.ASSET_HISTORY_EXPORT_BUSY;
+
+public class AssetHistoryExportBusyException extends BusinessException {
+    public AssetHistoryExportBusyException() {
+        super(ASSET_HISTORY_EXPORT_BUSY);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ureca.snac.asset.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 자산 내역 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AssetHistoryExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+}
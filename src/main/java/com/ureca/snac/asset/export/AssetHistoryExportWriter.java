@@ -0,0 +1,27 @@
+package com.ureca.snac.asset.export;
+
+import com.ureca.snac.asset.dto.AssetHistoryExportRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 자산 내역 행 단위 스트리밍 직렬화
+ * 행을 모으지 않고 바로 출력 스트림에 쓰므로 메모리 사용량은 행 수와 무관하다.
+ */
+public interface AssetHistoryExportWriter {
+
+    void writeHeader() throws IOException;
+
+    void write(AssetHistoryExportRow row) throws IOException;
+
+    // 버퍼를 비우되 응답 스트림은 닫지 않는다 (컨테이너가 닫음)
+    void finish() throws IOException;
+
+    static AssetHistoryExportWriter of(AssetHistoryExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvAssetHistoryExportWriter(out);
+            case NDJSON -> new NdjsonAssetHistoryExportWriter(out);
+        };
+    }
+}
@@ -0,0 +1,173 @@
+package com.ureca.snac.asset.export;
+
+import com.ureca.snac.asset.dto.AssetHistoryExportRequest;
+import com.ureca.snac.asset.dto.AssetHistoryExportRow;
+import com.ureca.snac.asset.entity.TransactionType;
+import com.ureca.snac.asset.exception.AssetHistoryExportBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 자산 내역 스트리밍 내보내기
+ * <p>
+ * 전진 전용 JDBC 커서(MySQL 서버 측 스트리밍, fetch size Integer.MIN_VALUE)로 내역을 한 행씩 읽어
+ * 바로 응답 스트림에 쓴다. 충전 내역의 결제 키는 같은 쿼리에서 LEFT JOIN 으로 가져와
+ * 페이지마다 결제를 따로 조회하지 않는다. 메모리 사용량은 전체 행 수와 무관하다.
+ * <p>
+ * 스트리밍 중에는 같은 커넥션에서 다른 쿼리를 실행할 수 없으므로 트랜잭션 밖에서 전용 커넥션으로 실행한다.
+ * 내보내기 한 건이 다운로드가 끝날 때까지 공용 커넥션 풀의 커넥션 하나를 잡으므로,
+ * 노드당 동시 내보내기를 max-concurrent 로 제한하고 초과 요청은 기다리지 않고 바로 거절한다.
+ * 본문은 응답 상태와 헤더가 나간 뒤 비동기로 실행되므로, 한도는 요청 스레드에서 acquire 로 먼저 잡고
+ * 본문 종료(또는 비동기 시간 초과·오류) 시 Permit 을 닫아 돌려준다.
+ */
+@Slf4j
+@Component
+public class AssetHistoryExporter {
+
+    private static final String EXPORT_SQL = """
+            SELECT h.asset_history_id, h.created_at, h.asset_type, h.transaction_type, h.category,
+                   h.amount, h.balance_after, h.title, p.payment_key
+              FROM asset_history h
+              LEFT JOIN payment p
+                ON h.category = 'RECHARGE' AND p.payment_id = h.source_id
+             WHERE h.member_id = ?
+               AND h.asset_type = ?
+            """;
+    private static final String YEAR_MONTH_CONDITION = "   AND h.tx_year_month = ?\n";
+    private static final String ORDER_BY = " ORDER BY h.created_at DESC, h.asset_history_id DESC";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore permits;
+    private final Counter rejectedCounter;
+
+    public AssetHistoryExporter(
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${asset.history.export.max-concurrent}") int maxConcurrent
+    ) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(maxConcurrent);
+
+        this.rejectedCounter = Counter.builder("asset_history_export_rejected_total")
+                .description("동시 내보내기 한도 초과로 거절한 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("asset_history_export_in_flight", () -> maxConcurrent - permits.availablePermits())
+                .description("진행 중인 자산 내역 내보내기 수 (각각 커넥션 1개 점유)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 동시 내보내기 한도 1개 획득 (응답 본문을 만들기 전 요청 스레드에서 호출, 거절은 일반 오류 응답으로 나감)
+     *
+     * @return 내보내기 종료 시 닫아야 하는 한도
+     * @throws AssetHistoryExportBusyException 동시 내보내기 한도 초과
+     */
+    public Permit acquire(Long memberId) {
+        if (!permits.tryAcquire()) {
+            rejectedCounter.increment();
+            log.warn("[자산 내역 내보내기] 동시 내보내기 한도 초과로 거절. memberId: {}", memberId);
+            throw new AssetHistoryExportBusyException();
+        }
+        return new Permit();
+    }
+
+    /**
+     * acquire 로 한도를 잡은 호출자가 실행
+     *
+     * @return 내보낸 행 수
+     */
+    public long export(Long memberId, AssetHistoryExportRequest request, OutputStream out) throws IOException {
+        AssetHistoryExportFormat format = request.formatOrDefault();
+        AssetHistoryExportWriter writer = AssetHistoryExportWriter.of(format, out);
+
+        StringBuilder sql = new StringBuilder(EXPORT_SQL);
+        List<Object> args = new ArrayList<>(List.of(memberId, request.assetType().name()));
+        if (request.yearMonth() != null) {
+            sql.append(YEAR_MONTH_CONDITION);
+            args.add(request.yearMonth());
+        }
+        sql.append(ORDER_BY);
+
+        long[] count = {0};
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            writer.writeHeader();
+            streamingJdbcTemplate.query(sql.toString(), rs -> {
+                long amount = rs.getLong("amount");
+                boolean deposit = TransactionType.DEPOSIT.name().equals(rs.getString("transaction_type"));
+                AssetHistoryExportRow row = new AssetHistoryExportRow(
+                        rs.getLong("asset_history_id"),
+                        rs.getTimestamp("created_at").toLocalDateTime(),
+                        rs.getString("asset_type"),
+                        rs.getString("transaction_type"),
+                        rs.getString("category"),
+                        deposit ? amount : -amount,
+                        rs.getLong("balance_after"),
+                        rs.getString("title"),
+                        rs.getString("payment_key")
+                );
+                try {
+                    writer.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            }, args.toArray());
+            writer.finish();
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 끊김 등 출력 실패
+            log.warn("[자산 내역 내보내기] 출력 중단. memberId: {}, 내보낸 행 수: {}, error: {}",
+                    memberId, count[0], e.getCause().getMessage());
+            throw e.getCause();
+        } finally {
+            sample.stop(Timer.builder("asset_history_export_duration")
+                    .description("자산 내역 내보내기 소요 시간")
+                    .tag("format", format.name())
+                    .register(meterRegistry));
+            Counter.builder("asset_history_export_rows_total")
+                    .description("내보낸 자산 내역 행 수")
+                    .tag("format", format.name())
+                    .register(meterRegistry)
+                    .increment(count[0]);
+        }
+
+        log.info("[자산 내역 내보내기] 완료. memberId: {}, 형식: {}, 행 수: {}", memberId, format, count[0]);
+        return count[0];
+    }
+
+    /**
+     * 획득한 동시 내보내기 한도 (여러 번 닫아도 한 번만 반환)
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
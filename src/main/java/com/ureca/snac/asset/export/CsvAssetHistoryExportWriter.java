@@ -0,0 +1,80 @@
+package com.ureca.snac.asset.export;
+
+import com.ureca.snac.asset.dto.AssetHistoryExportRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * RFC 4180 CSV (UTF-8 BOM 포함, 엑셀에서 한글 제목이 깨지지 않도록)
+ */
+class CsvAssetHistoryExportWriter implements AssetHistoryExportWriter {
+
+    private static final DateTimeFormatter CREATED_AT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String HEADER =
+            "id,created_at,asset_type,transaction_type,category,amount,balance_after,title,payment_key";
+
+    private final Writer writer;
+
+    CsvAssetHistoryExportWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        writer.write('\uFEFF');
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(AssetHistoryExportRow row) throws IOException {
+        writer.write(String.valueOf(row.id()));
+        writer.write(',');
+        writer.write(row.createdAt().format(CREATED_AT));
+        writer.write(',');
+        writer.write(row.assetType());
+        writer.write(',');
+        writer.write(row.transactionType());
+        writer.write(',');
+        writer.write(row.category());
+        writer.write(',');
+        writer.write(String.valueOf(row.signedAmount()));
+        writer.write(',');
+        writer.write(String.valueOf(row.balanceAfter()));
+        writer.write(',');
+        writeEscaped(row.title());
+        writer.write(',');
+        writeEscaped(row.paymentKey());
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번
+    private void writeEscaped(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
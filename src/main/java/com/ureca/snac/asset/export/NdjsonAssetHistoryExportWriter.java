@@ -0,0 +1,62 @@
+package com.ureca.snac.asset.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.ureca.snac.asset.dto.AssetHistoryExportRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 줄 단위 JSON (행마다 객체 하나, 줄바꿈 구분)
+ * ObjectMapper 대신 JsonGenerator 로 필드를 직접 써서 행마다 중간 객체를 만들지 않는다.
+ */
+class NdjsonAssetHistoryExportWriter implements AssetHistoryExportWriter {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .build();
+    private static final DateTimeFormatter CREATED_AT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final JsonGenerator generator;
+    private boolean written;
+
+    NdjsonAssetHistoryExportWriter(OutputStream out) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+        this.generator.setRootValueSeparator(new SerializedString("\n"));
+    }
+
+    @Override
+    public void writeHeader() {
+        // NDJSON 은 헤더 없음
+    }
+
+    @Override
+    public void write(AssetHistoryExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.id());
+        generator.writeStringField("createdAt", row.createdAt().format(CREATED_AT));
+        generator.writeStringField("assetType", row.assetType());
+        generator.writeStringField("transactionType", row.transactionType());
+        generator.writeStringField("category", row.category());
+        generator.writeNumberField("amount", row.signedAmount());
+        generator.writeNumberField("balanceAfter", row.balanceAfter());
+        generator.writeStringField("title", row.title());
+        if (row.paymentKey() != null) {
+            generator.writeStringField("paymentKey", row.paymentKey());
+        }
+        generator.writeEndObject();
+        written = true;
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (written) {
+            generator.writeRaw('\n');
+        }
+        generator.close();
+    }
+}
@@ -1,11 +1,48 @@
 package com.ureca.snac.asset.repository;
 
+import com.ureca.snac.asset.dto.AssetHistorySumRow;
 import com.ureca.snac.asset.entity.AssetHistory;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface AssetHistoryRepository extends JpaRepository<AssetHistory, Long>,
         AssetHistoryRepositoryCustom {
 
     // 멱등키로 이미 처리된 요청인지 확인
     boolean existsByIdempotencyKey(String idempotencyKey);
+
+    // 배치 기록 전 멱등키 일괄 확인
+    @Query("select h.idempotencyKey from AssetHistory h where h.idempotencyKey in :idempotencyKeys")
+    Set<String> findExistingIdempotencyKeys(@Param("idempotencyKeys") Collection<String> idempotencyKeys);
+
+    // 월 집계 백필 회원 ID 구간
+    @Query("select min(h.member.id) from AssetHistory h")
+    Optional<Long> findMinMemberId();
+
+    @Query("select max(h.member.id) from AssetHistory h")
+    Optional<Long> findMaxMemberId();
+
+    // 지갑 대사용 회원/자산별 부호 합계 스트림 (MySQL 서버 측 스트리밍, 트랜잭션 안에서 소비 후 close)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+        select new com.ureca.snac.asset.dto.AssetHistorySumRow(
+               h.member.id, h.assetType,
+               sum(case when h.transactionType = com.ureca.snac.asset.entity.TransactionType.DEPOSIT
+                        then h.amount else -h.amount end))
+          from AssetHistory h
+         where h.member.id between :fromMemberId and :toMemberId
+         group by h.member.id, h.assetType
+    """)
+    Stream<AssetHistorySumRow> streamSignedSumsByMemberIdBetween(@Param("fromMemberId") Long fromMemberId,
+                                                                 @Param("toMemberId") Long toMemberId);
 }
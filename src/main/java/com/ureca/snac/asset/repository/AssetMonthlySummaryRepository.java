@@ -0,0 +1,109 @@
+package com.ureca.snac.asset.repository;
+
+import com.ureca.snac.asset.entity.AssetMonthlySummary;
+import com.ureca.snac.asset.entity.AssetType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface AssetMonthlySummaryRepository extends JpaRepository<AssetMonthlySummary, Long> {
+
+    Optional<AssetMonthlySummary> findByMemberIdAndAssetTypeAndYearMonth(Long memberId, AssetType assetType,
+                                                                         String yearMonth);
+
+    /**
+     * 자산 내역 1건을 월 집계 행에 원자적으로 누적 (행이 없으면 생성)
+     * 월말 잔액은 기록 시각이 더 늦은 내역만 덮어쓴다 (closing_balance 를 closing_at 보다 먼저 갱신)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO asset_monthly_summary
+                (member_id, asset_type, tx_year_month, deposit_amount, withdrawal_amount,
+                 recharge_count, recharge_cancel_count, buy_count, sell_count,
+                 trade_cancel_count, event_count, point_usage_count, settlement_count,
+                 closing_balance, closing_at)
+            VALUES (:memberId, :assetType, :yearMonth, :depositAmount, :withdrawalAmount,
+                    :category = 'RECHARGE', :category = 'RECHARGE_CANCEL', :category = 'BUY', :category = 'SELL',
+                    :category = 'TRADE_CANCEL', :category = 'EVENT', :category = 'POINT_USAGE', :category = 'SETTLEMENT',
+                    :balanceAfter, :recordedAt)
+            ON DUPLICATE KEY UPDATE
+                deposit_amount = deposit_amount + :depositAmount,
+                withdrawal_amount = withdrawal_amount + :withdrawalAmount,
+                recharge_count = recharge_count + (:category = 'RECHARGE'),
+                recharge_cancel_count = recharge_cancel_count + (:category = 'RECHARGE_CANCEL'),
+                buy_count = buy_count + (:category = 'BUY'),
+                sell_count = sell_count + (:category = 'SELL'),
+                trade_cancel_count = trade_cancel_count + (:category = 'TRADE_CANCEL'),
+                event_count = event_count + (:category = 'EVENT'),
+                point_usage_count = point_usage_count + (:category = 'POINT_USAGE'),
+                settlement_count = settlement_count + (:category = 'SETTLEMENT'),
+                closing_balance = IF(:recordedAt >= closing_at, :balanceAfter, closing_balance),
+                closing_at = GREATEST(closing_at, :recordedAt)
+            """,
+            nativeQuery = true)
+    int accumulate(@Param("memberId") Long memberId,
+                   @Param("assetType") String assetType,
+                   @Param("yearMonth") String yearMonth,
+                   @Param("category") String category,
+                   @Param("depositAmount") long depositAmount,
+                   @Param("withdrawalAmount") long withdrawalAmount,
+                   @Param("balanceAfter") long balanceAfter,
+                   @Param("recordedAt") LocalDateTime recordedAt);
+
+    /**
+     * 회원 ID 구간의 월 집계를 자산 내역에서 다시 계산해 덮어쓰기 (백필, 재실행해도 같은 결과)
+     * INSERT ... SELECT 가 원본 내역에 공유 락을 잡으므로 진행 중인 기록과 겹쳐도 누락·중복 누적이 없다.
+     *
+     * @return 영향 받은 행 수 (MySQL 기준 신규 1, 갱신 2)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO asset_monthly_summary
+                (member_id, asset_type, tx_year_month, deposit_amount, withdrawal_amount,
+                 recharge_count, recharge_cancel_count, buy_count, sell_count,
+                 trade_cancel_count, event_count, point_usage_count, settlement_count,
+                 closing_balance, closing_at)
+            SELECT g.member_id, g.asset_type, g.tx_year_month, g.deposit_amount, g.withdrawal_amount,
+                   g.recharge_count, g.recharge_cancel_count, g.buy_count, g.sell_count,
+                   g.trade_cancel_count, g.event_count, g.point_usage_count, g.settlement_count,
+                   l.balance_after, l.created_at
+              FROM (SELECT h.member_id, h.asset_type, h.tx_year_month,
+                           SUM(CASE WHEN h.transaction_type = 'DEPOSIT' THEN h.amount ELSE 0 END) AS deposit_amount,
+                           SUM(CASE WHEN h.transaction_type = 'WITHDRAWAL' THEN h.amount ELSE 0 END) AS withdrawal_amount,
+                           SUM(h.category = 'RECHARGE') AS recharge_count,
+                           SUM(h.category = 'RECHARGE_CANCEL') AS recharge_cancel_count,
+                           SUM(h.category = 'BUY') AS buy_count,
+                           SUM(h.category = 'SELL') AS sell_count,
+                           SUM(h.category = 'TRADE_CANCEL') AS trade_cancel_count,
+                           SUM(h.category = 'EVENT') AS event_count,
+                           SUM(h.category = 'POINT_USAGE') AS point_usage_count,
+                           SUM(h.category = 'SETTLEMENT') AS settlement_count,
+                           MAX(h.asset_history_id) AS last_id
+                      FROM asset_history h
+                     WHERE h.member_id BETWEEN :fromMemberId AND :toMemberId
+                     GROUP BY h.member_id, h.asset_type, h.tx_year_month) g
+              JOIN asset_history l ON l.asset_history_id = g.last_id
+            ON DUPLICATE KEY UPDATE
+                deposit_amount = g.deposit_amount,
+                withdrawal_amount = g.withdrawal_amount,
+                recharge_count = g.recharge_count,
+                recharge_cancel_count = g.recharge_cancel_count,
+                buy_count = g.buy_count,
+                sell_count = g.sell_count,
+                trade_cancel_count = g.trade_cancel_count,
+                event_count = g.event_count,
+                point_usage_count = g.point_usage_count,
+                settlement_count = g.settlement_count,
+                closing_balance = l.balance_after,
+                closing_at = l.created_at
+            """,
+            nativeQuery = true)
+    int rebuildByMemberIdBetween(@Param("fromMemberId") Long fromMemberId,
+                                 @Param("toMemberId") Long toMemberId);
+}
@@ -0,0 +1,66 @@
+package com.ureca.snac.asset.scheduler;
+
+import com.ureca.snac.asset.repository.AssetHistoryRepository;
+import com.ureca.snac.asset.repository.AssetMonthlySummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 자산 월 집계 백필
+ * <p>
+ * 회원 ID 구간(chunk-size) 단위로 자산 내역에서 월 집계를 다시 계산해 덮어쓴다.
+ * 구간마다 독립 트랜잭션이며 재실행해도 같은 결과라 중간 실패 시 다시 돌리면 된다.
+ * 도입 시점 이전 내역 반영이나 집계 보정용으로, cron 을 "-" 로 두면 실행되지 않는다.
+ */
+@Slf4j
+@Component
+public class AssetMonthlySummaryBackfillJob {
+
+    private final AssetHistoryRepository assetHistoryRepository;
+    private final AssetMonthlySummaryRepository assetMonthlySummaryRepository;
+    private final int chunkSize;
+
+    public AssetMonthlySummaryBackfillJob(
+            AssetHistoryRepository assetHistoryRepository,
+            AssetMonthlySummaryRepository assetMonthlySummaryRepository,
+            @Value("${asset.summary.backfill.chunk-size}") int chunkSize
+    ) {
+        this.assetHistoryRepository = assetHistoryRepository;
+        this.assetMonthlySummaryRepository = assetMonthlySummaryRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${asset.summary.backfill.cron}")
+    @SchedulerLock(name = "backfillAssetMonthlySummary", lockAtMostFor = "PT2H")
+    public void backfill() {
+        Optional<Long> min = assetHistoryRepository.findMinMemberId();
+        Optional<Long> max = assetHistoryRepository.findMaxMemberId();
+        if (min.isEmpty() || max.isEmpty()) {
+            log.info("[자산 월 집계 백필] 자산 내역 없음");
+            return;
+        }
+
+        log.info("[자산 월 집계 백필] 시작. 회원 ID 구간: [{}, {}], 구간 크기: {}", min.get(), max.get(), chunkSize);
+
+        int chunks = 0;
+        long affected = 0;
+        for (long from = min.get(); from <= max.get(); from += chunkSize) {
+            long to = Math.min(from + chunkSize - 1, max.get());
+            try {
+                affected += assetMonthlySummaryRepository.rebuildByMemberIdBetween(from, to);
+                chunks++;
+            } catch (Exception e) {
+                log.error("[자산 월 집계 백필] 구간 실패, 다음 실행에서 재시도. 구간: [{}, {}], error: {}",
+                        from, to, e.getMessage(), e);
+                return;
+            }
+        }
+
+        log.info("[자산 월 집계 백필] 완료. 구간 수: {}, 영향 행 수: {}", chunks, affected);
+    }
+}
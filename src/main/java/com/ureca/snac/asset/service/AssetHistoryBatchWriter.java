@@ -0,0 +1,171 @@
+package com.ureca.snac.asset.service;
+
+import com.ureca.snac.asset.entity.AssetHistory;
+import com.ureca.snac.asset.repository.AssetHistoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 자산 내역 트랜잭션 단위 배치 기록기 (BATCHED 모드)
+ * <p>
+ * AssetHistory 는 IDENTITY 전략이라 Hibernate INSERT 배치가 꺼지므로,
+ * 현재 트랜잭션에서 기록된 내역을 모아 두었다가 커밋 직전 한 번에 처리한다.
+ * 1. 멱등키를 IN 조회 한 번으로 일괄 확인 (중복이면 기존과 같이 DataIntegrityViolationException 으로 롤백)
+ * 2. 영속성 컨텍스트 flush 후 JdbcTemplate 배치 INSERT (같은 커넥션, 회원 FK 선반영)
+ * 3. 같은 tx_year_month / created_at 으로 월 집계 배치 누적 ({@link AssetMonthlySummaryRecorder#accumulateAll})
+ * <p>
+ * 버퍼는 커밋 전까지 DB 에 없으므로 같은 트랜잭션 안에서 방금 기록한 내역을 조회할 수 없다.
+ */
+@Slf4j
+@Component
+public class AssetHistoryBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO asset_history
+                (member_id, asset_type, transaction_type, category, amount, transaction_detail,
+                 balance_after, title, source_id, tx_year_month, idempotency_key, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final DateTimeFormatter YEAR_MONTH = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final AssetHistoryRepository assetHistoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final AssetMonthlySummaryRecorder monthlySummaryRecorder;
+    private final MeterRegistry meterRegistry;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushTimer;
+
+    public AssetHistoryBatchWriter(
+            AssetHistoryRepository assetHistoryRepository,
+            JdbcTemplate jdbcTemplate,
+            EntityManager entityManager,
+            AssetMonthlySummaryRecorder monthlySummaryRecorder,
+            MeterRegistry meterRegistry
+    ) {
+        this.assetHistoryRepository = assetHistoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.monthlySummaryRecorder = monthlySummaryRecorder;
+        this.meterRegistry = meterRegistry;
+
+        this.batchSizeSummary = DistributionSummary.builder("asset_history_batch_size")
+                .description("커밋 직전 한 번에 기록한 자산 내역 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("asset_history_batch_flush")
+                .description("자산 내역 배치 기록 소요 시간 (멱등키 확인 + INSERT + 월 집계)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 트랜잭션 버퍼에 추가
+     * 같은 트랜잭션 안의 멱등키 중복은 즉시 거절한다.
+     */
+    public void enqueue(AssetHistory history) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("자산 내역 배치 기록은 트랜잭션 안에서만 사용할 수 있다");
+        }
+
+        PendingHistories pending = currentPending();
+        String idempotencyKey = history.getIdempotencyKey();
+        if (pending.histories.putIfAbsent(idempotencyKey, history) != null) {
+            throw duplicate(idempotencyKey);
+        }
+    }
+
+    // 동기화 목록은 트랜잭션별로 관리되므로 REQUIRES_NEW 내부 트랜잭션은 별도 버퍼를 갖는다
+    private PendingHistories currentPending() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingHistories pending && pending.owner() == this) {
+                return pending;
+            }
+        }
+        PendingHistories pending = new PendingHistories();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private void flush(Map<String, AssetHistory> histories) {
+        Set<String> existing = assetHistoryRepository.findExistingIdempotencyKeys(histories.keySet());
+        if (!existing.isEmpty()) {
+            throw duplicate(existing.iterator().next());
+        }
+
+        // 같은 트랜잭션에서 저장한 회원 등 엔티티 변경을 먼저 반영 (FK, 쓰기 순서 보장)
+        entityManager.flush();
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        String yearMonth = now.format(YEAR_MONTH);
+        List<AssetHistory> rows = new ArrayList<>(histories.values());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, history) -> {
+            ps.setLong(1, history.getMember().getId());
+            ps.setString(2, history.getAssetType().name());
+            ps.setString(3, history.getTransactionType().name());
+            ps.setString(4, history.getCategory().name());
+            ps.setLong(5, history.getAmount());
+            if (history.getTransactionDetail() == null) {
+                ps.setNull(6, Types.VARCHAR);
+            } else {
+                ps.setString(6, history.getTransactionDetail().name());
+            }
+            ps.setLong(7, history.getBalanceAfter());
+            ps.setString(8, history.getTitle());
+            ps.setLong(9, history.getSourceId());
+            ps.setString(10, yearMonth);
+            ps.setString(11, history.getIdempotencyKey());
+            ps.setTimestamp(12, timestamp);
+            ps.setTimestamp(13, timestamp);
+        });
+        monthlySummaryRecorder.accumulateAll(rows, yearMonth, now);
+
+        batchSizeSummary.record(rows.size());
+        log.info("[자산 내역 기록] 배치 저장 완료. 건수: {}", rows.size());
+    }
+
+    private DataIntegrityViolationException duplicate(String idempotencyKey) {
+        log.warn("[자산 내역 기록] 중복 요청 감지 (멱등성). idempotencyKey: {}", idempotencyKey);
+        Counter.builder("idempotency_duplicate_blocked_total")
+                .register(meterRegistry)
+                .increment();
+        return new DataIntegrityViolationException("중복 멱등키: " + idempotencyKey);
+    }
+
+    // 트랜잭션별 버퍼, 커밋 직전 기록 (롤백 시 버려짐)
+    private class PendingHistories implements TransactionSynchronization {
+
+        private final Map<String, AssetHistory> histories = new LinkedHashMap<>();
+
+        private AssetHistoryBatchWriter owner() {
+            return AssetHistoryBatchWriter.this;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!histories.isEmpty()) {
+                flushTimer.record(() -> flush(histories));
+            }
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.ureca.snac.asset.service;
 
+import com.ureca.snac.asset.dto.AssetHistoryExportRequest;
 import com.ureca.snac.asset.dto.AssetHistoryListRequest;
 import com.ureca.snac.asset.dto.AssetHistoryResponse;
+import com.ureca.snac.asset.dto.AssetMonthlySummaryRequest;
+import com.ureca.snac.asset.dto.AssetMonthlySummaryResponse;
 import com.ureca.snac.common.CursorResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * AssetHistory 역할과 책임을 명세 비즈니스 로직
@@ -19,4 +23,24 @@ public interface AssetHistoryService {
      * @return 페이지네이션 결과가 담긴 CursorResult
      */
     CursorResult<AssetHistoryResponse> getAssetHistories(String username, AssetHistoryListRequest request);
+
+    /**
+     * 월 집계 조회 (집계 테이블 한 행 조회)
+     *
+     * @param username 조회할 사용자의 email
+     * @param request  자산 종류와 년월
+     * @return 해당 월 입출금 합계, 카테고리별 건수, 월말 잔액 (내역 없으면 0 과 null)
+     */
+    AssetMonthlySummaryResponse getMonthlySummary(String username, AssetMonthlySummaryRequest request);
+
+    /**
+     * 자산 내역 전체 내보내기
+     * 회원 확인과 동시 내보내기 한도 확인은 즉시 하고, 내역은 응답 본문을 쓸 때 커서로 스트리밍한다.
+     *
+     * @param username 내보낼 사용자의 email
+     * @param request  자산 종류, 년월(선택), 파일 형식
+     * @return 응답 스트림에 직접 쓰는 본문
+     * @throws com.ureca.snac.asset.exception.AssetHistoryExportBusyException 동시 내보내기 한도 초과
+     */
+    StreamingResponseBody exportAssetHistories(String username, AssetHistoryExportRequest request);
 }
\ No newline at end of file
@@ -1,10 +1,15 @@
 package com.ureca.snac.asset.service;
 
+import com.ureca.snac.asset.dto.AssetHistoryExportRequest;
 import com.ureca.snac.asset.dto.AssetHistoryListRequest;
 import com.ureca.snac.asset.dto.AssetHistoryResponse;
+import com.ureca.snac.asset.dto.AssetMonthlySummaryRequest;
+import com.ureca.snac.asset.dto.AssetMonthlySummaryResponse;
 import com.ureca.snac.asset.entity.AssetHistory;
 import com.ureca.snac.asset.entity.TransactionCategory;
+import com.ureca.snac.asset.export.AssetHistoryExporter;
 import com.ureca.snac.asset.repository.AssetHistoryRepository;
+import com.ureca.snac.asset.repository.AssetMonthlySummaryRepository;
 import com.ureca.snac.common.CursorResult;
 import com.ureca.snac.member.entity.Member;
 import com.ureca.snac.member.exception.MemberNotFoundException;
@@ -16,11 +21,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 @Slf4j
 @Service
@@ -31,6 +43,8 @@ public class AssetHistoryServiceImpl implements AssetHistoryService {
     private final MemberRepository memberRepository;
     private final AssetHistoryRepository assetHistoryRepository;
     private final PaymentRepository paymentRepository;
+    private final AssetMonthlySummaryRepository assetMonthlySummaryRepository;
+    private final AssetHistoryExporter assetHistoryExporter;
 
     @Override
     public CursorResult<AssetHistoryResponse> getAssetHistories(
@@ -51,6 +65,49 @@ public class AssetHistoryServiceImpl implements AssetHistoryService {
         return new CursorResult<>(historyDtos, nextCursor, historySlice.hasNext());
     }
 
+    @Override
+    public AssetMonthlySummaryResponse getMonthlySummary(String username, AssetMonthlySummaryRequest request) {
+        Member member = findMemberByEmail(username);
+
+        return assetMonthlySummaryRepository
+                .findByMemberIdAndAssetTypeAndYearMonth(member.getId(), request.assetType(), request.yearMonth())
+                .map(AssetMonthlySummaryResponse::from)
+                .orElseGet(() -> AssetMonthlySummaryResponse.empty(request.assetType(), request.yearMonth()));
+    }
+
+    @Override
+    public StreamingResponseBody exportAssetHistories(String username, AssetHistoryExportRequest request) {
+        Long memberId = findMemberByEmail(username).getId();
+        log.info("[자산 내역 내보내기] 요청. 회원 : {}, 조건 : {}", username, request);
+
+        // 본문은 200 과 파일 헤더가 나간 뒤 비동기로 실행되므로 한도 초과 거절은 여기서 동기로 처리
+        AssetHistoryExporter.Permit permit = assetHistoryExporter.acquire(memberId);
+        releaseOnAsyncCompletion(permit);
+
+        return out -> {
+            try (permit) {
+                assetHistoryExporter.export(memberId, request, out);
+            }
+        };
+    }
+
+    /**
+     * 비동기 처리가 끝나면 한도 반환
+     * 본문이 정상 종료하면 이미 반환되어 무시되고, 시간 초과·오류로 끝나거나 본문이 실행되지 못한 경우를 처리한다.
+     */
+    private void releaseOnAsyncCompletion(AssetHistoryExporter.Permit permit) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        WebAsyncUtils.getAsyncManager(attributes.getRequest()).registerCallableInterceptor(permit,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                        permit.close();
+                    }
+                });
+    }
+
     private Map<Long, Payment> getPaymentMapForHistories(List<AssetHistory> histories) {
         List<Long> paymentIds = new ArrayList<>();
         for (AssetHistory history : histories) {
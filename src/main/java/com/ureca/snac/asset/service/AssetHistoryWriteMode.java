@@ -0,0 +1,9 @@
+package com.ureca.snac.asset.service;
+
+/**
+ * 자산 내역 기록 방식
+ */
+public enum AssetHistoryWriteMode {
+    IMMEDIATE, // 기록마다 회원 조회 + 멱등키 조회 + INSERT (기본)
+    BATCHED // 트랜잭션 동안 모아 커밋 직전 멱등키 일괄 확인 후 JDBC 배치 INSERT
+}
@@ -0,0 +1,145 @@
+package com.ureca.snac.asset.service;
+
+import com.ureca.snac.asset.entity.AssetHistory;
+import com.ureca.snac.asset.entity.AssetType;
+import com.ureca.snac.asset.entity.TransactionCategory;
+import com.ureca.snac.asset.entity.TransactionType;
+import com.ureca.snac.asset.repository.AssetMonthlySummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자산 내역 기록 시 월 집계 누적
+ * 내역 기록과 같은 트랜잭션에서 실행되어 기록이 롤백되면 집계도 함께 롤백
+ * <p>
+ * 집계 월과 기록 시각은 내역 행에 저장되는 값(tx_year_month, created_at)을 그대로 써서
+ * 월 경계에서도 내역과 집계가 다른 달로 갈라지지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AssetMonthlySummaryRecorder {
+
+    // 회원/자산별로 미리 합친 증분 (카테고리별 건수를 직접 받음)
+    private static final String ACCUMULATE_SQL = """
+            INSERT INTO asset_monthly_summary
+                (member_id, asset_type, tx_year_month, deposit_amount, withdrawal_amount,
+                 recharge_count, recharge_cancel_count, buy_count, sell_count,
+                 trade_cancel_count, event_count, point_usage_count, settlement_count,
+                 closing_balance, closing_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) AS d
+            ON DUPLICATE KEY UPDATE
+                deposit_amount = asset_monthly_summary.deposit_amount + d.deposit_amount,
+                withdrawal_amount = asset_monthly_summary.withdrawal_amount + d.withdrawal_amount,
+                recharge_count = asset_monthly_summary.recharge_count + d.recharge_count,
+                recharge_cancel_count = asset_monthly_summary.recharge_cancel_count + d.recharge_cancel_count,
+                buy_count = asset_monthly_summary.buy_count + d.buy_count,
+                sell_count = asset_monthly_summary.sell_count + d.sell_count,
+                trade_cancel_count = asset_monthly_summary.trade_cancel_count + d.trade_cancel_count,
+                event_count = asset_monthly_summary.event_count + d.event_count,
+                point_usage_count = asset_monthly_summary.point_usage_count + d.point_usage_count,
+                settlement_count = asset_monthly_summary.settlement_count + d.settlement_count,
+                closing_balance = IF(d.closing_at >= asset_monthly_summary.closing_at,
+                                     d.closing_balance, asset_monthly_summary.closing_balance),
+                closing_at = GREATEST(asset_monthly_summary.closing_at, d.closing_at)
+            """;
+    private static final TransactionCategory[] CATEGORY_COLUMNS = {
+            TransactionCategory.RECHARGE, TransactionCategory.RECHARGE_CANCEL, TransactionCategory.BUY,
+            TransactionCategory.SELL, TransactionCategory.TRADE_CANCEL, TransactionCategory.EVENT,
+            TransactionCategory.POINT_USAGE, TransactionCategory.SETTLEMENT
+    };
+
+    private final AssetMonthlySummaryRepository assetMonthlySummaryRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 저장된 내역 1건 누적 (IMMEDIATE 모드, 저장 시 정해진 tx_year_month / created_at 사용)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void accumulate(AssetHistory history) {
+        boolean deposit = history.getTransactionType() == TransactionType.DEPOSIT;
+        long amount = history.getAmount();
+
+        assetMonthlySummaryRepository.accumulate(
+                history.getMember().getId(),
+                history.getAssetType().name(),
+                history.getYearMonth(),
+                history.getCategory().name(),
+                deposit ? amount : 0L,
+                deposit ? 0L : amount,
+                history.getBalanceAfter(),
+                history.getCreatedAt()
+        );
+
+        log.debug("[자산 월 집계] 누적. memberId: {}, assetType: {}, category: {}",
+                history.getMember().getId(), history.getAssetType(), history.getCategory());
+    }
+
+    /**
+     * 배치 저장한 내역 일괄 누적 (BATCHED 모드, 배치 INSERT 와 같은 월/시각 사용)
+     * 회원/자산별로 합친 뒤 배치 UPSERT 한 번으로 반영하며, 월말 잔액은 기록 순서상 마지막 내역 기준
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void accumulateAll(Collection<AssetHistory> histories, String yearMonth, LocalDateTime recordedAt) {
+        Map<String, Delta> deltas = new LinkedHashMap<>();
+        for (AssetHistory history : histories) {
+            Long memberId = history.getMember().getId();
+            deltas.computeIfAbsent(memberId + ":" + history.getAssetType(),
+                    key -> new Delta(memberId, history.getAssetType())).add(history);
+        }
+
+        List<Delta> rows = new ArrayList<>(deltas.values());
+        Timestamp timestamp = Timestamp.valueOf(recordedAt);
+        jdbcTemplate.batchUpdate(ACCUMULATE_SQL, rows, rows.size(), (ps, delta) -> {
+            ps.setLong(1, delta.memberId);
+            ps.setString(2, delta.assetType.name());
+            ps.setString(3, yearMonth);
+            ps.setLong(4, delta.depositAmount);
+            ps.setLong(5, delta.withdrawalAmount);
+            for (int i = 0; i < CATEGORY_COLUMNS.length; i++) {
+                ps.setInt(6 + i, delta.counts[CATEGORY_COLUMNS[i].ordinal()]);
+            }
+            ps.setLong(14, delta.closingBalance);
+            ps.setTimestamp(15, timestamp);
+        });
+
+        log.debug("[자산 월 집계] 일괄 누적. 내역 수: {}, 집계 행 수: {}, 월: {}", histories.size(), rows.size(), yearMonth);
+    }
+
+    private static final class Delta {
+
+        private final Long memberId;
+        private final AssetType assetType;
+        private final int[] counts = new int[TransactionCategory.values().length];
+        private long depositAmount;
+        private long withdrawalAmount;
+        private long closingBalance;
+
+        private Delta(Long memberId, AssetType assetType) {
+            this.memberId = memberId;
+            this.assetType = assetType;
+        }
+
+        private void add(AssetHistory history) {
+            if (history.getTransactionType() == TransactionType.DEPOSIT) {
+                depositAmount += history.getAmount();
+            } else {
+                withdrawalAmount += history.getAmount();
+            }
+            counts[history.getCategory().ordinal()]++;
+            closingBalance = history.getBalanceAfter();
+        }
+    }
+}
@@ -9,8 +9,8 @@ import com.ureca.snac.member.exception.MemberNotFoundException;
 import com.ureca.snac.member.repository.MemberRepository;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,16 +18,39 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * 자산 내역 기록 서비스 구현체
  * 호출자의 트랜잭션에 참여하여 동기적으로 자산 내역을 기록
+ * <p>
+ * BATCHED 모드는 회원을 조회하지 않고 참조만 사용하며,
+ * 내역을 트랜잭션 버퍼에 모아 커밋 직전 한 번에 기록한다 ({@link AssetHistoryBatchWriter}).
+ * 두 모드 모두 같은 트랜잭션에서 월 집계를 누적한다 ({@link AssetMonthlySummaryRecorder}).
+ * IMMEDIATE 는 저장 직후 1건씩, BATCHED 는 배치 기록기가 커밋 직전 INSERT 와 함께 일괄 누적한다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class AssetRecorderImpl implements AssetRecorder {
 
     private final AssetHistoryRepository assetHistoryRepository;
     private final MemberRepository memberRepository;
     private final MeterRegistry meterRegistry;
+    private final AssetHistoryBatchWriter batchWriter;
+    private final AssetMonthlySummaryRecorder monthlySummaryRecorder;
+    private final AssetHistoryWriteMode writeMode;
+
+    public AssetRecorderImpl(
+            AssetHistoryRepository assetHistoryRepository,
+            MemberRepository memberRepository,
+            MeterRegistry meterRegistry,
+            AssetHistoryBatchWriter batchWriter,
+            AssetMonthlySummaryRecorder monthlySummaryRecorder,
+            @Value("${asset.history.write-mode}") AssetHistoryWriteMode writeMode
+    ) {
+        this.assetHistoryRepository = assetHistoryRepository;
+        this.memberRepository = memberRepository;
+        this.meterRegistry = meterRegistry;
+        this.batchWriter = batchWriter;
+        this.monthlySummaryRecorder = monthlySummaryRecorder;
+        this.writeMode = writeMode;
+    }
 
     @Override
     public void recordMoneyRecharge(Long memberId, Long paymentId, Long amount, Long balanceAfter) {
@@ -120,13 +143,22 @@ public class AssetRecorderImpl implements AssetRecorder {
         return assetHistoryRepository.existsByIdempotencyKey(idempotencyKey);
     }
 
+    // BATCHED 모드는 조회 없이 참조만 사용 (존재 여부는 INSERT 시 FK 로 검증)
     private Member findMemberById(Long memberId) {
+        if (writeMode == AssetHistoryWriteMode.BATCHED) {
+            return memberRepository.getReferenceById(memberId);
+        }
         return memberRepository.findById(memberId)
                 .orElseThrow(MemberNotFoundException::new);
     }
 
     // 멱등성 보장을 위한 저장 메서드
     private void saveWithIdempotency(AssetHistory history) {
+        if (writeMode == AssetHistoryWriteMode.BATCHED) {
+            batchWriter.enqueue(history);
+            return;
+        }
+
         String idempotencyKey = history.getIdempotencyKey();
         if (assetHistoryRepository.existsByIdempotencyKey(idempotencyKey)) {
             log.warn("[자산 내역 기록] 중복 요청 감지 (멱등성). idempotencyKey: {}", idempotencyKey);
@@ -135,6 +167,7 @@ public class AssetRecorderImpl implements AssetRecorder {
         }
 
         assetHistoryRepository.save(history);
+        monthlySummaryRecorder.accumulate(history);
         log.info("[자산 내역 기록] 저장 완료. idempotencyKey: {}", idempotencyKey);
     }
 
@@ -0,0 +1,17 @@
+package com.ureca.snac.auth.dto;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임 (불변)
+ * 한 번 파싱한 결과를 필터/서비스에서 그대로 사용
+ */
+public record JwtClaims(
+        String category,
+        String username,
+        String role,
+        String provider,
+        String providerId,
+        Instant expiration
+) {
+}
@@ -2,6 +2,7 @@ package com.ureca.snac.auth.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ureca.snac.auth.dto.CustomUserDetails;
+import com.ureca.snac.auth.dto.JwtClaims;
 import com.ureca.snac.auth.util.JWTUtil;
 import com.ureca.snac.common.ApiResponse;
 import com.ureca.snac.common.BaseCode;
@@ -47,23 +48,23 @@ public class JWTFilter extends OncePerRequestFilter {
         }
         String accessToken = header.substring(7);
 
-        // 토큰 만료 여부 확인
+        // 서명 검증 + 클레임 추출 한 번에 (검증된 access 토큰은 캐시 사용), 만료 시 ExpiredJwtException
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(accessToken);
+            claims = jwtUtil.parseAccessToken(accessToken);
         } catch (ExpiredJwtException e) {
             sendErrorResponse(response, BaseCode.TOKEN_EXPIRED);
             return;
         }
 
         // 토큰이 access 맞는지 확인
-        String category = jwtUtil.getCategory(accessToken);
-        if (!category.equals("access")) {
+        if (!"access".equals(claims.category())) {
             sendErrorResponse(response, BaseCode.TOKEN_INVALID);
             return;
         }
 
-        String username = jwtUtil.getUsername(accessToken);
-        String role = jwtUtil.getRole(accessToken);
+        String username = claims.username();
+        String role = claims.role();
 
         Member member = Member.builder()
                 .email(username)
@@ -1,19 +1,45 @@
 package com.ureca.snac.auth.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.ureca.snac.auth.dto.JwtClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 
 @Component
 public class JWTUtil {
 
+    private static final String ACCESS_CATEGORY = "access";
+
     private SecretKey secretKey;
 
+    // 서명 검증 파서는 스레드 안전하므로 한 번만 생성
+    private final JwtParser jwtParser;
+
+    // 검증 완료 access 토큰 캐시 (토큰 해시 -> 클레임, 토큰 exp 시각에 만료)
+    private final Cache<String, JwtClaims> verifiedAccessTokens;
+
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+    private final Timer verificationTimer;
+
     @Value("${spring.jwt.access-expiration}")
     private long accessExpirationMs;
 
@@ -23,32 +49,85 @@ public class JWTUtil {
     @Value("${spring.jwt.social-expiration}")
     private long socialExpirationMs;
 
-    public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
+    public JWTUtil(
+            @Value("${spring.jwt.secret}") String secret,
+            @Value("${spring.jwt.verified-cache-size}") long verifiedCacheSize,
+            MeterRegistry meterRegistry
+    ) {
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
+
+        verifiedAccessTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new ExpireAtTokenExpiration())
+                .build();
+
+        cacheHitCounter = Counter.builder("jwt_verified_cache_total")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        cacheMissCounter = Counter.builder("jwt_verified_cache_total")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        verificationTimer = Timer.builder("jwt_verification_duration")
+                .description("JWT 서명 검증 + 클레임 추출 소요 시간")
+                .register(meterRegistry);
     }
-    // JWT의 서명(시그니처)을 서버의 Secret Key로 대조한다는 뜻. 토큰의 서명이 서버의 비밀키로 만들어진 것과 일치하는지 비교
+
+    /**
+     * 서명 검증 + 클레임 추출을 한 번에 수행
+     * JWT의 서명(시그니처)을 서버의 Secret Key로 대조한다는 뜻. 토큰의 서명이 서버의 비밀키로 만들어진 것과 일치하는지 비교
+     *
+     * @throws io.jsonwebtoken.ExpiredJwtException 만료된 토큰
+     * @throws io.jsonwebtoken.JwtException        서명 불일치 등 유효하지 않은 토큰
+     */
+    public JwtClaims parse(String token) {
+        return verificationTimer.record(() -> toJwtClaims(jwtParser.parseSignedClaims(token).getPayload()));
+    }
+
+    /**
+     * access 토큰 검증 (요청마다 호출되는 인증 필터용)
+     * 이미 검증한 access 토큰은 만료 전까지 서명 검증 없이 캐시에서 반환
+     * access 가 아닌 토큰은 캐시하지 않으므로 호출 측에서 category 확인 필요
+     */
+    public JwtClaims parseAccessToken(String token) {
+        String tokenHash = hash(token);
+
+        JwtClaims cached = verifiedAccessTokens.getIfPresent(tokenHash);
+        if (cached != null) {
+            cacheHitCounter.increment();
+            return cached;
+        }
+
+        cacheMissCounter.increment();
+        JwtClaims claims = parse(token);
+        if (ACCESS_CATEGORY.equals(claims.category())) {
+            verifiedAccessTokens.put(tokenHash, claims);
+        }
+        return claims;
+    }
+
     public String getUsername(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class);
+        return parse(token).username();
     }
 
     public String getRole(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
+        return parse(token).role();
     }
 
     public String getCategory(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("category", String.class);
+        return parse(token).category();
     }
 
     public String getProvider(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("provider", String.class);
+        return parse(token).provider();
     }
 
     public String getProviderId(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("providerId", String.class);
+        return parse(token).providerId();
     }
 
     public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        return parse(token).expiration().isBefore(Instant.now());
     }
 
     public String createJwt(String category, String username, String role, Long expiredMs) {
@@ -86,4 +165,45 @@ public class JWTUtil {
     public String createSocialToken(String username, String role, String provider, String providerId) {
         return createJwtForSocial("social", username, role, provider, providerId, socialExpirationMs);
     }
+
+    private JwtClaims toJwtClaims(Claims payload) {
+        return new JwtClaims(
+                payload.get("category", String.class),
+                payload.get("username", String.class),
+                payload.get("role", String.class),
+                payload.get("provider", String.class),
+                payload.get("providerId", String.class),
+                payload.getExpiration().toInstant()
+        );
+    }
+
+    // 원문 토큰 대신 SHA-256 해시를 캐시 키로 사용 (메모리에 토큰 원문 미보관)
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    // 캐시 항목 수명 = 토큰 exp 까지 남은 시간
+    private static class ExpireAtTokenExpiration implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiration()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
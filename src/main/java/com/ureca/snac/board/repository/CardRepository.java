@@ -8,6 +8,7 @@ import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +27,10 @@ public interface CardRepository extends JpaRepository<Card, Long>, CardRepositor
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     List<Card> findLockedByMemberAndSellStatusInAndCardCategory(Member member, List<SellStatus> sellStatuses, CardCategory cardCategory);
 
+    // 연결 해제 정리용: 여러 회원의 카드를 한 번에 잠금 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Card> findLockedByMemberEmailInAndSellStatusInAndCardCategory(Collection<String> emails, List<SellStatus> sellStatuses, CardCategory cardCategory);
+
     List<Card> findByMemberAndSellStatusInAndCardCategory(Member member, List<SellStatus> sellStatuses, CardCategory cardCategory);
 
     List<Card> findByMemberAndSellStatusOrderByUpdatedAtDesc(Member member, SellStatus sellStatus);
@@ -14,6 +14,7 @@ import com.ureca.snac.board.service.response.ScrollCardResponse;
 import com.ureca.snac.trade.controller.request.BuyerFilterRequest;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CardService {
@@ -63,6 +64,13 @@ public interface CardService {
 
     void deleteCardByRealTime(String username, Long cardId);
 
+    /**
+     * 여러 회원의 판매중/거래중 실시간 카드를 한 번에 삭제합니다. (연결 해제 정리)
+     *
+     * @return 삭제된 카드 수
+     */
+    int deleteRealtimeCardsByUsernames(Collection<String> usernames);
+
     CardDto createRealtimeCard(String username, CreateRealTimeCardRequest request);
 
     List<CardDto> findRealtimeCardsByFilter(BuyerFilterRequest filter);
@@ -173,6 +173,19 @@ public class CardServiceImpl implements CardService {
         cardRepository.findLockedByIdAndMember(cardId, member).ifPresent(cardRepository::delete);
     }
 
+    @Override
+    @Transactional
+    public int deleteRealtimeCardsByUsernames(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return 0;
+        }
+
+        List<Card> cards = cardRepository.findLockedByMemberEmailInAndSellStatusInAndCardCategory(
+                usernames, List.of(SellStatus.SELLING, SellStatus.TRADING), REALTIME_SELL);
+        cardRepository.deleteAllInBatch(cards);
+        return cards.size();
+    }
+
     @Transactional
     public List<CardDto> findByMemberUsernameAndSellStatusesAndCardCategory(String username, List<SellStatus> sellStatuses, CardCategory cardCategory) {
         Member member = memberRepository.findByEmail(username).orElseThrow(MemberNotFoundException::new);
@@ -185,6 +185,7 @@ public enum BaseCode {
 
     // 자산 내역 - 성공
     ASSET_HISTORY_SUCCESS("ASSET_HISTORY_SUCCESS_200", HttpStatus.OK, "자산 내역 조회 성공했습니다"),
+    ASSET_MONTHLY_SUMMARY_SUCCESS("ASSET_MONTHLY_SUMMARY_SUCCESS_200", HttpStatus.OK, "월별 자산 집계 조회 성공했습니다"),
 
     // 정산 - 성공
     SETTLEMENT_SUCCESS("SETTLEMENT_SUCCESS_200", HttpStatus.OK, "정산 요청이 성공되었습니다"),
@@ -199,6 +200,9 @@ public enum BaseCode {
     INCONSISTENT_TRANSACTION_TYPE("INCONSISTENT_TRANSACTION_TYPE_409", HttpStatus.CONFLICT, "거래 타입과 카테고리가 일치하지 않습니다"),
     INVALID_ASSET_CATEGORY_COMBINATION("INVALID_ASSET_CATEGORY_COMBINATION_409", HttpStatus.CONFLICT, "자산 타입과 카테고리의 조합이 유효하지 않습니다"),
 
+    // 자산 내역 내보내기 - 예외
+    ASSET_HISTORY_EXPORT_BUSY("ASSET_HISTORY_EXPORT_BUSY_429", HttpStatus.TOO_MANY_REQUESTS, "내보내기 요청이 많습니다. 잠시 후 다시 시도해주세요"),
+
     // 회원 - 성공
     MEMBER_COUNT_SUCCESS("MEMBER_COUNT_SUCCESS_200", HttpStatus.OK, "전체 회원 수를 성공적으로 조회했습니다."),
 
@@ -8,8 +8,26 @@ public final class RedisKeyConstants {
 
     // 구매자 필터 저장용 키 prefix (“buyer_filter:{username}”)
     public static final String BUYER_FILTER_PREFIX = "buyer_filter:";
+    // 구매자 필터 변경 알림 채널 (메시지: username)
+    public static final String BUYER_FILTER_CHANNEL = "buyer_filter_changed";
+    // 구매자 필터 SORTED_SET 저장 방식: username -> 필터 JSON (Hash), username -> 소속 Sorted Set 키 (Hash)
+    public static final String BUYER_FILTER_HASH = "buyer_filter_hash";
+    public static final String BUYER_FILTER_BUCKET_HASH = "buyer_filter_bucket";
+    // (통신사, 데이터량)별 구매자 Sorted Set, score = 필터 최대 가격 (“buyer_filter_z:{carrier}:{dataAmount}”)
+    public static final String BUYER_FILTER_ZSET_PREFIX = "buyer_filter_z:";
+    // 거래 자동 환불/정산 마감 지연 큐 (Sorted Set, “trade_deadline:{refund|payout}”)
+    public static final String TRADE_DEADLINE_PREFIX = "trade_deadline:";
+    // 지갑 잔액 스냅샷 (Hash, “wallet_snapshot:{memberId}”) + 무효화 세대 번호
+    public static final String WALLET_SNAPSHOT_PREFIX = "wallet_snapshot:";
+    public static final String WALLET_SNAPSHOT_GENERATION_PREFIX = "wallet_snapshot_gen:";
     public static final String WS_DISCONNECT_LOCK_PREFIX  = "lock:ws:disconnect:";
     public static final String REDISSON_HOST_PREFIX = "redis://";
     public static final String WS_CONNECTED_PREFIX = "ws_connected:";
+    // 연결 해제 정리 대기열 (Sorted Set, username -> 유예/lease 만료 시각) + 시도 횟수/해제 시각 (Hash)
+    public static final String WS_DISCONNECT_CLEANUP = "ws_disconnect_cleanup";
+    public static final String WS_DISCONNECT_CLEANUP_ATTEMPTS = "ws_disconnect_cleanup_attempts";
+    public static final String WS_DISCONNECT_CLEANUP_SINCE = "ws_disconnect_cleanup_since";
+    // WebSocket 세션 소유 노드 (Hash, username -> nodeId)
+    public static final String WS_SESSION_OWNER = "ws_session_owner";
 
 }
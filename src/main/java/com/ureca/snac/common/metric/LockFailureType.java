@@ -0,0 +1,56 @@
+package com.ureca.snac.common.metric;
+
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PessimisticLockException;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * 비관적 락 획득 실패 분류
+ * <p>
+ * MySQL 오류 코드 기준 (1213 교착, 1205 락 대기 초과)으로 먼저 판단하고,
+ * 원인 SQLException 이 없으면 비관적 락 예외 타입을 락 대기 초과로 본다.
+ */
+public enum LockFailureType {
+
+    DEADLOCK("deadlock"),
+    TIMEOUT("timeout");
+
+    private static final int MYSQL_DEADLOCK = 1213;
+    private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+
+    private final String tag;
+
+    LockFailureType(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    /**
+     * 락 관련 실패가 아니면 empty
+     */
+    public static Optional<LockFailureType> classify(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                if (sqlException.getErrorCode() == MYSQL_DEADLOCK) {
+                    return Optional.of(DEADLOCK);
+                }
+                if (sqlException.getErrorCode() == MYSQL_LOCK_WAIT_TIMEOUT) {
+                    return Optional.of(TIMEOUT);
+                }
+            }
+        }
+
+        if (throwable instanceof PessimisticLockingFailureException
+                || throwable instanceof LockTimeoutException
+                || throwable instanceof PessimisticLockException) {
+            return Optional.of(TIMEOUT);
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,30 @@
+package com.ureca.snac.common.metric;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 락 실패로 인한 @Retryable 재시도 계측
+ * <p>
+ * listeners 를 지정하지 않은 @Retryable 은 등록된 RetryListener 빈을 모두 사용하므로
+ * 거래/정산 경로의 TransientDataAccessException 재시도가 별도 설정 없이 집계된다.
+ * <p>
+ * db_lock_retry_total{cause} : 교착 / 락 대기 초과로 실패한 시도 수
+ */
+@Component
+@RequiredArgsConstructor
+public class LockRetryMetricsListener implements RetryListener {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback,
+                                                 Throwable throwable) {
+        LockFailureType.classify(throwable).ifPresent(type ->
+                meterRegistry.counter("db_lock_retry_total", "cause", type.tag()).increment());
+    }
+}
@@ -0,0 +1,93 @@
+package com.ureca.snac.common.metric;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 잠금 조회 Repository 메서드의 락 대기 계측
+ * <p>
+ * {@code @Lock} 이 선언된 Repository 메서드만 골라 호출 시간을 잰다.
+ * 잠금 조회는 행 락을 얻는 순간 끝나므로 호출 시간 대부분이 락 대기 시간이다.
+ * <p>
+ * db_lock_wait{repository, method, mode, result} : 락 획득 대기 히스토그램 (result = acquired | timeout | deadlock | error)
+ * db_lock_failure_total{repository, method, cause} : 락 대기 초과 / 교착 건수
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class LockWaitMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    // 메서드별 @Lock 조회 결과 캐시 (잠금 없는 메서드는 empty)
+    private final Map<Method, Optional<LockTarget>> targets = new ConcurrentHashMap<>();
+
+    @Around("execution(* com.ureca.snac..*Repository.*(..))")
+    public Object measureLockWait(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Optional<LockTarget> target = targets.computeIfAbsent(method, LockTarget::of);
+        if (target.isEmpty()) {
+            return joinPoint.proceed();
+        }
+
+        LockTarget lockTarget = target.get();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "acquired";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            Optional<LockFailureType> failure = LockFailureType.classify(e);
+            result = failure.map(LockFailureType::tag).orElse("error");
+            failure.ifPresent(type -> recordFailure(lockTarget, type));
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("db_lock_wait")
+                    .description("비관적 락 획득 대기 시간")
+                    .tag("repository", lockTarget.repository())
+                    .tag("method", lockTarget.method())
+                    .tag("mode", lockTarget.mode())
+                    .tag("result", result)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private void recordFailure(LockTarget target, LockFailureType type) {
+        log.warn("[락 대기] 락 획득 실패. repository: {}, method: {}, cause: {}",
+                target.repository(), target.method(), type.tag());
+        meterRegistry.counter("db_lock_failure_total",
+                "repository", target.repository(),
+                "method", target.method(),
+                "cause", type.tag()).increment();
+    }
+
+    private record LockTarget(String repository, String method, String mode) {
+
+        static Optional<LockTarget> of(Method method) {
+            Lock lock = method.getAnnotation(Lock.class);
+            if (lock == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new LockTarget(
+                    method.getDeclaringClass().getSimpleName(),
+                    method.getName(),
+                    lock.value().name().toLowerCase(Locale.ROOT)
+            ));
+        }
+    }
+}
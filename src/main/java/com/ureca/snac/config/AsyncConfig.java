@@ -1,6 +1,7 @@
 package com.ureca.snac.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +18,7 @@ import java.util.concurrent.ThreadPoolExecutor;
  * Executor 분리 전략
  * Outbox 이벤트 발행 AFTER_COMMIT 리스너가 사용
  * Slack 알림
+ * Outbox 릴레이 Aggregate 레인
  * TossPaymentsAdapter, MoneyDepositor 재시도 지원
  */
 @Slf4j
@@ -27,6 +29,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 public class AsyncConfig {
     public static final String EVENT_EXECUTOR_NAME = "eventAsyncExecutor";
     public static final String NOTIFICATION_EXECUTOR_NAME = "notificationAsyncExecutor";
+    public static final String OUTBOX_LANE_EXECUTOR_NAME = "outboxLaneExecutor";
 
     /**
      * Outbox 이벤트 발행 전용 Executor
@@ -84,4 +87,30 @@ public class AsyncConfig {
         log.info("[비동기] Slack Executor 초기화 완료");
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * Outbox 릴레이 레인 전용 Executor
+     * <p>
+     * 레인 수만큼 스레드를 고정하여 레인별 순차 발행을 동시에 실행
+     * 배치당 레인 하나에 작업 하나만 제출되므로 큐는 레인 수면 충분
+     * 포화 시 스케줄러 스레드가 직접 실행 (발행 누락 방지)
+     */
+    @Bean(name = OUTBOX_LANE_EXECUTOR_NAME)
+    public Executor outboxLaneExecutor(@Value("${outbox.publisher.lane-count}") int laneCount) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(laneCount);
+        executor.setMaxPoolSize(laneCount);
+        executor.setQueueCapacity(laneCount);
+        executor.setThreadNamePrefix("OutboxLane-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        executor.initialize();
+
+        log.info("[비동기] Outbox Lane Executor 초기화 완료. laneCount: {}", laneCount);
+        return executor;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ureca.snac.config;
 
+import com.ureca.snac.notification.service.WebSocketSessionRegistry;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
 import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
@@ -68,6 +69,53 @@ public class RabbitMQConfig {
     }
 
 
+    /* ------------------- Direct : 매칭 알림 묶음 (수신자 목록 1건 발행, 리스너에서 펼침) ------------------- */
+    public static final String MATCHING_FANOUT_EXCHANGE = "matching_fanout_exchange";
+    public static final String MATCHING_FANOUT_QUEUE = "matching_fanout_queue";
+    public static final String MATCHING_FANOUT_ROUTING_KEY = "matching.fanout";
+
+    @Bean
+    public DirectExchange matchingFanoutExchange() {
+        return new DirectExchange(MATCHING_FANOUT_EXCHANGE);
+    }
+
+    @Bean
+    public Queue matchingFanoutQueue() {
+        return new Queue(MATCHING_FANOUT_QUEUE, false);
+    }
+
+    @Bean
+    public Binding matchingFanoutBinding(DirectExchange matchingFanoutExchange, Queue matchingFanoutQueue) {
+        return BindingBuilder.bind(matchingFanoutQueue)
+                .to(matchingFanoutExchange)
+                .with(MATCHING_FANOUT_ROUTING_KEY);
+    }
+
+
+    /* ------------------- Direct : 세션 소유 노드 전용 (라우팅키 = nodeId) ------------------- */
+    public static final String NODE_NOTIFICATION_EXCHANGE = "node_notification_exchange";
+    public static final String NODE_NOTIFICATION_QUEUE_PREFIX = "node_notification_queue.";
+
+    @Bean
+    public DirectExchange nodeNotificationExchange() {
+        return new DirectExchange(NODE_NOTIFICATION_EXCHANGE);
+    }
+
+    // 노드마다 하나, 노드 종료 시 자동 삭제
+    @Bean
+    public Queue nodeNotificationQueue(WebSocketSessionRegistry sessionRegistry) {
+        return new Queue(NODE_NOTIFICATION_QUEUE_PREFIX + sessionRegistry.nodeId(), false, false, true);
+    }
+
+    @Bean
+    public Binding nodeNotificationBinding(DirectExchange nodeNotificationExchange, Queue nodeNotificationQueue,
+                                           WebSocketSessionRegistry sessionRegistry) {
+        return BindingBuilder.bind(nodeNotificationQueue)
+                .to(nodeNotificationExchange)
+                .with(sessionRegistry.nodeId());
+    }
+
+
     /* ------------------- Fanout : 전체 브로드캐스트용(공지, 이벤트 등) ------------------- */
     public static final String BROADCAST_EXCHANGE = "broadcast_exchange";
     public static final String BROADCAST_QUEUE = "broadcast_queue";
@@ -0,0 +1,30 @@
+package com.ureca.snac.config;
+
+import com.ureca.snac.trade.service.BuyerFilterIndex;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import static com.ureca.snac.common.RedisKeyConstants.BUYER_FILTER_CHANNEL;
+
+/**
+ * Redis Pub/Sub 구독 설정
+ * <p>
+ * 노드 로컬 캐시 무효화 메시지 수신용
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            BuyerFilterIndex buyerFilterIndex
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(buyerFilterIndex, new ChannelTopic(BUYER_FILTER_CHANNEL));
+        return container;
+    }
+}
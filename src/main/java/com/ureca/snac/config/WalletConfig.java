@@ -0,0 +1,12 @@
+package com.ureca.snac.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 지갑 잔액 변경 실행 방식 설정 바인딩
+ */
+@Configuration
+@EnableConfigurationProperties(WalletUpdateModeProperties.class)
+public class WalletConfig {
+}
@@ -0,0 +1,47 @@
+package com.ureca.snac.config;
+
+import com.ureca.snac.wallet.service.WalletUpdateMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.stream.Stream;
+
+/**
+ * 지갑 연산별 잔액 변경 실행 방식 (LOCKING / CONDITIONAL / LEDGER)
+ * 동결(freeze) 계열 연산은 환불 절차와 함께 잠금 방식으로만 동작
+ * LEDGER 는 잔액 검증이 없는 입금 연산(deposit-money, deposit-point)에만 허용
+ * 거래 정산의 다중 지갑 이체 계획도 단계별로 같은 설정을 따르며,
+ * 한 지갑에 LOCKING 단계가 하나라도 있으면 그 지갑의 단계는 모두 잠금 방식으로 적용
+ */
+@ConfigurationProperties(prefix = "wallet.update-mode")
+public record WalletUpdateModeProperties(
+        WalletUpdateMode depositMoney,
+        WalletUpdateMode withdrawMoney,
+        WalletUpdateMode depositPoint,
+        WalletUpdateMode moveCompositeEscrow,
+        WalletUpdateMode cancelCompositeEscrow,
+        WalletUpdateMode deductCompositeEscrow
+) {
+
+    public WalletUpdateModeProperties {
+        requireNotLedger("withdraw-money", withdrawMoney);
+        requireNotLedger("move-composite-escrow", moveCompositeEscrow);
+        requireNotLedger("cancel-composite-escrow", cancelCompositeEscrow);
+        requireNotLedger("deduct-composite-escrow", deductCompositeEscrow);
+    }
+
+    /**
+     * 잠금 방식이 아닌(CONDITIONAL / LEDGER) 연산이 하나라도 있는지 (미설정 연산은 LOCKING)
+     * 모두 잠금 방식이면 지갑 행은 항상 영속성 컨텍스트를 거쳐 바뀌고 원장 꼬리도 새로 생기지 않는다.
+     */
+    public boolean usesNonLockingMode() {
+        return Stream.of(depositMoney, withdrawMoney, depositPoint,
+                        moveCompositeEscrow, cancelCompositeEscrow, deductCompositeEscrow)
+                .anyMatch(mode -> mode != null && mode != WalletUpdateMode.LOCKING);
+    }
+
+    private static void requireNotLedger(String operation, WalletUpdateMode mode) {
+        if (mode == WalletUpdateMode.LEDGER) {
+            throw new IllegalArgumentException("LEDGER 모드는 입금 연산에만 사용할 수 있습니다: wallet.update-mode." + operation);
+        }
+    }
+}
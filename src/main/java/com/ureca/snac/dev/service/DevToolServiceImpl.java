@@ -19,13 +19,17 @@ import com.ureca.snac.payment.entity.Payment;
 import com.ureca.snac.payment.exception.PaymentNotFoundException;
 import com.ureca.snac.payment.repository.PaymentRepository;
 import com.ureca.snac.payment.service.PaymentService;
+import com.ureca.snac.trade.service.TradeHourlyStatRecorder;
 import com.ureca.snac.wallet.dto.CompositeBalanceResult;
+import com.ureca.snac.wallet.dto.WalletTransferPlan;
 import com.ureca.snac.wallet.service.WalletService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 @Slf4j
 @Service
 public class DevToolServiceImpl implements DevToolService {
@@ -39,6 +43,7 @@ public class DevToolServiceImpl implements DevToolService {
     private final AssetRecorder assetRecorder;
     private final AssetHistoryRepository assetHistoryRepository;
     private final PaymentGatewayPort paymentGatewayPort;
+    private final TradeHourlyStatRecorder tradeHourlyStatRecorder;
 
     public DevToolServiceImpl(
             MemberRepository memberRepository,
@@ -50,7 +55,8 @@ public class DevToolServiceImpl implements DevToolService {
             AssetRecorder assetRecorder,
             AssetHistoryRepository assetHistoryRepository,
             @Qualifier("fake")
-            PaymentGatewayPort paymentGatewayPort) {
+            PaymentGatewayPort paymentGatewayPort,
+            TradeHourlyStatRecorder tradeHourlyStatRecorder) {
 
         this.memberRepository = memberRepository;
         this.paymentService = paymentService;
@@ -61,6 +67,7 @@ public class DevToolServiceImpl implements DevToolService {
         this.assetRecorder = assetRecorder;
         this.assetHistoryRepository = assetHistoryRepository;
         this.paymentGatewayPort = paymentGatewayPort;
+        this.tradeHourlyStatRecorder = tradeHourlyStatRecorder;
     }
 
     @Override
@@ -134,14 +141,25 @@ public class DevToolServiceImpl implements DevToolService {
                         request.moneyAmountToUse(), request.pointAmountToUse()
                 );
 
-        walletService.moveCompositeToEscrow(ctx.buyer().getId(), request.moneyAmountToUse(), request.pointAmountToUse());
-        CompositeBalanceResult buyerResult = walletService.deductCompositeEscrow(ctx.buyer().getId(), request.moneyAmountToUse(), request.pointAmountToUse());
+        // 구매자/판매자 지갑을 회원 ID 순서로 한 번에 잠가 적용
+        Long buyerId = ctx.buyer().getId();
+        Long sellerId = ctx.seller().getId();
+        WalletTransferPlan.Builder plan = WalletTransferPlan.builder()
+                .moveCompositeToEscrow(buyerId, request.moneyAmountToUse(), request.pointAmountToUse())
+                .deductCompositeEscrow(buyerId, request.moneyAmountToUse(), request.pointAmountToUse());
+        if (request.moneyAmountToUse() > 0) {
+            plan.depositMoney(sellerId, request.moneyAmountToUse());
+        }
+        Map<Long, CompositeBalanceResult> balances = walletService.executeTransferPlan(plan.build());
 
-        long sellerMoneyBalanceAfter = (request.moneyAmountToUse() > 0) ?
-                walletService.depositMoney(ctx.seller().getId(), request.moneyAmountToUse()) :
-                walletService.getMoneyBalance(ctx.seller().getId());
+        CompositeBalanceResult buyerResult = balances.get(buyerId);
+        long sellerMoneyBalanceAfter = balances.containsKey(sellerId) ?
+                balances.get(sellerId).moneyBalance() :
+                walletService.getMoneyBalance(sellerId);
 
         recordTradeAssets(ctx, request.moneyAmountToUse(), request.pointAmountToUse(), sellerMoneyBalanceAfter, buyerResult);
+        // 24시간 통계는 시간 집계만 읽으므로 실제 완료 경로와 같이 누적
+        tradeHourlyStatRecorder.recordCompleted(ctx.trade());
 
         log.info("[개발용 거래 완료] 완료. 생성된 Trade ID : {}", ctx.trade().getId());
 
@@ -4,6 +4,8 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 /**
  * application.yml에 정의된 토스페이먼츠 관련 설정 객체 바인딩
  */
@@ -15,4 +17,22 @@ public class TossPaymentProperties {
     private final String url;
 
     private final String secretKey;
+
+    private final Pool pool;
+
+    /**
+     * 토스 API 커넥션 풀 설정
+     *
+     * @param maxTotal      전체 최대 커넥션 수
+     * @param maxPerRoute   호스트(라우트)당 최대 커넥션 수
+     * @param idleEviction  유휴 커넥션 정리 주기 및 기준 시간
+     * @param connectionTtl 커넥션 최대 수명 (LB/게이트웨이 측 연결 종료 대비)
+     */
+    public record Pool(
+            int maxTotal,
+            int maxPerRoute,
+            Duration idleEviction,
+            Duration connectionTtl
+    ) {
+    }
 }
\ No newline at end of file
@@ -2,12 +2,22 @@ package com.ureca.snac.infra.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ureca.snac.infra.TossPaymentsErrorHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
 import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 import java.time.Duration;
@@ -15,12 +25,22 @@ import java.time.Duration;
 /**
  * Toss Payments API 전용 RestClient 설정
  * 인증 인터셉터 및 에러 핸들러 포함
+ * <p>
+ * 요청마다 연결을 새로 맺지 않도록 Apache HttpClient 커넥션 풀을 사용하고,
+ * 풀 상태(leased/pending/available)는 httpcomponents.httpclient.pool.* 지표로 노출한다.
  */
 @Configuration
 @EnableConfigurationProperties(TossPaymentProperties.class)
 @RequiredArgsConstructor
 public class TossRestClientConfig {
 
+    static final String POOL_METRIC_NAME = "toss";
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(30);
+    // 풀이 가득 찼을 때 커넥션 대기 최대 시간
+    private static final Duration CONNECTION_REQUEST_TIMEOUT = Duration.ofSeconds(3);
+
     private final TossPaymentProperties tossPaymentProperties;
     private final RestClient.Builder restClientBuilder;  // 공통 빌더 주입
 
@@ -35,14 +55,46 @@ public class TossRestClientConfig {
     }
 
     @Bean
-    public RestClient tossRestClient(TossPaymentsErrorHandler errorHandler,
-                                     TossLoggingInterceptor loggingInterceptor) {
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        requestFactory.setConnectTimeout(Duration.ofSeconds(5));
-        requestFactory.setReadTimeout(Duration.ofSeconds(30));
+    public PoolingHttpClientConnectionManager tossConnectionManager(MeterRegistry meterRegistry) {
+        TossPaymentProperties.Pool pool = tossPaymentProperties.getPool();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pool.maxTotal())
+                .setMaxConnPerRoute(pool.maxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(CONNECT_TIMEOUT.toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(READ_TIMEOUT.toMillis()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(pool.connectionTtl().toMillis()))
+                        .build())
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_METRIC_NAME)
+                .bindTo(meterRegistry);
+
+        return connectionManager;
+    }
 
+    @Bean
+    public CloseableHttpClient tossHttpClient(PoolingHttpClientConnectionManager tossConnectionManager) {
+        TossPaymentProperties.Pool pool = tossPaymentProperties.getPool();
+
+        return HttpClients.custom()
+                .setConnectionManager(tossConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(CONNECTION_REQUEST_TIMEOUT.toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(READ_TIMEOUT.toMillis()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(pool.idleEviction().toMillis()))
+                .build();
+    }
+
+    @Bean
+    public RestClient tossRestClient(TossPaymentsErrorHandler errorHandler,
+                                     TossLoggingInterceptor loggingInterceptor,
+                                     CloseableHttpClient tossHttpClient) {
         return restClientBuilder  // 공통 설정 상속
-                .requestFactory(requestFactory)
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(tossHttpClient))
                 .baseUrl(tossPaymentProperties.getUrl())
                 .requestInterceptor(loggingInterceptor)  // 로깅 먼저 (요청 시작 시간 측정)
                 .requestInterceptor(new TossAuthInterceptor(tossPaymentProperties.getSecretKey()))
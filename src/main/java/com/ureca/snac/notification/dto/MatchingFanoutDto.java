@@ -0,0 +1,18 @@
+package com.ureca.snac.notification.dto;
+
+import com.ureca.snac.board.dto.CardDto;
+
+import java.util.List;
+
+/**
+ * 매칭 알림 묶음 메시지
+ * 수신자 목록 x 판매글 목록을 브로커 메시지 하나로 보내고 STOMP 전송 직전에 펼친다.
+ *
+ * @param publishedAt 발행 시각 (epoch millis, 펼침 지연 측정용)
+ */
+public record MatchingFanoutDto(
+        List<String> recipients,
+        List<CardDto> cards,
+        long publishedAt
+) {
+}
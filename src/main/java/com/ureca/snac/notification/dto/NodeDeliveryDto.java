@@ -0,0 +1,22 @@
+package com.ureca.snac.notification.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * 세션 소유 노드 전용 큐로 보내는 알림
+ * payload 는 발행 노드에서 STOMP 전송과 같은 JSON 으로 만들어 두고, 소유 노드는 그대로 전송만 한다.
+ * 한 노드로 가는 (수신자 목록 x payload 목록)을 메시지 하나로 보낸다 (매칭 알림은 판매글 여러 건).
+ *
+ * @param destination 사용자 목적지 (예: /queue/trade)
+ * @param payloads    수신자마다 순서대로 전송할 메시지
+ * @param publishedAt 발행 시각 (epoch millis, 전달 지연 측정용)
+ */
+public record NodeDeliveryDto(
+        List<String> recipients,
+        String destination,
+        List<JsonNode> payloads,
+        long publishedAt
+) {
+}
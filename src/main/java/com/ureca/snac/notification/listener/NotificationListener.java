@@ -1,13 +1,18 @@
 package com.ureca.snac.notification.listener;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.ureca.snac.board.dto.CardDto;
 import com.ureca.snac.config.RabbitMQConfig;
+import com.ureca.snac.notification.dto.MatchingFanoutDto;
+import com.ureca.snac.notification.dto.NodeDeliveryDto;
 import com.ureca.snac.trade.dto.CancelTradeDto;
 import com.ureca.snac.trade.dto.RetrieveFilterDto;
 import com.ureca.snac.trade.dto.SocketErrorDto;
 import com.ureca.snac.trade.dto.TradeDto;
 import com.ureca.snac.trade.dto.dispute.DisputeNotificationDto;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.context.annotation.Profile;
@@ -15,12 +20,40 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Slf4j
 @Component
 @Profile("!scheduler & !loadtest")
-@RequiredArgsConstructor
 public class NotificationListener {
     private final SimpMessagingTemplate messaging;
+    private final Timer fanoutExpansionLatency;
+    private final Counter fanoutDelivered;
+    private final Counter fanoutFailed;
+    private final Timer nodeDeliveryLatency;
+    private final Counter nodeDeliveryFailed;
+
+    public NotificationListener(SimpMessagingTemplate messaging, MeterRegistry meterRegistry) {
+        this.messaging = messaging;
+
+        this.fanoutExpansionLatency = Timer.builder("matching_fanout_expansion_latency")
+                .description("매칭 알림 묶음 발행부터 STOMP 전송 완료까지 지연")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.fanoutDelivered = Counter.builder("matching_fanout_delivered_total")
+                .description("묶음 메시지를 펼쳐 STOMP 로 보낸 매칭 알림 수")
+                .register(meterRegistry);
+        this.fanoutFailed = Counter.builder("matching_fanout_failed_total")
+                .description("묶음 메시지를 펼치다 STOMP 전송에 실패한 수신자 수")
+                .register(meterRegistry);
+        this.nodeDeliveryLatency = Timer.builder("notification_node_delivery_latency")
+                .description("다른 노드 발행부터 세션 소유 노드 STOMP 전송 완료까지 지연")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.nodeDeliveryFailed = Counter.builder("notification_node_delivery_failed_total")
+                .description("세션 소유 노드에서 STOMP 전송에 실패한 수신자 수")
+                .register(meterRegistry);
+    }
 
     @RabbitListener(queues = RabbitMQConfig.NOTIFICATION_QUEUE)
     public void onNotification(TradeDto tradeDto, @Header("amqp_receivedRoutingKey") String routingKey) {
@@ -44,6 +77,46 @@ public class NotificationListener {
         );
     }
 
+    // 매칭 알림 묶음 -> 수신자별 STOMP 전송으로 펼침
+    // 수신자별 실패는 세고 넘어감: 예외를 던지면 재시도 인터셉터가 이미 받은 수신자에게도 묶음 전체를 다시 보냄
+    @RabbitListener(queues = RabbitMQConfig.MATCHING_FANOUT_QUEUE)
+    public void onMatchingFanout(MatchingFanoutDto fanoutDto) {
+        int delivered = 0;
+        for (String username : fanoutDto.recipients()) {
+            try {
+                for (CardDto cardDto : fanoutDto.cards()) {
+                    messaging.convertAndSendToUser(username, "/queue/matching", cardDto);
+                    delivered++;
+                }
+            } catch (RuntimeException e) {
+                fanoutFailed.increment();
+                log.warn("[매칭 알림 묶음] 수신자 전송 실패, 건너뜀. 사용자: {}, error: {}", username, e.getMessage());
+            }
+        }
+
+        fanoutDelivered.increment(delivered);
+        fanoutExpansionLatency.record(
+                Duration.ofMillis(Math.max(0, System.currentTimeMillis() - fanoutDto.publishedAt())));
+    }
+
+    // 세션 소유 노드 전용 큐 -> 이 노드 세션으로 바로 전송 (수신자별 실패 격리는 묶음 펼침과 같음)
+    @RabbitListener(queues = "#{nodeNotificationQueue.name}")
+    public void onNodeDelivery(NodeDeliveryDto deliveryDto) {
+        for (String username : deliveryDto.recipients()) {
+            try {
+                for (JsonNode payload : deliveryDto.payloads()) {
+                    messaging.convertAndSendToUser(username, deliveryDto.destination(), payload);
+                }
+            } catch (RuntimeException e) {
+                nodeDeliveryFailed.increment();
+                log.warn("[세션 소유 전달] 수신자 전송 실패, 건너뜀. 사용자: {}, error: {}", username, e.getMessage());
+            }
+        }
+
+        nodeDeliveryLatency.record(
+                Duration.ofMillis(Math.max(0, System.currentTimeMillis() - deliveryDto.publishedAt())));
+    }
+
     // 취소 관련 리스너
     @RabbitListener(queues = RabbitMQConfig.CANCEL_QUEUE)
     public void onTradeCancel(CancelTradeDto cancelDto) {
@@ -0,0 +1,10 @@
+package com.ureca.snac.notification.service;
+
+/**
+ * 매칭 알림 발행 방식 (notification.delivery.mode 가 BROKER 일 때만 적용)
+ * SESSION_AFFINITY 모드에서는 이 설정과 무관하게 세션 소유 노드당 메시지 1건으로 보낸다.
+ */
+public enum MatchingDeliveryMode {
+    PER_RECIPIENT, // (수신자, 판매글)마다 matching.notification.{username} 메시지 1건
+    FANOUT // 수신자 목록 + 판매글 목록을 묶음 메시지로 발행, 리스너가 STOMP 전송 시 펼침 (기본)
+}
@@ -0,0 +1,9 @@
+package com.ureca.snac.notification.service;
+
+/**
+ * 사용자 대상 알림 전달 방식
+ */
+public enum NotificationDeliveryMode {
+    BROKER, // 기능별 익스체인지 발행 -> 임의 노드 리스너 -> convertAndSendToUser
+    SESSION_AFFINITY // 세션 소유 노드가 자신이면 바로 전송, 아니면 소유 노드 전용 큐로 발행 (기본)
+}
@@ -6,9 +6,12 @@ import com.ureca.snac.trade.dto.RetrieveFilterDto;
 import com.ureca.snac.trade.dto.TradeDto;
 import com.ureca.snac.trade.dto.dispute.DisputeNotificationDto;
 
+import java.util.List;
+
 public interface NotificationService {
     void notify(String username, TradeDto tradeDto);
     void sendMatchingNotification(String username, CardDto cardDto);
+    void sendMatchingNotifications(List<String> usernames, List<CardDto> cardDtos);
     void sendBuyFilterNotification(RetrieveFilterDto dto);
     void sendCancelNotification(CancelTradeDto dto);
 
@@ -4,27 +4,59 @@ import com.ureca.snac.board.dto.CardDto;
 import com.ureca.snac.member.entity.Member;
 import com.ureca.snac.member.repository.MemberRepository;
 import com.ureca.snac.member.exception.MemberNotFoundException;
+import com.ureca.snac.notification.dto.MatchingFanoutDto;
 import com.ureca.snac.notification.repository.NotificationRepository;
 import com.ureca.snac.trade.dto.CancelTradeDto;
 import com.ureca.snac.trade.dto.RetrieveFilterDto;
 import com.ureca.snac.trade.dto.TradeDto;
 import com.ureca.snac.trade.dto.dispute.DisputeNotificationDto;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 import static com.ureca.snac.config.RabbitMQConfig.*;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final MemberRepository memberRepository;
     private final RabbitTemplate rabbitTemplate;
+    private final SessionAffinityDelivery affinityDelivery;
+    private final NotificationDeliveryMode deliveryMode;
+    private final MatchingDeliveryMode matchingDeliveryMode;
+    private final int fanoutMaxRecipients;
+    private final DistributionSummary fanoutBatchSize;
+
+    public NotificationServiceImpl(
+            NotificationRepository notificationRepository,
+            MemberRepository memberRepository,
+            RabbitTemplate rabbitTemplate,
+            SessionAffinityDelivery affinityDelivery,
+            MeterRegistry meterRegistry,
+            @Value("${notification.delivery.mode}") NotificationDeliveryMode deliveryMode,
+            @Value("${notification.matching.delivery-mode}") MatchingDeliveryMode matchingDeliveryMode,
+            @Value("${notification.matching.fanout-max-recipients}") int fanoutMaxRecipients
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.memberRepository = memberRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.affinityDelivery = affinityDelivery;
+        this.deliveryMode = deliveryMode;
+        this.matchingDeliveryMode = matchingDeliveryMode;
+        this.fanoutMaxRecipients = fanoutMaxRecipients;
+
+        this.fanoutBatchSize = DistributionSummary.builder("matching_fanout_batch_size")
+                .description("묶음 메시지 1건이 대신한 (수신자 x 판매글) 전송 수")
+                .register(meterRegistry);
+    }
 
     private static final String EXCHANGE = NOTIFICATION_EXCHANGE;
     private static final String RK_FMT = "%s.%s";
@@ -33,6 +65,11 @@ public class NotificationServiceImpl implements NotificationService {
 
     @Override
     public void notify(String username, TradeDto tradeDto) {
+        if (isSessionAffinity()) {
+            affinityDelivery.deliver(username, "/queue/trade", tradeDto);
+            return;
+        }
+
         log.info("MQ 발행: {} {}", username, tradeDto);
         String routingKey = String.format("notification.%s", username);
         rabbitTemplate.convertAndSend(NOTIFICATION_EXCHANGE, routingKey, tradeDto);
@@ -40,30 +77,92 @@ public class NotificationServiceImpl implements NotificationService {
 
     @Override
     public void sendMatchingNotification(String username, CardDto cardDto) {
+        if (isSessionAffinity()) {
+            affinityDelivery.deliver(username, "/queue/matching", cardDto);
+            return;
+        }
+
         log.info("매칭알림 MQ 발행: {} {}", username, cardDto);
         String routingKey = String.format("matching.notification.%s", username);
         rabbitTemplate.convertAndSend(MATCHING_NOTIFICATION_EXCHANGE, routingKey, cardDto);
     }
 
+    /**
+     * 매칭 알림 일괄 발행
+     * SESSION_AFFINITY 모드면 matching.delivery-mode 보다 우선해 세션 소유 노드당 메시지 1건(판매글 전부)으로 보내고,
+     * BROKER 모드일 때만 FANOUT 은 수신자를 fanout-max-recipients 단위로 나눠 묶음 메시지로 발행한다.
+     */
+    @Override
+    public void sendMatchingNotifications(List<String> usernames, List<CardDto> cardDtos) {
+        if (usernames.isEmpty() || cardDtos.isEmpty()) {
+            return;
+        }
+
+        // 세션 소유 노드별로 판매글 목록까지 한 메시지로 묶어 보내므로 묶음 메시지를 거치지 않음
+        if (isSessionAffinity()) {
+            affinityDelivery.deliverAll(usernames, "/queue/matching", cardDtos);
+            return;
+        }
+
+        if (matchingDeliveryMode == MatchingDeliveryMode.PER_RECIPIENT) {
+            for (String username : usernames) {
+                for (CardDto cardDto : cardDtos) {
+                    sendMatchingNotification(username, cardDto);
+                }
+            }
+            return;
+        }
+
+        long publishedAt = System.currentTimeMillis();
+        for (int from = 0; from < usernames.size(); from += fanoutMaxRecipients) {
+            List<String> recipients = List.copyOf(
+                    usernames.subList(from, Math.min(from + fanoutMaxRecipients, usernames.size())));
+
+            rabbitTemplate.convertAndSend(MATCHING_FANOUT_EXCHANGE, MATCHING_FANOUT_ROUTING_KEY,
+                    new MatchingFanoutDto(recipients, cardDtos, publishedAt));
+            fanoutBatchSize.record((double) recipients.size() * cardDtos.size());
+        }
+        log.info("[매칭 알림 묶음] 발행. 수신자 수: {}, 판매글 수: {}", usernames.size(), cardDtos.size());
+    }
+
     @Override
     public void sendBuyFilterNotification(RetrieveFilterDto dto) {
+        if (isSessionAffinity()) {
+            affinityDelivery.deliver(dto.getUsername(), "/queue/filters", dto.getBuyerFilter());
+            return;
+        }
+
         log.info("[필터 발행] username={} filterCount={}", dto.getUsername(), dto.getBuyerFilter().size());
         rabbitTemplate.convertAndSend(FILTER_EXCHANGE, FILTER_ROUTING_KEY, dto);
     }
 
     @Override
     public void sendCancelNotification(CancelTradeDto dto) {
+        if (isSessionAffinity()) {
+            affinityDelivery.deliver(dto.getUsername(), "/queue/cancel", dto);
+            return;
+        }
+
         log.info("[거래 취소 발행] username={} tradeId={}", dto.getUsername(), dto.getTradeDto().getTradeId());
         rabbitTemplate.convertAndSend(CANCEL_EXCHANGE, CANCEL_ROUTING_KEY, dto);
     }
 
     @Override
     public void sendDisputeNotification(String username, DisputeNotificationDto dto) {
+        if (isSessionAffinity()) {
+            affinityDelivery.deliver(username, "/queue/dispute", dto);
+            return;
+        }
+
         log.info("[신고 알림 발행] username={}, dto={}", username, dto);
         String routingKey = String.format("dispute.notification.%s", username);
         rabbitTemplate.convertAndSend(DISPUTE_NOTIFICATION_EXCHANGE, routingKey, dto);
     }
 
+    private boolean isSessionAffinity() {
+        return deliveryMode == NotificationDeliveryMode.SESSION_AFFINITY;
+    }
+
     private Member getMember(String email) {
         return memberRepository.findByEmail(email).orElseThrow(MemberNotFoundException::new);
     }
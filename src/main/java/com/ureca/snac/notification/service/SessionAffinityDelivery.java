@@ -0,0 +1,121 @@
+package com.ureca.snac.notification.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ureca.snac.notification.dto.NodeDeliveryDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ureca.snac.config.RabbitMQConfig.NODE_NOTIFICATION_EXCHANGE;
+
+/**
+ * 세션 소유 노드 기준 알림 전달 (SESSION_AFFINITY 모드)
+ * <p>
+ * 이 노드에 세션이 있는 회원은 기능별 익스체인지와 리스너를 거치지 않고 바로 STOMP 로 보낸다.
+ * 다른 노드 회원은 소유 노드별로 묶어 노드 전용 큐에 한 건씩 발행한다 (payload 가 여러 건이어도 노드당 한 건).
+ * 접속 중이 아닌 회원은 건너뛴다 (BROKER 모드에서도 세션이 없는 노드의 전송은 버려진다).
+ */
+@Slf4j
+@Component
+public class SessionAffinityDelivery {
+
+    private static final String METRIC_NAME = "notification_affinity_delivery_total";
+
+    private final WebSocketSessionRegistry sessionRegistry;
+    private final ObjectProvider<SimpMessagingTemplate> messaging;
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Counter localCounter;
+    private final Counter remoteCounter;
+    private final Counter offlineCounter;
+
+    public SessionAffinityDelivery(
+            WebSocketSessionRegistry sessionRegistry,
+            ObjectProvider<SimpMessagingTemplate> messaging,
+            RabbitTemplate rabbitTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.sessionRegistry = sessionRegistry;
+        this.messaging = messaging;
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+
+        this.localCounter = counter(meterRegistry, "local");
+        this.remoteCounter = counter(meterRegistry, "remote");
+        this.offlineCounter = counter(meterRegistry, "offline");
+    }
+
+    public void deliver(String username, String destination, Object payload) {
+        deliver(List.of(username), destination, payload);
+    }
+
+    public void deliver(List<String> usernames, String destination, Object payload) {
+        deliverAll(usernames, destination, List.of(payload));
+    }
+
+    /**
+     * 수신자마다 payload 목록을 순서대로 전달
+     * 전달 수 지표는 (수신자 x payload) 단위로 센다.
+     */
+    public void deliverAll(List<String> usernames, String destination, List<?> payloads) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+
+        List<String> others = new ArrayList<>();
+        for (String username : usernames) {
+            if (sessionRegistry.isLocal(username)) {
+                for (Object payload : payloads) {
+                    messaging.getObject().convertAndSendToUser(username, destination, payload);
+                }
+                localCounter.increment(payloads.size());
+            } else {
+                others.add(username);
+            }
+        }
+        if (others.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<String>> recipientsByNode = new HashMap<>();
+        sessionRegistry.ownersOf(others).forEach((username, nodeId) -> {
+            // 이 노드 소유로 남은 기록은 로컬 세션이 없으므로 오프라인으로 봄 (재기동 전 기록)
+            if (!nodeId.equals(sessionRegistry.nodeId())) {
+                recipientsByNode.computeIfAbsent(nodeId, key -> new ArrayList<>()).add(username);
+            }
+        });
+
+        int remote = recipientsByNode.values().stream().mapToInt(List::size).sum();
+        offlineCounter.increment((double) (others.size() - remote) * payloads.size());
+        if (recipientsByNode.isEmpty()) {
+            return;
+        }
+
+        List<JsonNode> json = payloads.stream().<JsonNode>map(objectMapper::valueToTree).toList();
+        long publishedAt = System.currentTimeMillis();
+        recipientsByNode.forEach((nodeId, recipients) -> rabbitTemplate.convertAndSend(
+                NODE_NOTIFICATION_EXCHANGE, nodeId, new NodeDeliveryDto(recipients, destination, json, publishedAt)));
+        remoteCounter.increment((double) remote * payloads.size());
+
+        log.debug("[세션 소유 전달] {} 로컬 제외 {}명, 원격 노드 {}곳", destination, others.size(), recipientsByNode.size());
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String route) {
+        return Counter.builder(METRIC_NAME)
+                .description("세션 소유 노드 기준 알림 전달 수")
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+}
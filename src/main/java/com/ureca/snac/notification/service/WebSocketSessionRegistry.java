@@ -0,0 +1,88 @@
+package com.ureca.snac.notification.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.ureca.snac.common.RedisKeyConstants.WS_SESSION_OWNER;
+
+/**
+ * WebSocket 세션 소유 노드 레지스트리
+ * <p>
+ * 접속 시 username -> nodeId 를 Redis Hash 에 기록하고, 이 노드에 붙은 회원은 로컬에도 들고 있어
+ * 로컬 회원 여부는 Redis 조회 없이 판단한다.
+ * 해제 시에는 소유 노드가 자신일 때만 지워, 다른 노드로 먼저 재접속한 기록을 덮지 않는다.
+ * node-id 가 비어 있으면 기동마다 새 ID 를 만든다.
+ */
+@Slf4j
+@Component
+public class WebSocketSessionRegistry {
+
+    // 소유 노드가 같을 때만 삭제
+    private static final RedisScript<Long> UNREGISTER_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then
+                return redis.call('HDEL', KEYS[1], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId;
+    private final Set<String> localUsers = ConcurrentHashMap.newKeySet();
+
+    public WebSocketSessionRegistry(
+            StringRedisTemplate redisTemplate,
+            @Value("${notification.delivery.node-id}") String nodeId
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+        log.info("[세션 레지스트리] 노드 ID: {}", this.nodeId);
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public void register(String username) {
+        localUsers.add(username);
+        redisTemplate.opsForHash().put(WS_SESSION_OWNER, username, nodeId);
+    }
+
+    public void unregister(String username) {
+        localUsers.remove(username);
+        redisTemplate.execute(UNREGISTER_SCRIPT, List.of(WS_SESSION_OWNER), username, nodeId);
+    }
+
+    public boolean isLocal(String username) {
+        return localUsers.contains(username);
+    }
+
+    /**
+     * 세션 소유 노드 일괄 조회 (HMGET 1회)
+     *
+     * @return username -> 소유 노드 ID (접속 중이 아닌 회원은 제외)
+     */
+    public Map<String, String> ownersOf(List<String> usernames) {
+        List<Object> owners = redisTemplate.opsForHash().multiGet(WS_SESSION_OWNER, List.copyOf(usernames));
+
+        Map<String, String> result = new HashMap<>();
+        for (int i = 0; i < usernames.size(); i++) {
+            Object owner = owners == null ? null : owners.get(i);
+            if (owner != null) {
+                result.put(usernames.get(i), owner.toString());
+            }
+        }
+        return result;
+    }
+}
@@ -22,7 +22,15 @@ import java.util.UUID;
 
                 // SEND_FAIL 재시도 전용
                 @Index(name = "idx_status_retry",
-                        columnList = "status, retry_count")
+                        columnList = "status, retry_count"),
+
+                // 만료 리스 회수 전용
+                @Index(name = "idx_lease_until",
+                        columnList = "lease_until"),
+
+                // 리스 획득 시 같은 Aggregate 의 앞선 미발행 이벤트 확인
+                @Index(name = "idx_aggregate",
+                        columnList = "aggregate_type, aggregate_id, outbox_id")
         }
 )
 @Getter
@@ -58,6 +66,13 @@ public class Outbox extends BaseTimeEntity {
 
     private LocalDateTime publishedAt;
 
+    // 릴레이 리스 소유 노드 (다중 노드 폴링 시 배치 분할)
+    @Column(length = 64)
+    private String claimedBy;
+
+    // 리스 만료 시각 (지나면 다른 노드가 회수)
+    private LocalDateTime leaseUntil;
+
     @Builder
     private Outbox(String eventId, String eventType, String aggregateType,
                    Long aggregateId, String payload, OutboxStatus status, Integer retryCount
@@ -1,7 +1,6 @@
 package com.ureca.snac.outbox.repository;
 
 import com.ureca.snac.outbox.entity.Outbox;
-import com.ureca.snac.outbox.entity.OutboxStatus;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -10,35 +9,85 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface OutboxRepository extends JpaRepository<Outbox, Long> {
 
     /**
-     * 발행 대기 중인 이벤트 조회 (배치 크기 제한)
+     * 릴레이 리스 획득 대상 ID 조회 + 행 잠금 (SELECT ... FOR UPDATE SKIP LOCKED)
      * <p>
-     * 1. SEND_FAIL 상태 (발행 실패한 이벤트)
-     * 2. INIT 상태 + 오래된 이벤트 (서버 장애로 발행 못한 이벤트)
+     * 다른 노드가 잠근 행은 건너뛰므로 여러 릴레이 노드가 서로 겹치지 않는 구간을 가져간다.
+     * 리스가 없거나 만료된 행만 대상이므로 죽은 노드의 리스는 자동 회수된다.
+     * 반드시 claimAll과 같은 트랜잭션에서 호출해야 잠금이 유지된다.
      *
-     * @param failStatus SEND_FAIL 상태
-     * @param initStatus INIT 상태
-     * @param threshold  기준 시간 (예: 5분 전)
-     * @param maxRetry   최대 재시도 횟수
-     * @param pageable   페이징 설정 (Limit 포함)
-     * @return 발행 대기 중인 Outbox 목록 (ID 순서)
+     * @param threshold INIT 이벤트 기준 시간
+     * @param maxRetry  최대 재시도 횟수
+     * @param now       현재 시각 (리스 만료 판단)
+     * @param limit     배치 크기
+     * @return 잠금 획득한 Outbox ID 목록 (ID 순서)
      */
-    @Query("SELECT o FROM Outbox o " +
-            "WHERE (o.status = :failStatus AND o.retryCount < :maxRetry) " +
-            "OR (o.status = :initStatus AND o.createdAt < :threshold) " +
-            "ORDER BY o.id ASC")
-    List<Outbox> findPendingEvents(
-            @Param("failStatus") OutboxStatus failStatus,
-            @Param("initStatus") OutboxStatus initStatus,
+    @Query(value = "SELECT outbox_id FROM outbox " +
+            "WHERE ((status = 'SEND_FAIL' AND retry_count < :maxRetry) " +
+            "OR (status = 'INIT' AND created_at < :threshold)) " +
+            "AND (lease_until IS NULL OR lease_until < :now) " +
+            "ORDER BY outbox_id ASC " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Long> findClaimableIdsForUpdate(
             @Param("threshold") LocalDateTime threshold,
             @Param("maxRetry") int maxRetry,
-            Pageable pageable
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 잠근 ID 중 같은 Aggregate 의 앞선 미발행 이벤트가 이번 배치 밖에 있는 ID 조회
+     * <p>
+     * 앞선 이벤트가 다른 노드의 리스 중이거나 SKIP LOCKED 로 건너뛰어졌다면 뒤 이벤트를 먼저 발행하면
+     * Aggregate 내 순서가 깨지므로, 이 ID 들은 리스를 잡지 않고 앞선 이벤트가 발행된 뒤 가져간다.
+     * 재시도를 소진한 SEND_FAIL 은 더 발행되지 않으므로 뒤 이벤트를 막지 않는다.
+     * 배치 안의 앞선 이벤트가 막히면 그 앞의 배치 밖 이벤트가 뒤 이벤트도 막으므로 함께 제외된다.
+     *
+     * @param ids      findClaimableIdsForUpdate로 잠근 Outbox ID 목록
+     * @param maxRetry 최대 재시도 횟수
+     * @return 이번에 가져가지 않을 Outbox ID 목록
+     */
+    @Query(value = "SELECT o.outbox_id FROM outbox o " +
+            "WHERE o.outbox_id IN (:ids) " +
+            "AND EXISTS (SELECT 1 FROM outbox p " +
+            "WHERE p.aggregate_type = o.aggregate_type " +
+            "AND p.aggregate_id = o.aggregate_id " +
+            "AND p.outbox_id < o.outbox_id " +
+            "AND p.outbox_id NOT IN (:ids) " +
+            "AND (p.status = 'INIT' OR (p.status = 'SEND_FAIL' AND p.retry_count < :maxRetry)))",
+            nativeQuery = true)
+    List<Long> findIdsBlockedByEarlierEvent(
+            @Param("ids") Collection<Long> ids,
+            @Param("maxRetry") int maxRetry
+    );
+
+    /**
+     * 잠근 행에 리스 기록
+     *
+     * @param ids        findClaimableIdsForUpdate로 잠근 Outbox ID 목록
+     * @param claimedBy  리스 소유 노드 ID
+     * @param leaseUntil 리스 만료 시각
+     * @return 업데이트된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Outbox o " +
+            "SET o.claimedBy = :claimedBy, o.leaseUntil = :leaseUntil " +
+            "WHERE o.id IN :ids")
+    int claimAll(
+            @Param("ids") Collection<Long> ids,
+            @Param("claimedBy") String claimedBy,
+            @Param("leaseUntil") LocalDateTime leaseUntil
     );
 
+    List<Outbox> findByIdInOrderByIdAsc(Collection<Long> ids);
+
     /**
      * 특정 Aggregate의 이벤트 조회 (디버깅/추적용)
      * 페이징으로 OOM 방지
@@ -110,4 +159,48 @@ public interface OutboxRepository extends JpaRepository<Outbox, Long> {
             "SET o.status = 'SEND_FAIL', o.retryCount = o.retryCount + 1 " +
             "WHERE o.id = :id AND o.status != 'PUBLISHED'")
     int markAsFailedAndIncrementRetry(@Param("id") Long id);
-}
\ No newline at end of file
+
+    /**
+     * 여러 Outbox를 한 번의 UPDATE로 PUBLISHED 처리
+     * 단건 markAsPublished와 동일한 상태 조건으로 중복 발행 방지
+     * 릴레이 배치 결과를 배치당 한 문장으로 기록하여 커밋 수 절감
+     * 릴레이 리스도 함께 해제
+     * 리스를 가진 노드의 결과만 반영 (리스 만료 후 다른 노드가 다시 가져간 행은 제외)
+     *
+     * @param ids       Outbox ID 목록
+     * @param claimedBy 리스 소유 노드 ID
+     * @param now       발행 시각
+     * @return 업데이트된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Outbox o " +
+            "SET o.status = 'PUBLISHED', o.publishedAt = :now, " +
+            "o.claimedBy = null, o.leaseUntil = null " +
+            "WHERE o.id IN :ids " +
+            "AND o.claimedBy = :claimedBy " +
+            "AND (o.status = 'INIT' OR o.status = 'SEND_FAIL')")
+    int markAllAsPublished(
+            @Param("ids") Collection<Long> ids,
+            @Param("claimedBy") String claimedBy,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 여러 Outbox를 한 번의 UPDATE로 SEND_FAIL 처리하고 재시도 횟수 증가
+     * PUBLISHED 상태는 제외, 릴레이 리스를 해제하여 다음 주기에 어느 노드든 재시도 가능
+     * 리스를 가진 노드의 결과만 반영 (리스 만료 후 다른 노드가 다시 가져간 행은 제외)
+     *
+     * @param ids       Outbox ID 목록
+     * @param claimedBy 리스 소유 노드 ID
+     * @return 업데이트된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Outbox o " +
+            "SET o.status = 'SEND_FAIL', o.retryCount = o.retryCount + 1, " +
+            "o.claimedBy = null, o.leaseUntil = null " +
+            "WHERE o.id IN :ids AND o.claimedBy = :claimedBy AND o.status != 'PUBLISHED'")
+    int markAllAsFailedAndIncrementRetry(
+            @Param("ids") Collection<Long> ids,
+            @Param("claimedBy") String claimedBy
+    );
+}
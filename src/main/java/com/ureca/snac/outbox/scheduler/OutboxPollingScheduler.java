@@ -1,20 +1,23 @@
 package com.ureca.snac.outbox.scheduler;
 
 import com.ureca.snac.outbox.entity.Outbox;
-import com.ureca.snac.outbox.entity.OutboxStatus;
-import com.ureca.snac.outbox.repository.OutboxRepository;
+import com.ureca.snac.outbox.service.OutboxClaimer;
+import com.ureca.snac.outbox.service.OutboxLaneDispatcher;
 import com.ureca.snac.outbox.service.OutboxMessagePublisher;
+import com.ureca.snac.outbox.service.OutboxRelayResult;
 import com.ureca.snac.outbox.service.OutboxStatusUpdater;
+import com.ureca.snac.outbox.service.PipelinedOutboxRelay;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -23,39 +26,58 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * 1. Hybrid Push 실패 시 재시도 (SEND_FAIL)
  * 2. 서버 장애로 발행 못한 이벤트 처리 (INIT + 오래됨)
  * 3. Pure Polling 대상 이벤트 발행 (거래 등 순서 보장 필요)
+ * <p>
+ * relay-mode
+ * SERIAL : 한 건씩 발행하고 브로커 Confirm 대기 (이벤트당 RTT 1회)
+ * PIPELINED : 배치를 연달아 전송하고 Confirm을 비동기 수집 후 상태를 한 번에 기록
+ * PARTITIONED : Aggregate 단위 순서만 지키며 레인별로 병렬 발행
+ * <p>
+ * 다중 노드: @SchedulerLock 없이 모든 scheduler 노드가 폴링하고
+ * OutboxClaimer의 SKIP LOCKED 리스로 서로 겹치지 않는 배치를 가져가 노드 수만큼 처리량 확장
+ * 앞선 이벤트가 다른 노드에 있는 Aggregate 의 뒤 이벤트는 가져가지 않으므로 Aggregate 내 순서는 노드 수와 무관하게 유지
+ * (전역 ID 순서는 노드 사이에서 보장하지 않음)
  */
 @Slf4j
 @Component
 public class OutboxPollingScheduler {
 
-    private final OutboxRepository outboxRepository;
+    private final OutboxClaimer outboxClaimer;
     private final OutboxMessagePublisher messagePublisher;
     private final OutboxStatusUpdater statusUpdater;
+    private final PipelinedOutboxRelay pipelinedRelay;
+    private final OutboxLaneDispatcher laneDispatcher;
     private final MeterRegistry meterRegistry;
 
     private final int batchSize;
     private final int staleThresholdMinutes;
     private final int maxRetryCount;
+    private final OutboxRelayMode relayMode;
 
     // 종료 요청 플래그 (AtomicBoolean으로 스레드 안전성 보장)
     private final AtomicBoolean shutdownRequested = new AtomicBoolean(false);
 
     public OutboxPollingScheduler(
-            OutboxRepository outboxRepository,
+            OutboxClaimer outboxClaimer,
             OutboxMessagePublisher messagePublisher,
             OutboxStatusUpdater statusUpdater,
+            PipelinedOutboxRelay pipelinedRelay,
+            OutboxLaneDispatcher laneDispatcher,
             MeterRegistry meterRegistry,
             @Value("${outbox.publisher.batch-size}") int batchSize,
             @Value("${outbox.publisher.stale-threshold-minutes}") int staleThresholdMinutes,
-            @Value("${outbox.publisher.max-retry}") int maxRetryCount
+            @Value("${outbox.publisher.max-retry}") int maxRetryCount,
+            @Value("${outbox.publisher.relay-mode}") OutboxRelayMode relayMode
     ) {
-        this.outboxRepository = outboxRepository;
+        this.outboxClaimer = outboxClaimer;
         this.messagePublisher = messagePublisher;
         this.statusUpdater = statusUpdater;
+        this.pipelinedRelay = pipelinedRelay;
+        this.laneDispatcher = laneDispatcher;
         this.meterRegistry = meterRegistry;
         this.batchSize = batchSize;
         this.staleThresholdMinutes = staleThresholdMinutes;
         this.maxRetryCount = maxRetryCount;
+        this.relayMode = relayMode;
     }
 
     // Graceful Shutdown 처리
@@ -76,23 +98,36 @@ public class OutboxPollingScheduler {
 
         LocalDateTime threshold = LocalDateTime.now().minusMinutes(staleThresholdMinutes);
 
-        // 짧은 조회
-        List<Outbox> pendingEvents = outboxRepository.findPendingEvents(
-                OutboxStatus.SEND_FAIL,
-                OutboxStatus.INIT,
+        // 짧은 리스 획득 트랜잭션 (다른 노드가 잠근 행은 건너뜀)
+        List<Outbox> pendingEvents = outboxClaimer.claim(
                 threshold,
                 maxRetryCount,
-                PageRequest.of(0, batchSize)
+                batchSize
         ); // 커넥션 반환
 
         if (pendingEvents.isEmpty()) {
             return;
         }
 
-        log.info("[Outbox Scheduler] 발행 시작. 대상 이벤트 수: {}", pendingEvents.size());
+        log.info("[Outbox Scheduler] 발행 시작. 대상 이벤트 수: {}, 모드: {}", pendingEvents.size(), relayMode);
 
-        int publishedCount = 0;
-        int failedCount = 0;
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        switch (relayMode) {
+            case PIPELINED -> publishPipelined(pendingEvents);
+            case PARTITIONED -> publishPartitioned(pendingEvents);
+            default -> publishSerially(pendingEvents);
+        }
+
+        sample.stop(Timer.builder("outbox_relay_batch_duration")
+                .tag("mode", relayMode.name())
+                .register(meterRegistry));
+    }
+
+    // 한 건씩 발행 + Confirm 대기, 상태는 배치 끝에 일괄 기록
+    private void publishSerially(List<Outbox> pendingEvents) {
+        List<Long> publishedIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
 
         // 메시지 큐 발행 점유 없음
         for (Outbox outbox : pendingEvents) {
@@ -104,34 +139,67 @@ public class OutboxPollingScheduler {
                         outbox.getAggregateId(),
                         outbox.getPayload()
                 );
-
-                // 성공 시 상태 업데이트 (독립 트랜잭션)
-                statusUpdater.markAsPublished(outbox.getId());
-                publishedCount++;
-
-                Counter.builder("outbox_events_published_total")
-                        .tag("result", "success")
-                        .register(meterRegistry).increment();
-                Counter.builder("outbox_polling_recovery_total")
-                        .register(meterRegistry).increment();
+                publishedIds.add(outbox.getId());
 
                 log.debug("[Outbox Scheduler] 발행 성공. outboxId: {}, eventId: {}, eventType: {}",
                         outbox.getId(), outbox.getEventId(), outbox.getEventType());
 
             } catch (Exception e) {
-                // 실패 기록 (독립 트랜잭션)
-                statusUpdater.markAsFailed(outbox.getId());
-                failedCount++;
-
-                Counter.builder("outbox_events_published_total")
-                        .tag("result", "fail")
-                        .register(meterRegistry).increment();
+                failedIds.add(outbox.getId());
 
                 log.error("[Outbox Scheduler] 발행 실패. outboxId: {}, eventId: {}, retryCount: {}, error: {}",
                         outbox.getId(), outbox.getEventId(), outbox.getRetryCount() + 1, e.getMessage());
             }
         }
 
+        recordResults(publishedIds, failedIds);
+    }
+
+    /**
+     * 배치를 연달아 전송하고 Confirm을 모두 수집한 뒤 상태를 한 번에 기록
+     * Confirm 대기가 이벤트마다 직렬로 쌓이지 않아 장애 복구 후 적체 해소가 브로커 처리량에 맞춰짐
+     */
+    private void publishPipelined(List<Outbox> pendingEvents) {
+        OutboxRelayResult result = pipelinedRelay.relay(pendingEvents);
+
+        recordResults(result.publishedIds(), result.failedIds());
+    }
+
+    /**
+     * Aggregate 해시 레인으로 나눠 병렬 발행
+     * 같은 Aggregate 의 미발행 이벤트는 리스 획득 시 한 노드 배치로만 오고, 그 안에서 한 레인에 ID 순서대로 발행되어
+     * Consumer 순서 보장 유지
+     */
+    private void publishPartitioned(List<Outbox> pendingEvents) {
+        OutboxRelayResult result = laneDispatcher.dispatch(pendingEvents);
+
+        recordResults(result.publishedIds(), result.failedIds());
+    }
+
+    /**
+     * 배치 결과를 상태별 UPDATE 한 문장씩, 한 트랜잭션으로 기록
+     * 기록 실패 시 해당 배치는 INIT/SEND_FAIL 그대로 남아 다음 주기에 재발행 (Consumer 멱등성으로 중복 흡수)
+     */
+    private void recordResults(List<Long> publishedIds, List<Long> failedIds) {
+        try {
+            statusUpdater.markBatch(publishedIds, failedIds);
+        } catch (Exception e) {
+            log.error("[Outbox Scheduler] 상태 일괄 기록 실패. 성공: {}, 실패: {}, error: {}",
+                    publishedIds.size(), failedIds.size(), e.getMessage());
+        }
+
+        int publishedCount = publishedIds.size();
+        int failedCount = failedIds.size();
+
+        Counter.builder("outbox_events_published_total")
+                .tag("result", "success")
+                .register(meterRegistry).increment(publishedCount);
+        Counter.builder("outbox_polling_recovery_total")
+                .register(meterRegistry).increment(publishedCount);
+        Counter.builder("outbox_events_published_total")
+                .tag("result", "fail")
+                .register(meterRegistry).increment(failedCount);
+
         log.info("[Outbox Scheduler] 발행 완료. 성공: {}, 실패: {}", publishedCount, failedCount);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,10 @@
+package com.ureca.snac.outbox.scheduler;
+
+/**
+ * Outbox 폴링 릴레이 발행 방식
+ */
+public enum OutboxRelayMode {
+    SERIAL, // 한 건씩 발행 후 Confirm 대기 (기본)
+    PIPELINED, // 배치를 연달아 전송하고 Confirm을 비동기 수집
+    PARTITIONED // Aggregate 해시 레인별 순차 발행, 레인끼리 병렬
+}
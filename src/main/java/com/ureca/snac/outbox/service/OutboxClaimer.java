@@ -0,0 +1,134 @@
+package com.ureca.snac.outbox.service;
+
+import com.ureca.snac.outbox.entity.Outbox;
+import com.ureca.snac.outbox.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.ureca.snac.outbox.service.OutboxMessagePublisher.CONFIRM_TIMEOUT_SECONDS;
+
+/**
+ * Outbox 릴레이 리스 획득 컴포넌트
+ * <p>
+ * 여러 scheduler 노드가 동시에 폴링해도 같은 이벤트를 나눠 갖지 않도록
+ * SELECT ... FOR UPDATE SKIP LOCKED로 행을 잠그고 claimedBy/leaseUntil을 기록한다.
+ * 잠금은 리스 기록 직후 커밋으로 풀리고, 이후 배타성은 leaseUntil이 보장한다.
+ * 노드가 발행 중 죽으면 leaseUntil이 지난 뒤 다른 노드가 다시 가져간다.
+ * 리스는 갱신하지 않으므로 배치 최악 소요 시간(건수 × Confirm 타임아웃)보다 짧게 잡히지 않도록 보정하고,
+ * 결과 기록은 claimed_by 가 이 노드인 행만 반영한다 (리스를 넘긴 배치가 다른 노드의 결과를 덮어쓰지 않음).
+ * <p>
+ * 같은 Aggregate 의 앞선 미발행 이벤트가 이번 배치 밖에 있으면(다른 노드 리스 중이거나 잠금으로 건너뜀)
+ * 뒤 이벤트는 리스를 잡지 않고 남겨, 노드가 여러 개여도 Aggregate 내 이벤트는 한 노드 배치에서 ID 순서로만 발행된다.
+ */
+@Slf4j
+@Component
+public class OutboxClaimer {
+
+    private static final int MAX_HOST_LENGTH = 55;
+    // 배치 결과 기록까지의 여유
+    private static final long LEASE_MARGIN_SECONDS = 30;
+
+    private final OutboxRepository outboxRepository;
+    private final MeterRegistry meterRegistry;
+    private final int leaseSeconds;
+
+    @Getter
+    private final String nodeId;
+
+    public OutboxClaimer(
+            OutboxRepository outboxRepository,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.publisher.lease-seconds}") int leaseSeconds
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.meterRegistry = meterRegistry;
+        this.leaseSeconds = leaseSeconds;
+        this.nodeId = resolveNodeId();
+    }
+
+    /**
+     * 발행 대기 이벤트에 대한 리스 획득
+     * REQUIRES_NEW : 잠금 구간을 조회 + 리스 기록으로 최소화하고 발행 전에 커밋
+     *
+     * @param threshold INIT 이벤트 기준 시간
+     * @param maxRetry  최대 재시도 횟수
+     * @param limit     배치 크기
+     * @return 이 노드가 리스를 획득한 Outbox 목록 (ID 순서)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Outbox> claim(LocalDateTime threshold, int maxRetry, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> lockedIds = outboxRepository.findClaimableIdsForUpdate(threshold, maxRetry, now, limit);
+        if (lockedIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = excludeBlocked(lockedIds, maxRetry);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        long effectiveLeaseSeconds = effectiveLeaseSeconds(ids.size());
+        outboxRepository.claimAll(ids, nodeId, now.plusSeconds(effectiveLeaseSeconds));
+
+        Counter.builder("outbox_lease_claimed_total")
+                .register(meterRegistry).increment(ids.size());
+
+        log.debug("[Outbox Claim] 리스 획득. nodeId: {}, 건수: {}, leaseSeconds: {}",
+                nodeId, ids.size(), effectiveLeaseSeconds);
+
+        return outboxRepository.findByIdInOrderByIdAsc(ids);
+    }
+
+    // 앞선 이벤트가 배치 밖에 있는 Aggregate 의 뒤 이벤트 제외 (잠금은 커밋 시 풀려 다음 주기에 다시 대상)
+    private List<Long> excludeBlocked(List<Long> lockedIds, int maxRetry) {
+        Set<Long> blocked = new HashSet<>(outboxRepository.findIdsBlockedByEarlierEvent(lockedIds, maxRetry));
+        if (blocked.isEmpty()) {
+            return lockedIds;
+        }
+
+        Counter.builder("outbox_lease_deferred_total")
+                .register(meterRegistry).increment(blocked.size());
+        log.debug("[Outbox Claim] 앞선 이벤트 미발행으로 보류. nodeId: {}, 건수: {}", nodeId, blocked.size());
+
+        return lockedIds.stream()
+                .filter(id -> !blocked.contains(id))
+                .toList();
+    }
+
+    // 설정값과 배치 최악 소요 시간(한 건씩 Confirm 타임아웃까지 대기) 중 큰 값
+    long effectiveLeaseSeconds(int claimedCount) {
+        long worstCaseSeconds = claimedCount * CONFIRM_TIMEOUT_SECONDS + LEASE_MARGIN_SECONDS;
+        return Math.max(leaseSeconds, worstCaseSeconds);
+    }
+
+    // 호스트명(파드명) + 인스턴스 구분용 난수 (claimed_by 컬럼 64자 이내)
+    private static String resolveNodeId() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        if (host.length() > MAX_HOST_LENGTH) {
+            host = host.substring(0, MAX_HOST_LENGTH);
+        }
+        return host + "-" + suffix;
+    }
+}
@@ -0,0 +1,184 @@
+package com.ureca.snac.outbox.service;
+
+import com.ureca.snac.config.AsyncConfig;
+import com.ureca.snac.outbox.entity.Outbox;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Aggregate 단위 순서 보장 병렬 릴레이
+ * <p>
+ * Consumer가 필요로 하는 순서는 전역 ID 순서가 아니라 같은 Aggregate 내 순서이므로
+ * aggregateType + aggregateId 해시로 배치를 고정된 레인에 나누고 레인끼리는 동시에 발행한다.
+ * 레인 안에서는 ID 순서대로 한 건씩 발행하며, 실패한 Aggregate의 후속 이벤트는 건너뛰어
+ * 다음 주기에 앞선 이벤트와 함께 순서대로 재시도되도록 한다.
+ * 노드 사이의 순서는 OutboxClaimer 가 앞선 미발행 이벤트가 배치 밖에 있는 Aggregate 의 뒤 이벤트를 가져가지 않아 보장한다.
+ * <p>
+ * 레인별 대기 건수(outbox_lane_depth)와 현재 처리 중 이벤트의 생성 후 경과 시간(outbox_lane_lag_seconds)을 노출한다.
+ */
+@Slf4j
+@Component
+public class OutboxLaneDispatcher {
+
+    private final OutboxMessagePublisher messagePublisher;
+    private final Executor laneExecutor;
+    private final int laneCount;
+
+    // 레인별 남은 이벤트 수
+    private final AtomicInteger[] laneDepths;
+    // 레인별 처리 중 이벤트 생성 시각 (epoch millis, 유휴 시 0)
+    private final AtomicLong[] laneHeadCreatedAt;
+
+    public OutboxLaneDispatcher(
+            OutboxMessagePublisher messagePublisher,
+            @Qualifier(AsyncConfig.OUTBOX_LANE_EXECUTOR_NAME) Executor laneExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.publisher.lane-count}") int laneCount
+    ) {
+        this.messagePublisher = messagePublisher;
+        this.laneExecutor = laneExecutor;
+        this.laneCount = laneCount;
+        this.laneDepths = new AtomicInteger[laneCount];
+        this.laneHeadCreatedAt = new AtomicLong[laneCount];
+
+        for (int lane = 0; lane < laneCount; lane++) {
+            AtomicInteger depth = new AtomicInteger(0);
+            AtomicLong headCreatedAt = new AtomicLong(0);
+            laneDepths[lane] = depth;
+            laneHeadCreatedAt[lane] = headCreatedAt;
+
+            Gauge.builder("outbox_lane_depth", depth, AtomicInteger::get)
+                    .tag("lane", String.valueOf(lane))
+                    .register(meterRegistry);
+            Gauge.builder("outbox_lane_lag_seconds", headCreatedAt, OutboxLaneDispatcher::lagSeconds)
+                    .tag("lane", String.valueOf(lane))
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 배치를 레인으로 나눠 동시에 발행하고 모든 레인 완료까지 대기
+     *
+     * @param batch 발행 대상 Outbox 목록 (ID 순서)
+     * @return 레인 결과를 합친 발행 결과
+     */
+    public OutboxRelayResult dispatch(List<Outbox> batch) {
+        List<List<Outbox>> lanes = partition(batch);
+
+        List<CompletableFuture<OutboxRelayResult>> futures = new ArrayList<>();
+        for (int lane = 0; lane < laneCount; lane++) {
+            List<Outbox> events = lanes.get(lane);
+            if (events.isEmpty()) {
+                continue;
+            }
+            int laneIndex = lane;
+            futures.add(CompletableFuture.supplyAsync(() -> runLane(laneIndex, events), laneExecutor));
+        }
+
+        List<Long> publishedIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        for (CompletableFuture<OutboxRelayResult> future : futures) {
+            OutboxRelayResult result = future.join();
+            publishedIds.addAll(result.publishedIds());
+            failedIds.addAll(result.failedIds());
+        }
+
+        log.debug("[Outbox Lane] 배치 완료. 사용 레인: {}, 성공: {}, 실패: {}",
+                futures.size(), publishedIds.size(), failedIds.size());
+
+        return new OutboxRelayResult(publishedIds, failedIds);
+    }
+
+    /**
+     * Aggregate 키로 레인 결정 (같은 Aggregate는 항상 같은 레인)
+     */
+    int laneOf(Outbox outbox) {
+        return Math.floorMod(Objects.hash(outbox.getAggregateType(), outbox.getAggregateId()), laneCount);
+    }
+
+    // ID 순서를 유지한 채 레인별로 분배
+    private List<List<Outbox>> partition(List<Outbox> batch) {
+        List<List<Outbox>> lanes = new ArrayList<>(laneCount);
+        for (int lane = 0; lane < laneCount; lane++) {
+            lanes.add(new ArrayList<>());
+        }
+        for (Outbox outbox : batch) {
+            lanes.get(laneOf(outbox)).add(outbox);
+        }
+        return lanes;
+    }
+
+    // 레인 하나를 순차 발행 (실패한 Aggregate의 후속 이벤트는 건너뜀)
+    private OutboxRelayResult runLane(int lane, List<Outbox> events) {
+        List<Long> publishedIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        Set<String> blockedAggregates = new HashSet<>();
+
+        laneDepths[lane].set(events.size());
+
+        for (Outbox outbox : events) {
+            laneHeadCreatedAt[lane].set(toEpochMillis(outbox.getCreatedAt()));
+            String aggregateKey = outbox.getAggregateType() + ":" + outbox.getAggregateId();
+
+            if (blockedAggregates.contains(aggregateKey)) {
+                failedIds.add(outbox.getId());
+                log.warn("[Outbox Lane] 선행 이벤트 실패로 건너뜀. lane: {}, outboxId: {}, aggregate: {}",
+                        lane, outbox.getId(), aggregateKey);
+            } else {
+                try {
+                    messagePublisher.publish(
+                            outbox.getEventId(),
+                            outbox.getAggregateType(),
+                            outbox.getEventType(),
+                            outbox.getAggregateId(),
+                            outbox.getPayload()
+                    );
+                    publishedIds.add(outbox.getId());
+
+                } catch (Exception e) {
+                    failedIds.add(outbox.getId());
+                    blockedAggregates.add(aggregateKey);
+
+                    log.error("[Outbox Lane] 발행 실패. lane: {}, outboxId: {}, eventId: {}, error: {}",
+                            lane, outbox.getId(), outbox.getEventId(), e.getMessage());
+                }
+            }
+
+            laneDepths[lane].decrementAndGet();
+        }
+
+        laneHeadCreatedAt[lane].set(0);
+        return new OutboxRelayResult(publishedIds, failedIds);
+    }
+
+    private static long toEpochMillis(LocalDateTime createdAt) {
+        if (createdAt == null) {
+            return System.currentTimeMillis();
+        }
+        return createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static double lagSeconds(AtomicLong headCreatedAt) {
+        long createdAt = headCreatedAt.get();
+        if (createdAt == 0) {
+            return 0;
+        }
+        return (System.currentTimeMillis() - createdAt) / 1000.0;
+    }
+}
@@ -23,13 +23,14 @@ import java.util.concurrent.TimeoutException;
  * rabbitTemplate.convertAndSend() 후 브로커의 ACK/NACK을 대기하여
  * 메시지가 실제로 브로커에 도달했는지 확인한다.
  * 확인 실패 시 예외를 던져 호출자가 SEND_FAIL로 처리하도록 한다.
+ * send()는 확인을 기다리지 않고 CorrelationData를 돌려주어 파이프라인 릴레이가 사용한다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OutboxMessagePublisher {
 
-    private static final long CONFIRM_TIMEOUT_SECONDS = 5;
+    public static final long CONFIRM_TIMEOUT_SECONDS = 5;
 
     private final RabbitTemplate rabbitTemplate;
 
@@ -49,6 +50,29 @@ public class OutboxMessagePublisher {
             String eventTypeName,
             Long aggregateId,
             String payload
+    ) {
+        CorrelationData correlationData = send(eventId, aggregateTypeName, eventTypeName, aggregateId, payload);
+
+        // 브로커 수신 확인 대기 (Publisher Confirms)
+        waitForConfirm(correlationData, eventId);
+
+        log.debug("[OutboxMessagePublisher] 발행 + 브로커 확인 완료. eventId: {}, aggregateId: {}",
+                eventId, aggregateId);
+    }
+
+    /**
+     * RabbitMQ로 메시지 발행만 하고 브로커 확인은 기다리지 않음
+     * 파이프라인 릴레이에서 배치를 연달아 전송한 뒤 Confirm을 비동기로 수집할 때 사용
+     *
+     * @return 브로커 ACK/NACK이 완료될 CorrelationData
+     * @throws AmqpException 연결 실패 등 전송 자체가 실패한 경우
+     */
+    public CorrelationData send(
+            String eventId,
+            String aggregateTypeName,
+            String eventTypeName,
+            Long aggregateId,
+            String payload
     ) {
         AggregateType aggregateType = AggregateType.from(aggregateTypeName);
         EventType eventType = EventType.from(eventTypeName);
@@ -69,11 +93,10 @@ public class OutboxMessagePublisher {
                 correlationData
         );
 
-        // 브로커 수신 확인 대기 (Publisher Confirms)
-        waitForConfirm(correlationData, eventId);
+        log.debug("[OutboxMessagePublisher] 발행 요청. exchange: {}, routingKey: {}, eventId: {}",
+                exchange, eventType.getRoutingKey(), eventId);
 
-        log.debug("[OutboxMessagePublisher] 발행 + 브로커 확인 완료. exchange: {}, routingKey: {}, eventId: {}, aggregateId: {}",
-                exchange, eventType.getRoutingKey(), eventId, aggregateId);
+        return correlationData;
     }
 
     // CorrelationData 기반으로 브로커 확인 대기 (5초 타임아웃)
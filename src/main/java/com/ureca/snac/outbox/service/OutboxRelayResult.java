@@ -0,0 +1,13 @@
+package com.ureca.snac.outbox.service;
+
+import java.util.List;
+
+/**
+ * 릴레이 배치 발행 결과
+ * OutboxStatusUpdater.markBatch로 한 번에 기록
+ *
+ * @param publishedIds 브로커 ACK 수신한 Outbox ID
+ * @param failedIds    NACK, Confirm 타임아웃, 전송 실패 등으로 재시도할 Outbox ID
+ */
+public record OutboxRelayResult(List<Long> publishedIds, List<Long> failedIds) {
+}
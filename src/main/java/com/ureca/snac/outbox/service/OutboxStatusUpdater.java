@@ -1,6 +1,9 @@
 package com.ureca.snac.outbox.service;
 
+import com.ureca.snac.outbox.entity.OutboxStatus;
 import com.ureca.snac.outbox.repository.OutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -8,11 +11,15 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.function.IntSupplier;
 
 /**
  * Outbox 상태 업데이트 컴포넌트
  * Publisher(스케줄러)에서 공통으로 사용
  * REQUIRES_NEW 전파 속성으로 각 업데이트를 독립적으로 처리
+ * 릴레이 배치 결과는 markBatch로 상태별 한 문장, 배치당 한 커밋으로 기록
+ * 배치 결과는 이 노드가 리스를 가진 행에만 반영
  */
 @Slf4j
 @Component
@@ -20,6 +27,8 @@ import java.time.LocalDateTime;
 public class OutboxStatusUpdater {
 
     private final OutboxRepository outboxRepository;
+    private final MeterRegistry meterRegistry;
+    private final OutboxClaimer outboxClaimer;
 
     /**
      * Outbox 상태를 PUBLISHED로 원자적 업데이트
@@ -61,4 +70,44 @@ public class OutboxStatusUpdater {
             log.warn("[Outbox] 발행 실패 기록 완료. outboxId: {}", outboxId);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 릴레이 배치 결과를 한 트랜잭션에서 일괄 기록
+     * PUBLISHED, SEND_FAIL 각각 IN 절 UPDATE 한 문장 (비어 있으면 생략)
+     * 단건 메서드와 같은 상태 조건을 사용하므로 경쟁 상태 방어도 동일
+     * 리스 만료 후 다른 노드가 다시 가져간 행은 claimed_by 조건으로 제외되어 그 노드의 결과를 덮어쓰지 않음
+     * REQUIRES_NEW : 배치 단위로 독립 커밋
+     *
+     * @param publishedIds 브로커 ACK 받은 Outbox ID 목록
+     * @param failedIds    발행 실패한 Outbox ID 목록
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markBatch(Collection<Long> publishedIds, Collection<Long> failedIds) {
+        String nodeId = outboxClaimer.getNodeId();
+
+        if (!publishedIds.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            int updated = recordTimed(OutboxStatus.PUBLISHED,
+                    () -> outboxRepository.markAllAsPublished(publishedIds, nodeId, now));
+
+            log.debug("[Outbox] 일괄 PUBLISHED 완료. 요청: {}, 반영: {}", publishedIds.size(), updated);
+        }
+
+        if (!failedIds.isEmpty()) {
+            int updated = recordTimed(OutboxStatus.SEND_FAIL,
+                    () -> outboxRepository.markAllAsFailedAndIncrementRetry(failedIds, nodeId));
+
+            log.warn("[Outbox] 일괄 발행 실패 기록 완료. 요청: {}, 반영: {}", failedIds.size(), updated);
+        }
+    }
+
+    // 상태별 일괄 UPDATE 소요 시간 기록
+    private int recordTimed(OutboxStatus status, IntSupplier update) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int updated = update.getAsInt();
+        sample.stop(Timer.builder("outbox_status_batch_update_duration")
+                .tag("status", status.name())
+                .register(meterRegistry));
+        return updated;
+    }
+}
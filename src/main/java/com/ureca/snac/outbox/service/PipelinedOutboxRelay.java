@@ -0,0 +1,128 @@
+package com.ureca.snac.outbox.service;
+
+import com.ureca.snac.outbox.entity.Outbox;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static com.ureca.snac.outbox.service.OutboxMessagePublisher.CONFIRM_TIMEOUT_SECONDS;
+
+/**
+ * 파이프라인 방식 Outbox 릴레이
+ * <p>
+ * 배치 내 이벤트를 Confirm 대기 없이 연달아 전송하고
+ * CorrelationData Future로 브로커 ACK/NACK을 비동기로 수집한다.
+ * 미확인(in-flight) 메시지 수는 Semaphore 윈도우로 제한하여 채널과 메모리를 보호한다.
+ * 결과는 모든 Confirm 수집 후 성공/실패 목록으로 한 번에 반환한다.
+ */
+@Slf4j
+@Component
+public class PipelinedOutboxRelay {
+
+    private final OutboxMessagePublisher messagePublisher;
+    private final int maxInFlight;
+
+    public PipelinedOutboxRelay(
+            OutboxMessagePublisher messagePublisher,
+            @Value("${outbox.publisher.max-in-flight}") int maxInFlight
+    ) {
+        this.messagePublisher = messagePublisher;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * 배치 전체를 파이프라인으로 발행
+     * 윈도우가 가득 차면 가장 오래된 Confirm이 돌아올 때까지 전송을 멈춘다.
+     * 각 Confirm은 CONFIRM_TIMEOUT_SECONDS 안에 완료되므로 윈도우 대기도 그 이상 걸리지 않는다.
+     *
+     * @param batch 발행 대상 Outbox 목록 (ID 순서)
+     * @return ACK 받은 ID 목록과 NACK/타임아웃/전송 실패 ID 목록
+     */
+    public OutboxRelayResult relay(List<Outbox> batch) {
+        Semaphore window = new Semaphore(maxInFlight);
+        Map<Long, CompletableFuture<CorrelationData.Confirm>> pendingConfirms = new LinkedHashMap<>();
+        List<Long> failedIds = new ArrayList<>();
+
+        for (Outbox outbox : batch) {
+            if (!acquire(window)) {
+                failedIds.add(outbox.getId());
+                continue;
+            }
+
+            try {
+                CorrelationData correlationData = messagePublisher.send(
+                        outbox.getEventId(),
+                        outbox.getAggregateType(),
+                        outbox.getEventType(),
+                        outbox.getAggregateId(),
+                        outbox.getPayload()
+                );
+
+                CompletableFuture<CorrelationData.Confirm> confirm = correlationData.getFuture()
+                        .orTimeout(CONFIRM_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                confirm.whenComplete((result, ex) -> window.release());
+
+                pendingConfirms.put(outbox.getId(), confirm);
+
+            } catch (Exception e) {
+                window.release();
+                failedIds.add(outbox.getId());
+
+                log.error("[Pipelined Relay] 전송 실패. outboxId: {}, eventId: {}, error: {}",
+                        outbox.getId(), outbox.getEventId(), e.getMessage());
+            }
+        }
+
+        List<Long> publishedIds = new ArrayList<>(pendingConfirms.size());
+        pendingConfirms.forEach((outboxId, confirm) -> {
+            if (isAcked(outboxId, confirm)) {
+                publishedIds.add(outboxId);
+            } else {
+                failedIds.add(outboxId);
+            }
+        });
+
+        return new OutboxRelayResult(publishedIds, failedIds);
+    }
+
+    // in-flight 윈도우 슬롯 획득 (Confirm 타임아웃만큼 대기)
+    private boolean acquire(Semaphore window) {
+        try {
+            if (window.tryAcquire(CONFIRM_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                return true;
+            }
+            log.warn("[Pipelined Relay] in-flight 윈도우 대기 타임아웃. maxInFlight: {}", maxInFlight);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // Confirm 결과 확인 (orTimeout으로 반드시 완료됨)
+    private boolean isAcked(Long outboxId, CompletableFuture<CorrelationData.Confirm> confirm) {
+        try {
+            CorrelationData.Confirm result = confirm.get();
+            if (!result.isAck()) {
+                log.error("[Pipelined Relay] 브로커 NACK. outboxId: {}, reason: {}", outboxId, result.getReason());
+            }
+            return result.isAck();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            log.error("[Pipelined Relay] Confirm 실패. outboxId: {}, error: {}", outboxId, e.getCause().toString());
+            return false;
+        }
+    }
+}
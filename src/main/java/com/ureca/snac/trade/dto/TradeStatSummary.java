@@ -0,0 +1,23 @@
+package com.ureca.snac.trade.dto;
+
+/**
+ * 시간 단위 집계 구간 합계
+ * 집계 행이 없으면 SUM 결과가 null 이므로 0으로 보정
+ */
+public record TradeStatSummary(
+        Long tradeCount,
+        Long totalPrice,
+        Long totalDataAmount
+) {
+
+    public TradeStatSummary {
+        tradeCount = tradeCount == null ? 0L : tradeCount;
+        totalPrice = totalPrice == null ? 0L : totalPrice;
+        totalDataAmount = totalDataAmount == null ? 0L : totalDataAmount;
+    }
+
+    // 기존 통계와 동일한 정의: 가격 합 / 데이터량 합
+    public double avgPricePerGb() {
+        return totalDataAmount == 0 ? 0.0 : (double) totalPrice / totalDataAmount;
+    }
+}
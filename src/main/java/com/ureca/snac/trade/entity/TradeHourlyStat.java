@@ -0,0 +1,47 @@
+package com.ureca.snac.trade.entity;
+
+import com.ureca.snac.board.entity.constants.Carrier;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통신사별 시간 단위 거래 완료 집계
+ * 거래 완료 트랜잭션 안에서 (carrier, bucket_start) 행에 누적되며
+ * 24시간 통계는 최근 24개 행의 합으로 계산한다.
+ */
+@Entity
+@Getter
+@Table(name = "trade_hourly_stat",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_trade_hourly_stat_carrier_bucket",
+                columnNames = {"carrier", "bucket_start"}
+        ))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TradeHourlyStat {
+
+    @Id
+    @Column(name = "trade_hourly_stat_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Carrier carrier;
+
+    // 집계 구간 시작 시각 (정시)
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private long tradeCount;
+
+    @Column(nullable = false)
+    private long totalPrice;
+
+    @Column(nullable = false)
+    private long totalDataAmount;
+}
@@ -0,0 +1,78 @@
+package com.ureca.snac.trade.repository;
+
+import com.ureca.snac.board.entity.constants.Carrier;
+import com.ureca.snac.trade.dto.TradeStatSummary;
+import com.ureca.snac.trade.entity.TradeHourlyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface TradeHourlyStatRepository extends JpaRepository<TradeHourlyStat, Long> {
+
+    /**
+     * 완료 거래 1건을 시간 구간 행에 원자적으로 누적 (행이 없으면 생성)
+     * 동시 완료 시에도 유니크 키 기준 UPSERT 이므로 유실 없음
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO trade_hourly_stat (carrier, bucket_start, trade_count, total_price, total_data_amount)
+            VALUES (:carrier, :bucketStart, 1, :price, :dataAmount)
+            ON DUPLICATE KEY UPDATE
+                trade_count = trade_count + 1,
+                total_price = total_price + :price,
+                total_data_amount = total_data_amount + :dataAmount
+            """,
+            nativeQuery = true)
+    int accumulate(@Param("carrier") String carrier,
+                   @Param("bucketStart") LocalDateTime bucketStart,
+                   @Param("price") long price,
+                   @Param("dataAmount") long dataAmount);
+
+    /**
+     * 완료 시각 [from, to) 의 완료 거래로 시간 구간 행을 다시 계산해 덮어쓰기 (백필용)
+     * 완료 시각은 거래 완료 후 더 바뀌지 않는 updated_at 으로 보고, 거래가 없는 구간 행은 건드리지 않음
+     * 백필 잡은 트랜잭션 밖에서 구간마다 호출하므로 자체 트랜잭션으로 실행
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO trade_hourly_stat (carrier, bucket_start, trade_count, total_price, total_data_amount)
+            SELECT g.carrier, g.bucket_start, g.trade_count, g.total_price, g.total_data_amount
+              FROM (SELECT t.carrier,
+                           TIMESTAMP(DATE(t.updated_at), MAKETIME(HOUR(t.updated_at), 0, 0)) AS bucket_start,
+                           COUNT(*) AS trade_count,
+                           SUM(t.price_gb) AS total_price,
+                           SUM(t.data_amount) AS total_data_amount
+                      FROM trade t
+                     WHERE t.status = 'COMPLETED'
+                       AND t.updated_at >= :from
+                       AND t.updated_at < :to
+                     GROUP BY t.carrier, bucket_start) g
+            ON DUPLICATE KEY UPDATE
+                trade_count = g.trade_count,
+                total_price = g.total_price,
+                total_data_amount = g.total_data_amount
+            """,
+            nativeQuery = true)
+    int rebuildBetween(@Param("from") LocalDateTime from,
+                       @Param("to") LocalDateTime to);
+
+    /**
+     * 구간 [from, to) 집계 합계 (통신사당 최대 24행 합산)
+     */
+    @Query("""
+            SELECT new com.ureca.snac.trade.dto.TradeStatSummary(
+                SUM(s.tradeCount), SUM(s.totalPrice), SUM(s.totalDataAmount))
+            FROM TradeHourlyStat s
+            WHERE s.carrier = :carrier
+              AND s.bucketStart >= :from
+              AND s.bucketStart < :to
+            """)
+    TradeStatSummary sumByCarrierBetween(@Param("carrier") Carrier carrier,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+}
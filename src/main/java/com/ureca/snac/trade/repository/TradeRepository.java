@@ -1,6 +1,5 @@
 package com.ureca.snac.trade.repository;
 
-import com.ureca.snac.board.entity.constants.Carrier;
 import com.ureca.snac.member.entity.Member;
 import com.ureca.snac.trade.entity.Trade;
 import com.ureca.snac.trade.entity.TradeStatus;
@@ -33,32 +32,43 @@ public interface TradeRepository extends JpaRepository<Trade, Long>, CustomTrade
     long countBySellerAndStatusIn(Member seller, Collection<TradeStatus> statuses);
     long countByBuyerAndStatusIn(Member buyer, Collection<TradeStatus> statuses);
 
-    List<Trade> findAllByStatusAndCarrierAndCreatedAtBetween(TradeStatus status, Carrier carrier, LocalDateTime start, LocalDateTime end);
-
     @Lock(PESSIMISTIC_WRITE)
     Optional<Trade> findLockedByCardId(Long cardId);
 
-    @Lock(PESSIMISTIC_WRITE)
+    // 자동 환불/정산 마감 보정 스캔용 (잠금 없이 ID만 조회)
     @Query("""
-        select t
+        select t.id
           from Trade t
          where t.status = :status
            and t.updatedAt < :limit
     """)
-    List<Trade> findByStatusAndUpdatedAtBefore(@Param("status") TradeStatus status,
-                                               @Param("limit") LocalDateTime limit);
-
+    List<Long> findIdsByStatusAndUpdatedAtBefore(@Param("status") TradeStatus status,
+                                                 @Param("limit") LocalDateTime limit);
 
-    @Lock(PESSIMISTIC_WRITE)
     @Query("""
-  select t from Trade t
-   where t.status = :status
-     and t.updatedAt < :limit
-     and t.autoConfirmPaused = false
-""")
-    List<Trade> findByStatusAndUpdatedAtBeforeAndAutoConfirmPausedFalse(
+        select t.id
+          from Trade t
+         where t.status = :status
+           and t.updatedAt < :limit
+           and t.autoConfirmPaused = false
+    """)
+    List<Long> findIdsByStatusAndUpdatedAtBeforeAndAutoConfirmPausedFalse(
             @Param("status") TradeStatus status,
-            @Param("limit")  LocalDateTime limit);
+            @Param("limit") LocalDateTime limit);
+
+    // 연결 해제 정리용: 여러 회원이 구매자/판매자인 실시간 거래를 한 번에 조회
+    @EntityGraph(attributePaths = {"seller", "buyer"})
+    @Query("""
+        select t
+          from Trade t
+          left join t.buyer b
+          left join t.seller s
+         where t.tradeType = com.ureca.snac.trade.entity.TradeType.REALTIME
+           and t.status in :statuses
+           and (b.email in :emails or s.email in :emails)
+    """)
+    List<Trade> findRealTimeTradesByParticipantEmails(@Param("emails") Collection<String> emails,
+                                                      @Param("statuses") Collection<TradeStatus> statuses);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     List<Trade> findLockedByCardIdAndStatus(Long cardId, TradeStatus tradeStatus);
@@ -9,9 +9,15 @@ import com.ureca.snac.member.entity.Member;
 import com.ureca.snac.trade.entity.PenaltyReason;
 import com.ureca.snac.trade.entity.Trade;
 import com.ureca.snac.trade.entity.TradeStatus;
+import com.ureca.snac.trade.exception.TradeNotFoundException;
+import com.ureca.snac.trade.repository.TradeRepository;
 import com.ureca.snac.trade.service.TradeAlertService;
+import com.ureca.snac.trade.service.TradeHourlyStatRecorder;
 import com.ureca.snac.trade.service.interfaces.PenaltyService;
 import com.ureca.snac.wallet.dto.CompositeBalanceResult;
+import com.ureca.snac.wallet.dto.WalletCredit;
+import com.ureca.snac.wallet.dto.WalletTransferPlan;
+import com.ureca.snac.wallet.service.WalletCreditCoalescer;
 import com.ureca.snac.wallet.service.WalletService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +29,8 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -33,6 +41,9 @@ public class TradeAutoItemProcessor {
     private final AssetRecorder assetRecorder;
     private final PenaltyService penaltyService;
     private final TradeAlertService tradeAlertService;
+    private final TradeHourlyStatRecorder tradeHourlyStatRecorder;
+    private final TradeRepository tradeRepository;
+    private final WalletCreditCoalescer walletCreditCoalescer;
 
     /**
      * 판매자 미전송으로 인한 자동 환불 단건 처리
@@ -47,7 +58,14 @@ public class TradeAutoItemProcessor {
             )
     )
     @Transactional
-    public void processRefund(Trade trade) {
+    public void processRefund(Trade target) {
+        // 스케줄러가 넘긴 거래는 트랜잭션 밖에서 읽은 값이므로 잠금 후 다시 확인
+        Trade trade = findLockedTrade(target.getId());
+        if (trade.getStatus() != TradeStatus.PAYMENT_CONFIRMED) {
+            log.info("[AUTO_REFUND] trade {} 이미 처리됨, 건너뜀. status: {}", trade.getId(), trade.getStatus());
+            return;
+        }
+
         Card card = findLockedCard(trade.getCardId());
         Member buyer = trade.getBuyer();
 
@@ -102,27 +120,38 @@ public class TradeAutoItemProcessor {
             )
     )
     @Transactional
-    public void processPayout(Trade trade) {
+    public void processPayout(Trade target) {
+        Trade trade = findLockedTrade(target.getId());
+        if (trade.getStatus() != TradeStatus.DATA_SENT || trade.isAutoConfirmPaused()) {
+            log.info("[AUTO_PAYOUT] trade {} 정산 대상 아님, 건너뜀. status: {}", trade.getId(), trade.getStatus());
+            return;
+        }
+
         Card card = findLockedCard(trade.getCardId());
         Member buyer = trade.getBuyer();
         Member seller = trade.getSeller();
 
-        // 1. 구매자 에스크로 차감 (escrow → 소멸)
-        walletService.deductCompositeEscrow(buyer.getId(), trade.getMoneyAmount(), trade.getPointOrZero());
-
-        // 2. 판매자에게 총액 입금
-        long amountToDeposit = trade.getPriceGb();
-        long finalBalance = walletService.depositMoney(seller.getId(), amountToDeposit);
-
+        // 1. 구매자 에스크로 차감 (escrow → 소멸) + 2. 판매자에게 총액 입금
+        // 두 지갑을 회원 ID 순서로 한 번에 잠가 교착 방지
         String title = String.format("%s %dGB 자동 정산",
                 card.getCarrier().name(), card.getDataAmount());
-        assetRecorder.recordTradeSell(seller.getId(), trade.getId(), title, amountToDeposit, finalBalance);
+        walletCreditCoalescer.settle(
+                WalletTransferPlan.builder()
+                        .deductCompositeEscrow(buyer.getId(), trade.getMoneyAmount(), trade.getPointOrZero())
+                        .build(),
+                List.of(WalletCredit.tradeSell(seller.getId(), trade.getId(), title, trade.getPriceGb()))
+        );
 
         trade.changeStatus(TradeStatus.COMPLETED);
+        tradeHourlyStatRecorder.recordCompleted(trade);
         penaltyService.givePenalty(trade.getBuyer().getEmail(), PenaltyReason.AUTO_DELAY);
         log.info("[AUTO_PAYOUT] trade {} 판매자 정산 완료", trade.getId());
     }
 
+    private Trade findLockedTrade(Long tradeId) {
+        return tradeRepository.findLockedById(tradeId).orElseThrow(TradeNotFoundException::new);
+    }
+
     private Card findLockedCard(Long cardId) {
         return cardRepository.findLockedById(cardId).orElseThrow(CardNotFoundException::new);
     }
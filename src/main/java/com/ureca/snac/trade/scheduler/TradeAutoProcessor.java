@@ -7,64 +7,116 @@ import com.ureca.snac.trade.entity.Trade;
 import com.ureca.snac.trade.entity.TradeStatus;
 import com.ureca.snac.trade.repository.TradeRepository;
 import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Slf4j
 @Component
 @Profile("!loadtest")
-@RequiredArgsConstructor
 public class TradeAutoProcessor {
 
     private final TradeRepository tradeRepo;
     private final MemberRepository memberRepository;
     private final TradeAutoItemProcessor tradeAutoItemProcessor;
+    private final TradeDeadlineQueue tradeDeadlineQueue;
+    private final int deadlineBatchSize;
+
+    public TradeAutoProcessor(
+            TradeRepository tradeRepo,
+            MemberRepository memberRepository,
+            TradeAutoItemProcessor tradeAutoItemProcessor,
+            TradeDeadlineQueue tradeDeadlineQueue,
+            @Value("${trade.deadline.batch-size}") int deadlineBatchSize
+    ) {
+        this.tradeRepo = tradeRepo;
+        this.memberRepository = memberRepository;
+        this.tradeAutoItemProcessor = tradeAutoItemProcessor;
+        this.tradeDeadlineQueue = tradeDeadlineQueue;
+        this.deadlineBatchSize = deadlineBatchSize;
+    }
 
     /**
-     * 판매자가 48 시간 내 전송 안 한 거래 자동 환불
+     * 마감이 지난 거래만 지연 큐에서 꺼내 자동 환불/정산
+     * 판매자 48시간 미전송 → 환불, 구매자 48시간 미확정 → 정산
      * 각 건은 TradeAutoItemProcessor에 위임 → 단건 독립 트랜잭션 + 재시도 보장
      */
-    @Scheduled(cron = "0 0 * * * *")       // 매 정시
-    public void refundIfSellerNoSend() {
-        LocalDateTime limit = LocalDateTime.now().minus(48, ChronoUnit.HOURS);
-
-        List<Trade> trades = tradeRepo
-                .findByStatusAndUpdatedAtBefore(TradeStatus.PAYMENT_CONFIRMED, limit);
-
-        trades.forEach(trade -> {
+    @Scheduled(fixedDelayString = "${trade.deadline.poll-interval-ms}")
+    public void processDueDeadlines() {
+        for (TradeDeadlineType type : TradeDeadlineType.values()) {
+            List<Long> tradeIds;
             try {
-                tradeAutoItemProcessor.processRefund(trade);
+                tradeIds = tradeDeadlineQueue.claimDue(type, deadlineBatchSize);
             } catch (Exception e) {
-                log.error("[자동 환불 처리 실패, 다음 건 계속] tradeId: {}", trade.getId(), e);
+                log.warn("[거래 마감 큐] 조회 실패. type: {}, error: {}", type, e.getMessage());
+                continue;
             }
-        });
+
+            tradeIds.forEach(tradeId -> {
+                try {
+                    processDeadline(type, tradeId);
+                } catch (Exception e) {
+                    // 큐에 남겨 두어 lease 만료 후 재시도
+                    log.error("[자동 {} 처리 실패, 다음 건 계속] tradeId: {}", type, tradeId, e);
+                }
+            });
+        }
     }
 
     /**
-     * 구매자가 48 시간 내 확정 안 한 거래 자동 정산
-     * 각 건은 TradeAutoItemProcessor에 위임 → 단건 독립 트랜잭션 + 재시도 보장
+     * 지연 큐 보정 스캔 (Redis 등록 누락/유실 대비)
+     * 마감이 지난 거래 ID만 잠금 없이 조회해 즉시 처리되도록 큐에 넣는다.
      */
-    @Scheduled(cron = "0 30 * * * *")      // 매시 30분
-    public void payoutIfBuyerNoConfirm() {
-        LocalDateTime limit = LocalDateTime.now().minus(48, ChronoUnit.HOURS);
+    @Scheduled(cron = "0 0 * * * *")       // 매 정시
+    @SchedulerLock(
+            name = "sweepOverdueTradeDeadlines",
+            lockAtMostFor = "PT10M",
+            lockAtLeastFor = "PT1M"
+    )
+    public void sweepOverdueDeadlines() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime limit = now.minus(TradeDeadlineType.GRACE_PERIOD);
 
-        List<Trade> trades = tradeRepo
-                .findByStatusAndUpdatedAtBeforeAndAutoConfirmPausedFalse(TradeStatus.DATA_SENT, limit);
+        List<Long> refundIds = tradeRepo
+                .findIdsByStatusAndUpdatedAtBefore(TradeStatus.PAYMENT_CONFIRMED, limit);
+        List<Long> payoutIds = tradeRepo
+                .findIdsByStatusAndUpdatedAtBeforeAndAutoConfirmPausedFalse(TradeStatus.DATA_SENT, limit);
 
-        trades.forEach(trade -> {
-            try {
-                tradeAutoItemProcessor.processPayout(trade);
-            } catch (Exception e) {
-                log.error("[자동 정산 처리 실패, 다음 건 계속] tradeId: {}", trade.getId(), e);
-            }
-        });
+        refundIds.forEach(tradeId -> tradeDeadlineQueue.schedule(TradeDeadlineType.REFUND, tradeId, now));
+        payoutIds.forEach(tradeId -> tradeDeadlineQueue.schedule(TradeDeadlineType.PAYOUT, tradeId, now));
+
+        if (!refundIds.isEmpty() || !payoutIds.isEmpty()) {
+            log.warn("[거래 마감 큐] 보정 스캔으로 재등록. refund: {}, payout: {}", refundIds.size(), payoutIds.size());
+        }
+    }
+
+    private void processDeadline(TradeDeadlineType type, Long tradeId) {
+        Trade trade = tradeRepo.findById(tradeId).orElse(null);
+
+        // 이미 취소/확정 등으로 상태가 바뀐 거래는 큐에서 제거
+        if (trade == null || !type.isTarget(trade)) {
+            tradeDeadlineQueue.remove(type, tradeId);
+            return;
+        }
+
+        // 등록 이후 상태가 다시 갱신된 거래는 실제 마감 시각으로 재등록
+        LocalDateTime dueAt = trade.getUpdatedAt().plus(TradeDeadlineType.GRACE_PERIOD);
+        if (dueAt.isAfter(LocalDateTime.now())) {
+            tradeDeadlineQueue.schedule(type, tradeId, dueAt);
+            return;
+        }
+
+        switch (type) {
+            case REFUND -> tradeAutoItemProcessor.processRefund(trade);
+            case PAYOUT -> tradeAutoItemProcessor.processPayout(trade);
+        }
+        tradeDeadlineQueue.remove(type, tradeId);
     }
 
     @Scheduled(cron = "0 0 0 * * *")  // 매일 00:00
@@ -0,0 +1,115 @@
+package com.ureca.snac.trade.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 거래 자동 환불/정산 마감 지연 큐 (Redis Sorted Set)
+ * <p>
+ * member = tradeId, score = 마감 시각(epoch millis).
+ * 매시 전체 거래를 잠금 조회하던 방식 대신 마감이 지난 거래만 소량씩 꺼내 처리한다.
+ * 꺼낸 항목은 삭제하지 않고 점수를 lease 만료 시각으로 미뤄 두므로,
+ * 처리 중 노드가 죽어도 lease 만료 후 다른 노드가 다시 가져간다.
+ */
+@Slf4j
+@Component
+public class TradeDeadlineQueue {
+
+    // 마감 지난 항목 조회 + lease 만료 시각으로 점수 갱신을 원자적으로 수행
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            for _, member in ipairs(due) do
+                redis.call('ZADD', KEYS[1], ARGV[3], member)
+            end
+            return due
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long leaseMillis;
+
+    public TradeDeadlineQueue(
+            StringRedisTemplate redisTemplate,
+            @Value("${trade.deadline.lease-seconds}") long leaseSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.leaseMillis = leaseSeconds * 1000;
+    }
+
+    /**
+     * 트랜잭션 커밋 후 마감 등록 (지금 + 48시간)
+     * 롤백된 상태 변경은 등록하지 않으며, Redis 실패 시 매시 보정 스캔이 다시 등록한다.
+     */
+    public void scheduleAfterCommit(TradeDeadlineType type, Long tradeId) {
+        LocalDateTime dueAt = LocalDateTime.now().plus(TradeDeadlineType.GRACE_PERIOD);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            scheduleQuietly(type, tradeId, dueAt);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                scheduleQuietly(type, tradeId, dueAt);
+            }
+        });
+    }
+
+    /**
+     * 지정 시각으로 마감 등록 (이미 있으면 마감 시각 갱신)
+     */
+    public void schedule(TradeDeadlineType type, Long tradeId, LocalDateTime dueAt) {
+        redisTemplate.opsForZSet().add(type.redisKey(), String.valueOf(tradeId), toEpochMillis(dueAt));
+    }
+
+    /**
+     * 마감이 지난 거래 ID를 최대 limit 건 점유
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> claimDue(TradeDeadlineType type, int limit) {
+        long now = System.currentTimeMillis();
+
+        List<String> members = redisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(type.redisKey()),
+                String.valueOf(now),
+                String.valueOf(limit),
+                String.valueOf(now + leaseMillis)
+        );
+
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 처리 완료 또는 대상 아님 → 큐에서 제거
+     */
+    public void remove(TradeDeadlineType type, Long tradeId) {
+        redisTemplate.opsForZSet().remove(type.redisKey(), String.valueOf(tradeId));
+    }
+
+    private void scheduleQuietly(TradeDeadlineType type, Long tradeId, LocalDateTime dueAt) {
+        try {
+            schedule(type, tradeId, dueAt);
+        } catch (RuntimeException e) {
+            log.warn("[거래 마감 큐] 등록 실패, 보정 스캔에서 재등록. type: {}, tradeId: {}, error: {}",
+                    type, tradeId, e.getMessage());
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,44 @@
+package com.ureca.snac.trade.scheduler;
+
+import com.ureca.snac.trade.entity.Trade;
+import com.ureca.snac.trade.entity.TradeStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+import static com.ureca.snac.common.RedisKeyConstants.TRADE_DEADLINE_PREFIX;
+
+/**
+ * 거래 자동 처리 마감 유형
+ * <p>
+ * REFUND : 결제 완료 후 48시간 내 판매자 미전송 → 자동 환불
+ * PAYOUT : 데이터 전송 후 48시간 내 구매자 미확정 → 자동 정산
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TradeDeadlineType {
+
+    REFUND("refund", TradeStatus.PAYMENT_CONFIRMED),
+    PAYOUT("payout", TradeStatus.DATA_SENT);
+
+    // 마지막 상태 변경(updatedAt) 이후 자동 처리까지 유예 시간
+    public static final Duration GRACE_PERIOD = Duration.ofHours(48);
+
+    private final String keySuffix;
+    private final TradeStatus targetStatus;
+
+    public String redisKey() {
+        return TRADE_DEADLINE_PREFIX + keySuffix;
+    }
+
+    /**
+     * 현재 거래 상태가 자동 처리 대상인지 (정산은 자동 확정 일시중지 거래 제외)
+     */
+    public boolean isTarget(Trade trade) {
+        if (trade.getStatus() != targetStatus) {
+            return false;
+        }
+        return this != PAYOUT || !trade.isAutoConfirmPaused();
+    }
+}
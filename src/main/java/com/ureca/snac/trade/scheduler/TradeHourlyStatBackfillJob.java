@@ -0,0 +1,63 @@
+package com.ureca.snac.trade.scheduler;
+
+import com.ureca.snac.trade.repository.TradeHourlyStatRepository;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 거래 시간 집계 백필
+ * <p>
+ * 최근 lookback-hours 동안의 완료 거래로 trade_hourly_stat 을 chunk-hours 구간 단위로 다시 계산해 덮어쓴다.
+ * 24시간 통계는 시간 집계만 읽으므로 도입 직후(집계 누적 전 완료된 거래)나 집계 보정 시 한 번 실행한다.
+ * 실시간 누적과 겹치지 않도록 현재 시각이 속한 구간은 제외하고 끝난 구간만 다시 계산하며,
+ * 구간마다 독립 트랜잭션이고 재실행해도 같은 결과다. cron 을 "-" 로 두면 실행되지 않는다.
+ */
+@Slf4j
+@Component
+public class TradeHourlyStatBackfillJob {
+
+    private final TradeHourlyStatRepository tradeHourlyStatRepository;
+    private final int lookbackHours;
+    private final int chunkHours;
+
+    public TradeHourlyStatBackfillJob(
+            TradeHourlyStatRepository tradeHourlyStatRepository,
+            @Value("${trade.statistics.backfill.lookback-hours}") int lookbackHours,
+            @Value("${trade.statistics.backfill.chunk-hours}") int chunkHours
+    ) {
+        this.tradeHourlyStatRepository = tradeHourlyStatRepository;
+        this.lookbackHours = lookbackHours;
+        this.chunkHours = chunkHours;
+    }
+
+    @Scheduled(cron = "${trade.statistics.backfill.cron}")
+    @SchedulerLock(name = "backfillTradeHourlyStat", lockAtMostFor = "PT1H")
+    public void backfill() {
+        LocalDateTime end = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime start = end.minusHours(lookbackHours);
+
+        log.info("[거래 시간 집계 백필] 시작. 구간: [{}, {}), 구간 크기: {}시간", start, end, chunkHours);
+
+        int chunks = 0;
+        long affected = 0;
+        for (LocalDateTime from = start; from.isBefore(end); from = from.plusHours(chunkHours)) {
+            LocalDateTime to = from.plusHours(chunkHours).isAfter(end) ? end : from.plusHours(chunkHours);
+            try {
+                affected += tradeHourlyStatRepository.rebuildBetween(from, to);
+                chunks++;
+            } catch (Exception e) {
+                log.error("[거래 시간 집계 백필] 구간 실패, 다음 실행에서 재시도. 구간: [{}, {}), error: {}",
+                        from, to, e.getMessage(), e);
+                return;
+            }
+        }
+
+        log.info("[거래 시간 집계 백필] 완료. 구간 수: {}, 영향 행 수: {}", chunks, affected);
+    }
+}
@@ -1,10 +1,9 @@
 package com.ureca.snac.trade.scheduler;
 
 import com.ureca.snac.board.entity.constants.Carrier;
-import com.ureca.snac.trade.entity.Trade;
+import com.ureca.snac.trade.dto.TradeStatSummary;
 import com.ureca.snac.trade.entity.TradeStatistics;
-import com.ureca.snac.trade.entity.TradeStatus;
-import com.ureca.snac.trade.repository.TradeRepository;
+import com.ureca.snac.trade.repository.TradeHourlyStatRepository;
 import com.ureca.snac.trade.repository.TradeStatisticsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,15 +13,22 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.time.temporal.ChronoUnit;
 
+/**
+ * 통신사별 최근 24시간 평균 GB당 가격 기록
+ * 거래 완료 시 누적된 시간 단위 집계(trade_hourly_stat) 24행을 합산하므로
+ * 거래량과 무관하게 DB 합계 쿼리 1회 + 상수 메모리로 계산한다.
+ */
 @Slf4j
 @Component
 @Profile("!loadtest")
 @RequiredArgsConstructor
 public class TradeStatisticsScheduler {
 
-    private final TradeRepository tradeRepository;
+    private static final int WINDOW_HOURS = 24;
+
+    private final TradeHourlyStatRepository tradeHourlyStatRepository;
     private final TradeStatisticsRepository tradeStatisticsRepository;
 
     @Scheduled(cron = "0 0 * * * *")
@@ -33,28 +39,15 @@ public class TradeStatisticsScheduler {
     )
     public void recordHourlyAverageByCarrier() {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime since = now.minusHours(24);
+        // 정시 실행 기준 직전 24개 구간 [now-24h, now)
+        LocalDateTime to = now.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime since = to.minusHours(WINDOW_HOURS);
 
         for (Carrier carrier : Carrier.values()) {
-            List<Trade> trades = tradeRepository
-                    .findAllByStatusAndCarrierAndCreatedAtBetween(
-                            TradeStatus.COMPLETED,
-                            carrier,
-                            since,
-                            now
-                    );
-
-            int totalDataAmount = 0;
-            int totalCost = 0;
-
-            for (Trade trade : trades) {
-                totalCost += trade.getPriceGb();
-                totalDataAmount += trade.getDataAmount();
-            }
-
-            double avgPricePerGb = totalDataAmount == 0 ? 0.0 : (double) totalCost / totalDataAmount;
+            TradeStatSummary summary = tradeHourlyStatRepository.sumByCarrierBetween(carrier, since, to);
+            double avgPricePerGb = summary.avgPricePerGb();
 
-            log.info("carrier={} | avgPricePerGb={}", carrier, avgPricePerGb);
+            log.info("carrier={} | trades={} | avgPricePerGb={}", carrier, summary.tradeCount(), avgPricePerGb);
 
             TradeStatistics stat = TradeStatistics.builder()
                     .carrier(carrier)
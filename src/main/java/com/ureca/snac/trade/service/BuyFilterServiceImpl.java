@@ -1,30 +1,51 @@
 package com.ureca.snac.trade.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ureca.snac.board.entity.constants.Carrier;
 import com.ureca.snac.common.RedisKeyConstants;
 import com.ureca.snac.trade.controller.request.BuyerFilterRequest;
 import com.ureca.snac.trade.service.interfaces.BuyFilterService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
+import static com.ureca.snac.common.RedisKeyConstants.BUYER_FILTER_CHANNEL;
 import static com.ureca.snac.common.RedisKeyConstants.BUYER_FILTER_PREFIX;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class BuyFilterServiceImpl implements BuyFilterService {
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
+    private final BuyerFilterIndex buyerFilterIndex;
+    private final BuyerFilterSortedSetStore sortedSetStore;
+    private final BuyerFilterStorage storage;
+
+    public BuyFilterServiceImpl(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            BuyerFilterIndex buyerFilterIndex,
+            BuyerFilterSortedSetStore sortedSetStore,
+            @Value("${trade.buyer-filter.storage}") BuyerFilterStorage storage
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.buyerFilterIndex = buyerFilterIndex;
+        this.sortedSetStore = sortedSetStore;
+        this.storage = storage;
+    }
 
     @Override
     public void saveBuyerFilter(String username, BuyerFilterRequest filter) {
+        if (storage == BuyerFilterStorage.SORTED_SET) {
+            sortedSetStore.save(username, filter);
+            return;
+        }
+
         String key = BUYER_FILTER_PREFIX + username;
 
         try {
@@ -33,26 +54,28 @@ public class BuyFilterServiceImpl implements BuyFilterService {
         } catch (Exception e) {
             throw new RuntimeException("필터 저장 실패", e);
         }
+
+        // 동시 저장 시 늦게 끝난 요청의 값이 덮어쓰지 않도록 Redis 최신 값으로 반영
+        buyerFilterIndex.refresh(username);
+        publishChange(username);
     }
 
+    // Redis 전체 키 순회 대신 로컬 색인 사용
     @Override
     public Map<String, BuyerFilterRequest> findAllBuyerFilters() {
-        Set<String> keys = redisTemplate.keys(RedisKeyConstants.BUYER_FILTER_PREFIX + "*");
-        Map<String, BuyerFilterRequest> result = new HashMap<>();
-
-        for (String key : keys) {
-            String username = key.substring(RedisKeyConstants.BUYER_FILTER_PREFIX.length());
-            String json = redisTemplate.opsForValue().get(key);
-            if (json == null) continue;
-            try {
-                BuyerFilterRequest filter = objectMapper.readValue(json, BuyerFilterRequest.class);
-                result.put(username, filter);
-            } catch (JsonProcessingException e) {
-                // 파싱 에러 로그만 남기고 계속
-                log.warn("BoughtFilterRequest JSON 파싱 실패 for key={} json={}", key, json, e);
-            }
+        if (storage == BuyerFilterStorage.SORTED_SET) {
+            return sortedSetStore.findAll();
         }
-        return result;
+        return buyerFilterIndex.snapshot();
+    }
+
+    // STRING: 로컬 색인 조회, SORTED_SET: ZRANGEBYSCORE 1회
+    @Override
+    public List<String> findMatchingBuyers(Carrier carrier, Integer dataAmount, Integer price) {
+        if (storage == BuyerFilterStorage.SORTED_SET) {
+            return sortedSetStore.findMatchingBuyers(carrier, dataAmount, price);
+        }
+        return buyerFilterIndex.findMatchingBuyers(carrier, dataAmount, price);
     }
 
 //    @Override
@@ -78,6 +101,13 @@ public class BuyFilterServiceImpl implements BuyFilterService {
 
     @Override
     public void deleteBuyerFilterByUsername(String username) {
+        if (storage == BuyerFilterStorage.SORTED_SET) {
+            if (sortedSetStore.delete(username)) {
+                log.info("구매자 필터 삭제: {}", username);
+            }
+            return;
+        }
+
         String key = RedisKeyConstants.BUYER_FILTER_PREFIX + username;
 
         if (redisTemplate.hasKey(key)) {
@@ -85,5 +115,12 @@ public class BuyFilterServiceImpl implements BuyFilterService {
             log.info("구매자 필터 삭제: {}", username);
         }
 
+        buyerFilterIndex.refresh(username);
+        publishChange(username);
+    }
+
+    // 다른 노드 색인 갱신 알림
+    private void publishChange(String username) {
+        redisTemplate.convertAndSend(BUYER_FILTER_CHANNEL, username);
     }
 }
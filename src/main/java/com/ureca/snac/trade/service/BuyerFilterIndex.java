@@ -0,0 +1,303 @@
+package com.ureca.snac.trade.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ureca.snac.board.entity.constants.Carrier;
+import com.ureca.snac.trade.controller.request.BuyerFilterRequest;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.ureca.snac.common.RedisKeyConstants.BUYER_FILTER_PREFIX;
+
+/**
+ * 실시간 매칭용 구매자 필터 인메모리 역색인
+ * <p>
+ * (통신사, 데이터량) 버킷 안에 필터 최대 가격 순으로 구매자를 정렬해 두고
+ * 판매글 가격 이상인 구간만 꺼내 판매글마다 전체 필터를 훑지 않는다.
+ * Redis(buyer_filter:{username})가 원본이며 기동 시 SCAN으로 재구성하고,
+ * 다른 노드의 변경은 Pub/Sub 메시지(username)를 받아 해당 키만 다시 읽어 반영한다.
+ * <p>
+ * 변경 반영은 Redis 읽기와 색인 적용을 같은 락 안에서 해, 먼저 읽은 이전 값이 나중에 적용되어
+ * 최신 값을 덮어쓰지 않는다 (마지막 적용이 항상 그 시점의 Redis 값).
+ * Pub/Sub 은 유실될 수 있으므로(구독 끊김 동안의 메시지 등) 노드마다 주기적으로 SCAN 재동기화하고,
+ * 구독이 재연결되면 바로 재동기화한다.
+ */
+@Slf4j
+@Component
+public class BuyerFilterIndex implements MessageListener, SubscriptionListener {
+
+    private static final int SCAN_COUNT = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 구독 재연결 시 재동기화 (구독 알림 스레드에서 Redis 조회를 하지 않음)
+    private final ExecutorService resyncExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "buyer-filter-resync");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 첫 구독은 기동 재구성이 처리
+    private final AtomicBoolean subscribedOnce = new AtomicBoolean(false);
+
+    // username -> 필터 (비활성 포함, 필터 조회 응답용)
+    private final Map<String, BuyerFilterRequest> filtersByUser = new ConcurrentHashMap<>();
+    // (통신사, 데이터량) -> 최대 가격 -> username 목록 (활성 필터만)
+    private final Map<BucketKey, ConcurrentSkipListMap<Integer, Set<String>>> buckets = new ConcurrentHashMap<>();
+
+    public BuyerFilterIndex(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("buyer_filter_index_size", filtersByUser, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Redis 원본으로 색인 재구성 (KEYS 대신 SCAN + MGET)
+     * 기동 시와 주기적으로(노드 로컬 색인이므로 노드마다) 실행해 유실된 변경 알림을 보정한다.
+     * Redis 에 없는 로컬 필터는 다시 읽어 확인 후 제거한다.
+     * Redis 장애로 실패해도 기동은 계속하고, 이후 저장/삭제 및 변경 알림, 다음 재동기화로 채워진다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${trade.buyer-filter.resync-interval-ms}",
+            initialDelayString = "${trade.buyer-filter.resync-interval-ms}")
+    public void rebuild() {
+        try {
+            List<String> keys = scanFilterKeys();
+            int loaded = loadFilters(keys);
+            int removed = removeMissing(keys);
+
+            log.info("[구매자 필터 색인] 재구성 완료. keys: {}, loaded: {}, removed: {}", keys.size(), loaded, removed);
+
+        } catch (RuntimeException e) {
+            log.error("[구매자 필터 색인] 재구성 실패. error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 변경 알림 채널 구독 완료 (컨테이너가 연결 복구 후 다시 구독할 때도 호출)
+     * 끊긴 동안 놓친 알림을 보정하도록 재연결 시 재동기화
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        if (!subscribedOnce.compareAndSet(false, true)) {
+            log.info("[구매자 필터 색인] 변경 알림 재구독, 재동기화 시작");
+            resyncExecutor.execute(this::rebuild);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resyncExecutor.shutdownNow();
+    }
+
+    /**
+     * 다른 노드의 필터 변경 알림 수신 -> 해당 사용자 필터만 Redis에서 다시 읽음
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String username = new String(message.getBody(), StandardCharsets.UTF_8);
+        refresh(username);
+    }
+
+    /**
+     * Redis 현재 값으로 한 사용자 필터 갱신 (키가 없으면 제거)
+     * 읽기와 적용을 한 락 안에서 해 동시 갱신 중 이전 값이 최신 값을 덮어쓰지 않음
+     */
+    public synchronized void refresh(String username) {
+        String key = BUYER_FILTER_PREFIX + username;
+        apply(username, parse(key, redisTemplate.opsForValue().get(key)));
+    }
+
+    public synchronized void put(String username, BuyerFilterRequest filter) {
+        BuyerFilterRequest previous = filtersByUser.put(username, filter);
+        if (previous != null) {
+            unindex(username, previous);
+        }
+        index(username, filter);
+    }
+
+    public synchronized void remove(String username) {
+        BuyerFilterRequest previous = filtersByUser.remove(username);
+        if (previous != null) {
+            unindex(username, previous);
+        }
+    }
+
+    /**
+     * 판매글 조건에 맞는 활성 구매자 조회
+     *
+     * @return 필터 최대 가격이 판매가 이상인 구매자 username 목록
+     */
+    public List<String> findMatchingBuyers(Carrier carrier, Integer dataAmount, Integer price) {
+        if (price == null || price < 0) {
+            return List.of();
+        }
+
+        NavigableMap<Integer, Set<String>> bucket = buckets.get(new BucketKey(carrier, dataAmount));
+        if (bucket == null) {
+            return List.of();
+        }
+
+        List<String> buyers = new ArrayList<>();
+        bucket.tailMap(price, true).values().forEach(buyers::addAll);
+        return buyers;
+    }
+
+    /**
+     * 전체 필터 조회 (비활성 포함)
+     */
+    public Map<String, BuyerFilterRequest> snapshot() {
+        return Map.copyOf(filtersByUser);
+    }
+
+    private List<String> scanFilterKeys() {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(BUYER_FILTER_PREFIX + "*")
+                .count(SCAN_COUNT)
+                .build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+            }
+        }
+        return keys;
+    }
+
+    // 청크마다 MGET 과 적용을 한 락 안에서 (그 사이 변경 알림 갱신과 순서가 섞이지 않음)
+    private int loadFilters(List<String> keys) {
+        int loaded = 0;
+        for (int from = 0; from < keys.size(); from += SCAN_COUNT) {
+            List<String> chunk = keys.subList(from, Math.min(from + SCAN_COUNT, keys.size()));
+            synchronized (this) {
+                List<String> values = redisTemplate.opsForValue().multiGet(chunk);
+                if (values == null) {
+                    continue;
+                }
+                for (int i = 0; i < chunk.size(); i++) {
+                    String username = chunk.get(i).substring(BUYER_FILTER_PREFIX.length());
+                    BuyerFilterRequest filter = parse(chunk.get(i), values.get(i));
+                    apply(username, filter);
+                    if (filter != null) {
+                        loaded++;
+                    }
+                }
+            }
+        }
+        return loaded;
+    }
+
+    // SCAN 에 없던 로컬 필터는 삭제 알림을 놓쳤을 수 있으므로 다시 읽어 확인 (SCAN 이후 생성된 키는 유지)
+    private int removeMissing(List<String> keys) {
+        Set<String> present = new HashSet<>();
+        keys.forEach(key -> present.add(key.substring(BUYER_FILTER_PREFIX.length())));
+
+        int removed = 0;
+        for (String username : List.copyOf(filtersByUser.keySet())) {
+            if (!present.contains(username)) {
+                refresh(username);
+                if (!filtersByUser.containsKey(username)) {
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    private void apply(String username, BuyerFilterRequest filter) {
+        if (filter == null) {
+            remove(username);
+        } else {
+            put(username, filter);
+        }
+    }
+
+    private void index(String username, BuyerFilterRequest filter) {
+        if (!isIndexable(filter)) {
+            return;
+        }
+        buckets.computeIfAbsent(bucketKeyOf(filter), key -> new ConcurrentSkipListMap<>())
+                .computeIfAbsent(maxPriceOf(filter), price -> ConcurrentHashMap.newKeySet())
+                .add(username);
+    }
+
+    private void unindex(String username, BuyerFilterRequest filter) {
+        if (!isIndexable(filter)) {
+            return;
+        }
+        BucketKey bucketKey = bucketKeyOf(filter);
+        ConcurrentSkipListMap<Integer, Set<String>> bucket = buckets.get(bucketKey);
+        if (bucket == null) {
+            return;
+        }
+
+        bucket.computeIfPresent(maxPriceOf(filter), (price, users) -> {
+            users.remove(username);
+            return users.isEmpty() ? null : users;
+        });
+        if (bucket.isEmpty()) {
+            buckets.remove(bucketKey);
+        }
+    }
+
+    // 기존 매칭과 동일하게 활성 + 조건이 모두 있는 필터만 매칭 대상
+    static boolean isIndexable(BuyerFilterRequest filter) {
+        return Boolean.TRUE.equals(filter.getActive())
+                && filter.getCarrier() != null
+                && filter.getDataAmount() != null
+                && filter.getPriceRange() != null;
+    }
+
+    private BucketKey bucketKeyOf(BuyerFilterRequest filter) {
+        return new BucketKey(filter.getCarrier(), filter.getDataAmount());
+    }
+
+    // PriceRange.ALL(max == null)은 가격 제한 없음
+    static int maxPriceOf(BuyerFilterRequest filter) {
+        Integer max = filter.getPriceRange().getMax();
+        return max == null ? Integer.MAX_VALUE : max;
+    }
+
+    private BuyerFilterRequest parse(String key, String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, BuyerFilterRequest.class);
+        } catch (JsonProcessingException e) {
+            log.warn("[구매자 필터 색인] JSON 파싱 실패. key: {}, error: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private record BucketKey(Carrier carrier, Integer dataAmount) {
+    }
+}
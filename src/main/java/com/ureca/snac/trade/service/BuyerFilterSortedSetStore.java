@@ -0,0 +1,132 @@
+package com.ureca.snac.trade.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ureca.snac.board.entity.constants.Carrier;
+import com.ureca.snac.trade.controller.request.BuyerFilterRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.ureca.snac.common.RedisKeyConstants.BUYER_FILTER_BUCKET_HASH;
+import static com.ureca.snac.common.RedisKeyConstants.BUYER_FILTER_HASH;
+import static com.ureca.snac.common.RedisKeyConstants.BUYER_FILTER_ZSET_PREFIX;
+
+/**
+ * 구매자 필터 Sorted Set 저장소 (SORTED_SET 저장 방식)
+ * <p>
+ * (통신사, 데이터량)마다 Sorted Set 하나에 구매자를 필터 최대 가격을 score 로 넣어 두고,
+ * 판매글 매칭은 ZRANGEBYSCORE {가격} +inf 한 번으로 끝낸다. 노드별 색인이나 변경 알림이 필요 없다.
+ * 필터 원본은 회원 Hash(username -> JSON)에, 소속 Sorted Set 키는 별도 Hash 에 두어
+ * 교체/삭제 시 이전 버킷에서 O(log n) ZREM 으로 빠진다.
+ * 이전 버킷 키를 Hash 에서 읽어 쓰므로 단일 노드 Redis 기준 스크립트다.
+ */
+@Slf4j
+@Component
+public class BuyerFilterSortedSetStore {
+
+    // 이전 버킷에서 제거 -> 필터 저장 -> 매칭 대상이면 새 버킷에 추가 (KEYS[3] 없으면 매칭 제외)
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            local previous = redis.call('HGET', KEYS[2], ARGV[1])
+            if previous then
+                redis.call('ZREM', previous, ARGV[1])
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            if #KEYS == 3 then
+                redis.call('ZADD', KEYS[3], ARGV[3], ARGV[1])
+                redis.call('HSET', KEYS[2], ARGV[1], KEYS[3])
+            else
+                redis.call('HDEL', KEYS[2], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    // 소속 버킷에서 제거 + 필터 삭제, 삭제된 필터 수 반환
+    private static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>("""
+            local previous = redis.call('HGET', KEYS[2], ARGV[1])
+            if previous then
+                redis.call('ZREM', previous, ARGV[1])
+                redis.call('HDEL', KEYS[2], ARGV[1])
+            end
+            return redis.call('HDEL', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public BuyerFilterSortedSetStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public void save(String username, BuyerFilterRequest filter) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(filter);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("필터 저장 실패", e);
+        }
+
+        if (BuyerFilterIndex.isIndexable(filter)) {
+            String bucketKey = bucketKey(filter.getCarrier(), filter.getDataAmount());
+            redisTemplate.execute(SAVE_SCRIPT, List.of(BUYER_FILTER_HASH, BUYER_FILTER_BUCKET_HASH, bucketKey),
+                    username, json, String.valueOf(BuyerFilterIndex.maxPriceOf(filter)));
+        } else {
+            redisTemplate.execute(SAVE_SCRIPT, List.of(BUYER_FILTER_HASH, BUYER_FILTER_BUCKET_HASH),
+                    username, json);
+        }
+    }
+
+    /**
+     * @return 삭제된 필터가 있으면 true
+     */
+    public boolean delete(String username) {
+        Long deleted = redisTemplate.execute(DELETE_SCRIPT,
+                List.of(BUYER_FILTER_HASH, BUYER_FILTER_BUCKET_HASH), username);
+        return deleted != null && deleted > 0;
+    }
+
+    /**
+     * 판매글 조건에 맞는 활성 구매자 조회
+     *
+     * @return 필터 최대 가격이 판매가 이상인 구매자 username 목록 (최대 가격 오름차순)
+     */
+    public List<String> findMatchingBuyers(Carrier carrier, Integer dataAmount, Integer price) {
+        if (carrier == null || dataAmount == null || price == null || price < 0) {
+            return List.of();
+        }
+
+        Set<String> buyers = redisTemplate.opsForZSet()
+                .rangeByScore(bucketKey(carrier, dataAmount), price, Double.POSITIVE_INFINITY);
+        return buyers == null ? List.of() : new ArrayList<>(buyers);
+    }
+
+    /**
+     * 전체 필터 조회 (비활성 포함)
+     */
+    public Map<String, BuyerFilterRequest> findAll() {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(BUYER_FILTER_HASH);
+
+        Map<String, BuyerFilterRequest> filters = new HashMap<>(entries.size());
+        entries.forEach((username, json) -> {
+            try {
+                filters.put((String) username, objectMapper.readValue((String) json, BuyerFilterRequest.class));
+            } catch (JsonProcessingException e) {
+                log.warn("[구매자 필터 저장소] JSON 파싱 실패. username: {}, error: {}", username, e.getMessage());
+            }
+        });
+        return filters;
+    }
+
+    private static String bucketKey(Carrier carrier, Integer dataAmount) {
+        return BUYER_FILTER_ZSET_PREFIX + carrier.name() + ":" + dataAmount;
+    }
+}
@@ -0,0 +1,9 @@
+package com.ureca.snac.trade.service;
+
+/**
+ * 구매자 필터 Redis 저장 방식
+ */
+public enum BuyerFilterStorage {
+    STRING, // buyer_filter:{username} 문자열 + 노드별 로컬 색인 (기본)
+    SORTED_SET // (통신사, 데이터량)별 Sorted Set(score = 최대 가격) + 회원 Hash, 매칭은 ZRANGEBYSCORE 1회
+}
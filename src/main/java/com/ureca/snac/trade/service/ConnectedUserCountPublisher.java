@@ -0,0 +1,101 @@
+package com.ureca.snac.trade.service;
+
+import com.ureca.snac.config.RabbitMQConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.ureca.snac.common.RedisKeyConstants.CONNECTED_USERS;
+
+/**
+ * 접속자 수 브로드캐스트 디바운스
+ * <p>
+ * 접속/해제마다 전체 클라이언트에 접속자 수를 보내면 대량 재접속 시 메시지가 O(n²)로 늘어난다.
+ * 변경은 dirty 표시만 하고, 첫 변경 후 broadcast-interval 뒤에 그 시점 접속자 수를 한 번만 보낸다.
+ * 구간 안의 추가 변경은 같은 브로드캐스트에 합류한다 (노드당 구간별 최대 1회).
+ */
+@Slf4j
+@Component
+@Profile("!scheduler & !loadtest")
+public class ConnectedUserCountPublisher {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RabbitTemplate rabbitTemplate;
+    private final long intervalMs;
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final ScheduledExecutorService executor;
+
+    private final Counter broadcastCounter;
+    private final Counter suppressedCounter;
+
+    public ConnectedUserCountPublisher(
+            StringRedisTemplate redisTemplate,
+            RabbitTemplate rabbitTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${trade.connected-users.broadcast-interval-ms}") long intervalMs
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.rabbitTemplate = rabbitTemplate;
+        this.intervalMs = intervalMs;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ConnectedUserCount");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.broadcastCounter = Counter.builder("connected_users_broadcast_total")
+                .description("전송한 접속자 수 브로드캐스트 수")
+                .register(meterRegistry);
+        this.suppressedCounter = Counter.builder("connected_users_broadcast_suppressed_total")
+                .description("예약된 브로드캐스트에 합류해 생략된 접속자 변경 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 접속자 변경 표시 (예약된 브로드캐스트가 없을 때만 예약)
+     */
+    public void markDirty() {
+        if (!scheduled.compareAndSet(false, true)) {
+            suppressedCounter.increment();
+            return;
+        }
+        executor.schedule(this::flush, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 현재 접속자 수 브로드캐스트
+     * 읽기 전에 예약 표시를 내려, 읽은 뒤 생긴 변경은 다음 구간에서 다시 보낸다.
+     */
+    void flush() {
+        scheduled.set(false);
+        try {
+            Long count = redisTemplate.opsForSet().size(CONNECTED_USERS);
+            rabbitTemplate.convertAndSend(
+                    RabbitMQConfig.CONNECTED_USERS_EXCHANGE,
+                    "",                                      // Fanout: 라우팅키 필요 없음
+                    count == null ? 0 : count
+            );
+            broadcastCounter.increment();
+
+        } catch (RuntimeException e) {
+            log.error("[접속자 수 브로드캐스트] 전송 실패. error: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,321 @@
+package com.ureca.snac.trade.service;
+
+import com.ureca.snac.trade.service.DisconnectCleanupWorker.CleanupResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.ureca.snac.common.RedisKeyConstants.WS_DISCONNECT_CLEANUP;
+import static com.ureca.snac.common.RedisKeyConstants.WS_DISCONNECT_CLEANUP_ATTEMPTS;
+import static com.ureca.snac.common.RedisKeyConstants.WS_DISCONNECT_CLEANUP_SINCE;
+
+/**
+ * 연결 해제 정리 대기열 (Redis Sorted Set)
+ * <p>
+ * member = username, score = 유예 만료 시각(epoch millis).
+ * STOMP 이벤트 스레드는 회원을 대기열에 올리기만 하고, 정리는 유예 시간(grace) 뒤 워커가 묶음으로 수행한다.
+ * 같은 회원의 해제는 하나로 합쳐지며 유예 시간은 마지막 해제부터 센다.
+ * 유예 시간 안에 어느 노드로든 다시 접속하면 대기열에서 빠져 거래 취소/카드 삭제가 일어나지 않는다.
+ * <p>
+ * 대기열이 노드 밖에 있으므로 배포/종료 시 유예 중인 회원을 바로 정리하지 않고, 남은 노드가 유예 후 정리한다.
+ * 꺼낸 항목은 삭제하지 않고 점수를 lease 만료 시각으로 미뤄 두므로(TradeDeadlineQueue 와 같은 방식),
+ * 처리 중 노드가 죽거나 회원 정리가 실패하면 lease 만료 후 다시 가져간다 (max-attempts 까지).
+ */
+@Slf4j
+@Component
+@Profile("!scheduler & !loadtest")
+public class DisconnectCleanupQueue {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    // 유예 만료 항목 조회 + lease 만료 시각으로 점수 갱신 + 시도 횟수 증가를 원자적으로 수행
+    // 반환: [username, 시도 횟수, 해제 시각, ...]
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            local claimed = {}
+            for _, member in ipairs(due) do
+                redis.call('ZADD', KEYS[1], ARGV[3], member)
+                local attempts = redis.call('HINCRBY', KEYS[2], member, 1)
+                local since = redis.call('HGET', KEYS[3], member)
+                table.insert(claimed, member)
+                table.insert(claimed, tostring(attempts))
+                table.insert(claimed, since or ARGV[1])
+            end
+            return claimed
+            """, List.class);
+
+    // 점유한 lease 점수 그대로일 때만 제거 (처리 중 다시 해제된 회원은 새 유예 시간을 유지)
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            local removed = 0
+            for i = 2, #ARGV do
+                local score = redis.call('ZSCORE', KEYS[1], ARGV[i])
+                if score and tonumber(score) == tonumber(ARGV[1]) then
+                    redis.call('ZREM', KEYS[1], ARGV[i])
+                    redis.call('HDEL', KEYS[2], ARGV[i])
+                    redis.call('HDEL', KEYS[3], ARGV[i])
+                    removed = removed + 1
+                end
+            end
+            return removed
+            """, Long.class);
+
+    private static final List<String> KEYS =
+            List.of(WS_DISCONNECT_CLEANUP, WS_DISCONNECT_CLEANUP_ATTEMPTS, WS_DISCONNECT_CLEANUP_SINCE);
+
+    private final DisconnectCleanupWorker worker;
+    private final StringRedisTemplate redisTemplate;
+    private final long graceMs;
+    private final long pollIntervalMs;
+    private final int batchSize;
+    private final long leaseMs;
+    private final int maxAttempts;
+
+    private final ScheduledExecutorService dispatcher;
+    private final ExecutorService workers;
+    // 처리 중인 묶음 수를 워커 수로 제한 (노는 워커가 있을 때만 점유)
+    private final Semaphore inFlight;
+    private final AtomicLong depth = new AtomicLong();
+
+    private final Timer cleanupLatency;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter reconnectedCounter;
+    private final Counter skippedCounter;
+    private final Counter retryCounter;
+    private final Counter abandonedCounter;
+
+    public DisconnectCleanupQueue(
+            DisconnectCleanupWorker worker,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${trade.disconnect-cleanup.grace-ms}") long graceMs,
+            @Value("${trade.disconnect-cleanup.poll-interval-ms}") long pollIntervalMs,
+            @Value("${trade.disconnect-cleanup.batch-size}") int batchSize,
+            @Value("${trade.disconnect-cleanup.lease-ms}") long leaseMs,
+            @Value("${trade.disconnect-cleanup.max-attempts}") int maxAttempts,
+            @Value("${trade.disconnect-cleanup.workers}") int workerCount
+    ) {
+        this.worker = worker;
+        this.redisTemplate = redisTemplate;
+        this.graceMs = graceMs;
+        this.pollIntervalMs = pollIntervalMs;
+        this.batchSize = batchSize;
+        this.leaseMs = leaseMs;
+        this.maxAttempts = maxAttempts;
+        this.inFlight = new Semaphore(workerCount);
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "DisconnectCleanup-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "DisconnectCleanup-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // 스크레이프마다 Redis 를 호출하지 않도록 분배 주기마다 갱신한 값을 노출
+        Gauge.builder("ws_disconnect_cleanup_queue_depth", depth, AtomicLong::get)
+                .description("유예 중이거나 정리를 기다리는 연결 해제 회원 수 (전체 노드)")
+                .register(meterRegistry);
+        this.cleanupLatency = Timer.builder("ws_disconnect_cleanup_latency")
+                .description("마지막 연결 해제부터 정리 완료까지 지연 (유예 시간 포함)")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("ws_disconnect_cleanup_batch_size")
+                .description("정리 묶음 1회당 회원 수")
+                .register(meterRegistry);
+        this.reconnectedCounter = Counter.builder("ws_disconnect_cleanup_reconnected_total")
+                .description("유예 시간 안에 재접속해 정리가 취소된 회원 수")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("ws_disconnect_cleanup_skipped_total")
+                .description("다른 노드 재접속으로 워커가 건너뛴 회원 수")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("ws_disconnect_cleanup_retry_total")
+                .description("정리 실패/다른 노드 정리 중이라 lease 만료 후 다시 시도하는 회원 수")
+                .register(meterRegistry);
+        this.abandonedCounter = Counter.builder("ws_disconnect_cleanup_abandoned_total")
+                .description("max-attempts 를 넘겨 대기열에서 제거한 회원 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        dispatcher.scheduleWithFixedDelay(this::dispatchDue, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 연결 해제 회원 등록 (이미 대기 중이면 유예 시간만 다시 시작)
+     */
+    public void submit(String username) {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add(WS_DISCONNECT_CLEANUP, username, now + graceMs);
+        redisTemplate.opsForHash().put(WS_DISCONNECT_CLEANUP_SINCE, username, String.valueOf(now));
+        redisTemplate.opsForHash().delete(WS_DISCONNECT_CLEANUP_ATTEMPTS, username);
+    }
+
+    /**
+     * 재접속 시 대기 중인 정리 취소 (다른 노드에서 해제된 회원도 취소됨)
+     */
+    public void cancel(String username) {
+        Long removed = redisTemplate.opsForZSet().remove(WS_DISCONNECT_CLEANUP, username);
+        if (removed != null && removed > 0) {
+            redisTemplate.opsForHash().delete(WS_DISCONNECT_CLEANUP_SINCE, username);
+            redisTemplate.opsForHash().delete(WS_DISCONNECT_CLEANUP_ATTEMPTS, username);
+            reconnectedCounter.increment();
+            log.info("[연결 해제 정리] 유예 중 재접속, 정리 취소. username: {}", username);
+        }
+    }
+
+    /**
+     * 유예 시간이 지난 회원을 batch-size 단위로 점유해 노는 워커에 넘김
+     */
+    void dispatchDue() {
+        try {
+            while (inFlight.tryAcquire()) {
+                Batch batch = claim();
+                if (batch.usernames().isEmpty()) {
+                    inFlight.release();
+                    break;
+                }
+                workers.execute(() -> {
+                    try {
+                        process(batch);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+
+            Long size = redisTemplate.opsForZSet().zCard(WS_DISCONNECT_CLEANUP);
+            depth.set(size == null ? 0 : size);
+
+        } catch (RuntimeException e) {
+            log.error("[연결 해제 정리] 묶음 분배 실패. error: {}", e.getMessage(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Batch claim() {
+        long now = System.currentTimeMillis();
+        long leaseScore = now + leaseMs;
+
+        List<String> claimed;
+        try {
+            claimed = redisTemplate.execute(
+                    CLAIM_SCRIPT,
+                    KEYS,
+                    String.valueOf(now),
+                    String.valueOf(batchSize),
+                    String.valueOf(leaseScore)
+            );
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+
+        List<String> usernames = new ArrayList<>();
+        Map<String, Integer> attempts = new HashMap<>();
+        Map<String, Long> disconnectedAt = new HashMap<>();
+        if (claimed != null) {
+            for (int i = 0; i + 2 < claimed.size(); i += 3) {
+                String username = claimed.get(i);
+                usernames.add(username);
+                attempts.put(username, Integer.valueOf(claimed.get(i + 1)));
+                disconnectedAt.put(username, Long.valueOf(claimed.get(i + 2)));
+            }
+        }
+        return new Batch(usernames, attempts, disconnectedAt, leaseScore);
+    }
+
+    private void process(Batch batch) {
+        batchSizeSummary.record(batch.usernames().size());
+        try {
+            CleanupResult result = worker.cleanup(batch.usernames());
+            skippedCounter.increment(result.skipped().size());
+
+            long now = System.currentTimeMillis();
+            for (String username : result.cleaned()) {
+                cleanupLatency.record(Duration.ofMillis(Math.max(0, now - batch.disconnectedAt().get(username))));
+            }
+
+            Set<String> done = new HashSet<>(result.cleaned());
+            done.addAll(result.skipped());
+            for (String username : result.retry()) {
+                if (batch.attempts().getOrDefault(username, 1) >= maxAttempts) {
+                    abandonedCounter.increment();
+                    log.error("[연결 해제 정리] 재시도 한도 초과, 대기열에서 제거. username: {}, attempts: {}",
+                            username, batch.attempts().get(username));
+                    done.add(username);
+                } else {
+                    retryCounter.increment();
+                }
+            }
+            complete(done, batch.leaseScore());
+
+        } catch (RuntimeException e) {
+            // 묶음 전체 실패: 항목을 남겨 두고 lease 만료 후 다시 시도
+            retryCounter.increment(batch.usernames().size());
+            log.error("[연결 해제 정리] 정리 실패, lease 만료 후 다시 시도. usernames: {}, error: {}",
+                    batch.usernames(), e.getMessage(), e);
+        }
+    }
+
+    private void complete(Collection<String> usernames, long leaseScore) {
+        if (usernames.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(usernames.size() + 1);
+        args.add(String.valueOf(leaseScore));
+        args.addAll(usernames);
+        redisTemplate.execute(COMPLETE_SCRIPT, KEYS, args.toArray());
+    }
+
+    /**
+     * 종료 시 처리 중인 묶음만 마무리 (유예 중인 회원은 Redis 에 남아 다른 노드가 정리)
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        dispatcher.shutdownNow();
+        workers.shutdown();
+        if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("[연결 해제 정리] 종료 대기 초과, 처리 중 묶음은 lease 만료 후 다른 노드가 다시 가져감");
+            workers.shutdownNow();
+        }
+    }
+
+    private record Batch(
+            List<String> usernames,
+            Map<String, Integer> attempts,
+            Map<String, Long> disconnectedAt,
+            long leaseScore
+    ) {
+    }
+}
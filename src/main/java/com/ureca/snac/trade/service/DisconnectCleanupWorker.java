@@ -0,0 +1,195 @@
+package com.ureca.snac.trade.service;
+
+import com.ureca.snac.board.service.CardService;
+import com.ureca.snac.notification.service.NotificationService;
+import com.ureca.snac.trade.dto.CancelTradeDto;
+import com.ureca.snac.trade.dto.TradeDto;
+import com.ureca.snac.trade.service.interfaces.BuyFilterService;
+import com.ureca.snac.trade.service.interfaces.TradeCancelService;
+import com.ureca.snac.trade.service.interfaces.TradeProgressService;
+import com.ureca.snac.trade.service.interfaces.TradeQueryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.ureca.snac.common.RedisKeyConstants.CONNECTED_USERS;
+import static com.ureca.snac.common.RedisKeyConstants.WS_DISCONNECT_LOCK_PREFIX;
+import static com.ureca.snac.trade.entity.CancelReason.BUYER_FORCED_TERMINATION;
+import static com.ureca.snac.trade.entity.CancelReason.SELLER_FORCED_TERMINATION;
+
+/**
+ * 연결 해제 정리 묶음 처리
+ * <p>
+ * 유예 시간이 지난 회원 묶음에 대해 필터 삭제, 실시간 거래 강제 종료, 실시간 카드 삭제를 수행한다.
+ * 취소 대상 거래는 묶음 전체를 쿼리 한 번으로 찾고, 남은 카드는 잠금 조회 한 번 + 일괄 삭제로 지운다.
+ * 거래 취소는 에스크로 환불이 걸려 있어 기존 취소 트랜잭션을 거래마다 그대로 사용한다.
+ * 그 사이 어느 노드에서든 다시 접속한 회원(connected_users 포함)은 건너뛰고,
+ * 한 회원의 정리가 실패하거나 다른 노드가 정리 중이면 그 회원만 다시 시도 대상으로 돌려준다.
+ */
+@Slf4j
+@Component
+@Profile("!scheduler & !loadtest")
+@RequiredArgsConstructor
+public class DisconnectCleanupWorker {
+
+    private static final long LOCK_LEASE_SECONDS = 30;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedissonClient redissonClient;
+
+    private final NotificationService notificationService;
+    private final TradeProgressService tradeProgressService;
+    private final TradeQueryService tradeQueryService;
+    private final TradeCancelService tradeCancelService;
+    private final BuyFilterService buyFilterService;
+    private final CardService cardService;
+
+    /**
+     * 묶음 정리 (회원별로 실패를 격리해 한 회원 실패가 묶음 전체를 멈추지 않음)
+     *
+     * @return 정리 완료 / 재접속으로 건너뜀 / 실패·락 점유로 다시 시도할 회원
+     */
+    public CleanupResult cleanup(List<String> usernames) {
+        List<String> disconnected = excludeReconnected(usernames);
+        Set<String> skipped = new HashSet<>(usernames);
+        disconnected.forEach(skipped::remove);
+
+        List<RLock> locks = new ArrayList<>();
+        Set<String> targets = new LinkedHashSet<>();
+        Set<String> retry = new HashSet<>();
+
+        try {
+            // 다른 노드가 같은 회원을 정리 중이면 기다리지 않고 다음 시도로 미룸
+            for (String username : disconnected) {
+                RLock lock = redissonClient.getLock(WS_DISCONNECT_LOCK_PREFIX + username);
+                if (lock.tryLock(0, LOCK_LEASE_SECONDS, TimeUnit.SECONDS)) {
+                    locks.add(lock);
+                    targets.add(username);
+                } else {
+                    log.warn("[연결 해제 정리] 락 획득 실패, 다시 시도. username: {}", username);
+                    retry.add(username);
+                }
+            }
+            if (targets.isEmpty()) {
+                return new CleanupResult(Set.of(), skipped, retry);
+            }
+
+            // 1) 필터 조건 삭제 + 데이터 전송 완료 거래 확정 (회원별 실패 격리)
+            for (String username : targets) {
+                try {
+                    buyFilterService.deleteBuyerFilterByUsername(username);
+                    confirmDataSentTrade(username);
+                } catch (RuntimeException e) {
+                    log.error("[연결 해제 정리] 회원 정리 실패, 다시 시도. username: {}, error: {}",
+                            username, e.getMessage(), e);
+                    retry.add(username);
+                }
+            }
+            targets.removeAll(retry);
+
+            // 2) 강제 종료 처리 (묶음 전체 거래 1회 조회, 거래별 실패 격리)
+            if (!targets.isEmpty()) {
+                retry.addAll(forceCancelRealTimeTrades(targets));
+                targets.removeAll(retry);
+            }
+
+            // 3) 남은 실시간 카드 일괄 삭제 (거래 취소에 실패한 회원의 카드는 다음 시도까지 유지)
+            if (!targets.isEmpty()) {
+                try {
+                    int deletedCards = cardService.deleteRealtimeCardsByUsernames(targets);
+                    log.info("[연결 해제 정리] 완료. 회원 수: {}, 삭제 카드 수: {}", targets.size(), deletedCards);
+                } catch (RuntimeException e) {
+                    log.error("[연결 해제 정리] 카드 일괄 삭제 실패, 다시 시도. usernames: {}, error: {}",
+                            targets, e.getMessage(), e);
+                    retry.addAll(targets);
+                    targets.clear();
+                }
+            }
+            return new CleanupResult(Set.copyOf(targets), skipped, retry);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("[연결 해제 정리] 락 대기 중 인터럽트 발생. usernames: {}", usernames, e);
+            retry.addAll(disconnected);
+            return new CleanupResult(Set.of(), skipped, retry);
+        } finally {
+            for (RLock lock : locks) {
+                if (lock.isHeldByCurrentThread()) {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    private List<String> excludeReconnected(List<String> usernames) {
+        Map<Object, Boolean> connected = redisTemplate.opsForSet()
+                .isMember(CONNECTED_USERS, usernames.toArray());
+        if (connected == null) {
+            return usernames;
+        }
+        return usernames.stream()
+                .filter(username -> !Boolean.TRUE.equals(connected.get(username)))
+                .toList();
+    }
+
+    private void confirmDataSentTrade(String username) {
+        TradeDto dataSentTradeDto = tradeQueryService.onBuyerDataSentRealTime(username);
+
+        if (dataSentTradeDto != null) {
+            TradeDto confirmTradeDto = tradeProgressService.confirmTrade(dataSentTradeDto.getTradeId(), username, false);
+            notificationService.notify(confirmTradeDto.getSeller(), confirmTradeDto);
+        }
+    }
+
+    // 구매자/판매자가 모두 묶음에 있으면 구매자 관점으로 한 번만 취소
+    // 반환: 취소에 실패한 거래의 묶음 내 당사자 (다시 시도)
+    private Set<String> forceCancelRealTimeTrades(Set<String> usernames) {
+        Set<String> failed = new HashSet<>();
+
+        for (TradeDto trade : tradeQueryService.findCancellableRealTimeTrades(usernames)) {
+            boolean byBuyer = usernames.contains(trade.getBuyer());
+            String username = byBuyer ? trade.getBuyer() : trade.getSeller();
+
+            try {
+                TradeDto tradeDto = tradeCancelService.cancelRealTimeTrade(
+                        trade.getTradeId(),
+                        username,
+                        byBuyer ? BUYER_FORCED_TERMINATION : SELLER_FORCED_TERMINATION);
+
+                log.info("강제종료({}): username={} tradeId={}", byBuyer ? "구매자" : "판매자", username, tradeDto.getTradeId());
+
+                String counterpart = byBuyer ? tradeDto.getSeller() : tradeDto.getBuyer();
+                notificationService.sendCancelNotification(new CancelTradeDto(counterpart, tradeDto));
+
+            } catch (RuntimeException e) {
+                log.error("[연결 해제 정리] 거래 강제 종료 실패. tradeId: {}, username: {}, error: {}",
+                        trade.getTradeId(), username, e.getMessage(), e);
+                failed.add(username);
+                if (usernames.contains(trade.getSeller())) {
+                    failed.add(trade.getSeller());
+                }
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * @param cleaned 정리 완료 (대기열에서 제거)
+     * @param skipped 어느 노드든 다시 접속해 정리하지 않음 (대기열에서 제거)
+     * @param retry   회원 단위 실패 또는 다른 노드 정리 중 (대기열에 남겨 다시 시도)
+     */
+    public record CleanupResult(Set<String> cleaned, Set<String> skipped, Set<String> retry) {
+    }
+}
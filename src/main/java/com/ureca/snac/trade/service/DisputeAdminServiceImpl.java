@@ -20,6 +20,8 @@ import com.ureca.snac.trade.exception.DisputeAdminPermissionDeniedException;
 import com.ureca.snac.trade.exception.DisputeNotFoundException;
 import com.ureca.snac.trade.repository.DisputeAttachmentRepository;
 import com.ureca.snac.trade.repository.DisputeRepository;
+import com.ureca.snac.trade.scheduler.TradeDeadlineQueue;
+import com.ureca.snac.trade.scheduler.TradeDeadlineType;
 import com.ureca.snac.trade.service.interfaces.DisputeAdminService;
 import com.ureca.snac.trade.service.interfaces.PenaltyService;
 import com.ureca.snac.trade.service.interfaces.TradeCancelService;
@@ -49,6 +51,7 @@ public class DisputeAdminServiceImpl implements DisputeAdminService {
     private final PenaltyService penaltyService;
     private final S3Uploader s3;   // presigned URL 변환용
     private final TradeCancelService tradeCancelService;
+    private final TradeDeadlineQueue tradeDeadlineQueue;
 
     private static final List<DisputeStatus> ACTIVE = List.of(DisputeStatus.IN_PROGRESS, DisputeStatus.NEED_MORE);
 
@@ -207,6 +210,13 @@ public class DisputeAdminServiceImpl implements DisputeAdminService {
                 });
 
         trade.resumeAutoConfirm();
+
+        // 복구된 상태 기준으로 자동 환불/정산 마감 재등록
+        for (TradeDeadlineType type : TradeDeadlineType.values()) {
+            if (type.isTarget(trade)) {
+                tradeDeadlineQueue.scheduleAfterCommit(type, trade.getId());
+            }
+        }
         return true;
     }
 
@@ -1,9 +1,7 @@
 package com.ureca.snac.trade.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ureca.snac.board.controller.request.CreateRealTimeCardRequest;
 import com.ureca.snac.board.dto.CardDto;
-import com.ureca.snac.board.entity.constants.PriceRange;
 import com.ureca.snac.board.service.CardService;
 import com.ureca.snac.notification.service.NotificationService;
 import com.ureca.snac.trade.controller.request.*;
@@ -23,9 +21,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
-import static com.ureca.snac.common.RedisKeyConstants.BUYER_FILTER_PREFIX;
 import static com.ureca.snac.common.RedisKeyConstants.CONNECTED_USERS;
 
 @Slf4j
@@ -45,7 +41,6 @@ public class MatchingServiceFacade {
     private final DisputeService disputeService;
 
     private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
 
     /*-------------------------------------------- 조회 -------------------------------------------- */
 
@@ -62,9 +57,7 @@ public class MatchingServiceFacade {
 
         List<CardDto> cardDtoList = cardService.findRealtimeCardsByFilter(buyerFilterRequest);
 
-        for (CardDto cardDto : cardDtoList) {
-            notificationService.sendMatchingNotification(username, cardDto);
-        }
+        notificationService.sendMatchingNotifications(List.of(username), cardDtoList);
     }
 
     // 실시간 매칭 - 구매자 필터 조회
@@ -91,27 +84,11 @@ public class MatchingServiceFacade {
 
         notificationService.sendMatchingNotification(username, realtimeCard);
 
-        //  Redis에서 전체 구매자 필터 key 조회 (예: buyer_filter:{username})
-        Set<String> keys = redisTemplate.keys(BUYER_FILTER_PREFIX + "*");
-        if (keys.isEmpty()) return;
-
-        for (String key : keys) {
-            String filterJson = redisTemplate.opsForValue().get(key);
-            if (filterJson == null) continue;
-
-            try {
-                BuyerFilterRequest filter = objectMapper.readValue(filterJson, BuyerFilterRequest.class);
-
-                // 조건 매칭 (carrier, dataAmount, priceRange 등)
-                if (isMatching(realtimeCard, filter) && filter.getActive()) {
-                    // username 추출 (key: buyer_filter:{username})
-                    String buyerUsername = key.substring(BUYER_FILTER_PREFIX.length());
-                    notificationService.sendMatchingNotification(buyerUsername, realtimeCard);
-                }
-            } catch (Exception e) {
-                log.warn("[매칭] 구매자 필터 파싱 실패: key={}, err={}", key, e.toString());
-            }
-        }
+        // 조건(carrier, dataAmount, 가격 <= 필터 최대 가격)에 맞는 활성 구매자만 조회
+        List<String> buyers = buyFilterService.findMatchingBuyers(
+                realtimeCard.getCarrier(), realtimeCard.getDataAmount(), realtimeCard.getPrice());
+
+        notificationService.sendMatchingNotifications(buyers, List.of(realtimeCard));
     }
 
     // 실시간 매칭 - 판매자에게 거래 수락 요청 -> 이 시점에 Trade 생성 ( Status == BUY_REQUEST, Card == SELLING )
@@ -228,20 +205,6 @@ public class MatchingServiceFacade {
         notificationService.sendCancelNotification(new CancelTradeDto(tradeDto.getBuyer(), tradeDto));
     }
 
-    // 조건 비교 함수
-    private boolean isMatching(CardDto card, BuyerFilterRequest filter) {
-        boolean carrierMatch = card.getCarrier().equals(filter.getCarrier());
-        boolean dataMatch = card.getDataAmount().equals(filter.getDataAmount());
-        boolean priceMatch = isPriceInRange(card.getPrice(), filter.getPriceRange());
-        return carrierMatch && dataMatch && priceMatch;
-    }
-
-    private boolean isPriceInRange(Integer price, PriceRange priceRange) {
-        Integer max = priceRange.getMax();
-        // 0원 이상만 허용, max가 null이면 전체 허용
-        return price >= 0 && (max == null || price <= max);
-    }
-
     @Transactional
     public void createDispute(CreateDisputeRequest request, String username) {
         // 신고 생성
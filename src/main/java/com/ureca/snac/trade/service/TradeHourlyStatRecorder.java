@@ -0,0 +1,39 @@
+package com.ureca.snac.trade.service;
+
+import com.ureca.snac.trade.entity.Trade;
+import com.ureca.snac.trade.repository.TradeHourlyStatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 거래 완료 시 시간 단위 통계 누적
+ * 거래 완료와 같은 트랜잭션에서 실행되어 완료가 롤백되면 집계도 함께 롤백
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TradeHourlyStatRecorder {
+
+    private final TradeHourlyStatRepository tradeHourlyStatRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCompleted(Trade trade) {
+        LocalDateTime bucketStart = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+
+        tradeHourlyStatRepository.accumulate(
+                trade.getCarrier().name(),
+                bucketStart,
+                trade.getPriceGb(),
+                trade.getDataAmount()
+        );
+
+        log.debug("[거래 통계] 시간 집계 누적. tradeId: {}, carrier: {}, bucket: {}",
+                trade.getId(), trade.getCarrier(), bucketStart);
+    }
+}
@@ -16,6 +16,7 @@ import com.ureca.snac.trade.controller.request.CreateTradeRequest;
 import com.ureca.snac.trade.entity.Trade;
 import com.ureca.snac.trade.exception.TradeNotFoundException;
 import com.ureca.snac.trade.repository.TradeRepository;
+import com.ureca.snac.trade.scheduler.TradeDeadlineQueue;
 import com.ureca.snac.trade.service.interfaces.TradeInitiationService;
 import com.ureca.snac.wallet.dto.CompositeBalanceResult;
 import com.ureca.snac.wallet.service.WalletService;
@@ -31,6 +32,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import static com.ureca.snac.board.entity.constants.SellStatus.*;
 import static com.ureca.snac.trade.entity.TradeStatus.ACCEPTED;
+import static com.ureca.snac.trade.entity.TradeStatus.PAYMENT_CONFIRMED;
+import static com.ureca.snac.trade.scheduler.TradeDeadlineType.REFUND;
 
 @Slf4j
 @Service
@@ -45,6 +48,7 @@ public class TradeInitiationServiceImpl implements TradeInitiationService {
     private final WalletService walletService;
     private final AssetRecorder assetRecorder;
     private final TradeAlertService tradeAlertService;
+    private final TradeDeadlineQueue tradeDeadlineQueue;
 
     @Override
     @Transactional
@@ -87,6 +91,7 @@ public class TradeInitiationServiceImpl implements TradeInitiationService {
                 walletService.moveCompositeToEscrow(member.getId(), moneyToUse, pointToUse);
 
         trade.markPaymentConfirmed((int) createRealTimeTradePaymentRequest.getPoint()); // Accepted -> Confirmed
+        tradeDeadlineQueue.scheduleAfterCommit(REFUND, trade.getId()); // 48시간 내 미전송 시 자동 환불
 
         // 2. 기록
         if (moneyToUse > 0) {
@@ -234,6 +239,9 @@ public class TradeInitiationServiceImpl implements TradeInitiationService {
         // 2. 거래 생성 및 저장
         Trade trade = Trade.buildTrade((int) pointToUse, member, member.getPhone(), card, requiredStatus);
         tradeRepository.save(trade);
+        if (trade.getStatus() == PAYMENT_CONFIRMED) { // 판매글 구매는 결제 완료 상태로 생성됨
+            tradeDeadlineQueue.scheduleAfterCommit(REFUND, trade.getId());
+        }
 
         // 3. 기록
         if (moneyToUse > 0) {
@@ -1,7 +1,5 @@
 package com.ureca.snac.trade.service;
 
-import com.ureca.snac.asset.entity.TransactionDetail;
-import com.ureca.snac.asset.service.AssetRecorder;
 import com.ureca.snac.board.entity.Card;
 import com.ureca.snac.board.exception.CardNotFoundException;
 import com.ureca.snac.board.repository.CardRepository;
@@ -13,8 +11,12 @@ import com.ureca.snac.trade.dto.TradeDto;
 import com.ureca.snac.trade.entity.Trade;
 import com.ureca.snac.trade.exception.TradeNotFoundException;
 import com.ureca.snac.trade.repository.TradeRepository;
+import com.ureca.snac.trade.scheduler.TradeDeadlineQueue;
+import com.ureca.snac.trade.scheduler.TradeDeadlineType;
 import com.ureca.snac.trade.service.interfaces.TradeProgressService;
-import com.ureca.snac.wallet.service.WalletService;
+import com.ureca.snac.wallet.dto.WalletCredit;
+import com.ureca.snac.wallet.dto.WalletTransferPlan;
+import com.ureca.snac.wallet.service.WalletCreditCoalescer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
@@ -25,6 +27,8 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @Transactional(readOnly = true)
@@ -34,10 +38,11 @@ public class TradeProgressServiceImpl implements TradeProgressService {
     private final CardRepository cardRepository;
     private final MemberRepository memberRepository;
 
-    private final WalletService walletService;
-    private final AssetRecorder assetRecorder;
+    private final WalletCreditCoalescer walletCreditCoalescer;
     private final MemberService memberService;
     private final TradeAlertService tradeAlertService;
+    private final TradeHourlyStatRecorder tradeHourlyStatRecorder;
+    private final TradeDeadlineQueue tradeDeadlineQueue;
 
     private static final int RATING_SCORE_BONUS = 10;
 
@@ -49,6 +54,7 @@ public class TradeProgressServiceImpl implements TradeProgressService {
 
         trade.markDataSent(); // 결제가 완료되지 않은 상태에서는 판매자가 데이터를 전송할 수 없음
         trade.ensureSendPermission(seller);
+        tradeDeadlineQueue.scheduleAfterCommit(TradeDeadlineType.PAYOUT, trade.getId()); // 48시간 내 미확정 시 자동 정산
 
         return trade.getId();
     }
@@ -72,25 +78,22 @@ public class TradeProgressServiceImpl implements TradeProgressService {
         Member seller = trade.getSeller();
 
         trade.confirm(buyer); // 거래 상태를 확정으로 변경
+        tradeHourlyStatRecorder.recordCompleted(trade);
 
         // 1. 구매자 에스크로 차감 (escrow → 소멸) — 자금 이동을 카드 상태 변경보다 우선
-        walletService.deductCompositeEscrow(buyer.getId(), trade.getMoneyAmount(), trade.getPointOrZero());
-
-        // 2. 판매자에게 총액 입금 (머니로 지급, 포인트 사용분도 플랫폼이 환산하여 머니로 지급)
-        long amountToDeposit = trade.getPriceGb();
-        long finalMoneyBalance = walletService.depositMoney(seller.getId(), amountToDeposit);
-
+        // 2. 판매자에게 총액 입금 (머니로 지급, 포인트 사용분도 플랫폼이 환산하여 머니로 지급) + 완료 보너스 포인트
+        // 두 지갑을 회원 ID 순서로 한 번에 잠가 교착 방지, 묶음 반영 활성화 시 판매자 입금은 커밋 후 반영
         String title = String.format("%s %dGB 판매 대금",
                 trade.getCarrier().name(), trade.getDataAmount());
-        assetRecorder.recordTradeSell(
-                seller.getId(), trade.getId(), title, amountToDeposit, finalMoneyBalance);
-
-        // 포인트
-        long amount = TransactionDetail.TRADE_COMPLETION_BONUS.getDefaultAmount();
-        long finalPointBalance = walletService.depositPoint(seller.getId(), amount);
-
-        assetRecorder.recordTradeCompletionBonus(
-                seller.getId(), trade.getId(), amount, finalPointBalance);
+        walletCreditCoalescer.settle(
+                WalletTransferPlan.builder()
+                        .deductCompositeEscrow(buyer.getId(), trade.getMoneyAmount(), trade.getPointOrZero())
+                        .build(),
+                List.of(
+                        WalletCredit.tradeSell(seller.getId(), trade.getId(), title, trade.getPriceGb()),
+                        WalletCredit.tradeCompletionBonus(seller.getId(), trade.getId())
+                )
+        );
 
         // 3. 카드 상태 변경 — 자금 이동 완료 후 처리
         if (hasCard) {
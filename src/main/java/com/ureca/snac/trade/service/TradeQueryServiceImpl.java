@@ -23,6 +23,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 
+import static com.ureca.snac.trade.entity.TradeStatus.ACCEPTED;
+import static com.ureca.snac.trade.entity.TradeStatus.BUY_REQUESTED;
 import static com.ureca.snac.trade.entity.TradeStatus.DATA_SENT;
 import static com.ureca.snac.trade.entity.TradeStatus.PAYMENT_CONFIRMED;
 
@@ -213,6 +215,19 @@ public class TradeQueryServiceImpl implements TradeQueryService {
                 .orElse(null);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<TradeDto> findCancellableRealTimeTrades(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return List.of();
+        }
+
+        return tradeRepository
+                .findRealTimeTradesByParticipantEmails(usernames, List.of(BUY_REQUESTED, ACCEPTED, PAYMENT_CONFIRMED))
+                .stream().map(TradeDto::from)
+                .toList();
+    }
+
     private Member findMember(String email) {
         return memberRepository.findByEmail(email).orElseThrow(MemberNotFoundException::new);
     }
@@ -1,12 +1,15 @@
 package com.ureca.snac.trade.service.interfaces;
 
+import com.ureca.snac.board.entity.constants.Carrier;
 import com.ureca.snac.trade.controller.request.BuyerFilterRequest;
 
+import java.util.List;
 import java.util.Map;
 
 public interface BuyFilterService {
     void saveBuyerFilter(String username, BuyerFilterRequest filter);
     Map<String, BuyerFilterRequest> findAllBuyerFilters();
+    List<String> findMatchingBuyers(Carrier carrier, Integer dataAmount, Integer price);
 //    void deactivateBuyerFilterByUsername(String username);
     void deleteBuyerFilterByUsername(String username);
 }
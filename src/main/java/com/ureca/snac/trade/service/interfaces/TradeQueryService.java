@@ -7,6 +7,7 @@ import com.ureca.snac.trade.service.response.ProgressTradeCountResponse;
 import com.ureca.snac.trade.service.response.ScrollTradeResponse;
 import com.ureca.snac.trade.service.response.TradeResponse;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TradeQueryService {
@@ -46,4 +47,7 @@ public interface TradeQueryService {
     List<TradeDto> findSellerRealTimeTrade(String sellerUsername);
 
     TradeDto onBuyerDataSentRealTime(String username);
+
+    // 연결 해제 정리용: 회원들이 구매자/판매자인 취소 가능 실시간 거래 (한 번에 조회)
+    List<TradeDto> findCancellableRealTimeTrades(Collection<String> usernames);
 }
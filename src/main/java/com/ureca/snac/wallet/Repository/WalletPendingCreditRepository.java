@@ -0,0 +1,24 @@
+package com.ureca.snac.wallet.repository;
+
+import com.ureca.snac.wallet.entity.WalletPendingCredit;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface WalletPendingCreditRepository extends JpaRepository<WalletPendingCredit, Long> {
+
+    // 회원별 대기 입금을 등록 순으로 잠금 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM WalletPendingCredit c WHERE c.memberId = :memberId ORDER BY c.id")
+    List<WalletPendingCredit> findLockedByMemberId(@Param("memberId") Long memberId, Limit limit);
+
+    // 기준 시각 이전에 등록된 대기 입금이 남은 회원 ID (보정 스윕용)
+    @Query("SELECT DISTINCT c.memberId FROM WalletPendingCredit c WHERE c.createdAt < :before")
+    List<Long> findMemberIdsCreatedBefore(@Param("before") LocalDateTime before);
+}
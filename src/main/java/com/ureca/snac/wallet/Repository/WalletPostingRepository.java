@@ -0,0 +1,71 @@
+package com.ureca.snac.wallet.repository;
+
+import com.ureca.snac.wallet.dto.PostingSumRow;
+import com.ureca.snac.wallet.entity.WalletPosting;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface WalletPostingRepository extends JpaRepository<WalletPosting, Long> {
+
+    // 접기용 미반영 꼬리 (지갑 행 배타 락 보유 중 호출, 잠금 조회로 최신 커밋 분개까지 읽고 folded 갱신까지 잠금 유지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT p FROM WalletPosting p
+         WHERE p.account = com.ureca.snac.wallet.entity.PostingAccount.MEMBER_WALLET
+           AND p.memberId = :memberId
+           AND p.folded = false
+           AND p.id > :legacyFoldedId
+         ORDER BY p.id
+    """)
+    List<WalletPosting> findTailLocked(@Param("memberId") Long memberId, @Param("legacyFoldedId") Long legacyFoldedId);
+
+    // 접은 분개 표시 (잔액 스냅샷 갱신과 같은 트랜잭션)
+    @Modifying
+    @Query("UPDATE WalletPosting p SET p.folded = true WHERE p.id IN :ids")
+    int markFolded(@Param("ids") Collection<Long> ids);
+
+    // 조회용 미반영 꼬리 (잠금 없음, 스냅샷 잔액과 같은 읽기 스냅샷에서 사용)
+    @Query("""
+        SELECT p FROM WalletPosting p
+         WHERE p.account = com.ureca.snac.wallet.entity.PostingAccount.MEMBER_WALLET
+           AND p.memberId = :memberId
+           AND p.folded = false
+           AND p.id > (SELECT w.foldedPostingId FROM Wallet w WHERE w.member.id = :memberId)
+    """)
+    List<WalletPosting> findUnfoldedByMemberId(@Param("memberId") Long memberId);
+
+    // 미반영 꼬리가 남은 회원 ID (주기 접기용)
+    @Query("""
+        SELECT w.member.id FROM Wallet w
+         WHERE EXISTS (
+               SELECT 1 FROM WalletPosting p
+                WHERE p.account = com.ureca.snac.wallet.entity.PostingAccount.MEMBER_WALLET
+                  AND p.memberId = w.member.id
+                  AND p.folded = false
+                  AND p.id > w.foldedPostingId)
+    """)
+    List<Long> findMemberIdsWithUnfoldedPostings(Limit limit);
+
+    // 지갑 대사용 회원 ID 구간 미반영 꼬리 합계 (보유액 기준이라 에스크로 구간 제외)
+    @Query("""
+        SELECT new com.ureca.snac.wallet.dto.PostingSumRow(p.memberId, p.assetType, SUM(p.amount))
+          FROM WalletPosting p, Wallet w
+         WHERE w.member.id = p.memberId
+           AND p.account = com.ureca.snac.wallet.entity.PostingAccount.MEMBER_WALLET
+           AND p.bucket <> com.ureca.snac.wallet.entity.PostingBucket.ESCROW
+           AND p.folded = false
+           AND p.id > w.foldedPostingId
+           AND p.memberId BETWEEN :fromMemberId AND :toMemberId
+         GROUP BY p.memberId, p.assetType
+    """)
+    List<PostingSumRow> sumUnfoldedByMemberIdBetween(@Param("fromMemberId") Long fromMemberId,
+                                                     @Param("toMemberId") Long toMemberId);
+}
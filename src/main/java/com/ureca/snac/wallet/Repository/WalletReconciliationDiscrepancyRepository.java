@@ -0,0 +1,12 @@
+package com.ureca.snac.wallet.repository;
+
+import com.ureca.snac.wallet.entity.WalletReconciliationDiscrepancy;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface WalletReconciliationDiscrepancyRepository
+        extends JpaRepository<WalletReconciliationDiscrepancy, Long> {
+
+    List<WalletReconciliationDiscrepancy> findByRunId(String runId);
+}
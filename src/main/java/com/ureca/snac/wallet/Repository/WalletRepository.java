@@ -1,13 +1,24 @@
 package com.ureca.snac.wallet.repository;
 
+import com.ureca.snac.wallet.dto.CompositeBalanceResult;
 import com.ureca.snac.wallet.entity.Wallet;
+import com.ureca.snac.wallet.dto.WalletHoldingRow;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface WalletRepository extends JpaRepository<Wallet, Long> {
 
@@ -17,5 +28,125 @@ public interface WalletRepository extends JpaRepository<Wallet, Long> {
     @Query("select w from Wallet w where w.member.id = :memberId")
     Optional<Wallet> findByMemberIdWithLock(@Param("memberId") Long memberId);
 
+    // 여러 지갑을 회원 ID 오름차순으로 한 번에 잠금 (모든 다중 지갑 경로가 같은 순서로 잠가 교착 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w from Wallet w where w.member.id in :memberIds order by w.member.id")
+    List<Wallet> findAllByMemberIdInWithLock(@Param("memberIds") Collection<Long> memberIds);
+
     boolean existsByMemberId(Long memberId);
-}
\ No newline at end of file
+
+    // ===== 지갑 대사 =====
+
+    @Query("select min(w.member.id) from Wallet w")
+    Optional<Long> findMinMemberId();
+
+    @Query("select max(w.member.id) from Wallet w")
+    Optional<Long> findMaxMemberId();
+
+    // 회원 ID 구간 보유액 스트림 (MySQL 서버 측 스트리밍, 트랜잭션 안에서 소비 후 close)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+        select new com.ureca.snac.wallet.dto.WalletHoldingRow(
+               w.member.id, w.money.balance + w.money.frozen, w.point.balance + w.point.frozen)
+          from Wallet w
+         where w.member.id between :fromMemberId and :toMemberId
+    """)
+    Stream<WalletHoldingRow> streamHoldingsByMemberIdBetween(@Param("fromMemberId") Long fromMemberId,
+                                                             @Param("toMemberId") Long toMemberId);
+
+    // ===== 조건부 UPDATE (CONDITIONAL 모드) =====
+    // 잔액/에스크로 선행 조건을 WHERE 절에 두고 영향 행 수(0 = 잔액 부족 또는 지갑 없음)로 판정
+    // 영속성 컨텍스트의 Wallet 엔티티는 갱신되지 않으므로 결과는 findBalanceByMemberId 로 다시 조회
+    // 이후 같은 트랜잭션의 잠금 경로는 WalletLedger.fold 에서 지갑을 refresh 한 뒤 변경
+
+    @Query("""
+        select new com.ureca.snac.wallet.dto.CompositeBalanceResult(
+               w.money.balance, w.money.escrow, w.point.balance, w.point.escrow)
+          from Wallet w
+         where w.member.id = :memberId
+    """)
+    Optional<CompositeBalanceResult> findBalanceByMemberId(@Param("memberId") Long memberId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Wallet w
+           set w.money.balance = w.money.balance + :amount,
+               w.updatedAt = :now
+         where w.member.id = :memberId
+    """)
+    int depositMoneyConditionally(@Param("memberId") Long memberId,
+                                  @Param("amount") long amount,
+                                  @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Wallet w
+           set w.money.balance = w.money.balance - :amount,
+               w.updatedAt = :now
+         where w.member.id = :memberId
+           and w.money.balance >= :amount
+    """)
+    int withdrawMoneyConditionally(@Param("memberId") Long memberId,
+                                   @Param("amount") long amount,
+                                   @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Wallet w
+           set w.point.balance = w.point.balance + :amount,
+               w.updatedAt = :now
+         where w.member.id = :memberId
+    """)
+    int depositPointConditionally(@Param("memberId") Long memberId,
+                                  @Param("amount") long amount,
+                                  @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Wallet w
+           set w.money.balance = w.money.balance - :money,
+               w.money.escrow = w.money.escrow + :money,
+               w.point.balance = w.point.balance - :point,
+               w.point.escrow = w.point.escrow + :point,
+               w.updatedAt = :now
+         where w.member.id = :memberId
+           and w.money.balance >= :money
+           and w.point.balance >= :point
+    """)
+    int moveCompositeToEscrowConditionally(@Param("memberId") Long memberId,
+                                           @Param("money") long moneyAmount,
+                                           @Param("point") long pointAmount,
+                                           @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Wallet w
+           set w.money.balance = w.money.balance + :money,
+               w.money.escrow = w.money.escrow - :money,
+               w.point.balance = w.point.balance + :point,
+               w.point.escrow = w.point.escrow - :point,
+               w.updatedAt = :now
+         where w.member.id = :memberId
+           and w.money.escrow >= :money
+           and w.point.escrow >= :point
+    """)
+    int cancelCompositeEscrowConditionally(@Param("memberId") Long memberId,
+                                           @Param("money") long moneyAmount,
+                                           @Param("point") long pointAmount,
+                                           @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Wallet w
+           set w.money.escrow = w.money.escrow - :money,
+               w.point.escrow = w.point.escrow - :point,
+               w.updatedAt = :now
+         where w.member.id = :memberId
+           and w.money.escrow >= :money
+           and w.point.escrow >= :point
+    """)
+    int deductCompositeEscrowConditionally(@Param("memberId") Long memberId,
+                                           @Param("money") long moneyAmount,
+                                           @Param("point") long pointAmount,
+                                           @Param("now") LocalDateTime now);
+}
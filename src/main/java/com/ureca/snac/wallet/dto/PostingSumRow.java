@@ -0,0 +1,13 @@
+package com.ureca.snac.wallet.dto;
+
+import com.ureca.snac.asset.entity.AssetType;
+
+/**
+ * 회원/자산별 원장 미반영 꼬리 합계
+ */
+public record PostingSumRow(
+        Long memberId,
+        AssetType assetType,
+        Long amount
+) {
+}
@@ -12,4 +12,11 @@ public record WalletAvailableBalanceResponse(
                 wallet.getPointBalance()
         );
     }
+
+    public static WalletAvailableBalanceResponse from(CompositeBalanceResult balance) {
+        return new WalletAvailableBalanceResponse(
+                balance.moneyBalance(),
+                balance.pointBalance()
+        );
+    }
 }
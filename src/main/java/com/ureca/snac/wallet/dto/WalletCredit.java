@@ -0,0 +1,25 @@
+package com.ureca.snac.wallet.dto;
+
+import com.ureca.snac.asset.entity.TransactionDetail;
+import com.ureca.snac.wallet.entity.WalletCreditType;
+
+/**
+ * 판매자 지갑 입금 1건 (입금 + 자산 내역 기록 단위)
+ */
+public record WalletCredit(
+        Long memberId,
+        WalletCreditType creditType,
+        Long tradeId,
+        String title,
+        long amount
+) {
+    public static WalletCredit tradeSell(Long memberId, Long tradeId, String title, long amount) {
+        return new WalletCredit(memberId, WalletCreditType.TRADE_SELL, tradeId, title, amount);
+    }
+
+    public static WalletCredit tradeCompletionBonus(Long memberId, Long tradeId) {
+        TransactionDetail detail = TransactionDetail.TRADE_COMPLETION_BONUS;
+        return new WalletCredit(memberId, WalletCreditType.TRADE_COMPLETION_BONUS,
+                tradeId, detail.getDisplayName(), detail.getDefaultAmount());
+    }
+}
@@ -0,0 +1,12 @@
+package com.ureca.snac.wallet.dto;
+
+/**
+ * 대사용 지갑 보유액 (사용 가능 잔액 + 동결액)
+ * 에스크로는 구매 시점에 출금 내역이 남으므로 제외한다.
+ */
+public record WalletHoldingRow(
+        Long memberId,
+        Long money,
+        Long point
+) {
+}
@@ -0,0 +1,88 @@
+package com.ureca.snac.wallet.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * 여러 지갑에 걸친 이체 계획
+ * <p>
+ * 단계는 등록 순서대로 적용되며, 관련 지갑은 적용 전에 회원 ID 오름차순으로 한 번에 잠근다.
+ * 구매자/판매자 지갑을 흐름마다 다른 순서로 잠그며 생기던 교착을 막기 위한 단위.
+ */
+public record WalletTransferPlan(List<Step> steps) {
+
+    public WalletTransferPlan {
+        steps = List.copyOf(steps);
+    }
+
+    public enum Operation {
+        MOVE_COMPOSITE_TO_ESCROW,
+        CANCEL_COMPOSITE_ESCROW,
+        DEDUCT_COMPOSITE_ESCROW,
+        DEPOSIT_MONEY,
+        DEPOSIT_POINT
+    }
+
+    public record Step(Long memberId, Operation operation, long moneyAmount, long pointAmount) {
+    }
+
+    public static Builder builder() {
+        return new Builder(Collections.emptyList());
+    }
+
+    public Builder toBuilder() {
+        return new Builder(steps);
+    }
+
+    // 잠금 순서 = 회원 ID 오름차순
+    public SortedSet<Long> memberIds() {
+        SortedSet<Long> memberIds = new TreeSet<>();
+        steps.forEach(step -> memberIds.add(step.memberId()));
+        return memberIds;
+    }
+
+    public boolean isEmpty() {
+        return steps.isEmpty();
+    }
+
+    public static final class Builder {
+
+        private final List<Step> steps;
+
+        private Builder(List<Step> steps) {
+            this.steps = new ArrayList<>(steps);
+        }
+
+        public Builder moveCompositeToEscrow(Long memberId, long moneyAmount, long pointAmount) {
+            return add(memberId, Operation.MOVE_COMPOSITE_TO_ESCROW, moneyAmount, pointAmount);
+        }
+
+        public Builder cancelCompositeEscrow(Long memberId, long moneyAmount, long pointAmount) {
+            return add(memberId, Operation.CANCEL_COMPOSITE_ESCROW, moneyAmount, pointAmount);
+        }
+
+        public Builder deductCompositeEscrow(Long memberId, long moneyAmount, long pointAmount) {
+            return add(memberId, Operation.DEDUCT_COMPOSITE_ESCROW, moneyAmount, pointAmount);
+        }
+
+        public Builder depositMoney(Long memberId, long amount) {
+            return add(memberId, Operation.DEPOSIT_MONEY, amount, 0L);
+        }
+
+        public Builder depositPoint(Long memberId, long amount) {
+            return add(memberId, Operation.DEPOSIT_POINT, 0L, amount);
+        }
+
+        public WalletTransferPlan build() {
+            return new WalletTransferPlan(steps);
+        }
+
+        private Builder add(Long memberId, Operation operation, long moneyAmount, long pointAmount) {
+            steps.add(new Step(memberId, operation, moneyAmount, pointAmount));
+            return this;
+        }
+    }
+}
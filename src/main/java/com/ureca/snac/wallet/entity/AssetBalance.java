@@ -83,6 +83,17 @@ public class AssetBalance {
         return new AssetBalance(this.balance, this.escrow, this.frozen - amount);
     }
 
+    // 원장 분개 합산 반영, 어느 구간이든 음수가 되면 거부
+    public AssetBalance adjust(long balanceDelta, long escrowDelta, long frozenDelta) {
+        if (balanceDelta == 0 && escrowDelta == 0 && frozenDelta == 0) {
+            return this;
+        }
+        validateSufficientBalance(this.balance, -balanceDelta);
+        validateSufficientBalance(this.escrow, -escrowDelta);
+        validateSufficientBalance(this.frozen, -frozenDelta);
+        return new AssetBalance(this.balance + balanceDelta, this.escrow + escrowDelta, this.frozen + frozenDelta);
+    }
+
     private void validatePositiveAmount(long amount) {
         if (amount <= 0) {
             throw new InvalidAmountException();
@@ -0,0 +1,10 @@
+package com.ureca.snac.wallet.entity;
+
+/**
+ * 원장 분개 계정
+ * 한 분개(journal)의 다리 합은 항상 0이며, 회원 지갑 밖에서 들어온 금액은 외부 계정에서 빠져나간 것으로 기록한다.
+ */
+public enum PostingAccount {
+    MEMBER_WALLET, // 회원 지갑 (member_id 필수)
+    EXTERNAL // 외부 유입 상대 계정 (결제 충전, 정산 대금 등)
+}
@@ -0,0 +1,10 @@
+package com.ureca.snac.wallet.entity;
+
+/**
+ * 원장 분개 대상 구간 (AssetBalance 의 balance / escrow / frozen 과 대응)
+ */
+public enum PostingBucket {
+    BALANCE,
+    ESCROW,
+    FROZEN
+}
@@ -1,5 +1,6 @@
 package com.ureca.snac.wallet.entity;
 
+import com.ureca.snac.asset.entity.AssetType;
 import com.ureca.snac.common.BaseTimeEntity;
 import com.ureca.snac.member.entity.Member;
 import com.ureca.snac.wallet.exception.InvalidAmountException;
@@ -8,12 +9,18 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Entity
 @Table(name = "wallet")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Wallet extends BaseTimeEntity {
 
+    private static final int BALANCE = PostingBucket.BALANCE.ordinal();
+    private static final int ESCROW = PostingBucket.ESCROW.ordinal();
+    private static final int FROZEN = PostingBucket.FROZEN.ordinal();
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "wallet_id")
@@ -40,6 +47,11 @@ public class Wallet extends BaseTimeEntity {
     })
     private AssetBalance point;
 
+    // 분개별 folded 표시 도입 전에 접힌 분개의 경계 (이하 ID 는 꼬리에서 제외, 더 이상 이동하지 않음)
+    // 이후 분개의 반영 여부는 WalletPosting.folded 로 판단
+    @Column(name = "folded_posting_id", nullable = false)
+    private Long foldedPostingId = 0L;
+
     private Wallet(Member member, AssetBalance money, AssetBalance point) {
         this.member = member;
         this.money = money;
@@ -108,6 +120,26 @@ public class Wallet extends BaseTimeEntity {
         this.money = this.money.deductFrozen(amount);
     }
 
+    /**
+     * 원장 꼬리 접기
+     * 회원 지갑 분개를 자산/구간별로 합산해 잔액 스냅샷에 더한다 (분개 folded 표시는 같은 트랜잭션에서 호출자가 갱신).
+     */
+    public void foldPostings(List<WalletPosting> postings) {
+        if (postings.isEmpty()) {
+            return;
+        }
+
+        long[] money = new long[PostingBucket.values().length];
+        long[] point = new long[PostingBucket.values().length];
+        for (WalletPosting posting : postings) {
+            long[] target = posting.getAssetType() == AssetType.MONEY ? money : point;
+            target[posting.getBucket().ordinal()] += posting.getAmount();
+        }
+
+        this.money = this.money.adjust(money[BALANCE], money[ESCROW], money[FROZEN]);
+        this.point = this.point.adjust(point[BALANCE], point[ESCROW], point[FROZEN]);
+    }
+
     public Long getMoneyBalance() {
         return this.money.getBalance();
     }
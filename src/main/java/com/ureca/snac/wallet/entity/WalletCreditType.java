@@ -0,0 +1,9 @@
+package com.ureca.snac.wallet.entity;
+
+/**
+ * 묶음 반영 대상 입금 유형
+ */
+public enum WalletCreditType {
+    TRADE_SELL,             // 거래 판매 대금 (머니)
+    TRADE_COMPLETION_BONUS  // 거래 완료 보너스 (포인트)
+}
@@ -0,0 +1,54 @@
+package com.ureca.snac.wallet.entity;
+
+import com.ureca.snac.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지갑 반영 대기 입금
+ * <p>
+ * 호출자 트랜잭션에서 함께 커밋되고, 묶음 반영 트랜잭션에서 지갑에 적용된 뒤 삭제된다.
+ */
+@Entity
+@Table(name = "wallet_pending_credit",
+        indexes = @Index(name = "idx_wallet_pending_credit_member", columnList = "member_id, wallet_pending_credit_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WalletPendingCredit extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "wallet_pending_credit_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "credit_type", nullable = false, length = 30)
+    private WalletCreditType creditType;
+
+    @Column(name = "trade_id", nullable = false)
+    private Long tradeId;
+
+    @Column(name = "title", nullable = false, length = 50)
+    private String title;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    private WalletPendingCredit(Long memberId, WalletCreditType creditType, Long tradeId, String title, Long amount) {
+        this.memberId = memberId;
+        this.creditType = creditType;
+        this.tradeId = tradeId;
+        this.title = title;
+        this.amount = amount;
+    }
+
+    public static WalletPendingCredit create(Long memberId, WalletCreditType creditType,
+                                             Long tradeId, String title, Long amount) {
+        return new WalletPendingCredit(memberId, creditType, tradeId, title, amount);
+    }
+}
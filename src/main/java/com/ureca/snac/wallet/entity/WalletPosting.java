@@ -0,0 +1,90 @@
+package com.ureca.snac.wallet.entity;
+
+import com.ureca.snac.asset.entity.AssetType;
+import com.ureca.snac.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 지갑 원장 분개 (append-only)
+ * <p>
+ * 부호 있는 금액을 계정/자산/구간별로 기록하며, 같은 journal_id 의 다리 합은 0이다.
+ * 금액은 수정·삭제하지 않으며, 회원 지갑 다리는 접기(fold)로 Wallet 잔액 스냅샷에 반영되고 folded 로 표시된다.
+ * folded = false 인 회원 지갑 다리가 아직 스냅샷에 반영되지 않은 꼬리(tail)다.
+ * IDENTITY ID 는 커밋 순서와 다르게 보일 수 있어(낮은 ID 가 더 늦게 커밋) ID 경계 대신 분개별 표시로 판단한다.
+ */
+@Entity
+@Table(name = "wallet_posting",
+        indexes = {
+                // 회원별 미반영 꼬리 조회
+                @Index(name = "idx_wallet_posting_member_unfolded", columnList = "member_id, folded, wallet_posting_id"),
+                @Index(name = "idx_wallet_posting_journal", columnList = "journal_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WalletPosting extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "wallet_posting_id")
+    private Long id;
+
+    @Column(name = "journal_id", nullable = false, updatable = false, length = 36)
+    private String journalId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account", nullable = false, updatable = false, length = 20)
+    private PostingAccount account;
+
+    // EXTERNAL 계정 다리는 null
+    @Column(name = "member_id", updatable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "asset_type", nullable = false, updatable = false, length = 10)
+    private AssetType assetType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "bucket", nullable = false, updatable = false, length = 10)
+    private PostingBucket bucket;
+
+    // 부호 있는 금액 (해당 계정 구간 증가 +, 감소 -)
+    @Column(name = "amount", nullable = false, updatable = false)
+    private Long amount;
+
+    @Column(name = "reference", nullable = false, updatable = false, length = 50)
+    private String reference;
+
+    // 잔액 스냅샷 반영 여부 (접기에서만 true 로 변경)
+    @Column(name = "folded", nullable = false)
+    private boolean folded = false;
+
+    private WalletPosting(String journalId, PostingAccount account, Long memberId, AssetType assetType,
+                          PostingBucket bucket, Long amount, String reference) {
+        this.journalId = journalId;
+        this.account = account;
+        this.memberId = memberId;
+        this.assetType = assetType;
+        this.bucket = bucket;
+        this.amount = amount;
+        this.reference = reference;
+    }
+
+    /**
+     * 외부 유입 입금 분개 (외부 계정 -amount, 회원 지갑 잔액 +amount)
+     */
+    public static List<WalletPosting> externalCredit(Long memberId, AssetType assetType, long amount, String reference) {
+        String journalId = UUID.randomUUID().toString();
+        return List.of(
+                new WalletPosting(journalId, PostingAccount.EXTERNAL, null, assetType,
+                        PostingBucket.BALANCE, -amount, reference),
+                new WalletPosting(journalId, PostingAccount.MEMBER_WALLET, memberId, assetType,
+                        PostingBucket.BALANCE, amount, reference)
+        );
+    }
+}
@@ -0,0 +1,65 @@
+package com.ureca.snac.wallet.entity;
+
+import com.ureca.snac.asset.entity.AssetType;
+import com.ureca.snac.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지갑 대사 불일치 리포트
+ * <p>
+ * 지갑 보유액(잔액 + 동결 + 원장 꼬리)과 자산 내역 부호 합계가 다른 회원/자산을 실행 단위로 기록한다.
+ * 자동 보정하지 않으며 운영자가 확인 후 처리한다.
+ */
+@Entity
+@Table(name = "wallet_reconciliation_discrepancy",
+        indexes = {
+                @Index(name = "idx_wallet_recon_run", columnList = "run_id"),
+                @Index(name = "idx_wallet_recon_member", columnList = "member_id, asset_type")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WalletReconciliationDiscrepancy extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "wallet_reconciliation_discrepancy_id")
+    private Long id;
+
+    @Column(name = "run_id", nullable = false, updatable = false, length = 36)
+    private String runId;
+
+    @Column(name = "member_id", nullable = false, updatable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "asset_type", nullable = false, updatable = false, length = 10)
+    private AssetType assetType;
+
+    @Column(name = "wallet_amount", nullable = false, updatable = false)
+    private Long walletAmount;
+
+    @Column(name = "history_amount", nullable = false, updatable = false)
+    private Long historyAmount;
+
+    // 지갑 - 내역 (양수면 내역 없이 지갑이 더 많음)
+    @Column(name = "difference", nullable = false, updatable = false)
+    private Long difference;
+
+    private WalletReconciliationDiscrepancy(String runId, Long memberId, AssetType assetType,
+                                            Long walletAmount, Long historyAmount) {
+        this.runId = runId;
+        this.memberId = memberId;
+        this.assetType = assetType;
+        this.walletAmount = walletAmount;
+        this.historyAmount = historyAmount;
+        this.difference = walletAmount - historyAmount;
+    }
+
+    public static WalletReconciliationDiscrepancy of(String runId, Long memberId, AssetType assetType,
+                                                     long walletAmount, long historyAmount) {
+        return new WalletReconciliationDiscrepancy(runId, memberId, assetType, walletAmount, historyAmount);
+    }
+}
@@ -0,0 +1,165 @@
+package com.ureca.snac.wallet.scheduler;
+
+import com.ureca.snac.asset.entity.AssetType;
+import com.ureca.snac.wallet.entity.WalletReconciliationDiscrepancy;
+import com.ureca.snac.wallet.repository.WalletReconciliationDiscrepancyRepository;
+import com.ureca.snac.wallet.repository.WalletRepository;
+import com.ureca.snac.wallet.scheduler.WalletReconciliationWorker.RangeResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지갑-자산 내역 대사 스케줄러
+ * <p>
+ * 회원 ID 전체 구간을 chunk-size 단위로 나눠 workers 개 스레드가 병렬로 대사하고,
+ * 불일치는 wallet_reconciliation_discrepancy 에 실행 ID 와 함께 기록한다.
+ * 구간마다 독립된 읽기 트랜잭션이라 긴 트랜잭션 없이 전체 회원을 훑는다.
+ */
+@Slf4j
+@Component
+public class WalletReconciliationScheduler {
+
+    private final WalletRepository walletRepository;
+    private final WalletReconciliationDiscrepancyRepository discrepancyRepository;
+    private final WalletReconciliationWorker worker;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final int chunkSize;
+    private final int workers;
+
+    private final Counter memberCounter;
+    private final Timer durationTimer;
+    private final AtomicLong lastCompletedAtMillis;
+
+    public WalletReconciliationScheduler(
+            WalletRepository walletRepository,
+            WalletReconciliationDiscrepancyRepository discrepancyRepository,
+            WalletReconciliationWorker worker,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${wallet.reconciliation.chunk-size}") int chunkSize,
+            @Value("${wallet.reconciliation.workers}") int workers
+    ) {
+        this.walletRepository = walletRepository;
+        this.discrepancyRepository = discrepancyRepository;
+        this.worker = worker;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.workers = workers;
+        this.lastCompletedAtMillis = new AtomicLong(clock.millis());
+
+        this.memberCounter = Counter.builder("wallet_reconciliation_members_total")
+                .description("대사한 지갑 수")
+                .register(meterRegistry);
+        this.durationTimer = Timer.builder("wallet_reconciliation_duration")
+                .description("지갑 대사 1회 전체 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("wallet_reconciliation_lag_seconds", lastCompletedAtMillis,
+                        completedAt -> (clock.millis() - completedAt.get()) / 1000.0)
+                .description("마지막 지갑 대사 완료 후 경과 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${wallet.reconciliation.cron}")
+    @SchedulerLock(name = "reconcileWalletHistory", lockAtMostFor = "PT1H")
+    public void reconcile() {
+        Optional<Long> min = walletRepository.findMinMemberId();
+        Optional<Long> max = walletRepository.findMaxMemberId();
+        if (min.isEmpty() || max.isEmpty()) {
+            log.debug("[지갑 대사] 대사할 지갑 없음");
+            return;
+        }
+
+        String runId = UUID.randomUUID().toString();
+        log.info("[지갑 대사] 시작. 실행 ID: {}, 회원 ID 구간: [{}, {}], 구간 크기: {}, 작업자: {}",
+                runId, min.get(), max.get(), chunkSize, workers);
+
+        durationTimer.record(() -> run(runId, min.get(), max.get()));
+    }
+
+    private void run(String runId, long minMemberId, long maxMemberId) {
+        AtomicInteger memberTotal = new AtomicInteger();
+        AtomicInteger discrepancyTotal = new AtomicInteger();
+        AtomicInteger failedRanges = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long start = minMemberId; start <= maxMemberId; start += chunkSize) {
+                long from = start;
+                long to = Math.min(start + chunkSize - 1, maxMemberId);
+                futures.add(executor.submit(() -> {
+                    try {
+                        RangeResult result = worker.reconcileRange(runId, from, to);
+                        report(result.discrepancies());
+                        memberCounter.increment(result.memberCount());
+                        memberTotal.addAndGet(result.memberCount());
+                        discrepancyTotal.addAndGet(result.discrepancies().size());
+                    } catch (RuntimeException e) {
+                        failedRanges.incrementAndGet();
+                        log.error("[지갑 대사] 구간 대사 실패. 실행 ID: {}, 구간: [{}, {}], error: {}",
+                                runId, from, to, e.getMessage(), e);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[지갑 대사] 중단. 실행 ID: {}", runId);
+            return;
+        } catch (ExecutionException e) {
+            log.error("[지갑 대사] 작업 실행 오류. 실행 ID: {}, error: {}", runId, e.getMessage(), e);
+            return;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (failedRanges.get() == 0) {
+            lastCompletedAtMillis.set(clock.millis());
+        }
+        log.info("[지갑 대사] 완료. 실행 ID: {}, 지갑 수: {}, 불일치: {}, 실패 구간: {}",
+                runId, memberTotal.get(), discrepancyTotal.get(), failedRanges.get());
+    }
+
+    private void report(List<WalletReconciliationDiscrepancy> discrepancies) {
+        if (discrepancies.isEmpty()) {
+            return;
+        }
+        discrepancyRepository.saveAll(discrepancies);
+        for (WalletReconciliationDiscrepancy discrepancy : discrepancies) {
+            log.warn("[지갑 대사] 불일치. 회원 ID: {}, 자산: {}, 지갑: {}, 내역: {}",
+                    discrepancy.getMemberId(), discrepancy.getAssetType(),
+                    discrepancy.getWalletAmount(), discrepancy.getHistoryAmount());
+            discrepancyCounter(discrepancy.getAssetType()).increment();
+        }
+    }
+
+    private Counter discrepancyCounter(AssetType assetType) {
+        return Counter.builder("wallet_reconciliation_discrepancy_total")
+                .description("지갑-자산 내역 대사 불일치 건수")
+                .tag("asset_type", assetType.name())
+                .register(meterRegistry);
+    }
+}
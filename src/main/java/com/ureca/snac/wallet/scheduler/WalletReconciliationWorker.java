@@ -0,0 +1,92 @@
+package com.ureca.snac.wallet.scheduler;
+
+import com.ureca.snac.asset.dto.AssetHistorySumRow;
+import com.ureca.snac.asset.entity.AssetType;
+import com.ureca.snac.asset.repository.AssetHistoryRepository;
+import com.ureca.snac.wallet.dto.PostingSumRow;
+import com.ureca.snac.wallet.dto.WalletHoldingRow;
+import com.ureca.snac.wallet.entity.WalletReconciliationDiscrepancy;
+import com.ureca.snac.wallet.repository.WalletPostingRepository;
+import com.ureca.snac.wallet.repository.WalletRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 회원 ID 구간 단위 지갑 대사
+ * <p>
+ * 한 읽기 스냅샷(REPEATABLE READ)에서 구간 지갑 보유액과 원장 꼬리를 먼저 적재하고,
+ * 자산 내역 합계는 서버 측 커서로 스트리밍하며 비교한다. 메모리는 구간 크기에 비례한다.
+ * 불변식: 잔액 + 동결 + 원장 꼬리 = Σ입금 - Σ출금 (에스크로는 구매 시점에 출금 내역이 남으므로 제외)
+ */
+@Component
+@RequiredArgsConstructor
+public class WalletReconciliationWorker {
+
+    private final WalletRepository walletRepository;
+    private final WalletPostingRepository postingRepository;
+    private final AssetHistoryRepository assetHistoryRepository;
+
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public RangeResult reconcileRange(String runId, long fromMemberId, long toMemberId) {
+        Map<Long, Map<AssetType, Long>> walletAmounts = new HashMap<>();
+        try (Stream<WalletHoldingRow> holdings =
+                     walletRepository.streamHoldingsByMemberIdBetween(fromMemberId, toMemberId)) {
+            holdings.forEach(row -> {
+                Map<AssetType, Long> amounts = new EnumMap<>(AssetType.class);
+                amounts.put(AssetType.MONEY, row.money());
+                amounts.put(AssetType.POINT, row.point());
+                walletAmounts.put(row.memberId(), amounts);
+            });
+        }
+
+        for (PostingSumRow tail : postingRepository.sumUnfoldedByMemberIdBetween(fromMemberId, toMemberId)) {
+            Map<AssetType, Long> amounts = walletAmounts.get(tail.memberId());
+            if (amounts != null) {
+                amounts.merge(tail.assetType(), tail.amount(), Long::sum);
+            }
+        }
+
+        // 내역 합계와 비교하며 소거, 남은 항목은 내역이 없는 회원/자산 (내역 합계 0 과 비교)
+        List<WalletReconciliationDiscrepancy> discrepancies = new ArrayList<>();
+        try (Stream<AssetHistorySumRow> sums =
+                     assetHistoryRepository.streamSignedSumsByMemberIdBetween(fromMemberId, toMemberId)) {
+            sums.forEach(row -> {
+                Map<AssetType, Long> amounts = walletAmounts.get(row.memberId());
+                long walletAmount = amounts == null ? 0L : nullToZero(amounts.remove(row.assetType()));
+                compare(runId, row.memberId(), row.assetType(), walletAmount, row.signedAmount(), discrepancies);
+            });
+        }
+        walletAmounts.forEach((memberId, amounts) -> amounts.forEach((assetType, walletAmount) ->
+                compare(runId, memberId, assetType, walletAmount, 0L, discrepancies)));
+
+        return new RangeResult(walletAmounts.size(), discrepancies);
+    }
+
+    private static void compare(String runId, Long memberId, AssetType assetType, long walletAmount,
+                                Long historyAmount, List<WalletReconciliationDiscrepancy> discrepancies) {
+        long history = nullToZero(historyAmount);
+        if (walletAmount != history) {
+            discrepancies.add(WalletReconciliationDiscrepancy.of(runId, memberId, assetType, walletAmount, history));
+        }
+    }
+
+    private static long nullToZero(Long value) {
+        return value == null ? 0L : value;
+    }
+
+    /**
+     * @param memberCount   대사한 지갑 수
+     * @param discrepancies 불일치 목록
+     */
+    public record RangeResult(int memberCount, List<WalletReconciliationDiscrepancy> discrepancies) {
+    }
+}
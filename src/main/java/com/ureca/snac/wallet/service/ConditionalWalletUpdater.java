@@ -0,0 +1,111 @@
+package com.ureca.snac.wallet.service;
+
+import com.ureca.snac.wallet.dto.CompositeBalanceResult;
+import com.ureca.snac.wallet.exception.InsufficientBalanceException;
+import com.ureca.snac.wallet.exception.InvalidAmountException;
+import com.ureca.snac.wallet.exception.WalletNotFoundException;
+import com.ureca.snac.wallet.repository.WalletRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+/**
+ * CONDITIONAL 모드 지갑 잔액 변경
+ * <p>
+ * 비관적 락 조회 → 엔티티 변경 → flush 대신 잔액 조건을 WHERE 절에 둔 UPDATE 한 번으로 처리한다.
+ * 영향 행 수가 0이면 지갑 존재 여부로 지갑 없음 / 잔액 부족을 구분한다.
+ * 행 잠금은 UPDATE 시점부터 커밋까지만 유지되므로, 트랜잭션 시작부터 잡던 SELECT FOR UPDATE 보다 대기 구간이 짧다.
+ * 잔액 컬럼은 원장 접기 스냅샷이므로 조건 불충족 시에만 꼬리를 접고 재시도하며, 반환 잔액에는 꼬리를 더한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional
+public class ConditionalWalletUpdater {
+
+    private final WalletRepository walletRepository;
+    private final WalletLedger ledger;
+
+    public long depositMoney(Long memberId, long amount) {
+        validatePositiveAmount(amount);
+        executeUpdate(memberId, () -> walletRepository.depositMoneyConditionally(memberId, amount, LocalDateTime.now()));
+        return findBalance(memberId).moneyBalance();
+    }
+
+    public long withdrawMoney(Long memberId, long amount) {
+        validatePositiveAmount(amount);
+        executeUpdate(memberId, () -> walletRepository.withdrawMoneyConditionally(memberId, amount, LocalDateTime.now()));
+        return findBalance(memberId).moneyBalance();
+    }
+
+    public long depositPoint(Long memberId, long amount) {
+        validatePositiveAmount(amount);
+        executeUpdate(memberId, () -> walletRepository.depositPointConditionally(memberId, amount, LocalDateTime.now()));
+        return findBalance(memberId).pointBalance();
+    }
+
+    public CompositeBalanceResult moveCompositeToEscrow(Long memberId, long moneyAmount, long pointAmount) {
+        validateCompositeAmounts(moneyAmount, pointAmount);
+        executeUpdate(memberId, () -> walletRepository.moveCompositeToEscrowConditionally(
+                memberId, moneyAmount, pointAmount, LocalDateTime.now()));
+        return findBalance(memberId);
+    }
+
+    public CompositeBalanceResult cancelCompositeEscrow(Long memberId, long moneyAmount, long pointAmount) {
+        validateCompositeAmounts(moneyAmount, pointAmount);
+        executeUpdate(memberId, () -> walletRepository.cancelCompositeEscrowConditionally(
+                memberId, moneyAmount, pointAmount, LocalDateTime.now()));
+        return findBalance(memberId);
+    }
+
+    public CompositeBalanceResult deductCompositeEscrow(Long memberId, long moneyAmount, long pointAmount) {
+        validateCompositeAmounts(moneyAmount, pointAmount);
+        executeUpdate(memberId, () -> walletRepository.deductCompositeEscrowConditionally(
+                memberId, moneyAmount, pointAmount, LocalDateTime.now()));
+        return findBalance(memberId);
+    }
+
+    // 스냅샷만으로 조건 불충족이면 원장 미반영 꼬리(입금)를 접은 뒤 한 번 더 시도
+    private void executeUpdate(Long memberId, IntSupplier update) {
+        int updatedRows = update.getAsInt();
+        if (updatedRows == 0 && ledger.foldLocked(memberId)) {
+            updatedRows = update.getAsInt();
+        }
+        ensureUpdated(updatedRows, memberId);
+    }
+
+    // 영향 행 0 → 지갑 없음 또는 잔액(에스크로) 부족
+    private void ensureUpdated(int updatedRows, Long memberId) {
+        if (updatedRows > 0) {
+            return;
+        }
+        if (!walletRepository.existsByMemberId(memberId)) {
+            log.error("[지갑 조건부 갱신] 지갑을 찾을 수 없음. 회원 ID : {}", memberId);
+            throw new WalletNotFoundException();
+        }
+        log.warn("[지갑 조건부 갱신] 잔액 조건 불충족. 회원 ID : {}", memberId);
+        throw new InsufficientBalanceException();
+    }
+
+    private CompositeBalanceResult findBalance(Long memberId) {
+        CompositeBalanceResult snapshot = walletRepository.findBalanceByMemberId(memberId)
+                .orElseThrow(WalletNotFoundException::new);
+        return ledger.withTail(memberId, snapshot);
+    }
+
+    private void validatePositiveAmount(long amount) {
+        if (amount <= 0) {
+            throw new InvalidAmountException();
+        }
+    }
+
+    private void validateCompositeAmounts(long moneyAmount, long pointAmount) {
+        if (moneyAmount < 0 || pointAmount < 0 || (moneyAmount == 0 && pointAmount == 0)) {
+            throw new InvalidAmountException();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.ureca.snac.wallet.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ureca.snac.wallet.dto.CompositeBalanceResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static com.ureca.snac.common.RedisKeyConstants.WALLET_SNAPSHOT_GENERATION_PREFIX;
+import static com.ureca.snac.common.RedisKeyConstants.WALLET_SNAPSHOT_PREFIX;
+
+/**
+ * 지갑 잔액 스냅샷 캐시 (로컬 Caffeine → Redis Hash → DB read-through)
+ * <p>
+ * 잔액은 표시 빈도에 비해 변경이 드물어, 조회 시 스냅샷을 채우고 변경 트랜잭션 커밋 후 무효화한다.
+ * 무효화마다 회원별 세대 번호를 올리고, 조회 시 DB 읽기 전 세대를 기억해 두었다가
+ * 그 사이 무효화가 있었다면 스냅샷을 채우지 않는다 (커밋 전 값을 늦게 채우는 경쟁 방지).
+ * <p>
+ * 로컬 계층은 노드별이라 다른 노드의 변경은 local-ttl 만큼 늦게 보일 수 있다.
+ * 표시용 조회 전용이며, 잔액 검증이 필요한 변경 연산은 항상 지갑 행을 잠가 DB 값으로 판단한다.
+ */
+@Slf4j
+@Component
+public class WalletBalanceCache {
+
+    private static final String METRIC_NAME = "wallet_balance_cache_total";
+
+    // 세대가 조회 시점과 같을 때만 스냅샷 저장
+    private static final RedisScript<Long> POPULATE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[2]) or '0'
+            if current ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1],
+                'moneyBalance', ARGV[2], 'moneyEscrow', ARGV[3],
+                'pointBalance', ARGV[4], 'pointEscrow', ARGV[5], 'cachedAt', ARGV[6])
+            redis.call('PEXPIRE', KEYS[1], ARGV[7])
+            return 1
+            """, Long.class);
+
+    // 세대 증가 + 스냅샷 삭제
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return generation
+            """, Long.class);
+
+    // 세대 키는 스냅샷보다 오래 유지해 만료로 세대가 되돌아가는 일을 막음
+    private static final long GENERATION_TTL_MULTIPLIER = 10;
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long redisTtlMillis;
+    private final Cache<Long, Snapshot> localTier;
+    private final Timer snapshotAge;
+
+    public WalletBalanceCache(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${wallet.balance-cache.enabled}") boolean enabled,
+            @Value("${wallet.balance-cache.redis-ttl}") Duration redisTtl,
+            @Value("${wallet.balance-cache.local-ttl}") Duration localTtl,
+            @Value("${wallet.balance-cache.local-max-size}") long localMaxSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.redisTtlMillis = redisTtl.toMillis();
+        this.localTier = Caffeine.newBuilder()
+                .expireAfterWrite(localTtl)
+                .maximumSize(localMaxSize)
+                .build();
+        this.snapshotAge = Timer.builder("wallet_balance_cache_snapshot_age")
+                .description("캐시 적중 시 스냅샷이 만들어진 뒤 지난 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 잔액 스냅샷 조회, 없으면 loader(DB)로 읽어 채움
+     */
+    public CompositeBalanceResult get(Long memberId, Supplier<CompositeBalanceResult> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Snapshot local = localTier.getIfPresent(memberId);
+        if (local != null) {
+            recordHit("local_hit", local);
+            return local.balance();
+        }
+
+        String generation;
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(snapshotKey(memberId));
+            if (!entries.isEmpty()) {
+                Snapshot snapshot = Snapshot.from(entries);
+                localTier.put(memberId, snapshot);
+                recordHit("redis_hit", snapshot);
+                return snapshot.balance();
+            }
+            generation = redisTemplate.opsForValue().get(generationKey(memberId));
+        } catch (RuntimeException e) {
+            log.warn("[지갑 잔액 캐시] Redis 조회 실패, DB 조회. 회원 ID: {}, error: {}", memberId, e.getMessage());
+            meterRegistry.counter(METRIC_NAME, "result", "error").increment();
+            return loader.get();
+        }
+
+        CompositeBalanceResult balance = loader.get();
+        meterRegistry.counter(METRIC_NAME, "result", "miss").increment();
+        populate(memberId, generation == null ? "0" : generation, balance);
+        return balance;
+    }
+
+    /**
+     * 트랜잭션 커밋 후 스냅샷 무효화 (롤백 시 무효화 불필요)
+     */
+    public void evictAfterCommit(Long memberId) {
+        evictAfterCommit(List.of(memberId));
+    }
+
+    public void evictAfterCommit(Collection<Long> memberIds) {
+        if (!enabled) {
+            return;
+        }
+        List<Long> targets = List.copyOf(memberIds);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            targets.forEach(this::evict);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                targets.forEach(WalletBalanceCache.this::evict);
+            }
+        });
+    }
+
+    private void evict(Long memberId) {
+        localTier.invalidate(memberId);
+        try {
+            redisTemplate.execute(INVALIDATE_SCRIPT,
+                    List.of(snapshotKey(memberId), generationKey(memberId)),
+                    String.valueOf(redisTtlMillis * GENERATION_TTL_MULTIPLIER));
+        } catch (RuntimeException e) {
+            // 스냅샷은 redis-ttl 후 만료되므로 그 사이만 이전 잔액이 보일 수 있음
+            log.warn("[지갑 잔액 캐시] 무효화 실패. 회원 ID: {}, error: {}", memberId, e.getMessage());
+            meterRegistry.counter(METRIC_NAME, "result", "evict_error").increment();
+        }
+    }
+
+    private void populate(Long memberId, String generation, CompositeBalanceResult balance) {
+        long cachedAt = System.currentTimeMillis();
+        try {
+            Long stored = redisTemplate.execute(POPULATE_SCRIPT,
+                    List.of(snapshotKey(memberId), generationKey(memberId)),
+                    generation,
+                    String.valueOf(balance.moneyBalance()),
+                    String.valueOf(balance.moneyEscrow()),
+                    String.valueOf(balance.pointBalance()),
+                    String.valueOf(balance.pointEscrow()),
+                    String.valueOf(cachedAt),
+                    String.valueOf(redisTtlMillis));
+
+            if (stored != null && stored == 1L) {
+                localTier.put(memberId, new Snapshot(balance, cachedAt));
+            }
+        } catch (RuntimeException e) {
+            log.warn("[지갑 잔액 캐시] 스냅샷 저장 실패. 회원 ID: {}, error: {}", memberId, e.getMessage());
+        }
+    }
+
+    private void recordHit(String result, Snapshot snapshot) {
+        meterRegistry.counter(METRIC_NAME, "result", result).increment();
+        snapshotAge.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - snapshot.cachedAt())));
+    }
+
+    private static String snapshotKey(Long memberId) {
+        return WALLET_SNAPSHOT_PREFIX + memberId;
+    }
+
+    private static String generationKey(Long memberId) {
+        return WALLET_SNAPSHOT_GENERATION_PREFIX + memberId;
+    }
+
+    private record Snapshot(CompositeBalanceResult balance, long cachedAt) {
+
+        static Snapshot from(Map<Object, Object> entries) {
+            return new Snapshot(
+                    new CompositeBalanceResult(
+                            parse(entries, "moneyBalance"),
+                            parse(entries, "moneyEscrow"),
+                            parse(entries, "pointBalance"),
+                            parse(entries, "pointEscrow")
+                    ),
+                    parse(entries, "cachedAt")
+            );
+        }
+
+        private static long parse(Map<Object, Object> entries, String field) {
+            return Long.parseLong((String) entries.get(field));
+        }
+    }
+}
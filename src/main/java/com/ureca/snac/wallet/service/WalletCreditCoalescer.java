@@ -0,0 +1,345 @@
+package com.ureca.snac.wallet.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ureca.snac.asset.service.AssetRecorder;
+import com.ureca.snac.wallet.dto.CompositeBalanceResult;
+import com.ureca.snac.wallet.dto.WalletCredit;
+import com.ureca.snac.wallet.dto.WalletTransferPlan;
+import com.ureca.snac.wallet.entity.Wallet;
+import com.ureca.snac.wallet.entity.WalletPendingCredit;
+import com.ureca.snac.wallet.exception.WalletNotFoundException;
+import com.ureca.snac.wallet.repository.WalletPendingCreditRepository;
+import com.ureca.snac.wallet.repository.WalletRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인기 판매자 지갑 입금 묶음 반영 (group commit)
+ * <p>
+ * 거래 정산이 한 판매자에게 몰리면 입금마다 같은 지갑 행 락을 잡고 따로 커밋해 대기가 길어진다.
+ * 활성화 시 입금은 호출자 트랜잭션 안에서 대기 행(wallet_pending_credit)으로만 저장하고,
+ * 커밋 후 window 동안 모인 대기 입금을 회원별로 한 번의 지갑 락 트랜잭션에서 반영한다.
+ * 자산 내역은 입금 건마다 순차 잔액으로 한 건씩 기록하며, 각 호출자는 반환된 Future로 반영 후 잔액을 받는다.
+ * <p>
+ * 대기 행이 호출자 트랜잭션과 함께 커밋되므로 거래 상태 변경과 입금 의무는 원자적으로 남고,
+ * 반영 실패나 노드 종료로 남은 대기 행은 보정 스윕이 다시 반영한다.
+ * 비활성화 시 기존과 같이 호출자 트랜잭션에서 바로 입금한다.
+ */
+@Slf4j
+@Component
+public class WalletCreditCoalescer {
+
+    private static final Duration WAITER_TTL = Duration.ofMinutes(5);
+
+    private final WalletService walletService;
+    private final WalletRepository walletRepository;
+    private final WalletPendingCreditRepository pendingCreditRepository;
+    private final AssetRecorder assetRecorder;
+    private final WalletBalanceCache balanceCache;
+    private final WalletLedger ledger;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long windowMs;
+    private final int batchSize;
+    private final long sweepIntervalMs;
+
+    // 반영 예약된 회원 (window 동안 추가 예약 없이 합류)
+    private final Set<Long> scheduledMembers = ConcurrentHashMap.newKeySet();
+    // 대기 입금 ID → 호출자 Future (다른 노드가 스윕으로 반영한 건은 TTL로 정리)
+    private final Cache<Long, CompletableFuture<Long>> waiters = Caffeine.newBuilder()
+            .expireAfterWrite(WAITER_TTL)
+            .build();
+    private final ScheduledExecutorService flushExecutor;
+
+    private final Counter coalescedCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    public WalletCreditCoalescer(
+            WalletService walletService,
+            WalletRepository walletRepository,
+            WalletPendingCreditRepository pendingCreditRepository,
+            AssetRecorder assetRecorder,
+            WalletBalanceCache balanceCache,
+            WalletLedger ledger,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${wallet.credit-coalescer.enabled}") boolean enabled,
+            @Value("${wallet.credit-coalescer.window-ms}") long windowMs,
+            @Value("${wallet.credit-coalescer.batch-size}") int batchSize,
+            @Value("${wallet.credit-coalescer.sweep-interval-ms}") long sweepIntervalMs,
+            @Value("${wallet.credit-coalescer.flush-threads}") int flushThreads
+    ) {
+        this.walletService = walletService;
+        this.walletRepository = walletRepository;
+        this.pendingCreditRepository = pendingCreditRepository;
+        this.assetRecorder = assetRecorder;
+        this.balanceCache = balanceCache;
+        this.ledger = ledger;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.windowMs = windowMs;
+        this.batchSize = batchSize;
+        this.sweepIntervalMs = sweepIntervalMs;
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.flushExecutor = Executors.newScheduledThreadPool(flushThreads, runnable -> {
+            Thread thread = new Thread(runnable, "WalletCredit-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.coalescedCounter = Counter.builder("wallet_credit_coalesced_total")
+                .description("묶음 반영된 입금 건수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("wallet_credit_batch_size")
+                .description("지갑 락 1회당 반영한 입금 건수")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 입금 1건
+     *
+     * @return 반영 후 잔액 (판매 대금은 머니, 완료 보너스는 포인트)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public CompletableFuture<Long> credit(WalletCredit credit) {
+        if (!enabled) {
+            long balanceAfter = switch (credit.creditType()) {
+                case TRADE_SELL -> walletService.depositMoney(credit.memberId(), credit.amount());
+                case TRADE_COMPLETION_BONUS -> walletService.depositPoint(credit.memberId(), credit.amount());
+            };
+            recordHistory(credit, balanceAfter);
+            return CompletableFuture.completedFuture(balanceAfter);
+        }
+        return enqueue(credit);
+    }
+
+    /**
+     * 거래 정산 (구매자 차감 계획 + 판매자 입금)
+     * <p>
+     * 비활성화 시 차감과 입금을 한 이체 계획으로 묶어 관련 지갑을 회원 ID 오름차순으로 한 번에 잠근다.
+     * 활성화 시 차감만 즉시 적용하고 입금은 대기 행으로 넘겨, 거래 트랜잭션에서 판매자 지갑 락을 잡지 않는다.
+     *
+     * @return 이체 계획에 포함된 회원 ID별 적용 후 잔액
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<Long, CompositeBalanceResult> settle(WalletTransferPlan debitPlan, List<WalletCredit> credits) {
+        if (enabled) {
+            Map<Long, CompositeBalanceResult> balances = debitPlan.isEmpty()
+                    ? Map.of()
+                    : walletService.executeTransferPlan(debitPlan);
+            credits.forEach(this::enqueue);
+            return balances;
+        }
+
+        WalletTransferPlan.Builder plan = debitPlan.toBuilder();
+        for (WalletCredit credit : credits) {
+            switch (credit.creditType()) {
+                case TRADE_SELL -> plan.depositMoney(credit.memberId(), credit.amount());
+                case TRADE_COMPLETION_BONUS -> plan.depositPoint(credit.memberId(), credit.amount());
+            }
+        }
+        Map<Long, CompositeBalanceResult> balances = walletService.executeTransferPlan(plan.build());
+        recordHistories(credits, balances);
+        return balances;
+    }
+
+    /**
+     * 회원 대기 입금 반영
+     * 지갑 락 1회로 batch-size 건씩 반영하며, 실패 시 대기 행은 남겨 두고 스윕에서 재시도한다.
+     */
+    public void flush(Long memberId) {
+        scheduledMembers.remove(memberId);
+
+        try {
+            List<AppliedCredit> applied;
+            do {
+                applied = transactionTemplate.execute(status -> applyPending(memberId));
+                applied.forEach(this::complete);
+            } while (applied.size() == batchSize);
+        } catch (RuntimeException e) {
+            log.error("[입금 묶음 반영] 실패, 스윕에서 재시도. 회원 ID: {}, error: {}", memberId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 보정 스윕
+     * 반영 예약이 유실된 대기 입금(노드 종료, 반영 실패)을 스윕 주기보다 오래된 것부터 반영
+     */
+    @Scheduled(fixedDelayString = "${wallet.credit-coalescer.sweep-interval-ms}")
+    @SchedulerLock(name = "sweepWalletPendingCredits", lockAtMostFor = "PT1M")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime before = LocalDateTime.now().minus(Duration.ofMillis(sweepIntervalMs));
+        List<Long> memberIds = pendingCreditRepository.findMemberIdsCreatedBefore(before);
+        if (!memberIds.isEmpty()) {
+            log.warn("[입금 묶음 반영] 지연된 대기 입금 스윕. 회원 수: {}", memberIds.size());
+        }
+        memberIds.forEach(this::flush);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 예약된 반영은 대기 행으로 남아 있으므로 기다리지 않고 종료 (다음 스윕에서 반영)
+        flushExecutor.shutdownNow();
+    }
+
+    private CompletableFuture<Long> enqueue(WalletCredit walletCredit) {
+        WalletPendingCredit credit = pendingCreditRepository.save(WalletPendingCredit.create(
+                walletCredit.memberId(), walletCredit.creditType(), walletCredit.tradeId(),
+                walletCredit.title(), walletCredit.amount()));
+
+        Long creditId = credit.getId();
+        Long memberId = credit.getMemberId();
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        waiters.put(creditId, future);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    scheduleFlush(memberId);
+                    return;
+                }
+                waiters.invalidate(creditId);
+                future.completeExceptionally(
+                        new IllegalStateException("입금 요청 트랜잭션이 커밋되지 않음. 대기 입금 ID: " + creditId));
+            }
+        });
+
+        log.info("[입금 묶음 반영] 대기 등록. 회원 ID: {}, 유형: {}, 금액: {}",
+                memberId, credit.getCreditType(), credit.getAmount());
+        return future;
+    }
+
+    private void scheduleFlush(Long memberId) {
+        if (!scheduledMembers.add(memberId)) {
+            return;
+        }
+        try {
+            flushExecutor.schedule(() -> flush(memberId), windowMs, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            scheduledMembers.remove(memberId);
+            log.warn("[입금 묶음 반영] 예약 실패, 스윕에서 반영. 회원 ID: {}, error: {}", memberId, e.getMessage());
+        }
+    }
+
+    private List<AppliedCredit> applyPending(Long memberId) {
+        Wallet wallet = walletRepository.findByMemberIdWithLock(memberId)
+                .orElseThrow(WalletNotFoundException::new);
+        ledger.syncLocked(wallet);
+        List<WalletPendingCredit> credits =
+                pendingCreditRepository.findLockedByMemberId(memberId, Limit.of(batchSize));
+
+        List<AppliedCredit> applied = new ArrayList<>(credits.size());
+        for (WalletPendingCredit credit : credits) {
+            applied.add(new AppliedCredit(credit.getId(), apply(wallet, credit)));
+        }
+
+        if (!credits.isEmpty()) {
+            pendingCreditRepository.deleteAllInBatch(credits);
+            balanceCache.evictAfterCommit(memberId);
+            coalescedCounter.increment(credits.size());
+            batchSizeSummary.record(credits.size());
+            log.info("[입금 묶음 반영] 완료. 회원 ID: {}, 건수: {}, 머니 잔액: {}, 포인트 잔액: {}",
+                    memberId, credits.size(), wallet.getMoneyBalance(), wallet.getPointBalance());
+        }
+        return applied;
+    }
+
+    // 입금 1건 반영 + 자산 내역 1건 기록, 반영 후 잔액 반환
+    private long apply(Wallet wallet, WalletPendingCredit pending) {
+        WalletCredit credit = new WalletCredit(pending.getMemberId(), pending.getCreditType(),
+                pending.getTradeId(), pending.getTitle(), pending.getAmount());
+
+        long balanceAfter = switch (credit.creditType()) {
+            case TRADE_SELL -> {
+                wallet.depositMoney(credit.amount());
+                yield wallet.getMoneyBalance();
+            }
+            case TRADE_COMPLETION_BONUS -> {
+                wallet.depositPoint(credit.amount());
+                yield wallet.getPointBalance();
+            }
+        };
+        recordHistory(credit, balanceAfter);
+        return balanceAfter;
+    }
+
+    // 이체 계획 적용 후 최종 잔액에서 역순으로 빼 가며 입금 건별 직후 잔액 산출 (입금은 계획 마지막 단계)
+    private void recordHistories(List<WalletCredit> credits, Map<Long, CompositeBalanceResult> balances) {
+        Map<String, Long> remaining = new HashMap<>();
+        long[] balancesAfter = new long[credits.size()];
+
+        for (int i = credits.size() - 1; i >= 0; i--) {
+            WalletCredit credit = credits.get(i);
+            String key = credit.memberId() + ":" + credit.creditType();
+            long balanceAfter = remaining.computeIfAbsent(key, k -> finalBalance(credit, balances));
+            balancesAfter[i] = balanceAfter;
+            remaining.put(key, balanceAfter - credit.amount());
+        }
+
+        for (int i = 0; i < credits.size(); i++) {
+            recordHistory(credits.get(i), balancesAfter[i]);
+        }
+    }
+
+    private long finalBalance(WalletCredit credit, Map<Long, CompositeBalanceResult> balances) {
+        CompositeBalanceResult balance = balances.get(credit.memberId());
+        return switch (credit.creditType()) {
+            case TRADE_SELL -> balance.moneyBalance();
+            case TRADE_COMPLETION_BONUS -> balance.pointBalance();
+        };
+    }
+
+    private void recordHistory(WalletCredit credit, long balanceAfter) {
+        switch (credit.creditType()) {
+            case TRADE_SELL -> assetRecorder.recordTradeSell(
+                    credit.memberId(), credit.tradeId(), credit.title(), credit.amount(), balanceAfter);
+            case TRADE_COMPLETION_BONUS -> assetRecorder.recordTradeCompletionBonus(
+                    credit.memberId(), credit.tradeId(), credit.amount(), balanceAfter);
+        }
+    }
+
+    private void complete(AppliedCredit applied) {
+        CompletableFuture<Long> future = waiters.asMap().remove(applied.creditId());
+        if (future != null) {
+            future.complete(applied.balanceAfter());
+        }
+    }
+
+    private record AppliedCredit(Long creditId, long balanceAfter) {
+    }
+}
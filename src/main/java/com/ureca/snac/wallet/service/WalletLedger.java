@@ -0,0 +1,203 @@
+package com.ureca.snac.wallet.service;
+
+import com.ureca.snac.asset.entity.AssetType;
+import com.ureca.snac.config.WalletUpdateModeProperties;
+import com.ureca.snac.wallet.dto.CompositeBalanceResult;
+import com.ureca.snac.wallet.entity.PostingBucket;
+import com.ureca.snac.wallet.entity.Wallet;
+import com.ureca.snac.wallet.entity.WalletPosting;
+import com.ureca.snac.wallet.exception.InvalidAmountException;
+import com.ureca.snac.wallet.exception.WalletNotFoundException;
+import com.ureca.snac.wallet.repository.WalletPostingRepository;
+import com.ureca.snac.wallet.repository.WalletRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 지갑 원장 (append-only 분개 + 주기 접기)
+ * <p>
+ * LEDGER 모드 입금은 지갑 행을 갱신하지 않고 분개 한 쌍(외부 계정 -, 회원 지갑 +)만 삽입한다.
+ * 입금은 지갑 행을 잠그지 않으므로 같은 회원 입금끼리도, 잠금 경로와도 서로 기다리지 않는다.
+ * <p>
+ * 지갑 잔액 컬럼은 접힌 스냅샷이고, 실제 잔액 = 스냅샷 + 미반영 꼬리(folded = false 분개) 합이다.
+ * 접기는 스냅샷 갱신과 분개 folded 표시를 한 트랜잭션에서 하므로, ID 가 커밋 순서와 달라도
+ * 늦게 커밋된 분개는 다음 접기의 꼬리로 남는다 (ID 경계로 판단하지 않음).
+ * 배타 락을 잡는 모든 변경 경로가 먼저 꼬리를 접고(커밋 전 분개는 findTailLocked 의 잠금 조회가 커밋까지 대기),
+ * 주기 접기가 입금만 쌓이는 지갑의 꼬리를 스냅샷으로 옮긴다.
+ * 꼬리는 입금뿐이므로 접기 전 스냅샷만으로 판단한 차감은 잔액을 초과하지 않는다 (보수적으로 거절될 수만 있음).
+ * 모든 연산이 LOCKING 이면 잠금 경로는 갱신·접기를 생략하고(syncLocked), 남은 꼬리는 주기 접기가 옮긴다.
+ */
+@Slf4j
+@Component
+public class WalletLedger {
+
+    private final WalletRepository walletRepository;
+    private final WalletPostingRepository postingRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int foldBatchSize;
+    private final boolean nonLockingModeEnabled;
+
+    private final Counter postedCounter;
+    private final Counter foldedCounter;
+
+    public WalletLedger(
+            WalletRepository walletRepository,
+            WalletPostingRepository postingRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            WalletUpdateModeProperties updateMode,
+            @Value("${wallet.ledger.fold-batch-size}") int foldBatchSize
+    ) {
+        this.walletRepository = walletRepository;
+        this.postingRepository = postingRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.foldBatchSize = foldBatchSize;
+        this.nonLockingModeEnabled = updateMode.usesNonLockingMode();
+
+        this.postedCounter = Counter.builder("wallet_ledger_posted_total")
+                .description("원장 분개로 처리한 입금 건수")
+                .register(meterRegistry);
+        this.foldedCounter = Counter.builder("wallet_ledger_folded_total")
+                .description("잔액 스냅샷에 접힌 회원 지갑 분개 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 외부 유입 입금 분개
+     *
+     * @return 입금 후 잔액 (스냅샷 + 커밋된 꼬리 + 이번 입금, 동시에 진행 중인 다른 입금은 포함되지 않을 수 있음)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long postCredit(Long memberId, AssetType assetType, long amount, String reference) {
+        if (amount <= 0) {
+            throw new InvalidAmountException();
+        }
+
+        // 잠금 없이 스냅샷과 꼬리를 같은 읽기 스냅샷에서 조회 (이번 분개는 자기 트랜잭션이라 꼬리에 포함)
+        CompositeBalanceResult snapshot = walletRepository.findBalanceByMemberId(memberId)
+                .orElseThrow(() -> {
+                    log.error("[지갑 원장] 지갑을 찾을 수 없음. 회원 ID : {}", memberId);
+                    return new WalletNotFoundException();
+                });
+
+        postingRepository.saveAll(WalletPosting.externalCredit(memberId, assetType, amount, reference));
+        postedCounter.increment();
+
+        CompositeBalanceResult balance = withTail(memberId, snapshot);
+        return assetType == AssetType.MONEY ? balance.moneyBalance() : balance.pointBalance();
+    }
+
+    /**
+     * 잠금 경로 진입 시 배타 락을 잡은 지갑 동기화 (갱신 후 꼬리 접기)
+     * 모든 연산이 LOCKING 이면 같은 트랜잭션의 조건부 UPDATE 도, 새 꼬리도 없으므로 생략해
+     * 지갑 재조회와 분개 잠금 조회 비용을 쓰지 않는다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void syncLocked(Wallet lockedWallet) {
+        if (nonLockingModeEnabled) {
+            fold(lockedWallet);
+        }
+    }
+
+    /**
+     * 배타 락을 잡은 지갑을 최신 행으로 갱신한 뒤 미반영 꼬리 접기
+     * 같은 트랜잭션의 조건부 UPDATE 결과는 영속성 컨텍스트에 없으므로, 이미 로드돼 있던 지갑은 잠금 조회 후에도
+     * 이전 잔액을 들고 있어 그대로 변경하면 조건부 갱신을 덮어쓴다 (잠금 조회 시 자동 flush 로 미반영 변경 없음)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int fold(Wallet lockedWallet) {
+        entityManager.refresh(lockedWallet);
+        Long memberId = lockedWallet.getMember().getId();
+        List<WalletPosting> tail = postingRepository.findTailLocked(memberId, lockedWallet.getFoldedPostingId());
+        if (tail.isEmpty()) {
+            return 0;
+        }
+
+        lockedWallet.foldPostings(tail);
+        postingRepository.markFolded(tail.stream().map(WalletPosting::getId).toList());
+        foldedCounter.increment(tail.size());
+        log.debug("[지갑 원장] 꼬리 접기. 회원 ID: {}, 분개 수: {}", memberId, tail.size());
+        return tail.size();
+    }
+
+    /**
+     * 지갑 배타 락 후 꼬리 접기 (조건부 갱신이 스냅샷만으로 잔액 부족일 때 재시도 전 사용)
+     *
+     * @return 접은 분개가 있으면 true
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean foldLocked(Long memberId) {
+        Wallet wallet = walletRepository.findByMemberIdWithLock(memberId)
+                .orElseThrow(WalletNotFoundException::new);
+        return fold(wallet) > 0;
+    }
+
+    /**
+     * 스냅샷 잔액에 미반영 꼬리를 더한 조회용 잔액 (잠금 없음)
+     * 스냅샷 갱신과 folded 표시는 한 트랜잭션에서 커밋되므로 같은 읽기 스냅샷에서 접기와 겹쳐도 이중 합산되지 않는다.
+     */
+    public CompositeBalanceResult withTail(Long memberId, CompositeBalanceResult snapshot) {
+        List<WalletPosting> tail = postingRepository.findUnfoldedByMemberId(memberId);
+        if (tail.isEmpty()) {
+            return snapshot;
+        }
+
+        long[] money = sumByBucket(tail, AssetType.MONEY);
+        long[] point = sumByBucket(tail, AssetType.POINT);
+        return new CompositeBalanceResult(
+                snapshot.moneyBalance() + money[PostingBucket.BALANCE.ordinal()],
+                snapshot.moneyEscrow() + money[PostingBucket.ESCROW.ordinal()],
+                snapshot.pointBalance() + point[PostingBucket.BALANCE.ordinal()],
+                snapshot.pointEscrow() + point[PostingBucket.ESCROW.ordinal()]
+        );
+    }
+
+    /**
+     * 주기 접기
+     * 입금만 쌓여 배타 락 경로가 꼬리를 접지 않는 지갑의 분개를 스냅샷으로 옮긴다.
+     */
+    @Scheduled(fixedDelayString = "${wallet.ledger.fold-interval-ms}")
+    @SchedulerLock(name = "foldWalletLedger", lockAtMostFor = "PT1M")
+    public void foldPending() {
+        List<Long> memberIds = postingRepository.findMemberIdsWithUnfoldedPostings(Limit.of(foldBatchSize));
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        log.info("[지갑 원장] 주기 접기 시작. 회원 수: {}", memberIds.size());
+        for (Long memberId : memberIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> foldLocked(memberId));
+            } catch (RuntimeException e) {
+                log.error("[지갑 원장] 주기 접기 실패. 회원 ID: {}, error: {}", memberId, e.getMessage(), e);
+            }
+        }
+    }
+
+    // 자산별 구간 합계 (PostingBucket ordinal 순)
+    private static long[] sumByBucket(List<WalletPosting> postings, AssetType assetType) {
+        long[] sums = new long[PostingBucket.values().length];
+        for (WalletPosting posting : postings) {
+            if (posting.getAssetType() == assetType) {
+                sums[posting.getBucket().ordinal()] += posting.getAmount();
+            }
+        }
+        return sums;
+    }
+}
@@ -2,6 +2,9 @@ package com.ureca.snac.wallet.service;
 
 import com.ureca.snac.wallet.dto.CompositeBalanceResult;
 import com.ureca.snac.wallet.dto.WalletAvailableBalanceResponse;
+import com.ureca.snac.wallet.dto.WalletTransferPlan;
+
+import java.util.Map;
 
 public interface WalletService {
 
@@ -23,6 +26,9 @@ public interface WalletService {
 
     CompositeBalanceResult deductCompositeEscrow(Long memberId, long moneyAmount, long pointAmount);
 
+    // 다중 지갑 이체 (회원 ID 오름차순 일괄 잠금 후 계획 적용), 회원 ID별 적용 후 잔액 반환
+    Map<Long, CompositeBalanceResult> executeTransferPlan(WalletTransferPlan plan);
+
     // 머니 동결 (충전 결제 취소 환불 절차용)
     long freezeMoney(Long memberId, long amount);
 
@@ -1,11 +1,14 @@
 package com.ureca.snac.wallet.service;
 
+import com.ureca.snac.asset.entity.AssetType;
 import com.ureca.snac.common.metric.TransactionAwareMetricRecorder;
+import com.ureca.snac.config.WalletUpdateModeProperties;
 import com.ureca.snac.member.entity.Member;
 import com.ureca.snac.member.exception.MemberNotFoundException;
 import com.ureca.snac.member.repository.MemberRepository;
 import com.ureca.snac.wallet.dto.CompositeBalanceResult;
 import com.ureca.snac.wallet.dto.WalletAvailableBalanceResponse;
+import com.ureca.snac.wallet.dto.WalletTransferPlan;
 import com.ureca.snac.wallet.entity.Wallet;
 import com.ureca.snac.wallet.event.WalletCreatedEvent;
 import com.ureca.snac.wallet.exception.WalletNotFoundException;
@@ -16,6 +19,16 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -26,6 +39,10 @@ public class WalletServiceImpl implements WalletService {
     private final MemberRepository memberRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final TransactionAwareMetricRecorder metricRecorder;
+    private final WalletUpdateModeProperties updateMode;
+    private final ConditionalWalletUpdater conditionalWalletUpdater;
+    private final WalletBalanceCache balanceCache;
+    private final WalletLedger ledger;
 
     @Override
     @Transactional
@@ -67,12 +84,20 @@ public class WalletServiceImpl implements WalletService {
     public long depositMoney(Long memberId, long amount) {
         log.info("[머니 입금] 시작. 회원 ID : {}, 입금액 : {}", memberId, amount);
 
-        Wallet wallet = findWalletWithLock(memberId);
-        wallet.depositMoney(amount);
+        long finalBalance;
+        if (isLedger(updateMode.depositMoney())) {
+            finalBalance = ledger.postCredit(memberId, AssetType.MONEY, amount, "deposit_money");
+        } else if (isConditional(updateMode.depositMoney())) {
+            finalBalance = conditionalWalletUpdater.depositMoney(memberId, amount);
+        } else {
+            Wallet wallet = findWalletWithLock(memberId);
+            wallet.depositMoney(amount);
+            finalBalance = wallet.getMoneyBalance();
+        }
 
-        long finalBalance = wallet.getMoneyBalance();
         log.info("[머니 입금] 완료. 회원 ID : {}, 최종 머니 잔액 : {}", memberId, finalBalance);
-        incrementCounter("deposit_money");
+        balanceCache.evictAfterCommit(memberId);
+        incrementCounter("deposit_money", updateMode.depositMoney());
 
         return finalBalance;
     }
@@ -82,12 +107,18 @@ public class WalletServiceImpl implements WalletService {
     public long withdrawMoney(Long memberId, long amount) {
         log.info("[머니 출금] 시작. 회원 ID: {}, 출금액: {}", memberId, amount);
 
-        Wallet wallet = findWalletWithLock(memberId);
-        wallet.withdrawMoney(amount);
+        long finalBalance;
+        if (isConditional(updateMode.withdrawMoney())) {
+            finalBalance = conditionalWalletUpdater.withdrawMoney(memberId, amount);
+        } else {
+            Wallet wallet = findWalletWithLock(memberId);
+            wallet.withdrawMoney(amount);
+            finalBalance = wallet.getMoneyBalance();
+        }
 
-        long finalBalance = wallet.getMoneyBalance();
         log.info("[머니 출금] 완료. 회원 ID: {}, 최종 잔액: {}", memberId, finalBalance);
-        incrementCounter("withdraw_money");
+        balanceCache.evictAfterCommit(memberId);
+        incrementCounter("withdraw_money", updateMode.withdrawMoney());
 
         return finalBalance;
     }
@@ -97,12 +128,20 @@ public class WalletServiceImpl implements WalletService {
     public long depositPoint(Long memberId, long amount) {
         log.info("[포인트 적립] 시작. 회원 ID: {}, 적립액: {}", memberId, amount);
 
-        Wallet wallet = findWalletWithLock(memberId);
-        wallet.depositPoint(amount);
+        long finalBalance;
+        if (isLedger(updateMode.depositPoint())) {
+            finalBalance = ledger.postCredit(memberId, AssetType.POINT, amount, "deposit_point");
+        } else if (isConditional(updateMode.depositPoint())) {
+            finalBalance = conditionalWalletUpdater.depositPoint(memberId, amount);
+        } else {
+            Wallet wallet = findWalletWithLock(memberId);
+            wallet.depositPoint(amount);
+            finalBalance = wallet.getPointBalance();
+        }
 
-        long finalBalance = wallet.getPointBalance();
         log.info("[포인트 적립] 완료. 회원 ID: {}, 최종 잔액: {}", memberId, finalBalance);
-        incrementCounter("deposit_point");
+        balanceCache.evictAfterCommit(memberId);
+        incrementCounter("deposit_point", updateMode.depositPoint());
 
         return finalBalance;
     }
@@ -112,13 +151,19 @@ public class WalletServiceImpl implements WalletService {
     public CompositeBalanceResult moveCompositeToEscrow(Long memberId, long moneyAmount, long pointAmount) {
         log.info("[복합 에스크로 이동] 시작. 회원 ID: {}, 머니: {}, 포인트: {}", memberId, moneyAmount, pointAmount);
 
-        Wallet wallet = findWalletWithLock(memberId);
-        wallet.moveCompositeToEscrow(moneyAmount, pointAmount);
+        CompositeBalanceResult result;
+        if (isConditional(updateMode.moveCompositeEscrow())) {
+            result = conditionalWalletUpdater.moveCompositeToEscrow(memberId, moneyAmount, pointAmount);
+        } else {
+            Wallet wallet = findWalletWithLock(memberId);
+            wallet.moveCompositeToEscrow(moneyAmount, pointAmount);
+            result = CompositeBalanceResult.from(wallet);
+        }
 
-        CompositeBalanceResult result = CompositeBalanceResult.from(wallet);
         log.info("[복합 에스크로 이동] 완료. 회원 ID: {}, 머니 에스크로: {}, 포인트 에스크로: {}",
                 memberId, result.moneyEscrow(), result.pointEscrow());
-        incrementCounter("move_composite_escrow");
+        balanceCache.evictAfterCommit(memberId);
+        incrementCounter("move_composite_escrow", updateMode.moveCompositeEscrow());
 
         return result;
     }
@@ -128,13 +173,19 @@ public class WalletServiceImpl implements WalletService {
     public CompositeBalanceResult cancelCompositeEscrow(Long memberId, long moneyAmount, long pointAmount) {
         log.info("[복합 에스크로 복원] 시작. 회원 ID: {}, 머니: {}, 포인트: {}", memberId, moneyAmount, pointAmount);
 
-        Wallet wallet = findWalletWithLock(memberId);
-        wallet.cancelCompositeEscrow(moneyAmount, pointAmount);
+        CompositeBalanceResult result;
+        if (isConditional(updateMode.cancelCompositeEscrow())) {
+            result = conditionalWalletUpdater.cancelCompositeEscrow(memberId, moneyAmount, pointAmount);
+        } else {
+            Wallet wallet = findWalletWithLock(memberId);
+            wallet.cancelCompositeEscrow(moneyAmount, pointAmount);
+            result = CompositeBalanceResult.from(wallet);
+        }
 
-        CompositeBalanceResult result = CompositeBalanceResult.from(wallet);
         log.info("[복합 에스크로 복원] 완료. 회원 ID: {}, 머니 잔액: {}, 포인트 잔액: {}",
                 memberId, result.moneyBalance(), result.pointBalance());
-        incrementCounter("cancel_composite_escrow");
+        balanceCache.evictAfterCommit(memberId);
+        incrementCounter("cancel_composite_escrow", updateMode.cancelCompositeEscrow());
 
         return result;
     }
@@ -144,17 +195,72 @@ public class WalletServiceImpl implements WalletService {
     public CompositeBalanceResult deductCompositeEscrow(Long memberId, long moneyAmount, long pointAmount) {
         log.info("[복합 에스크로 차감] 시작. 회원 ID : {}, 머니 : {}, 포인트 : {}", memberId, moneyAmount, pointAmount);
 
-        Wallet wallet = findWalletWithLock(memberId);
-        wallet.deductCompositeEscrow(moneyAmount, pointAmount);
+        CompositeBalanceResult result;
+        if (isConditional(updateMode.deductCompositeEscrow())) {
+            result = conditionalWalletUpdater.deductCompositeEscrow(memberId, moneyAmount, pointAmount);
+        } else {
+            Wallet wallet = findWalletWithLock(memberId);
+            wallet.deductCompositeEscrow(moneyAmount, pointAmount);
+            result = CompositeBalanceResult.from(wallet);
+        }
 
-        CompositeBalanceResult result = CompositeBalanceResult.from(wallet);
         log.info("[복합 에스크로 차감] 완료. 회원 ID: {}, 머니 에스크로: {}, 포인트 에스크로: {}",
                 memberId, result.moneyEscrow(), result.pointEscrow());
-        incrementCounter("deduct_composite_escrow");
+        balanceCache.evictAfterCommit(memberId);
+        incrementCounter("deduct_composite_escrow", updateMode.deductCompositeEscrow());
 
         return result;
     }
 
+    /**
+     * 다중 지갑 이체
+     * 단계는 회원 ID 오름차순으로(같은 회원 안에서는 계획 순서대로) 적용하므로, 지갑 행을 잠그는 순서가
+     * 모든 다중 지갑 경로에서 같아 교착이 생기지 않는다. 하나라도 실패하면 전체가 롤백된다.
+     * <p>
+     * 연산별 갱신 방식(wallet.update-mode)을 따르되, 한 지갑에 LOCKING 단계가 하나라도 있으면
+     * 그 지갑의 단계는 모두 잠금 조회한 엔티티에 적용한다 (같은 지갑에 엔티티 변경과 조건부 UPDATE 를 섞지 않음).
+     * 모든 지갑이 LOCKING 이면 기존처럼 IN 조회 한 번으로 잠근다.
+     */
+    @Override
+    @Transactional
+    public Map<Long, CompositeBalanceResult> executeTransferPlan(WalletTransferPlan plan) {
+        SortedSet<Long> memberIds = plan.memberIds();
+        log.info("[다중 지갑 이체] 시작. 회원 ID: {}, 단계 수: {}", memberIds, plan.steps().size());
+
+        Map<Long, List<WalletTransferPlan.Step>> stepsByMember = new TreeMap<>();
+        plan.steps().forEach(step ->
+                stepsByMember.computeIfAbsent(step.memberId(), memberId -> new ArrayList<>()).add(step));
+
+        Set<Long> lockingMemberIds = new TreeSet<>();
+        stepsByMember.forEach((memberId, steps) -> {
+            if (steps.stream().anyMatch(step -> modeOf(step.operation()) == WalletUpdateMode.LOCKING)) {
+                lockingMemberIds.add(memberId);
+            }
+        });
+        Map<Long, Wallet> wallets = lockingMemberIds.size() == memberIds.size()
+                ? lockAllWallets(memberIds)
+                : new HashMap<>();
+
+        Map<Long, CompositeBalanceResult> results = new LinkedHashMap<>();
+        stepsByMember.forEach((memberId, steps) -> {
+            if (lockingMemberIds.contains(memberId)) {
+                Wallet wallet = wallets.computeIfAbsent(memberId, this::findWalletWithLock);
+                steps.forEach(step -> applyStep(wallet, step));
+                results.put(memberId, CompositeBalanceResult.from(wallet));
+            } else {
+                steps.forEach(this::applyStepWithoutLock);
+                results.put(memberId, findLatestBalance(memberId));
+            }
+            steps.forEach(step -> incrementCounter("transfer_plan",
+                    lockingMemberIds.contains(memberId) ? WalletUpdateMode.LOCKING : modeOf(step.operation())));
+        });
+
+        log.info("[다중 지갑 이체] 완료. 회원 ID: {}", memberIds);
+        balanceCache.evictAfterCommit(memberIds);
+
+        return results;
+    }
+
     @Override
     @Transactional
     public long freezeMoney(Long memberId, long amount) {
@@ -165,7 +271,8 @@ public class WalletServiceImpl implements WalletService {
 
         long balanceAfter = wallet.getMoneyBalance();
         log.info("[머니 동결] 완료. 회원 ID: {}, 동결 후 사용 가능 잔액: {}", memberId, balanceAfter);
-        incrementCounter("freeze_money");
+        balanceCache.evictAfterCommit(memberId);
+        incrementCounter("freeze_money", WalletUpdateMode.LOCKING);
 
         return balanceAfter;
     }
@@ -180,7 +287,8 @@ public class WalletServiceImpl implements WalletService {
 
         long balanceAfter = wallet.getMoneyBalance();
         log.info("[머니 동결 해제] 완료. 회원 ID: {}, 복원 후 사용 가능 잔액: {}", memberId, balanceAfter);
-        incrementCounter("unfreeze_money");
+        balanceCache.evictAfterCommit(memberId);
+        incrementCounter("unfreeze_money", WalletUpdateMode.LOCKING);
 
         return balanceAfter;
     }
@@ -195,7 +303,8 @@ public class WalletServiceImpl implements WalletService {
 
         long balanceAfter = wallet.getMoneyBalance();
         log.info("[동결 머니 차감] 완료. 회원 ID: {}, 차감 후 사용 가능 잔액: {}", memberId, balanceAfter);
-        incrementCounter("deduct_frozen_money");
+        balanceCache.evictAfterCommit(memberId);
+        incrementCounter("deduct_frozen_money", WalletUpdateMode.LOCKING);
 
         return balanceAfter;
     }
@@ -203,24 +312,107 @@ public class WalletServiceImpl implements WalletService {
     @Override
     public long getMoneyBalance(Long memberId) {
         log.info("[머니 잔액 조회] 시작. 회원 ID : {}", memberId);
-        Wallet wallet = findWallet(memberId);
-        return wallet.getMoneyBalance();
+        return currentBalance(memberId).moneyBalance();
     }
 
     @Override
     public WalletAvailableBalanceResponse getWalletSummary(Long memberId) {
         log.info("[지갑 요약 조회] 시작. 회원 ID : {}", memberId);
 
-        Wallet wallet = findWallet(memberId);
+        CompositeBalanceResult balance = balanceCache.get(memberId, () -> currentBalance(memberId));
 
-        WalletAvailableBalanceResponse response = WalletAvailableBalanceResponse.from(wallet);
+        WalletAvailableBalanceResponse response = WalletAvailableBalanceResponse.from(balance);
         log.info("[지갑 요약 조회] 완료. 회원 ID : {}", memberId);
 
         return response;
     }
 
-    private void incrementCounter(String type) {
-        metricRecorder.increment("wallet_operation_total", "type", type);
+    private void incrementCounter(String type, WalletUpdateMode mode) {
+        WalletUpdateMode resolved = mode == null ? WalletUpdateMode.LOCKING : mode;
+        metricRecorder.increment("wallet_operation_total", "type", type, "mode", resolved.name());
+    }
+
+    private void applyStep(Wallet wallet, WalletTransferPlan.Step step) {
+        switch (step.operation()) {
+            case MOVE_COMPOSITE_TO_ESCROW -> wallet.moveCompositeToEscrow(step.moneyAmount(), step.pointAmount());
+            case CANCEL_COMPOSITE_ESCROW -> wallet.cancelCompositeEscrow(step.moneyAmount(), step.pointAmount());
+            case DEDUCT_COMPOSITE_ESCROW -> wallet.deductCompositeEscrow(step.moneyAmount(), step.pointAmount());
+            case DEPOSIT_MONEY -> wallet.depositMoney(step.moneyAmount());
+            case DEPOSIT_POINT -> wallet.depositPoint(step.pointAmount());
+        }
+    }
+
+    // 잠금 없이 연산별 방식으로 적용 (CONDITIONAL 조건부 UPDATE, LEDGER 입금 분개)
+    private void applyStepWithoutLock(WalletTransferPlan.Step step) {
+        Long memberId = step.memberId();
+        boolean ledgerMode = isLedger(modeOf(step.operation()));
+        switch (step.operation()) {
+            case MOVE_COMPOSITE_TO_ESCROW ->
+                    conditionalWalletUpdater.moveCompositeToEscrow(memberId, step.moneyAmount(), step.pointAmount());
+            case CANCEL_COMPOSITE_ESCROW ->
+                    conditionalWalletUpdater.cancelCompositeEscrow(memberId, step.moneyAmount(), step.pointAmount());
+            case DEDUCT_COMPOSITE_ESCROW ->
+                    conditionalWalletUpdater.deductCompositeEscrow(memberId, step.moneyAmount(), step.pointAmount());
+            case DEPOSIT_MONEY -> {
+                if (ledgerMode) {
+                    ledger.postCredit(memberId, AssetType.MONEY, step.moneyAmount(), "transfer_plan");
+                } else {
+                    conditionalWalletUpdater.depositMoney(memberId, step.moneyAmount());
+                }
+            }
+            case DEPOSIT_POINT -> {
+                if (ledgerMode) {
+                    ledger.postCredit(memberId, AssetType.POINT, step.pointAmount(), "transfer_plan");
+                } else {
+                    conditionalWalletUpdater.depositPoint(memberId, step.pointAmount());
+                }
+            }
+        }
+    }
+
+    private WalletUpdateMode modeOf(WalletTransferPlan.Operation operation) {
+        WalletUpdateMode mode = switch (operation) {
+            case MOVE_COMPOSITE_TO_ESCROW -> updateMode.moveCompositeEscrow();
+            case CANCEL_COMPOSITE_ESCROW -> updateMode.cancelCompositeEscrow();
+            case DEDUCT_COMPOSITE_ESCROW -> updateMode.deductCompositeEscrow();
+            case DEPOSIT_MONEY -> updateMode.depositMoney();
+            case DEPOSIT_POINT -> updateMode.depositPoint();
+        };
+        return mode == null ? WalletUpdateMode.LOCKING : mode;
+    }
+
+    // 여러 지갑을 회원 ID 오름차순 IN 조회 한 번으로 잠금
+    private Map<Long, Wallet> lockAllWallets(SortedSet<Long> memberIds) {
+        Map<Long, Wallet> wallets = new HashMap<>();
+        walletRepository.findAllByMemberIdInWithLock(memberIds)
+                .forEach(wallet -> wallets.put(wallet.getMember().getId(), wallet));
+        if (wallets.size() != memberIds.size()) {
+            log.error("[다중 지갑 이체] 지갑을 찾을 수 없음. 요청 회원 ID: {}, 조회 회원 ID: {}", memberIds, wallets.keySet());
+            throw new WalletNotFoundException();
+        }
+        wallets.values().forEach(ledger::syncLocked);
+        return wallets;
+    }
+
+    // 조건부 UPDATE 는 영속성 컨텍스트를 거치지 않으므로 잔액은 행에서 직접 조회 + 원장 꼬리
+    private CompositeBalanceResult findLatestBalance(Long memberId) {
+        CompositeBalanceResult snapshot = walletRepository.findBalanceByMemberId(memberId)
+                .orElseThrow(WalletNotFoundException::new);
+        return ledger.withTail(memberId, snapshot);
+    }
+
+    // 미설정 연산은 기존 잠금 방식
+    private boolean isConditional(WalletUpdateMode mode) {
+        return mode == WalletUpdateMode.CONDITIONAL;
+    }
+
+    private boolean isLedger(WalletUpdateMode mode) {
+        return mode == WalletUpdateMode.LEDGER;
+    }
+
+    // 접힌 스냅샷 + 원장 미반영 꼬리
+    private CompositeBalanceResult currentBalance(Long memberId) {
+        return ledger.withTail(memberId, CompositeBalanceResult.from(findWallet(memberId)));
     }
 
     private Wallet findWallet(Long memberId) {
@@ -243,6 +435,7 @@ public class WalletServiceImpl implements WalletService {
                 });
 
         log.debug("[지갑 조회] 비관적 락 획득 성공. 회원 ID : {}", memberId);
+        ledger.syncLocked(wallet);
         return wallet;
     }
 }
\ No newline at end of file
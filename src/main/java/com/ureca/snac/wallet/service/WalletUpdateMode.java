@@ -0,0 +1,10 @@
+package com.ureca.snac.wallet.service;
+
+/**
+ * 지갑 잔액 변경 실행 방식
+ */
+public enum WalletUpdateMode {
+    LOCKING, // 비관적 락 조회 후 엔티티 변경 (기본)
+    CONDITIONAL, // 잔액 조건을 WHERE 절에 둔 단일 UPDATE, 영향 행 수로 잔액 부족 판정
+    LEDGER // 지갑 행 대신 원장 분개만 삽입 (입금 전용, 잔액은 주기 접기로 반영)
+}
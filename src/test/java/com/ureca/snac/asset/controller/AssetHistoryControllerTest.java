@@ -0,0 +1,111 @@
+package com.ureca.snac.asset.controller;
+
+import com.ureca.snac.asset.export.AssetHistoryExporter;
+import com.ureca.snac.asset.repository.AssetHistoryRepository;
+import com.ureca.snac.asset.repository.AssetMonthlySummaryRepository;
+import com.ureca.snac.asset.service.AssetHistoryServiceImpl;
+import com.ureca.snac.auth.dto.CustomUserDetails;
+import com.ureca.snac.common.advice.GlobalAdvice;
+import com.ureca.snac.member.entity.Member;
+import com.ureca.snac.member.repository.MemberRepository;
+import com.ureca.snac.payment.repository.PaymentRepository;
+import com.ureca.snac.support.fixture.MemberFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * AssetHistoryController MockMvc 테스트
+ * 내보내기 한도 초과가 스트리밍 시작 전에 판단되어 파일 응답 대신 429 JSON 오류로 나가는지 검증
+ */
+@DisplayName("AssetHistoryController MockMvc 테스트")
+@ExtendWith(MockitoExtension.class)
+class AssetHistoryControllerTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private AssetHistoryRepository assetHistoryRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private AssetMonthlySummaryRepository assetMonthlySummaryRepository;
+
+    @Mock
+    private DataSource dataSource;
+
+    private MockMvc mockMvc;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        // 한도 0 : 모든 내보내기 요청이 한도 초과
+        AssetHistoryExporter saturated = new AssetHistoryExporter(dataSource, new SimpleMeterRegistry(), 0);
+        AssetHistoryServiceImpl assetHistoryService = new AssetHistoryServiceImpl(
+                memberRepository, assetHistoryRepository, paymentRepository,
+                assetMonthlySummaryRepository, saturated);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new AssetHistoryController(assetHistoryService))
+                .setControllerAdvice(new GlobalAdvice())
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+
+        member = MemberFixture.createMember(1L);
+        CustomUserDetails userDetails = new CustomUserDetails(member);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    @DisplayName("exportMyAssetHistories 메서드")
+    class ExportTest {
+
+        @Test
+        @DisplayName("실패 : 동시 내보내기 한도 초과 -> 비동기 시작 없이 429 JSON 오류 응답")
+        void export_overLimit_returns429Json() throws Exception {
+            // given
+            given(memberRepository.findByEmail(member.getEmail())).willReturn(Optional.of(member));
+
+            // when, then
+            mockMvc.perform(get("/api/asset-histories/me/export")
+                            .param("assetType", "MONEY")
+                            .param("format", "CSV"))
+                    .andExpect(request().asyncNotStarted())
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(header().doesNotExist("Content-Disposition"))
+                    .andExpect(jsonPath("$.code").value("ASSET_HISTORY_EXPORT_BUSY_429"));
+        }
+    }
+}
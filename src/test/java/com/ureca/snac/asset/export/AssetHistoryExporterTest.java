@@ -0,0 +1,140 @@
+package com.ureca.snac.asset.export;
+
+import com.ureca.snac.asset.dto.AssetHistoryExportRequest;
+import com.ureca.snac.asset.entity.AssetHistory;
+import com.ureca.snac.asset.entity.AssetType;
+import com.ureca.snac.asset.exception.AssetHistoryExportBusyException;
+import com.ureca.snac.asset.repository.AssetHistoryRepository;
+import com.ureca.snac.member.entity.Member;
+import com.ureca.snac.member.repository.MemberRepository;
+import com.ureca.snac.payment.entity.Payment;
+import com.ureca.snac.payment.entity.PaymentMethod;
+import com.ureca.snac.payment.repository.PaymentRepository;
+import com.ureca.snac.support.RepositoryTestSupport;
+import com.ureca.snac.support.fixture.MemberFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AssetHistoryExporter 슬라이스 테스트
+ * 커서 쿼리가 회원/자산 조건으로 내역을 읽고 충전 내역에 결제 키를 붙여 형식대로 쓰는지 검증
+ * 동시 내보내기 한도를 넘으면 획득 단계에서 거절하고, 닫은 한도는 한 번만 반환되는지 검증
+ */
+@DisplayName("AssetHistoryExporter 슬라이스 테스트")
+class AssetHistoryExporterTest extends RepositoryTestSupport {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private AssetHistoryRepository assetHistoryRepository;
+
+    private AssetHistoryExporter exporter;
+    private Member member;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        exporter = new AssetHistoryExporter(dataSource, meterRegistry, 1);
+        member = memberRepository.save(MemberFixture.builder().id(null).build());
+
+        Payment payment = Payment.prepare(member, 10000L);
+        payment.complete("pk_export_test", PaymentMethod.CARD, OffsetDateTime.now());
+        payment = paymentRepository.save(payment);
+
+        assetHistoryRepository.save(AssetHistory.createMoneyRecharge(member, payment.getId(), 10000L, 10000L));
+        assetHistoryRepository.save(AssetHistory.createTradeBuy(
+                member, 2L, "SKT, 2GB", AssetType.MONEY, 4000L, 6000L));
+        assetHistoryRepository.save(AssetHistory.createSignupBonus(member, 1000L));
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("성공 : CSV 는 머니 내역만, 충전 행에 결제 키, 쉼표 포함 제목은 따옴표로 감싸기")
+    void export_csv_joinsPaymentKey() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = exporter.export(member.getId(),
+                new AssetHistoryExportRequest(AssetType.MONEY, null, AssetHistoryExportFormat.CSV), out);
+
+        // then
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(count).isEqualTo(2);
+        assertThat(csv.lines()).hasSize(3);
+        assertThat(csv).contains(",RECHARGE,10000,10000,", ",pk_export_test");
+        assertThat(csv).contains(",BUY,-4000,6000,\"SKT, 2GB\",");
+        assertThat(meterRegistry.get("asset_history_export_rows_total").tag("format", "CSV")
+                .counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("성공 : NDJSON 은 행마다 JSON 객체 한 줄")
+    void export_ndjson_oneObjectPerLine() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        exporter.export(member.getId(),
+                new AssetHistoryExportRequest(AssetType.POINT, null, AssetHistoryExportFormat.NDJSON), out);
+
+        // then
+        String ndjson = out.toString(StandardCharsets.UTF_8);
+        assertThat(ndjson.lines()).singleElement()
+                .satisfies(line -> assertThat(line)
+                        .startsWith("{\"id\":")
+                        .contains("\"category\":\"EVENT\"", "\"amount\":1000")
+                        .doesNotContain("paymentKey"));
+    }
+
+    @Test
+    @DisplayName("성공 : 닫은 한도는 돌려줘 다음 요청이 획득하고, 여러 번 닫아도 한 번만 반환")
+    void acquire_closedPermitReleasedOnce() {
+        // given
+        AssetHistoryExporter.Permit permit = exporter.acquire(member.getId());
+        assertThat(meterRegistry.get("asset_history_export_in_flight").gauge().value()).isEqualTo(1.0);
+
+        // when
+        permit.close();
+        permit.close();
+
+        // then
+        assertThat(meterRegistry.get("asset_history_export_in_flight").gauge().value()).isZero();
+        AssetHistoryExporter.Permit next = exporter.acquire(member.getId());
+        assertThatThrownBy(() -> exporter.acquire(member.getId()))
+                .isInstanceOf(AssetHistoryExportBusyException.class);
+        next.close();
+    }
+
+    @Test
+    @DisplayName("실패 : 동시 내보내기 한도를 넘으면 획득 단계에서 거절")
+    void acquire_overLimit_rejected() {
+        // given
+        AssetHistoryExporter saturated = new AssetHistoryExporter(dataSource, meterRegistry, 0);
+
+        // when, then
+        assertThatThrownBy(() -> saturated.acquire(member.getId()))
+                .isInstanceOf(AssetHistoryExportBusyException.class);
+        assertThat(meterRegistry.get("asset_history_export_rejected_total").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,132 @@
+package com.ureca.snac.asset.repository;
+
+import com.ureca.snac.asset.entity.AssetHistory;
+import com.ureca.snac.asset.entity.AssetMonthlySummary;
+import com.ureca.snac.asset.entity.AssetType;
+import com.ureca.snac.asset.entity.TransactionCategory;
+import com.ureca.snac.member.entity.Member;
+import com.ureca.snac.member.repository.MemberRepository;
+import com.ureca.snac.support.RepositoryTestSupport;
+import com.ureca.snac.support.fixture.MemberFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AssetMonthlySummaryRepository 슬라이스 테스트
+ * accumulate: (member, asset, month) UPSERT 누적, 월말 잔액은 더 늦은 기록만 반영
+ * rebuildByMemberIdBetween: 자산 내역에서 재계산해 덮어쓰기
+ */
+@DisplayName("AssetMonthlySummaryRepository 슬라이스 테스트")
+class AssetMonthlySummaryRepositoryTest extends RepositoryTestSupport {
+
+    private static final String YEAR_MONTH = "2026-01";
+    private static final LocalDateTime AT = LocalDateTime.of(2026, 1, 10, 12, 0);
+
+    @Autowired
+    private AssetMonthlySummaryRepository assetMonthlySummaryRepository;
+
+    @Autowired
+    private AssetHistoryRepository assetHistoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member member;
+
+    @BeforeEach
+    void setUpMember() {
+        member = memberRepository.save(MemberFixture.builder().id(null).build());
+    }
+
+    @Nested
+    @DisplayName("accumulate 메서드")
+    class AccumulateTest {
+
+        @Test
+        @DisplayName("성공 : 같은 월은 한 행에 입출금 합계와 카테고리 건수 누적")
+        void accumulate_sameMonth_singleRow() {
+            // when
+            accumulate(TransactionCategory.RECHARGE, 10000L, 0L, 10000L, AT);
+            accumulate(TransactionCategory.RECHARGE, 5000L, 0L, 15000L, AT.plusMinutes(1));
+            accumulate(TransactionCategory.BUY, 0L, 3000L, 12000L, AT.plusMinutes(2));
+            em.clear();
+
+            // then
+            AssetMonthlySummary summary = findSummary();
+            assertThat(assetMonthlySummaryRepository.findAll()).hasSize(1);
+            assertThat(summary.getDepositAmount()).isEqualTo(15000L);
+            assertThat(summary.getWithdrawalAmount()).isEqualTo(3000L);
+            assertThat(summary.countOf(TransactionCategory.RECHARGE)).isEqualTo(2);
+            assertThat(summary.countOf(TransactionCategory.BUY)).isEqualTo(1);
+            assertThat(summary.countOf(TransactionCategory.SELL)).isZero();
+            assertThat(summary.getClosingBalance()).isEqualTo(12000L);
+        }
+
+        @Test
+        @DisplayName("성공 : 늦게 반영된 이전 시각 기록은 월말 잔액을 덮어쓰지 않음")
+        void accumulate_olderRecord_keepsClosingBalance() {
+            // when
+            accumulate(TransactionCategory.RECHARGE, 10000L, 0L, 20000L, AT.plusMinutes(5));
+            accumulate(TransactionCategory.RECHARGE, 10000L, 0L, 10000L, AT);
+            em.clear();
+
+            // then
+            AssetMonthlySummary summary = findSummary();
+            assertThat(summary.getDepositAmount()).isEqualTo(20000L);
+            assertThat(summary.getClosingBalance()).isEqualTo(20000L);
+            assertThat(summary.getClosingAt()).isEqualTo(AT.plusMinutes(5));
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuildByMemberIdBetween 메서드")
+    class RebuildTest {
+
+        @Test
+        @DisplayName("성공 : 잘못 누적된 집계를 자산 내역 기준으로 덮어쓰기")
+        void rebuild_overwritesFromHistory() {
+            // given
+            assetHistoryRepository.save(AssetHistory.createMoneyRecharge(member, 1L, 10000L, 10000L));
+            assetHistoryRepository.save(AssetHistory.createTradeBuy(member, 2L, "SKT 2GB", AssetType.MONEY, 4000L, 6000L));
+            em.flush();
+            String yearMonth = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
+            assetMonthlySummaryRepository.accumulate(member.getId(), AssetType.MONEY.name(), yearMonth,
+                    TransactionCategory.SELL.name(), 999L, 0L, 999L, LocalDateTime.now());
+
+            // when
+            assetMonthlySummaryRepository.rebuildByMemberIdBetween(member.getId(), member.getId());
+            em.clear();
+
+            // then
+            AssetMonthlySummary summary = assetMonthlySummaryRepository
+                    .findByMemberIdAndAssetTypeAndYearMonth(member.getId(), AssetType.MONEY, yearMonth)
+                    .orElseThrow();
+            assertThat(summary.getDepositAmount()).isEqualTo(10000L);
+            assertThat(summary.getWithdrawalAmount()).isEqualTo(4000L);
+            assertThat(summary.countOf(TransactionCategory.RECHARGE)).isEqualTo(1);
+            assertThat(summary.countOf(TransactionCategory.BUY)).isEqualTo(1);
+            assertThat(summary.countOf(TransactionCategory.SELL)).isZero();
+            assertThat(summary.getClosingBalance()).isEqualTo(6000L);
+        }
+    }
+
+    private void accumulate(TransactionCategory category, long deposit, long withdrawal,
+                            long balanceAfter, LocalDateTime recordedAt) {
+        assetMonthlySummaryRepository.accumulate(member.getId(), AssetType.MONEY.name(), YEAR_MONTH,
+                category.name(), deposit, withdrawal, balanceAfter, recordedAt);
+    }
+
+    private AssetMonthlySummary findSummary() {
+        return assetMonthlySummaryRepository
+                .findByMemberIdAndAssetTypeAndYearMonth(member.getId(), AssetType.MONEY, YEAR_MONTH)
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,128 @@
+package com.ureca.snac.asset.service;
+
+import com.ureca.snac.asset.entity.AssetHistory;
+import com.ureca.snac.asset.fixture.AssetHistoryFixture;
+import com.ureca.snac.asset.repository.AssetHistoryRepository;
+import com.ureca.snac.member.entity.Member;
+import com.ureca.snac.support.fixture.MemberFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AssetHistoryBatchWriter 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class AssetHistoryBatchWriterTest {
+
+    private AssetHistoryBatchWriter batchWriter;
+    private SimpleMeterRegistry meterRegistry;
+
+    @Mock
+    private AssetHistoryRepository assetHistoryRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private AssetMonthlySummaryRecorder monthlySummaryRecorder;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        batchWriter = new AssetHistoryBatchWriter(assetHistoryRepository, jdbcTemplate, entityManager,
+                monthlySummaryRecorder, meterRegistry);
+        member = MemberFixture.createMember(1L);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("성공 : 트랜잭션 내 기록을 커밋 직전 멱등키 1회 조회 + 배치 INSERT 1회로 저장")
+    void beforeCommit_flushesAsSingleBatch() {
+        // given
+        batchWriter.enqueue(AssetHistoryFixture.createMoneyRecharge(member, 100L, 10000L, 10000L));
+        batchWriter.enqueue(AssetHistoryFixture.createTradeBuyMoney(member));
+        given(assetHistoryRepository.findExistingIdempotencyKeys(anyCollection())).willReturn(Set.of());
+
+        // when
+        commit();
+
+        // then
+        verify(assetHistoryRepository, times(1)).findExistingIdempotencyKeys(anyCollection());
+        verify(entityManager).flush();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), argThat((List<AssetHistory> rows) -> rows.size() == 2),
+                eq(2), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(meterRegistry.get("asset_history_batch_size").summary().totalAmount()).isEqualTo(2.0);
+
+        // 월 집계도 같은 커밋 직전 처리에서 INSERT 와 같은 시각 기준 월로 일괄 누적
+        ArgumentCaptor<String> yearMonth = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<LocalDateTime> recordedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(monthlySummaryRecorder).accumulateAll(argThat((Collection<AssetHistory> rows) -> rows.size() == 2),
+                yearMonth.capture(), recordedAt.capture());
+        assertThat(yearMonth.getValue()).isEqualTo(recordedAt.getValue().format(DateTimeFormatter.ofPattern("yyyy-MM")));
+    }
+
+    @Test
+    @DisplayName("멱등성 : 같은 트랜잭션 내 중복 멱등키는 즉시 DataIntegrityViolationException")
+    void enqueue_duplicateInTransaction_throwsImmediately() {
+        // given
+        batchWriter.enqueue(AssetHistoryFixture.createMoneyRecharge(member, 100L, 10000L, 10000L));
+
+        // when, then
+        assertThatThrownBy(() ->
+                batchWriter.enqueue(AssetHistoryFixture.createMoneyRecharge(member, 100L, 10000L, 10000L)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(meterRegistry.get("idempotency_duplicate_blocked_total").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("멱등성 : 이미 저장된 멱등키가 있으면 INSERT 없이 커밋 실패")
+    void beforeCommit_existingKey_throwsWithoutInsert() {
+        // given
+        batchWriter.enqueue(AssetHistoryFixture.createMoneyRecharge(member, 100L, 10000L, 10000L));
+        given(assetHistoryRepository.findExistingIdempotencyKeys(anyCollection())).willReturn(Set.of("RECHARGE:100"));
+
+        // when, then
+        assertThatThrownBy(this::commit).isInstanceOf(DataIntegrityViolationException.class);
+        verifyNoInteractions(jdbcTemplate, monthlySummaryRecorder);
+    }
+
+    private void commit() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit(false);
+        }
+    }
+}
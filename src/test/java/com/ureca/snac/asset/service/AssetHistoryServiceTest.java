@@ -2,11 +2,15 @@ package com.ureca.snac.asset.service;
 
 import com.ureca.snac.asset.dto.AssetHistoryListRequest;
 import com.ureca.snac.asset.dto.AssetHistoryResponse;
+import com.ureca.snac.asset.dto.AssetMonthlySummaryRequest;
+import com.ureca.snac.asset.dto.AssetMonthlySummaryResponse;
 import com.ureca.snac.asset.entity.AssetHistory;
 import com.ureca.snac.asset.entity.AssetType;
 import com.ureca.snac.asset.entity.TransactionCategory;
+import com.ureca.snac.asset.export.AssetHistoryExporter;
 import com.ureca.snac.asset.fixture.AssetHistoryFixture;
 import com.ureca.snac.asset.repository.AssetHistoryRepository;
+import com.ureca.snac.asset.repository.AssetMonthlySummaryRepository;
 import com.ureca.snac.common.CursorResult;
 import com.ureca.snac.member.entity.Member;
 import com.ureca.snac.member.exception.MemberNotFoundException;
@@ -50,12 +54,20 @@ class AssetHistoryServiceTest {
     @Mock
     private PaymentRepository paymentRepository;
 
+    @Mock
+    private AssetMonthlySummaryRepository assetMonthlySummaryRepository;
+
+    @Mock
+    private AssetHistoryExporter assetHistoryExporter;
+
     private Member member;
     private AssetHistoryListRequest request;
 
     @BeforeEach
     void setUp() {
-        assetHistoryService = new AssetHistoryServiceImpl(memberRepository, assetHistoryRepository, paymentRepository);
+        assetHistoryService = new AssetHistoryServiceImpl(
+                memberRepository, assetHistoryRepository, paymentRepository,
+                assetMonthlySummaryRepository, assetHistoryExporter);
         member = MemberFixture.createMember(1L);
 
         request = new AssetHistoryListRequest(
@@ -220,4 +232,32 @@ class AssetHistoryServiceTest {
             );
         }
     }
+
+    @Nested
+    @DisplayName("getMonthlySummary 메서드")
+    class GetMonthlySummaryTest {
+
+        @Test
+        @DisplayName("성공 : 집계 행이 없으면 0 합계와 null 월말 잔액 반환")
+        void getMonthlySummary_noRow_returnsEmpty() {
+            // given
+            AssetMonthlySummaryRequest summaryRequest = new AssetMonthlySummaryRequest(AssetType.POINT, "2026-01");
+            given(assetMonthlySummaryRepository.findByMemberIdAndAssetTypeAndYearMonth(
+                    member.getId(), AssetType.POINT, "2026-01")).willReturn(Optional.empty());
+
+            // when
+            AssetMonthlySummaryResponse response =
+                    assetHistoryService.getMonthlySummary(member.getEmail(), summaryRequest);
+
+            // then
+            assertThat(response.depositAmount()).isZero();
+            assertThat(response.withdrawalAmount()).isZero();
+            assertThat(response.closingBalance()).isNull();
+            assertThat(response.categoryCounts())
+                    .containsOnlyKeys(TransactionCategory.EVENT.getDisplayName(),
+                            TransactionCategory.POINT_USAGE.getDisplayName(),
+                            TransactionCategory.TRADE_CANCEL.getDisplayName())
+                    .allSatisfy((category, count) -> assertThat(count).isZero());
+        }
+    }
 }
@@ -0,0 +1,86 @@
+package com.ureca.snac.asset.service;
+
+import com.ureca.snac.asset.entity.AssetHistory;
+import com.ureca.snac.asset.entity.AssetMonthlySummary;
+import com.ureca.snac.asset.entity.AssetType;
+import com.ureca.snac.asset.entity.TransactionCategory;
+import com.ureca.snac.asset.repository.AssetMonthlySummaryRepository;
+import com.ureca.snac.member.entity.Member;
+import com.ureca.snac.member.repository.MemberRepository;
+import com.ureca.snac.support.RepositoryTestSupport;
+import com.ureca.snac.support.fixture.MemberFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AssetMonthlySummaryRecorder 슬라이스 테스트
+ * accumulateAll: 배치 기록 내역을 회원/자산별로 합쳐 배치 INSERT 와 같은 월에 누적
+ */
+@DisplayName("AssetMonthlySummaryRecorder 슬라이스 테스트")
+class AssetMonthlySummaryRecorderTest extends RepositoryTestSupport {
+
+    private static final String YEAR_MONTH = "2026-01";
+    private static final LocalDateTime AT = LocalDateTime.of(2026, 1, 31, 23, 59, 59);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private AssetMonthlySummaryRepository assetMonthlySummaryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private AssetMonthlySummaryRecorder recorder;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new AssetMonthlySummaryRecorder(assetMonthlySummaryRepository, new JdbcTemplate(dataSource));
+        member = memberRepository.save(MemberFixture.builder().id(null).build());
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("성공 : 여러 내역을 한 행에 합쳐 누적하고 월말 잔액은 마지막 내역 기준")
+    void accumulateAll_mergesPerMemberAndAsset() {
+        // given
+        assetMonthlySummaryRepository.accumulate(member.getId(), AssetType.MONEY.name(), YEAR_MONTH,
+                TransactionCategory.RECHARGE.name(), 1000L, 0L, 1000L, AT.minusDays(1));
+        List<AssetHistory> histories = List.of(
+                AssetHistory.createMoneyRecharge(member, 1L, 10000L, 11000L),
+                AssetHistory.createTradeBuy(member, 2L, "SKT 2GB", AssetType.MONEY, 4000L, 7000L),
+                AssetHistory.createSignupBonus(member, 1000L)
+        );
+
+        // when
+        recorder.accumulateAll(histories, YEAR_MONTH, AT);
+        em.clear();
+
+        // then
+        AssetMonthlySummary money = assetMonthlySummaryRepository
+                .findByMemberIdAndAssetTypeAndYearMonth(member.getId(), AssetType.MONEY, YEAR_MONTH)
+                .orElseThrow();
+        assertThat(money.getDepositAmount()).isEqualTo(11000L);
+        assertThat(money.getWithdrawalAmount()).isEqualTo(4000L);
+        assertThat(money.countOf(TransactionCategory.RECHARGE)).isEqualTo(2);
+        assertThat(money.countOf(TransactionCategory.BUY)).isEqualTo(1);
+        assertThat(money.getClosingBalance()).isEqualTo(7000L);
+        assertThat(money.getClosingAt()).isEqualTo(AT);
+
+        AssetMonthlySummary point = assetMonthlySummaryRepository
+                .findByMemberIdAndAssetTypeAndYearMonth(member.getId(), AssetType.POINT, YEAR_MONTH)
+                .orElseThrow();
+        assertThat(point.countOf(TransactionCategory.EVENT)).isEqualTo(1);
+        assertThat(point.getClosingBalance()).isEqualTo(1000L);
+    }
+}
@@ -41,6 +41,12 @@ class AssetRecorderTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private AssetHistoryBatchWriter batchWriter;
+
+    @Mock
+    private AssetMonthlySummaryRecorder monthlySummaryRecorder;
+
     @Captor
     private ArgumentCaptor<AssetHistory> captor;
 
@@ -50,7 +56,8 @@ class AssetRecorderTest {
     void setUp() {
         meterRegistry = new SimpleMeterRegistry();
         assetRecorder = new AssetRecorderImpl(
-                assetHistoryRepository, memberRepository, meterRegistry
+                assetHistoryRepository, memberRepository, meterRegistry,
+                batchWriter, monthlySummaryRecorder, AssetHistoryWriteMode.IMMEDIATE
         );
         member = MemberFixture.createMember(1L);
 
@@ -79,6 +86,7 @@ class AssetRecorderTest {
             assertThat(saved.getMember()).isEqualTo(member);
             assertThat(saved.getTransactionDetail()).isNull();
             assertThat(saved.getAmount()).isEqualTo(amount);
+            verify(monthlySummaryRecorder).accumulate(saved);
         }
     }
 
@@ -361,6 +369,7 @@ class AssetRecorderTest {
                     .isInstanceOf(DataIntegrityViolationException.class);
 
             verify(assetHistoryRepository, never()).save(any());
+            verifyNoInteractions(monthlySummaryRecorder);
 
             // 메트릭 검증
             assertThat(meterRegistry.get("idempotency_duplicate_blocked_total")
@@ -387,4 +396,40 @@ class AssetRecorderTest {
             verify(assetHistoryRepository, times(1)).save(any());
         }
     }
+
+    @Nested
+    @DisplayName("BATCHED 모드")
+    class BatchedModeTest {
+
+        private AssetRecorderImpl batchedRecorder;
+
+        @BeforeEach
+        void setUpBatched() {
+            batchedRecorder = new AssetRecorderImpl(
+                    assetHistoryRepository, memberRepository, meterRegistry,
+                    batchWriter, monthlySummaryRecorder, AssetHistoryWriteMode.BATCHED
+            );
+        }
+
+        @Test
+        @DisplayName("성공 : 회원 조회·멱등키 조회 없이 참조로 만든 내역을 배치 버퍼에 추가")
+        void record_batched_enqueuesWithMemberReference() {
+            // given
+            given(memberRepository.getReferenceById(member.getId())).willReturn(member);
+
+            // when
+            batchedRecorder.recordSettlement(member.getId(), 300L, 7000L, 3000L);
+
+            // then
+            verify(batchWriter).enqueue(captor.capture());
+            assertThat(captor.getValue().getMember()).isEqualTo(member);
+            assertThat(captor.getValue().getSourceId()).isEqualTo(300L);
+            // 월 집계는 배치 기록기가 커밋 직전 INSERT 와 함께 누적
+            verifyNoInteractions(monthlySummaryRecorder);
+
+            verify(memberRepository, never()).findById(any());
+            verify(assetHistoryRepository, never()).existsByIdempotencyKey(any());
+            verify(assetHistoryRepository, never()).save(any());
+        }
+    }
 }
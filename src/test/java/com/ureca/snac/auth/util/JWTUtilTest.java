@@ -0,0 +1,118 @@
+package com.ureca.snac.auth.util;
+
+import com.ureca.snac.auth.dto.JwtClaims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JWTUtil 단위 테스트
+ * <p>
+ * 단일 파싱으로 클레임 추출
+ * 검증 완료 access 토큰 캐시 적중/미적중
+ */
+@DisplayName("JWTUtil 단위 테스트")
+class JWTUtilTest {
+
+    private static final String SECRET = "test-jwt-secret-key-for-unit-test-minimum-256-bits";
+    private static final long ONE_HOUR_MS = 3_600_000L;
+
+    private JWTUtil jwtUtil;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtUtil = new JWTUtil(SECRET, 100, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("parse 메서드")
+    class ParseTest {
+
+        @Test
+        @DisplayName("성공 : 한 번의 파싱으로 모든 클레임 추출")
+        void parse_extractsAllClaims() {
+            // given
+            String token = jwtUtil.createJwtForSocial("social", "user@snac.com", "USER", "naver", "n-1", ONE_HOUR_MS);
+
+            // when
+            JwtClaims claims = jwtUtil.parse(token);
+
+            // then
+            assertThat(claims.category()).isEqualTo("social");
+            assertThat(claims.username()).isEqualTo("user@snac.com");
+            assertThat(claims.role()).isEqualTo("USER");
+            assertThat(claims.provider()).isEqualTo("naver");
+            assertThat(claims.providerId()).isEqualTo("n-1");
+            assertThat(meterRegistry.get("jwt_verification_duration").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("실패 : 만료 토큰은 ExpiredJwtException")
+        void parse_expired_throws() {
+            String token = jwtUtil.createJwt("access", "user@snac.com", "USER", -1000L);
+
+            assertThatThrownBy(() -> jwtUtil.parse(token))
+                    .isInstanceOf(ExpiredJwtException.class);
+        }
+
+        @Test
+        @DisplayName("실패 : 다른 키로 서명된 토큰은 JwtException")
+        void parse_wrongSignature_throws() {
+            JWTUtil otherUtil = new JWTUtil("another-secret-key-for-unit-test-minimum-256-bits!", 100, meterRegistry);
+            String token = otherUtil.createJwt("access", "user@snac.com", "USER", ONE_HOUR_MS);
+
+            assertThatThrownBy(() -> jwtUtil.parse(token))
+                    .isInstanceOf(JwtException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("parseAccessToken 메서드")
+    class ParseAccessTokenTest {
+
+        @Test
+        @DisplayName("성공 : 두 번째 요청부터 서명 검증 없이 캐시 적중")
+        void parseAccessToken_secondCall_cacheHit() {
+            // given
+            String token = jwtUtil.createJwt("access", "user@snac.com", "USER", ONE_HOUR_MS);
+
+            // when
+            JwtClaims first = jwtUtil.parseAccessToken(token);
+            JwtClaims second = jwtUtil.parseAccessToken(token);
+
+            // then
+            assertThat(second).isSameAs(first);
+            assertThat(cacheCount("hit")).isEqualTo(1);
+            assertThat(cacheCount("miss")).isEqualTo(1);
+            assertThat(meterRegistry.get("jwt_verification_duration").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 : access 가 아닌 토큰은 캐시하지 않음")
+        void parseAccessToken_refreshToken_notCached() {
+            // given
+            String token = jwtUtil.createJwt("refresh", "user@snac.com", "USER", ONE_HOUR_MS);
+
+            // when
+            jwtUtil.parseAccessToken(token);
+            jwtUtil.parseAccessToken(token);
+
+            // then
+            assertThat(cacheCount("hit")).isZero();
+            assertThat(cacheCount("miss")).isEqualTo(2);
+        }
+    }
+
+    private double cacheCount(String result) {
+        return meterRegistry.get("jwt_verified_cache_total").tag("result", result).counter().count();
+    }
+}
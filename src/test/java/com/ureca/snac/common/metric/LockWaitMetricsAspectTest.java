@@ -0,0 +1,107 @@
+package com.ureca.snac.common.metric;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.LockModeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LockWaitMetricsAspect 단위 테스트")
+class LockWaitMetricsAspectTest {
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("성공 : @Lock 메서드는 락 대기 시간을 acquired 로 기록")
+    void lockedMethod_recordsAcquired() {
+        // given
+        SampleLockRepository repository = proxy(null);
+
+        // when
+        repository.findLockedById(1L);
+
+        // then
+        assertThat(meterRegistry.get("db_lock_wait")
+                .tag("repository", "SampleLockRepository")
+                .tag("method", "findLockedById")
+                .tag("mode", "pessimistic_write")
+                .tag("result", "acquired")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공 : @Lock 없는 메서드는 계측하지 않음")
+    void plainMethod_notRecorded() {
+        // given
+        SampleLockRepository repository = proxy(null);
+
+        // when
+        repository.findById(1L);
+
+        // then
+        assertThat(meterRegistry.find("db_lock_wait").timers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실패 : 교착(1213)은 deadlock 으로 분류해 실패 건수 기록 후 예외 전파")
+    void deadlock_recordsFailureAndRethrows() {
+        // given
+        CannotAcquireLockException deadlock = new CannotAcquireLockException("deadlock",
+                new SQLException("Deadlock found when trying to get lock", "40001", 1213));
+        SampleLockRepository repository = proxy(deadlock);
+
+        // when, then
+        assertThatThrownBy(() -> repository.findLockedById(1L)).isSameAs(deadlock);
+        assertThat(meterRegistry.get("db_lock_failure_total")
+                .tag("cause", "deadlock")
+                .counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("db_lock_wait")
+                .tag("result", "deadlock")
+                .timer().count()).isEqualTo(1);
+    }
+
+    // failure 가 있으면 잠금 조회에서 해당 예외를 던지는 Repository
+    private SampleLockRepository proxy(RuntimeException failure) {
+        SampleLockRepository target = new SampleLockRepository() {
+            @Override
+            public String findLockedById(Long id) {
+                if (failure != null) {
+                    throw failure;
+                }
+                return "locked";
+            }
+
+            @Override
+            public String findById(Long id) {
+                return "plain";
+            }
+        };
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addInterface(SampleLockRepository.class);
+        factory.addAspect(new LockWaitMetricsAspect(meterRegistry));
+        return factory.getProxy();
+    }
+}
+
+// 포인트컷(com.ureca.snac..*Repository) 대상 테스트용 Repository
+interface SampleLockRepository {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    String findLockedById(Long id);
+
+    String findById(Long id);
+}
@@ -0,0 +1,151 @@
+package com.ureca.snac.infra.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TossRestClientConfig 커넥션 풀 테스트
+ * <p>
+ * 로컬 스텁 게이트웨이(JDK HttpServer)로 연속 호출 시 커넥션 재사용과 풀 지표를 검증하고,
+ * 매 요청 연결 종료(Connection: close) 대비 호출당 지연을 로그로 남긴다.
+ */
+@Slf4j
+@DisplayName("TossRestClientConfig 커넥션 풀 테스트")
+class TossRestClientConfigTest {
+
+    private static final int CALL_COUNT = 50;
+    private static final String RESPONSE_BODY = "{\"status\":\"DONE\"}";
+
+    private HttpServer stubGateway;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private SimpleMeterRegistry meterRegistry;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RestClient restClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubGateway = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubGateway.createContext("/v1/payments", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            if (exchange.getRequestURI().getPath().endsWith("/close")) {
+                exchange.getResponseHeaders().add("Connection", "close");
+            }
+            byte[] body = RESPONSE_BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        stubGateway.start();
+
+        String baseUrl = "http://localhost:" + stubGateway.getAddress().getPort() + "/";
+        TossPaymentProperties properties = new TossPaymentProperties(baseUrl, "test-secret",
+                new TossPaymentProperties.Pool(10, 10, Duration.ofSeconds(30), Duration.ofMinutes(5)));
+        TossRestClientConfig config = new TossRestClientConfig(properties, RestClient.builder());
+
+        meterRegistry = new SimpleMeterRegistry();
+        connectionManager = config.tossConnectionManager(meterRegistry);
+        httpClient = config.tossHttpClient(connectionManager);
+        restClient = config.tossRestClient(
+                config.tossPaymentsErrorHandler(new ObjectMapper()),
+                config.tossLoggingInterceptor(),
+                httpClient
+        );
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        stubGateway.stop(0);
+    }
+
+    @Test
+    @DisplayName("성공 : 연속 호출은 하나의 커넥션을 재사용")
+    void sequentialCalls_reuseSingleConnection() {
+        // when
+        for (int i = 0; i < CALL_COUNT; i++) {
+            callStub("v1/payments/confirm");
+        }
+
+        // then
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("성공 : 호출 후 풀 지표 leased 0, available 1, pending 0")
+    void poolGauges_reportLeasedPendingAvailable() {
+        // when
+        callStub("v1/payments/confirm");
+
+        // then
+        assertThat(poolConnections("leased")).isZero();
+        assertThat(poolConnections("available")).isEqualTo(1);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.pending")
+                .tag("httpclient", TossRestClientConfig.POOL_METRIC_NAME).gauge().value()).isZero();
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.route.max.default")
+                .tag("httpclient", TossRestClientConfig.POOL_METRIC_NAME).gauge().value()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("성공 : Connection: close 응답은 매 요청 새 연결, 재사용 대비 호출당 지연 기록")
+    void pooledCalls_comparedWithConnectionPerRequest() {
+        // given - 워밍업
+        callStub("v1/payments/confirm");
+        callStub("v1/payments/close");
+
+        // when
+        long pooledNanos = measure("v1/payments/confirm");
+        long perRequestNanos = measure("v1/payments/close");
+
+        // then
+        log.info("[Toss 커넥션 풀] 호출당 평균 지연. pooled: {}us, connectionPerRequest: {}us",
+                pooledNanos / CALL_COUNT / 1000, perRequestNanos / CALL_COUNT / 1000);
+        assertThat(clientPorts.size()).isGreaterThan(CALL_COUNT);
+    }
+
+    private long measure(String uri) {
+        long start = System.nanoTime();
+        for (int i = 0; i < CALL_COUNT; i++) {
+            callStub(uri);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void callStub(String uri) {
+        String body = restClient.post()
+                .uri(uri)
+                .body("{}")
+                .retrieve()
+                .body(String.class);
+        assertThat(body).isEqualTo(RESPONSE_BODY);
+    }
+
+    private double poolConnections(String state) {
+        return meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("httpclient", TossRestClientConfig.POOL_METRIC_NAME)
+                .tag("state", state)
+                .gauge().value();
+    }
+}
@@ -0,0 +1,99 @@
+package com.ureca.snac.integration;
+
+import com.ureca.snac.board.entity.constants.Carrier;
+import com.ureca.snac.board.entity.constants.PriceRange;
+import com.ureca.snac.support.IntegrationTestSupport;
+import com.ureca.snac.trade.controller.request.BuyerFilterRequest;
+import com.ureca.snac.trade.service.interfaces.BuyFilterService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import static com.ureca.snac.common.RedisKeyConstants.BUYER_FILTER_PREFIX;
+import static com.ureca.snac.common.RedisKeyConstants.BUYER_FILTER_ZSET_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 구매자 필터 SORTED_SET 저장 방식 통합 테스트
+ * (통신사, 데이터량) Sorted Set 의 최대 가격 score 로 매칭하고,
+ * 필터 교체/삭제 시 이전 버킷에서 빠지는지 실제 Redis 로 검증
+ */
+@DisplayName("구매자 필터 SORTED_SET 저장 통합 테스트")
+@TestPropertySource(properties = "trade.buyer-filter.storage=SORTED_SET")
+class BuyerFilterSortedSetIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private BuyFilterService buyFilterService;
+
+    @Nested
+    @DisplayName("매칭")
+    class MatchingTest {
+
+        @Test
+        @DisplayName("성공 : 판매가 이상 최대 가격 필터만 매칭, ALL은 항상 포함, 문자열 키는 쓰지 않음")
+        void findMatchingBuyers_byScoreRange() {
+            // given
+            buyFilterService.saveBuyerFilter("cheap", filter(Carrier.SKT, 2, PriceRange.P0_1000, true));
+            buyFilterService.saveBuyerFilter("middle", filter(Carrier.SKT, 2, PriceRange.P0_2000, true));
+            buyFilterService.saveBuyerFilter("any", filter(Carrier.SKT, 2, PriceRange.ALL, true));
+            buyFilterService.saveBuyerFilter("kt", filter(Carrier.KT, 2, PriceRange.ALL, true));
+            buyFilterService.saveBuyerFilter("inactive", filter(Carrier.SKT, 2, PriceRange.ALL, false));
+
+            // when
+            var buyers = buyFilterService.findMatchingBuyers(Carrier.SKT, 2, 1500);
+
+            // then
+            assertThat(buyers).containsExactly("middle", "any");
+            assertThat(buyFilterService.findAllBuyerFilters()).hasSize(5);
+            assertThat(redisTemplate.hasKey(BUYER_FILTER_PREFIX + "cheap")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("교체/삭제")
+    class ReplaceAndDeleteTest {
+
+        @Test
+        @DisplayName("성공 : 필터 교체 시 이전 버킷에서 제거")
+        void saveBuyerFilter_replace_movesBucket() {
+            // given
+            buyFilterService.saveBuyerFilter("buyer", filter(Carrier.SKT, 2, PriceRange.ALL, true));
+
+            // when
+            buyFilterService.saveBuyerFilter("buyer", filter(Carrier.LG, 1, PriceRange.P0_1000, true));
+
+            // then
+            assertThat(buyFilterService.findMatchingBuyers(Carrier.SKT, 2, 500)).isEmpty();
+            assertThat(buyFilterService.findMatchingBuyers(Carrier.LG, 1, 500)).containsExactly("buyer");
+            assertThat(buyFilterService.findAllBuyerFilters().get("buyer").getCarrier()).isEqualTo(Carrier.LG);
+        }
+
+        @Test
+        @DisplayName("성공 : 연결 해제 삭제 시 버킷과 회원 Hash 모두에서 제거")
+        void deleteBuyerFilterByUsername_removesFromBucketAndHash() {
+            // given
+            buyFilterService.saveBuyerFilter("buyer", filter(Carrier.SKT, 2, PriceRange.ALL, true));
+
+            // when
+            buyFilterService.deleteBuyerFilterByUsername("buyer");
+
+            // then
+            assertThat(buyFilterService.findMatchingBuyers(Carrier.SKT, 2, 500)).isEmpty();
+            assertThat(buyFilterService.findAllBuyerFilters()).isEmpty();
+            assertThat(redisTemplate.opsForZSet().size(BUYER_FILTER_ZSET_PREFIX + "SKT:2")).isZero();
+        }
+    }
+
+    // ================= Helper ====================
+
+    private BuyerFilterRequest filter(Carrier carrier, Integer dataAmount, PriceRange priceRange, boolean active) {
+        BuyerFilterRequest filter = new BuyerFilterRequest();
+        filter.setCarrier(carrier);
+        filter.setDataAmount(dataAmount);
+        filter.setPriceRange(priceRange);
+        filter.setActive(active);
+        return filter;
+    }
+}
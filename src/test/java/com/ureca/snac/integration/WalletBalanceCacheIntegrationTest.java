@@ -0,0 +1,108 @@
+package com.ureca.snac.integration;
+
+import com.ureca.snac.common.RedisKeyConstants;
+import com.ureca.snac.member.entity.Member;
+import com.ureca.snac.support.IntegrationTestSupport;
+import com.ureca.snac.wallet.dto.CompositeBalanceResult;
+import com.ureca.snac.wallet.dto.WalletAvailableBalanceResponse;
+import com.ureca.snac.wallet.service.WalletBalanceCache;
+import com.ureca.snac.wallet.service.WalletService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지갑 잔액 캐시 통합 테스트
+ * 조회 시 Redis 스냅샷을 채우고, 잔액 변경 커밋 후 무효화되어 다음 조회에 새 잔액이 보이는지 검증
+ */
+@DisplayName("지갑 잔액 캐시 통합 테스트")
+@TestPropertySource(properties = "wallet.balance-cache.enabled=true")
+class WalletBalanceCacheIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private WalletBalanceCache walletBalanceCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Member member;
+
+    @BeforeEach
+    void setUpMember() {
+        member = createMemberWithWallet("cache_");
+        walletService.depositMoney(member.getId(), 10_000L);
+    }
+
+    @Nested
+    @DisplayName("read-through 조회")
+    class ReadThroughTest {
+
+        @Test
+        @DisplayName("성공 : 첫 조회만 DB에서 읽어 스냅샷 저장, 이후 조회는 캐시 적중")
+        void summary_populatesThenHits() {
+            // given
+            double missesBefore = cacheCount("miss");
+
+            // when
+            WalletAvailableBalanceResponse first = walletService.getWalletSummary(member.getId());
+            WalletAvailableBalanceResponse second = walletService.getWalletSummary(member.getId());
+
+            // then
+            assertThat(first.moneyBalance()).isEqualTo(10_000L);
+            assertThat(second).isEqualTo(first);
+            assertThat(redisTemplate.hasKey(snapshotKey())).isTrue();
+            assertThat(cacheCount("miss") - missesBefore).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("성공 : 잔액 변경 커밋 후 스냅샷 무효화, 다음 조회에 새 잔액")
+        void balanceChange_evictsSnapshotAfterCommit() {
+            // given
+            walletService.getWalletSummary(member.getId());
+
+            // when
+            walletService.depositMoney(member.getId(), 5_000L);
+
+            // then
+            assertThat(redisTemplate.hasKey(snapshotKey())).isFalse();
+            assertThat(walletService.getWalletSummary(member.getId()).moneyBalance()).isEqualTo(15_000L);
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화 경쟁")
+    class GenerationFenceTest {
+
+        @Test
+        @DisplayName("성공 : DB 조회 중 무효화가 끼어들면 이전 값으로 스냅샷을 채우지 않음")
+        void evictDuringLoad_skipsStalePopulate() {
+            // when — loader 실행 중 다른 트랜잭션의 커밋 후 무효화 발생
+            CompositeBalanceResult loaded = walletBalanceCache.get(member.getId(), () -> {
+                walletBalanceCache.evictAfterCommit(member.getId());
+                return new CompositeBalanceResult(10_000L, 0L, 0L, 0L);
+            });
+
+            // then
+            assertThat(loaded.moneyBalance()).isEqualTo(10_000L);
+            assertThat(redisTemplate.hasKey(snapshotKey())).isFalse();
+        }
+    }
+
+    private String snapshotKey() {
+        return RedisKeyConstants.WALLET_SNAPSHOT_PREFIX + member.getId();
+    }
+
+    private double cacheCount(String result) {
+        var counter = meterRegistry.find("wallet_balance_cache_total").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
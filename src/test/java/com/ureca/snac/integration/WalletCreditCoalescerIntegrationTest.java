@@ -0,0 +1,151 @@
+package com.ureca.snac.integration;
+
+import com.ureca.snac.asset.entity.AssetHistory;
+import com.ureca.snac.member.entity.Member;
+import com.ureca.snac.support.IntegrationTestSupport;
+import com.ureca.snac.wallet.dto.WalletCredit;
+import com.ureca.snac.wallet.repository.WalletPendingCreditRepository;
+import com.ureca.snac.wallet.service.WalletCreditCoalescer;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 지갑 입금 묶음 반영 통합 테스트
+ * 같은 판매자에게 동시에 몰린 입금이 유실 없이 반영되고,
+ * 자산 내역은 건마다 남으면서 지갑 락 획득 횟수는 입금 건수보다 적은지 검증
+ */
+@Slf4j
+@DisplayName("지갑 입금 묶음 반영 통합 테스트")
+@TestPropertySource(properties = {
+        "wallet.credit-coalescer.enabled=true",
+        "wallet.credit-coalescer.window-ms=50"
+})
+class WalletCreditCoalescerIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private WalletCreditCoalescer walletCreditCoalescer;
+
+    @Autowired
+    private WalletPendingCreditRepository pendingCreditRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate txTemplate;
+    private Member seller;
+
+    private static final long UNIT_AMOUNT = 1_000L;
+    private static final int THREAD_COUNT = 30;
+
+    @BeforeEach
+    void setUp() {
+        txTemplate = new TransactionTemplate(transactionManager);
+        seller = createMemberWithWallet("coalesce_");
+    }
+
+    @Nested
+    @DisplayName("동시 판매 대금 입금")
+    class ConcurrentCreditTest {
+
+        @Test
+        @DisplayName("동시성 : N건 동시 입금 -> 잔액 N회 반영, 자산 내역 N건, 지갑 락은 N회 미만")
+        void concurrentCredits_appliedInBatches() throws Exception {
+            // given
+            DistributionSummary batchSize = meterRegistry.get("wallet_credit_batch_size").summary();
+            long batchesBefore = batchSize.count();
+
+            // when
+            List<Long> balances = runConcurrently(THREAD_COUNT);
+
+            // then
+            long batches = batchSize.count() - batchesBefore;
+            log.info("[입금 묶음 반영] 동시 입금 {}건, 지갑 락 {}회", THREAD_COUNT, batches);
+
+            assertThat(walletRepository.findByMemberId(seller.getId()).orElseThrow().getMoneyBalance())
+                    .isEqualTo(UNIT_AMOUNT * THREAD_COUNT);
+            assertThat(sellerHistories()).hasSize(THREAD_COUNT);
+            // 각 호출자는 서로 다른 순차 잔액을 받음
+            assertThat(balances).doesNotHaveDuplicates()
+                    .contains(UNIT_AMOUNT * THREAD_COUNT);
+            assertThat(batches).isLessThan(THREAD_COUNT);
+            assertThat(pendingCreditRepository.count()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("호출자 트랜잭션 롤백")
+    class RollbackTest {
+
+        @Test
+        @DisplayName("실패 : 호출자 롤백 시 대기 입금도 롤백, Future 예외 완료")
+        void callerRollback_discardsCredit() {
+            // when
+            CompletableFuture<Long> future = txTemplate.execute(status -> {
+                CompletableFuture<Long> result = walletCreditCoalescer.credit(
+                        WalletCredit.tradeSell(seller.getId(), 1L, "롤백 판매 대금", UNIT_AMOUNT));
+                status.setRollbackOnly();
+                return result;
+            });
+
+            // then
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class);
+            assertThat(pendingCreditRepository.count()).isZero();
+            assertThat(walletRepository.findByMemberId(seller.getId()).orElseThrow().getMoneyBalance())
+                    .isZero();
+        }
+    }
+
+    // ================= Helper ====================
+
+    private List<AssetHistory> sellerHistories() {
+        return assetHistoryRepository.findAll().stream()
+                .filter(history -> history.getMember().getId().equals(seller.getId()))
+                .toList();
+    }
+
+    // 각 스레드가 서로 다른 거래로 입금 후 반영 잔액 반환
+    private List<Long> runConcurrently(int threadCount) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Future<CompletableFuture<Long>>> submitted = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++) {
+            long tradeId = i + 1;
+            submitted.add(executor.submit(() -> {
+                latch.await();
+                return txTemplate.execute(status -> walletCreditCoalescer.credit(
+                        WalletCredit.tradeSell(seller.getId(), tradeId, "동시 판매 대금 " + tradeId, UNIT_AMOUNT)));
+            }));
+        }
+        latch.countDown();
+
+        List<Long> balances = new ArrayList<>();
+        for (Future<CompletableFuture<Long>> future : submitted) {
+            balances.add(future.get(30, TimeUnit.SECONDS).get(30, TimeUnit.SECONDS));
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(45, TimeUnit.SECONDS);
+        return balances;
+    }
+}
@@ -0,0 +1,195 @@
+package com.ureca.snac.integration;
+
+import com.ureca.snac.member.entity.Member;
+import com.ureca.snac.support.IntegrationTestSupport;
+import com.ureca.snac.wallet.entity.PostingAccount;
+import com.ureca.snac.wallet.entity.Wallet;
+import com.ureca.snac.wallet.entity.WalletPosting;
+import com.ureca.snac.wallet.repository.WalletPostingRepository;
+import com.ureca.snac.wallet.service.WalletLedger;
+import com.ureca.snac.wallet.service.WalletService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * 지갑 원장(LEDGER 모드) 통합 테스트
+ * 입금이 지갑 행 대신 분개로만 쌓여도 조회 잔액은 정확하고,
+ * 접기 후 스냅샷이 분개 합과 일치하며 잠금 경로 차감이 꼬리까지 반영해 판단하는지 검증
+ */
+@Slf4j
+@DisplayName("지갑 원장 통합 테스트")
+@TestPropertySource(properties = {
+        "wallet.update-mode.deposit-money=LEDGER",
+        "wallet.update-mode.deposit-point=LEDGER"
+})
+class WalletLedgerIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private WalletLedger walletLedger;
+
+    @Autowired
+    private WalletPostingRepository postingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member member;
+
+    private static final long UNIT_AMOUNT = 1_000L;
+    private static final int THREAD_COUNT = 30;
+
+    @BeforeEach
+    void setUpMember() {
+        postingRepository.deleteAllInBatch();
+        member = createMemberWithWallet("ledger_");
+    }
+
+    @Nested
+    @DisplayName("동시 입금")
+    class ConcurrentCreditTest {
+
+        @Test
+        @DisplayName("동시성 : N건 동시 입금 -> 분개 2N건(다리 합 0), 접기 전에도 조회 잔액 정확")
+        void concurrentCredits_postedAsBalancedJournals() throws InterruptedException {
+            // when
+            long elapsed = runConcurrently(() -> walletService.depositMoney(member.getId(), UNIT_AMOUNT));
+
+            // then
+            log.info("[지갑 원장] LEDGER 동시 입금 {}건, {}ms", THREAD_COUNT, elapsed);
+            assertThat(walletService.getMoneyBalance(member.getId())).isEqualTo(UNIT_AMOUNT * THREAD_COUNT);
+
+            List<WalletPosting> postings = postingRepository.findAll();
+            assertThat(postings).hasSize(THREAD_COUNT * 2);
+            Map<String, Long> journalSums = postings.stream()
+                    .collect(Collectors.groupingBy(WalletPosting::getJournalId,
+                            Collectors.summingLong(WalletPosting::getAmount)));
+            assertThat(journalSums).hasSize(THREAD_COUNT).allSatisfy((journalId, sum) -> assertThat(sum).isZero());
+        }
+    }
+
+    @Nested
+    @DisplayName("접기")
+    class FoldTest {
+
+        @Test
+        @DisplayName("성공 : 주기 접기 후 스냅샷 = 회원 지갑 분개 합, 미반영 꼬리 없음")
+        void foldPending_movesTailIntoSnapshot() {
+            // given
+            walletService.depositMoney(member.getId(), 3_000L);
+            walletService.depositPoint(member.getId(), 500L);
+
+            // when
+            walletLedger.foldPending();
+
+            // then
+            Wallet wallet = findWallet();
+            assertThat(wallet.getMoneyBalance()).isEqualTo(3_000L);
+            assertThat(wallet.getPointBalance()).isEqualTo(500L);
+            assertThat(postingRepository.findUnfoldedByMemberId(member.getId())).isEmpty();
+            assertThat(postingRepository.findAll()).filteredOn(p -> p.getAccount() == PostingAccount.MEMBER_WALLET)
+                    .allSatisfy(p -> assertThat(p.isFolded()).isTrue());
+        }
+
+        @Test
+        @DisplayName("성공 : 더 높은 ID 가 접힌 뒤 커밋된 낮은 ID 분개도 꼬리로 남아 다음 접기에 반영")
+        void lateLowerIdPosting_notLost() {
+            // given : 높은 ID 분개가 먼저 커밋되어 접힘
+            walletService.depositMoney(member.getId(), 1_000L);
+            long maxId = postingRepository.findAll().stream().mapToLong(WalletPosting::getId).max().orElseThrow();
+            long higherId = maxId + 10;
+            long lowerId = maxId + 5;
+            insertMemberCredit(higherId, 2_000L);
+            walletLedger.foldPending();
+            assertThat(findWallet().getMoneyBalance()).isEqualTo(3_000L);
+
+            // when : 먼저 발급된 낮은 ID 분개가 늦게 커밋
+            insertMemberCredit(lowerId, 500L);
+
+            // then
+            assertThat(postingRepository.findUnfoldedByMemberId(member.getId()))
+                    .extracting(WalletPosting::getId).containsExactly(lowerId);
+            assertThat(walletService.getMoneyBalance(member.getId())).isEqualTo(3_500L);
+
+            walletLedger.foldPending();
+            assertThat(findWallet().getMoneyBalance()).isEqualTo(3_500L);
+            assertThat(postingRepository.findUnfoldedByMemberId(member.getId())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공 : 잠금 경로 출금은 접기 전 입금까지 포함해 잔액 판단")
+        void lockingWithdraw_foldsTailBeforeCheck() {
+            // given
+            walletService.depositMoney(member.getId(), 5_000L);
+
+            // when
+            long balanceAfter = walletService.withdrawMoney(member.getId(), 4_000L);
+
+            // then
+            assertThat(balanceAfter).isEqualTo(1_000L);
+            assertThat(findWallet().getMoneyBalance()).isEqualTo(1_000L);
+            assertThat(postingRepository.findUnfoldedByMemberId(member.getId())).isEmpty();
+        }
+    }
+
+    // ================= Helper ====================
+
+    // 외부 계정 다리 없이 회원 지갑 다리만 지정 ID 로 삽입 (커밋 순서 재현용)
+    private void insertMemberCredit(long postingId, long amount) {
+        jdbcTemplate.update("""
+                INSERT INTO wallet_posting (wallet_posting_id, journal_id, account, member_id, asset_type,
+                                            bucket, amount, reference, folded, created_at, updated_at)
+                VALUES (?, ?, 'MEMBER_WALLET', ?, 'MONEY', 'BALANCE', ?, 'late-commit', false, NOW(), NOW())
+                """, postingId, UUID.randomUUID().toString(), member.getId(), amount);
+    }
+
+    private Wallet findWallet() {
+        return walletRepository.findByMemberId(member.getId()).orElseThrow();
+    }
+
+    private long runConcurrently(Runnable task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            futures.add(executor.submit(() -> {
+                latch.await();
+                task.run();
+                return null;
+            }));
+        }
+
+        long start = System.nanoTime();
+        latch.countDown();
+        for (Future<?> future : futures) {
+            try {
+                future.get(30, TimeUnit.SECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                fail("원장 입금 실패: " + e);
+            }
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        executor.shutdown();
+        executor.awaitTermination(45, TimeUnit.SECONDS);
+        return elapsedMs;
+    }
+}
@@ -0,0 +1,73 @@
+package com.ureca.snac.integration;
+
+import com.ureca.snac.asset.entity.AssetType;
+import com.ureca.snac.asset.service.AssetRecorder;
+import com.ureca.snac.member.entity.Member;
+import com.ureca.snac.support.IntegrationTestSupport;
+import com.ureca.snac.wallet.entity.WalletReconciliationDiscrepancy;
+import com.ureca.snac.wallet.repository.WalletPostingRepository;
+import com.ureca.snac.wallet.repository.WalletReconciliationDiscrepancyRepository;
+import com.ureca.snac.wallet.scheduler.WalletReconciliationScheduler;
+import com.ureca.snac.wallet.service.WalletService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지갑-자산 내역 대사 통합 테스트
+ * 내역과 함께 입금된 지갑은 통과하고, 내역 없이 바뀐 지갑만 불일치로 기록되는지 검증
+ */
+@DisplayName("지갑 대사 통합 테스트")
+class WalletReconciliationIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private WalletReconciliationScheduler reconciliationScheduler;
+
+    @Autowired
+    private WalletReconciliationDiscrepancyRepository discrepancyRepository;
+
+    @Autowired
+    private WalletPostingRepository postingRepository;
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private AssetRecorder assetRecorder;
+
+    @BeforeEach
+    void setUp() {
+        discrepancyRepository.deleteAllInBatch();
+        postingRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("성공 : 내역 없이 입금된 지갑만 불일치로 기록")
+    void reconcile_reportsOnlyWalletWithoutHistory() {
+        // given
+        Member consistent = createMemberWithWallet("recon_ok_");
+        long balanceAfter = walletService.depositMoney(consistent.getId(), 10_000L);
+        assetRecorder.recordMoneyRecharge(consistent.getId(), 1L, 10_000L, balanceAfter);
+
+        Member inconsistent = createMemberWithWallet("recon_ng_");
+        walletService.depositMoney(inconsistent.getId(), 3_000L);
+
+        // when
+        reconciliationScheduler.reconcile();
+
+        // then
+        List<WalletReconciliationDiscrepancy> discrepancies = discrepancyRepository.findAll();
+        assertThat(discrepancies).singleElement().satisfies(discrepancy -> {
+            assertThat(discrepancy.getMemberId()).isEqualTo(inconsistent.getId());
+            assertThat(discrepancy.getAssetType()).isEqualTo(AssetType.MONEY);
+            assertThat(discrepancy.getWalletAmount()).isEqualTo(3_000L);
+            assertThat(discrepancy.getHistoryAmount()).isZero();
+            assertThat(discrepancy.getDifference()).isEqualTo(3_000L);
+        });
+    }
+}
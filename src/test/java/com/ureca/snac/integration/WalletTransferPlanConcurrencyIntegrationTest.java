@@ -0,0 +1,99 @@
+package com.ureca.snac.integration;
+
+import com.ureca.snac.member.entity.Member;
+import com.ureca.snac.support.IntegrationTestSupport;
+import com.ureca.snac.wallet.dto.WalletTransferPlan;
+import com.ureca.snac.wallet.service.WalletService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * 다중 지갑 이체 동시성 통합 테스트
+ * 두 회원이 서로에게 동시에 정산하는(잠금 방향이 반대인) 부하에서
+ * 회원 ID 오름차순 일괄 잠금으로 교착 없이 모두 성공하는지 검증
+ */
+@Slf4j
+@DisplayName("다중 지갑 이체 동시성 통합 테스트")
+class WalletTransferPlanConcurrencyIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private WalletService walletService;
+
+    private Member memberA;
+    private Member memberB;
+
+    private static final long INITIAL_BALANCE = 100_000L;
+    private static final long UNIT_AMOUNT = 1_000L;
+    private static final int THREAD_COUNT = 40;
+
+    @BeforeEach
+    void setUpMembers() {
+        memberA = createMemberWithWallet("transferA_");
+        memberB = createMemberWithWallet("transferB_");
+        walletService.depositMoney(memberA.getId(), INITIAL_BALANCE);
+        walletService.depositMoney(memberB.getId(), INITIAL_BALANCE);
+    }
+
+    @Test
+    @DisplayName("동시성 : 양방향 동시 정산 -> 교착 없이 전부 성공, 총액 보존")
+    void opposingSettlements_completeWithoutDeadlock() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            Member payer = (i % 2 == 0) ? memberA : memberB;
+            Member payee = (i % 2 == 0) ? memberB : memberA;
+            futures.add(executor.submit(() -> {
+                latch.await();
+                walletService.executeTransferPlan(settlement(payer, payee));
+                return null;
+            }));
+        }
+
+        // when
+        long start = System.nanoTime();
+        latch.countDown();
+        for (Future<?> future : futures) {
+            try {
+                future.get(30, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                fail("정산 실패 (교착 또는 락 대기 초과): " + e.getCause());
+            } catch (TimeoutException e) {
+                fail("정산이 30초 내 완료되지 않음: " + e.getMessage());
+            }
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        executor.shutdown();
+        executor.awaitTermination(45, TimeUnit.SECONDS);
+
+        // then — 양방향 건수가 같으므로 각자 초기 잔액으로 복귀
+        log.info("[다중 지갑 이체] 양방향 동시 정산 {}건, {}ms", THREAD_COUNT, elapsedMs);
+        assertThat(moneyBalance(memberA)).isEqualTo(INITIAL_BALANCE);
+        assertThat(moneyBalance(memberB)).isEqualTo(INITIAL_BALANCE);
+    }
+
+    // 구매자 에스크로 이동 → 차감 → 판매자 입금 (거래 정산과 같은 모양)
+    private WalletTransferPlan settlement(Member payer, Member payee) {
+        return WalletTransferPlan.builder()
+                .moveCompositeToEscrow(payer.getId(), UNIT_AMOUNT, 0L)
+                .deductCompositeEscrow(payer.getId(), UNIT_AMOUNT, 0L)
+                .depositMoney(payee.getId(), UNIT_AMOUNT)
+                .build();
+    }
+
+    private long moneyBalance(Member member) {
+        return walletRepository.findByMemberId(member.getId()).orElseThrow().getMoneyBalance();
+    }
+}
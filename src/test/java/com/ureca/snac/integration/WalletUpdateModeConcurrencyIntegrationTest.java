@@ -0,0 +1,227 @@
+package com.ureca.snac.integration;
+
+import com.ureca.snac.member.entity.Member;
+import com.ureca.snac.support.IntegrationTestSupport;
+import com.ureca.snac.wallet.dto.WalletTransferPlan;
+import com.ureca.snac.wallet.entity.Wallet;
+import com.ureca.snac.wallet.exception.InsufficientBalanceException;
+import com.ureca.snac.wallet.service.ConditionalWalletUpdater;
+import com.ureca.snac.wallet.service.WalletService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * 지갑 잔액 변경 방식별 동시성 통합 테스트
+ * LOCKING(비관적 락) / CONDITIONAL(조건부 UPDATE) 모두 잔액 불변식을 지키는지 검증하고
+ * 같은 부하에서 소요 시간을 로그로 비교
+ */
+@Slf4j
+@DisplayName("지갑 잔액 변경 방식 동시성 통합 테스트")
+class WalletUpdateModeConcurrencyIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private WalletService walletService;  // 테스트 프로필 기본값 LOCKING
+
+    @Autowired
+    private ConditionalWalletUpdater conditionalWalletUpdater;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Member member;
+
+    private static final long UNIT_AMOUNT = 1_000L;
+    private static final int THREAD_COUNT = 50;
+
+    @BeforeEach
+    void setUpMember() {
+        member = createMemberWithWallet("mode_");
+    }
+
+    @Nested
+    @DisplayName("동시 입금")
+    class ConcurrentDepositTest {
+
+        @Test
+        @DisplayName("동시성 : LOCKING N건 동시 입금 -> 유실 없이 N회 반영")
+        void locking_shouldApplyAllDeposits() throws InterruptedException {
+            long elapsed = runConcurrently(() -> walletService.depositMoney(member.getId(), UNIT_AMOUNT), THREAD_COUNT);
+
+            log.info("[지갑 갱신 방식] LOCKING 동시 입금 {}건, {}ms", THREAD_COUNT, elapsed);
+            assertThat(findWallet().getMoneyBalance()).isEqualTo(UNIT_AMOUNT * THREAD_COUNT);
+        }
+
+        @Test
+        @DisplayName("동시성 : CONDITIONAL N건 동시 입금 -> 유실 없이 N회 반영")
+        void conditional_shouldApplyAllDeposits() throws InterruptedException {
+            long elapsed = runConcurrently(() -> conditionalWalletUpdater.depositMoney(member.getId(), UNIT_AMOUNT), THREAD_COUNT);
+
+            log.info("[지갑 갱신 방식] CONDITIONAL 동시 입금 {}건, {}ms", THREAD_COUNT, elapsed);
+            assertThat(findWallet().getMoneyBalance()).isEqualTo(UNIT_AMOUNT * THREAD_COUNT);
+        }
+    }
+
+    @Nested
+    @DisplayName("동시 에스크로 이동")
+    class ConcurrentEscrowTest {
+
+        // 잔액은 절반 건수만 감당 가능
+        private static final int AFFORDABLE = THREAD_COUNT / 2;
+
+        @Test
+        @DisplayName("동시성 : LOCKING 잔액 초과 동시 요청 -> 감당 가능한 건수만 성공, 음수 잔액 없음")
+        void locking_shouldNeverOverdraw() throws InterruptedException {
+            // given
+            walletService.depositMoney(member.getId(), UNIT_AMOUNT * AFFORDABLE);
+            AtomicInteger successCount = new AtomicInteger();
+            AtomicInteger insufficientCount = new AtomicInteger();
+
+            // when
+            long elapsed = runConcurrently(() -> {
+                try {
+                    walletService.moveCompositeToEscrow(member.getId(), UNIT_AMOUNT, 0L);
+                    successCount.incrementAndGet();
+                } catch (InsufficientBalanceException e) {
+                    insufficientCount.incrementAndGet();
+                }
+            }, THREAD_COUNT);
+
+            // then
+            log.info("[지갑 갱신 방식] LOCKING 동시 에스크로 이동 {}건, {}ms", THREAD_COUNT, elapsed);
+            assertEscrowInvariant(successCount.get(), insufficientCount.get());
+        }
+
+        @Test
+        @DisplayName("동시성 : CONDITIONAL 잔액 초과 동시 요청 -> 감당 가능한 건수만 성공, 음수 잔액 없음")
+        void conditional_shouldNeverOverdraw() throws InterruptedException {
+            // given
+            conditionalWalletUpdater.depositMoney(member.getId(), UNIT_AMOUNT * AFFORDABLE);
+            AtomicInteger successCount = new AtomicInteger();
+            AtomicInteger insufficientCount = new AtomicInteger();
+
+            // when
+            long elapsed = runConcurrently(() -> {
+                try {
+                    conditionalWalletUpdater.moveCompositeToEscrow(member.getId(), UNIT_AMOUNT, 0L);
+                    successCount.incrementAndGet();
+                } catch (InsufficientBalanceException e) {
+                    insufficientCount.incrementAndGet();
+                }
+            }, THREAD_COUNT);
+
+            // then
+            log.info("[지갑 갱신 방식] CONDITIONAL 동시 에스크로 이동 {}건, {}ms", THREAD_COUNT, elapsed);
+            assertEscrowInvariant(successCount.get(), insufficientCount.get());
+        }
+
+        private void assertEscrowInvariant(int successCount, int insufficientCount) {
+            Wallet wallet = findWallet();
+            assertThat(successCount).isEqualTo(AFFORDABLE);
+            assertThat(insufficientCount).isEqualTo(THREAD_COUNT - AFFORDABLE);
+            assertThat(wallet.getMoneyBalance()).isZero();
+            assertThat(wallet.getMoneyEscrow()).isEqualTo(UNIT_AMOUNT * AFFORDABLE);
+        }
+    }
+
+    @Nested
+    @DisplayName("같은 트랜잭션 혼합")
+    class MixedModeInTransactionTest {
+
+        @Test
+        @DisplayName("성공 : 지갑이 로드된 상태에서 CONDITIONAL 후 LOCKING -> 조건부 갱신을 덮어쓰지 않음")
+        void conditionalThenLocking_shouldNotOverwrite() {
+            // given
+            walletService.depositMoney(member.getId(), UNIT_AMOUNT * 10);
+            TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+
+            // when
+            txTemplate.executeWithoutResult(status -> {
+                // 영속성 컨텍스트에 지갑을 먼저 올려 둠
+                walletRepository.findByMemberId(member.getId()).orElseThrow();
+                conditionalWalletUpdater.withdrawMoney(member.getId(), UNIT_AMOUNT * 3);
+                walletService.depositMoney(member.getId(), UNIT_AMOUNT);
+            });
+
+            // then
+            assertThat(findWallet().getMoneyBalance()).isEqualTo(UNIT_AMOUNT * 8);
+        }
+
+        @Test
+        @DisplayName("성공 : CONDITIONAL 후 다중 지갑 이체 잠금 -> 조건부 갱신을 덮어쓰지 않음")
+        void conditionalThenTransferPlan_shouldNotOverwrite() {
+            // given
+            walletService.depositMoney(member.getId(), UNIT_AMOUNT * 10);
+            TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+
+            // when
+            txTemplate.executeWithoutResult(status -> {
+                walletRepository.findByMemberId(member.getId()).orElseThrow();
+                conditionalWalletUpdater.moveCompositeToEscrow(member.getId(), UNIT_AMOUNT * 4, 0L);
+                walletService.executeTransferPlan(WalletTransferPlan.builder()
+                        .depositMoney(member.getId(), UNIT_AMOUNT)
+                        .build());
+            });
+
+            // then
+            Wallet wallet = findWallet();
+            assertThat(wallet.getMoneyBalance()).isEqualTo(UNIT_AMOUNT * 7);
+            assertThat(wallet.getMoneyEscrow()).isEqualTo(UNIT_AMOUNT * 4);
+        }
+    }
+
+    // ================= Helper ====================
+
+    private Wallet findWallet() {
+        return walletRepository.findByMemberId(member.getId()).orElseThrow();
+    }
+
+    // 모든 태스크 완료까지 걸린 시간(ms) 반환
+    private long runConcurrently(Runnable task, int threadCount) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executor.submit(() -> {
+                try {
+                    latch.await();
+                    task.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+
+        long start = System.nanoTime();
+        latch.countDown();
+
+        for (Future<?> future : futures) {
+            try {
+                future.get(30, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                fail("동시성 태스크 실패: " + e.getCause());
+            } catch (TimeoutException e) {
+                fail("동시성 태스크가 30초 내 완료되지 않음: " + e.getMessage());
+            }
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        executor.shutdown();
+        executor.awaitTermination(45, TimeUnit.SECONDS);
+        return elapsedMs;
+    }
+}
@@ -0,0 +1,74 @@
+package com.ureca.snac.notification.listener;
+
+import com.ureca.snac.board.dto.CardDto;
+import com.ureca.snac.notification.dto.MatchingFanoutDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * NotificationListener 단위 테스트
+ * <p>
+ * 묶음 메시지를 펼치다 한 수신자 전송이 실패해도 나머지 수신자에게 보내고,
+ * 예외를 던지지 않아 묶음 전체가 다시 전달되지 않는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationListener 단위 테스트")
+class NotificationListenerTest {
+
+    @Mock
+    private SimpMessagingTemplate messaging;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private NotificationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new NotificationListener(messaging, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("onMatchingFanout 메서드")
+    class OnMatchingFanoutTest {
+
+        @Test
+        @DisplayName("성공 : 한 수신자 전송이 실패해도 나머지 수신자에게 전송하고 실패 수만 기록")
+        void onMatchingFanout_partialFailure_continues() {
+            // given
+            CardDto first = mock(CardDto.class);
+            CardDto second = mock(CardDto.class);
+            willThrow(new MessageDeliveryException("session closed"))
+                    .given(messaging).convertAndSendToUser(eq("bad"), eq("/queue/matching"), any(Object.class));
+
+            // when, then
+            assertThatCode(() -> listener.onMatchingFanout(
+                    new MatchingFanoutDto(List.of("a", "bad", "c"), List.of(first, second), System.currentTimeMillis())))
+                    .doesNotThrowAnyException();
+
+            verify(messaging).convertAndSendToUser("a", "/queue/matching", first);
+            verify(messaging).convertAndSendToUser("a", "/queue/matching", second);
+            verify(messaging).convertAndSendToUser("c", "/queue/matching", first);
+            verify(messaging).convertAndSendToUser("c", "/queue/matching", second);
+            assertThat(meterRegistry.get("matching_fanout_delivered_total").counter().count()).isEqualTo(4.0);
+            assertThat(meterRegistry.get("matching_fanout_failed_total").counter().count()).isEqualTo(1.0);
+        }
+    }
+}
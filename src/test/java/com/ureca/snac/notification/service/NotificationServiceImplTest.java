@@ -0,0 +1,128 @@
+package com.ureca.snac.notification.service;
+
+import com.ureca.snac.board.dto.CardDto;
+import com.ureca.snac.member.repository.MemberRepository;
+import com.ureca.snac.notification.dto.MatchingFanoutDto;
+import com.ureca.snac.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.List;
+
+import static com.ureca.snac.config.RabbitMQConfig.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * NotificationServiceImpl 매칭 알림 일괄 발행 단위 테스트
+ * <p>
+ * FANOUT: 수신자 목록을 최대 수신자 단위 묶음 메시지로 발행
+ * PER_RECIPIENT: (수신자, 판매글)마다 개별 메시지 발행
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationServiceImpl 단위 테스트")
+class NotificationServiceImplTest {
+
+    private static final int MAX_RECIPIENTS = 2;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private SessionAffinityDelivery affinityDelivery;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Nested
+    @DisplayName("sendMatchingNotifications 메서드")
+    class SendMatchingNotificationsTest {
+
+        @Test
+        @DisplayName("성공 : FANOUT 모드는 수신자를 최대 수신자 단위로 묶어 발행")
+        void fanout_chunksRecipients() {
+            // given
+            NotificationServiceImpl service = service(MatchingDeliveryMode.FANOUT);
+            CardDto card = mock(CardDto.class);
+
+            // when
+            service.sendMatchingNotifications(List.of("a", "b", "c", "d", "e"), List.of(card));
+
+            // then
+            ArgumentCaptor<MatchingFanoutDto> captor = ArgumentCaptor.forClass(MatchingFanoutDto.class);
+            verify(rabbitTemplate, times(3)).convertAndSend(
+                    eq(MATCHING_FANOUT_EXCHANGE), eq(MATCHING_FANOUT_ROUTING_KEY), captor.capture());
+
+            assertThat(captor.getAllValues()).extracting(MatchingFanoutDto::recipients)
+                    .containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+            assertThat(meterRegistry.get("matching_fanout_batch_size").summary().totalAmount()).isEqualTo(5.0);
+        }
+
+        @Test
+        @DisplayName("성공 : PER_RECIPIENT 모드는 (수신자, 판매글)마다 개별 발행")
+        void perRecipient_sendsEach() {
+            // given
+            NotificationServiceImpl service = service(MatchingDeliveryMode.PER_RECIPIENT);
+
+            // when
+            service.sendMatchingNotifications(List.of("a", "b"), List.of(mock(CardDto.class), mock(CardDto.class)));
+
+            // then
+            verify(rabbitTemplate, times(4)).convertAndSend(
+                    eq(MATCHING_NOTIFICATION_EXCHANGE), anyString(), any(CardDto.class));
+        }
+
+        @Test
+        @DisplayName("성공 : SESSION_AFFINITY 모드는 FANOUT 설정보다 우선해 판매글 목록을 한 번에 전달")
+        void sessionAffinity_overridesFanout() {
+            // given
+            NotificationServiceImpl service = new NotificationServiceImpl(notificationRepository, memberRepository,
+                    rabbitTemplate, affinityDelivery, meterRegistry, NotificationDeliveryMode.SESSION_AFFINITY,
+                    MatchingDeliveryMode.FANOUT, MAX_RECIPIENTS);
+            List<CardDto> cards = List.of(mock(CardDto.class), mock(CardDto.class));
+
+            // when
+            service.sendMatchingNotifications(List.of("a", "b", "c"), cards);
+
+            // then
+            verify(affinityDelivery).deliverAll(List.of("a", "b", "c"), "/queue/matching", cards);
+            verifyNoInteractions(rabbitTemplate);
+        }
+
+        @Test
+        @DisplayName("성공 : 수신자가 없으면 발행하지 않음")
+        void noRecipients_skips() {
+            // given
+            NotificationServiceImpl service = service(MatchingDeliveryMode.FANOUT);
+
+            // when
+            service.sendMatchingNotifications(List.of(), List.of(mock(CardDto.class)));
+
+            // then
+            verifyNoInteractions(rabbitTemplate);
+        }
+    }
+
+    private NotificationServiceImpl service(MatchingDeliveryMode mode) {
+        return new NotificationServiceImpl(notificationRepository, memberRepository, rabbitTemplate,
+                affinityDelivery, meterRegistry, NotificationDeliveryMode.BROKER, mode, MAX_RECIPIENTS);
+    }
+}
@@ -0,0 +1,127 @@
+package com.ureca.snac.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ureca.snac.notification.dto.NodeDeliveryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.ureca.snac.config.RabbitMQConfig.NODE_NOTIFICATION_EXCHANGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * SessionAffinityDelivery 단위 테스트
+ * <p>
+ * 로컬 세션 회원은 바로 STOMP 전송
+ * 다른 노드 회원은 소유 노드별 한 건으로 발행(payload 여러 건 포함), 접속 중이 아닌 회원은 건너뜀
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionAffinityDelivery 단위 테스트")
+class SessionAffinityDeliveryTest {
+
+    private static final String THIS_NODE = "node-a";
+
+    @Mock
+    private WebSocketSessionRegistry sessionRegistry;
+
+    @Mock
+    private ObjectProvider<SimpMessagingTemplate> messagingProvider;
+
+    @Mock
+    private SimpMessagingTemplate messaging;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SessionAffinityDelivery delivery;
+
+    @BeforeEach
+    void setUp() {
+        delivery = new SessionAffinityDelivery(sessionRegistry, messagingProvider, rabbitTemplate,
+                new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("성공 : 로컬 세션 회원은 브로커 발행 없이 바로 전송")
+    void deliver_localSession_sendsDirectly() {
+        // given
+        given(sessionRegistry.isLocal("local")).willReturn(true);
+        given(messagingProvider.getObject()).willReturn(messaging);
+
+        // when
+        delivery.deliver("local", "/queue/trade", Map.of("tradeId", 1));
+
+        // then
+        verify(messaging).convertAndSendToUser("local", "/queue/trade", Map.of("tradeId", 1));
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class));
+        assertThat(routeCount("local")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공 : 다른 노드 회원은 소유 노드별 한 건으로 발행, 오프라인/이 노드 잔여 기록은 건너뜀")
+    void deliver_remoteSessions_groupedByNode() {
+        // given
+        List<String> others = List.of("b1", "b2", "c1", "offline", "stale");
+        given(sessionRegistry.nodeId()).willReturn(THIS_NODE);
+        given(sessionRegistry.ownersOf(others)).willReturn(Map.of(
+                "b1", "node-b", "b2", "node-b", "c1", "node-c", "stale", THIS_NODE));
+
+        // when
+        delivery.deliver(others, "/queue/matching", Map.of("cardId", 7));
+
+        // then
+        ArgumentCaptor<NodeDeliveryDto> toB = ArgumentCaptor.forClass(NodeDeliveryDto.class);
+        verify(rabbitTemplate).convertAndSend(eq(NODE_NOTIFICATION_EXCHANGE), eq("node-b"), toB.capture());
+        assertThat(toB.getValue().recipients()).containsExactlyInAnyOrder("b1", "b2");
+        assertThat(toB.getValue().destination()).isEqualTo("/queue/matching");
+        assertThat(toB.getValue().payloads()).singleElement()
+                .satisfies(payload -> assertThat(payload.get("cardId").asInt()).isEqualTo(7));
+
+        verify(rabbitTemplate).convertAndSend(eq(NODE_NOTIFICATION_EXCHANGE), eq("node-c"), any(NodeDeliveryDto.class));
+        assertThat(routeCount("remote")).isEqualTo(3.0);
+        assertThat(routeCount("offline")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("성공 : payload 가 여러 건이어도 소유 노드당 한 건으로 발행")
+    void deliverAll_multiplePayloads_oneMessagePerNode() {
+        // given
+        List<String> others = List.of("b1", "b2");
+        given(sessionRegistry.nodeId()).willReturn(THIS_NODE);
+        given(sessionRegistry.ownersOf(others)).willReturn(Map.of("b1", "node-b", "b2", "node-b"));
+
+        // when
+        delivery.deliverAll(others, "/queue/matching",
+                List.of(Map.of("cardId", 1), Map.of("cardId", 2), Map.of("cardId", 3)));
+
+        // then
+        ArgumentCaptor<NodeDeliveryDto> captor = ArgumentCaptor.forClass(NodeDeliveryDto.class);
+        verify(rabbitTemplate).convertAndSend(eq(NODE_NOTIFICATION_EXCHANGE), eq("node-b"), captor.capture());
+        assertThat(captor.getValue().payloads()).extracting(payload -> payload.get("cardId").asInt())
+                .containsExactly(1, 2, 3);
+        assertThat(routeCount("remote")).isEqualTo(6.0);
+    }
+
+    private double routeCount(String route) {
+        return meterRegistry.get("notification_affinity_delivery_total").tag("route", route).counter().count();
+    }
+}
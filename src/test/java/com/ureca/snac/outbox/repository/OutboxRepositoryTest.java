@@ -9,7 +9,6 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -211,12 +210,196 @@ class OutboxRepositoryTest extends RepositoryTestSupport {
     }
 
     @Nested
-    @DisplayName("findPendingEvents 메서드")
-    class FindPendingEventsTest {
+    @DisplayName("markAllAsPublished / markAllAsFailedAndIncrementRetry 메서드")
+    class BatchStatusUpdateTest {
+
+        @Test
+        @DisplayName("성공 : INIT, SEND_FAIL 여러 건을 한 번에 PUBLISHED (PUBLISHED는 제외)")
+        void markAllAsPublished_updatesOnlyPending() {
+            // given
+            Outbox init = outboxRepository.save(OutboxFixture.memberJoinInit(1L));
+            Outbox failed = outboxRepository.save(OutboxFixture.failedWithRetry(2L, 1));
+            Outbox published = outboxRepository.save(OutboxFixture.publishedOld(3L, 0));
+            outboxRepository.flush();
+            List<Long> ids = List.of(init.getId(), failed.getId(), published.getId());
+            outboxRepository.claimAll(ids, "node-a", LocalDateTime.now().plusSeconds(60));
+
+            // when
+            int updated = outboxRepository.markAllAsPublished(ids, "node-a", LocalDateTime.now());
+
+            em.clear();
+
+            // then
+            assertThat(updated).isEqualTo(2);
+            assertThat(outboxRepository.findAll())
+                    .allMatch(o -> o.getStatus() == OutboxStatus.PUBLISHED);
+        }
+
+        @Test
+        @DisplayName("성공 : 여러 건을 한 번에 SEND_FAIL + retryCount 증가 (PUBLISHED는 제외)")
+        void markAllAsFailedAndIncrementRetry_updatesOnlyNonPublished() {
+            // given
+            Outbox init = outboxRepository.save(OutboxFixture.memberJoinInit(1L));
+            Outbox failed = outboxRepository.save(OutboxFixture.failedWithRetry(2L, 1));
+            Outbox published = outboxRepository.save(OutboxFixture.publishedOld(3L, 0));
+            outboxRepository.flush();
+            List<Long> ids = List.of(init.getId(), failed.getId(), published.getId());
+            outboxRepository.claimAll(ids, "node-a", LocalDateTime.now().plusSeconds(60));
+
+            // when
+            int updated = outboxRepository.markAllAsFailedAndIncrementRetry(ids, "node-a");
+
+            em.clear();
+
+            // then
+            assertThat(updated).isEqualTo(2);
+            assertThat(outboxRepository.findById(init.getId()).orElseThrow().getRetryCount()).isEqualTo(1);
+            assertThat(outboxRepository.findById(failed.getId()).orElseThrow().getRetryCount()).isEqualTo(2);
+            assertThat(outboxRepository.findById(published.getId()).orElseThrow().getStatus())
+                    .isEqualTo(OutboxStatus.PUBLISHED);
+        }
+
+        @Test
+        @DisplayName("성공 : 리스 만료 후 다른 노드가 가져간 행은 이전 노드의 결과로 덮어쓰지 않음")
+        void markAll_otherNodeLease_notUpdated() {
+            // given : node-a 리스가 만료되어 node-b 가 다시 가져감
+            Outbox failed = outboxRepository.save(OutboxFixture.failedWithRetry(1L, 1));
+            outboxRepository.flush();
+            List<Long> ids = List.of(failed.getId());
+            outboxRepository.claimAll(ids, "node-b", LocalDateTime.now().plusSeconds(60));
+
+            // when
+            int published = outboxRepository.markAllAsPublished(ids, "node-a", LocalDateTime.now());
+            int failedUpdated = outboxRepository.markAllAsFailedAndIncrementRetry(ids, "node-a");
+
+            em.clear();
+
+            // then
+            assertThat(published).isZero();
+            assertThat(failedUpdated).isZero();
+            Outbox result = outboxRepository.findById(failed.getId()).orElseThrow();
+            assertThat(result.getRetryCount()).isEqualTo(1);
+            assertThat(result.getClaimedBy()).isEqualTo("node-b");
+        }
+    }
+
+    @Nested
+    @DisplayName("findClaimableIdsForUpdate / claimAll 메서드")
+    class ClaimTest {
+
+        @Test
+        @DisplayName("성공 : 리스 없는 대기 이벤트만 조회하고 리스 기록")
+        void claim_unleasedPending_recordsLease() {
+            // given
+            Outbox failed = outboxRepository.save(OutboxFixture.failedWithRetry(1L, 0));
+            outboxRepository.save(OutboxFixture.publishedOld(2L, 0));
+            outboxRepository.flush();
+
+            LocalDateTime now = LocalDateTime.now();
+
+            // when
+            List<Long> ids = outboxRepository.findClaimableIdsForUpdate(now.minusMinutes(5), 3, now, 100);
+            int claimed = outboxRepository.claimAll(ids, "node-a", now.plusSeconds(60));
+
+            em.clear();
+
+            // then
+            assertThat(ids).containsExactly(failed.getId());
+            assertThat(claimed).isEqualTo(1);
+
+            Outbox result = outboxRepository.findById(failed.getId()).orElseThrow();
+            assertThat(result.getClaimedBy()).isEqualTo("node-a");
+            assertThat(result.getLeaseUntil()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("성공 : 유효한 리스는 제외, 만료된 리스는 다시 획득 대상")
+        void claim_activeLeaseExcluded_expiredLeaseRecovered() {
+            // given
+            Outbox active = outboxRepository.save(OutboxFixture.failedWithRetry(1L, 0));
+            Outbox expired = outboxRepository.save(OutboxFixture.failedWithRetry(2L, 0));
+            outboxRepository.flush();
+
+            LocalDateTime now = LocalDateTime.now();
+            outboxRepository.claimAll(List.of(active.getId()), "node-a", now.plusSeconds(60));
+            outboxRepository.claimAll(List.of(expired.getId()), "node-dead", now.minusSeconds(1));
+
+            // when
+            List<Long> ids = outboxRepository.findClaimableIdsForUpdate(now.minusMinutes(5), 3, now, 100);
+
+            // then
+            assertThat(ids).containsExactly(expired.getId());
+        }
+
+        @Test
+        @DisplayName("성공 : 앞선 미발행 이벤트가 배치 밖에 있는 Aggregate 의 뒤 이벤트만 보류")
+        void findBlocked_earlierEventOutsideBatch_blocksLaterEvents() {
+            // given
+            Outbox leasedHead = outboxRepository.save(OutboxFixture.failedWithRetry(1L, 0));
+            Outbox blockedSecond = outboxRepository.save(OutboxFixture.failedWithRetry(1L, 0));
+            Outbox blockedThird = outboxRepository.save(OutboxFixture.failedWithRetry(1L, 0));
+            Outbox otherAggregate = outboxRepository.save(OutboxFixture.failedWithRetry(2L, 0));
+            outboxRepository.save(OutboxFixture.failedWithRetry(3L, 3));
+            Outbox afterExhausted = outboxRepository.save(OutboxFixture.failedWithRetry(3L, 0));
+            outboxRepository.flush();
+
+            LocalDateTime now = LocalDateTime.now();
+            outboxRepository.claimAll(List.of(leasedHead.getId()), "node-a", now.plusSeconds(60));
+
+            List<Long> ids = outboxRepository.findClaimableIdsForUpdate(now.minusMinutes(5), 3, now, 100);
+
+            // when
+            List<Long> blocked = outboxRepository.findIdsBlockedByEarlierEvent(ids, 3);
+
+            // then
+            assertThat(ids).containsExactly(blockedSecond.getId(), blockedThird.getId(),
+                    otherAggregate.getId(), afterExhausted.getId());
+            assertThat(blocked).containsExactlyInAnyOrder(blockedSecond.getId(), blockedThird.getId());
+        }
+
+        @Test
+        @DisplayName("성공 : 같은 Aggregate 의 앞선 이벤트가 같은 배치에 있으면 보류하지 않음")
+        void findBlocked_earlierEventInsideBatch_notBlocked() {
+            // given
+            Outbox first = outboxRepository.save(OutboxFixture.failedWithRetry(1L, 0));
+            Outbox second = outboxRepository.save(OutboxFixture.failedWithRetry(1L, 0));
+            outboxRepository.flush();
+
+            // when
+            List<Long> blocked = outboxRepository.findIdsBlockedByEarlierEvent(
+                    List.of(first.getId(), second.getId()), 3);
+
+            // then
+            assertThat(blocked).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공 : 일괄 상태 업데이트 시 리스 해제")
+        void markAll_releasesLease() {
+            // given
+            Outbox outbox = outboxRepository.save(OutboxFixture.failedWithRetry(1L, 0));
+            outboxRepository.flush();
+            outboxRepository.claimAll(List.of(outbox.getId()), "node-a", LocalDateTime.now().plusSeconds(60));
+
+            // when
+            outboxRepository.markAllAsFailedAndIncrementRetry(List.of(outbox.getId()), "node-a");
+
+            em.clear();
+
+            // then
+            Outbox result = outboxRepository.findById(outbox.getId()).orElseThrow();
+            assertThat(result.getClaimedBy()).isNull();
+            assertThat(result.getLeaseUntil()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("findClaimableIdsForUpdate 대상 조건")
+    class ClaimableConditionTest {
 
         @Test
         @DisplayName("성공 : SEND_FAIL 상태만 조회 (maxRetry 이내)")
-        void findPendingEvents_sendFailWithinMaxRetry_returnsEligibleEvents() {
+        void findClaimable_sendFailWithinMaxRetry_returnsEligibleEvents() {
             // given
             outboxRepository.save(OutboxFixture.failedWithRetry(1L, 0));
             outboxRepository.save(OutboxFixture.failedWithRetry(2L, 1));
@@ -226,13 +409,7 @@ class OutboxRepositoryTest extends RepositoryTestSupport {
             outboxRepository.flush();
 
             // when
-            List<Outbox> result = outboxRepository.findPendingEvents(
-                    OutboxStatus.SEND_FAIL,
-                    OutboxStatus.INIT,
-                    LocalDateTime.now().minusMinutes(5),
-                    3,
-                    PageRequest.of(0, 100)
-            );
+            List<Outbox> result = findClaimable(100);
 
             // then
             assertThat(result).hasSize(3);
@@ -241,7 +418,7 @@ class OutboxRepositoryTest extends RepositoryTestSupport {
 
         @Test
         @DisplayName("성공 : 오래된 INIT 상태 포함 조회")
-        void findPendingEvents_includesStaleInit_returnsMatchingEvents() {
+        void findClaimable_includesStaleInit_returnsMatchingEvents() {
             // given
             outboxRepository.save(OutboxFixture.failedWithRetry(1L, 1));
             outboxRepository.save(OutboxFixture.failedWithRetry(2L, 2));
@@ -252,13 +429,7 @@ class OutboxRepositoryTest extends RepositoryTestSupport {
             outboxRepository.flush();
 
             // when
-            List<Outbox> result = outboxRepository.findPendingEvents(
-                    OutboxStatus.SEND_FAIL,
-                    OutboxStatus.INIT,
-                    LocalDateTime.now().minusMinutes(5),
-                    3,
-                    PageRequest.of(0, 100)
-            );
+            List<Outbox> result = findClaimable(100);
 
             // then
             assertThat(result).hasSize(3);
@@ -272,7 +443,7 @@ class OutboxRepositoryTest extends RepositoryTestSupport {
 
         @Test
         @DisplayName("성공 : 배치 사이즈 제한")
-        void findPendingEvents_batchLimit_returnsLimitedResults() {
+        void findClaimable_batchLimit_returnsLimitedResults() {
             // given
             for (int i = 0; i < 150; i++) {
                 outboxRepository.save(OutboxFixture.failedWithRetry((long) i, 0));
@@ -280,13 +451,7 @@ class OutboxRepositoryTest extends RepositoryTestSupport {
             outboxRepository.flush();
 
             // when
-            List<Outbox> result = outboxRepository.findPendingEvents(
-                    OutboxStatus.SEND_FAIL,
-                    OutboxStatus.INIT,
-                    LocalDateTime.now().minusMinutes(5),
-                    3,
-                    PageRequest.of(0, 100)
-            );
+            List<Outbox> result = findClaimable(100);
 
             // then
             assertThat(result).hasSize(100);
@@ -294,7 +459,7 @@ class OutboxRepositoryTest extends RepositoryTestSupport {
 
         @Test
         @DisplayName("성공 : PUBLISHED 상태는 제외")
-        void findPendingEvents_excludesPublished_returnsOnlyPending() {
+        void findClaimable_excludesPublished_returnsOnlyPending() {
             // given
             outboxRepository.save(OutboxFixture.failedWithRetry(1L, 1));
             outboxRepository.save(OutboxFixture.publishedOld(2L, 0));
@@ -302,18 +467,18 @@ class OutboxRepositoryTest extends RepositoryTestSupport {
             outboxRepository.flush();
 
             // when
-            List<Outbox> result = outboxRepository.findPendingEvents(
-                    OutboxStatus.SEND_FAIL,
-                    OutboxStatus.INIT,
-                    LocalDateTime.now().minusMinutes(5),
-                    3,
-                    PageRequest.of(0, 100)
-            );
+            List<Outbox> result = findClaimable(100);
 
             // then
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getStatus()).isEqualTo(OutboxStatus.SEND_FAIL);
         }
+
+        private List<Outbox> findClaimable(int limit) {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = outboxRepository.findClaimableIdsForUpdate(now.minusMinutes(5), 3, now, limit);
+            return outboxRepository.findByIdInOrderByIdAsc(ids);
+        }
     }
 
     @Nested
@@ -1,11 +1,13 @@
 package com.ureca.snac.outbox.scheduler;
 
 import com.ureca.snac.outbox.entity.Outbox;
-import com.ureca.snac.outbox.entity.OutboxStatus;
 import com.ureca.snac.outbox.fixture.OutboxFixture;
-import com.ureca.snac.outbox.repository.OutboxRepository;
+import com.ureca.snac.outbox.service.OutboxClaimer;
+import com.ureca.snac.outbox.service.OutboxLaneDispatcher;
 import com.ureca.snac.outbox.service.OutboxMessagePublisher;
+import com.ureca.snac.outbox.service.OutboxRelayResult;
 import com.ureca.snac.outbox.service.OutboxStatusUpdater;
+import com.ureca.snac.outbox.service.PipelinedOutboxRelay;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,12 +16,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -32,6 +34,7 @@ import static org.mockito.Mockito.*;
  * maxRetry 제한 (10회)
  * 배치 처리 (100개씩)
  * 실패 시 상태 업데이트
+ * 배치 결과 일괄 기록 (markBatch)
  */
 @ExtendWith(MockitoExtension.class)
 class OutboxPollingSchedulerTest {
@@ -40,7 +43,7 @@ class OutboxPollingSchedulerTest {
     private SimpleMeterRegistry meterRegistry;
 
     @Mock
-    private OutboxRepository outboxRepository;
+    private OutboxClaimer outboxClaimer;
 
     @Mock
     private OutboxStatusUpdater outboxStatusUpdater;
@@ -48,6 +51,12 @@ class OutboxPollingSchedulerTest {
     @Mock
     private OutboxMessagePublisher messagePublisher;
 
+    @Mock
+    private PipelinedOutboxRelay pipelinedRelay;
+
+    @Mock
+    private OutboxLaneDispatcher laneDispatcher;
+
     private static final int MAX_RETRY_COUNT = 10;
     private static final int BATCH_SIZE = 100;
     private static final int STALE_THRESHOLD_MINUTES = 5;
@@ -56,13 +65,16 @@ class OutboxPollingSchedulerTest {
     void setUp() {
         meterRegistry = new SimpleMeterRegistry();
         outboxPublisher = new OutboxPollingScheduler(
-                outboxRepository,
+                outboxClaimer,
                 messagePublisher,
                 outboxStatusUpdater,
+                pipelinedRelay,
+                laneDispatcher,
                 meterRegistry,
                 BATCH_SIZE,
                 STALE_THRESHOLD_MINUTES,
-                MAX_RETRY_COUNT
+                MAX_RETRY_COUNT,
+                OutboxRelayMode.SERIAL
         );
     }
 
@@ -74,12 +86,10 @@ class OutboxPollingSchedulerTest {
         Outbox memberEvent = OutboxFixture.failedWithRetryWithId(1L, 1L, 1);
         Outbox walletEvent = OutboxFixture.walletCreatedFailedWithId(2L, 2L, 2);
 
-        given(outboxRepository.findPendingEvents(
-                eq(OutboxStatus.SEND_FAIL),
-                eq(OutboxStatus.INIT),
+        given(outboxClaimer.claim(
                 any(LocalDateTime.class),
                 eq(MAX_RETRY_COUNT),
-                eq(PageRequest.of(0, BATCH_SIZE))
+                eq(BATCH_SIZE)
         )).willReturn(List.of(memberEvent, walletEvent));
 
         // when
@@ -89,15 +99,9 @@ class OutboxPollingSchedulerTest {
         verify(messagePublisher, times(2))
                 .publish(anyString(), anyString(), anyString(), anyLong(), anyString());
 
-        // 발행 상태 업데이트 2회
+        // 발행 상태 일괄 업데이트 1회 (실패 없음)
         verify(outboxStatusUpdater, times(1))
-                .markAsPublished(1L);
-        verify(outboxStatusUpdater, times(1))
-                .markAsPublished(2L);
-
-        // 실패 처리 없음
-        verify(outboxStatusUpdater, never())
-                .markAsFailed(anyLong());
+                .markBatch(List.of(1L, 2L), List.of());
 
         // 메트릭 검증
         assertThat(meterRegistry.get("outbox_events_published_total")
@@ -112,12 +116,10 @@ class OutboxPollingSchedulerTest {
         // given : 10분 전 INIT (id 있음)
         Outbox staleInit = OutboxFixture.staleInitWithId(1L, 1L, 10);
 
-        given(outboxRepository.findPendingEvents(
-                eq(OutboxStatus.SEND_FAIL),
-                eq(OutboxStatus.INIT),
+        given(outboxClaimer.claim(
                 any(LocalDateTime.class),
                 eq(MAX_RETRY_COUNT),
-                eq(PageRequest.of(0, BATCH_SIZE))
+                eq(BATCH_SIZE)
         )).willReturn(List.of(staleInit));
 
         // when
@@ -128,16 +130,14 @@ class OutboxPollingSchedulerTest {
                 .publish(anyString(), anyString(), anyString(), anyLong(), anyString());
 
         verify(outboxStatusUpdater, times(1))
-                .markAsPublished(1L);
+                .markBatch(List.of(1L), List.of());
     }
 
     @Test
     @DisplayName("성공 : 이벤트 없으면 조기 종료")
     void publishPendingEvents_EmptyList_NoAction() {
         // given
-        given(outboxRepository.findPendingEvents(
-                any(), any(), any(), anyInt(), any()
-        )).willReturn(List.of());
+        given(outboxClaimer.claim(any(), anyInt(), anyInt())).willReturn(List.of());
 
         // when
         outboxPublisher.publishPendingEvents();
@@ -147,9 +147,7 @@ class OutboxPollingSchedulerTest {
                 .publish(anyString(), anyString(), anyString(), anyLong(), anyString());
 
         verify(outboxStatusUpdater, never())
-                .markAsPublished(anyLong());
-        verify(outboxStatusUpdater, never())
-                .markAsFailed(anyLong());
+                .markBatch(anyList(), anyList());
     }
 
     // 실패 시나리오
@@ -159,9 +157,7 @@ class OutboxPollingSchedulerTest {
         // given
         Outbox outbox = OutboxFixture.failedWithRetryWithId(1L, 1L, 1);
 
-        given(outboxRepository.findPendingEvents(
-                any(), any(), any(), anyInt(), any()
-        )).willReturn(List.of(outbox));
+        given(outboxClaimer.claim(any(), anyInt(), anyInt())).willReturn(List.of(outbox));
 
         // 메시지 발행 실패
         doThrow(new RuntimeException("RabbitMQ 연결 실패"))
@@ -171,13 +167,9 @@ class OutboxPollingSchedulerTest {
         // when
         outboxPublisher.publishPendingEvents();
 
-        // then
+        // then : PUBLISHED 없이 실패만 기록
         verify(outboxStatusUpdater, times(1))
-                .markAsFailed(1L);
-
-        // PUBLISHED 업데이트 안 됨
-        verify(outboxStatusUpdater, never())
-                .markAsPublished(anyLong());
+                .markBatch(List.of(), List.of(1L));
 
         // 메트릭 검증
         assertThat(meterRegistry.get("outbox_events_published_total")
@@ -192,9 +184,7 @@ class OutboxPollingSchedulerTest {
         Outbox failure = OutboxFixture.failedWithRetryWithId(2L, 2L, 1);
         Outbox success2 = OutboxFixture.failedWithRetryWithId(3L, 3L, 0);
 
-        given(outboxRepository.findPendingEvents(
-                any(), any(), any(), anyInt(), any()
-        )).willReturn(List.of(success1, failure, success2));
+        given(outboxClaimer.claim(any(), anyInt(), anyInt())).willReturn(List.of(success1, failure, success2));
 
         // 2번째만 실패
         doNothing()
@@ -206,15 +196,9 @@ class OutboxPollingSchedulerTest {
         // when
         outboxPublisher.publishPendingEvents();
 
-        // then: 성공 2개
-        verify(outboxStatusUpdater, times(1))
-                .markAsPublished(1L);
-        verify(outboxStatusUpdater, times(1))
-                .markAsPublished(3L);
-
-        // 실패 1개
+        // then: 성공 2개, 실패 1개를 한 번에 기록
         verify(outboxStatusUpdater, times(1))
-                .markAsFailed(2L);
+                .markBatch(List.of(1L, 3L), List.of(2L));
 
         // 메트릭 검증 (부분 실패)
         assertThat(meterRegistry.get("outbox_events_published_total")
@@ -223,25 +207,37 @@ class OutboxPollingSchedulerTest {
                 .tag("result", "fail").counter().count()).isEqualTo(1.0);
     }
 
+    @Test
+    @DisplayName("실패 : 상태 일괄 기록 실패해도 예외 전파 없음 (다음 주기 재발행)")
+    void publishPendingEvents_MarkBatchFails_NoPropagation() {
+        // given
+        Outbox outbox = OutboxFixture.failedWithRetryWithId(1L, 1L, 0);
+
+        given(outboxClaimer.claim(any(), anyInt(), anyInt())).willReturn(List.of(outbox));
+
+        doThrow(new RuntimeException("DB 연결 실패"))
+                .when(outboxStatusUpdater).markBatch(anyList(), anyList());
+
+        // when & then
+        assertThatCode(() -> outboxPublisher.publishPendingEvents())
+                .doesNotThrowAnyException();
+    }
+
     @Test
     @DisplayName("검증 : maxRetry 파라미터 전달")
     void publishPendingEvents_PassMaxRetryParameter() {
         // given
-        given(outboxRepository.findPendingEvents(
-                any(), any(), any(), anyInt(), any()
-        )).willReturn(List.of());
+        given(outboxClaimer.claim(any(), anyInt(), anyInt())).willReturn(List.of());
 
         // when
         outboxPublisher.publishPendingEvents();
 
         // then
-        verify(outboxRepository, times(1))
-                .findPendingEvents(
-                        eq(OutboxStatus.SEND_FAIL),
-                        eq(OutboxStatus.INIT),
+        verify(outboxClaimer, times(1))
+                .claim(
                         any(LocalDateTime.class),
                         eq(MAX_RETRY_COUNT),
-                        eq(PageRequest.of(0, BATCH_SIZE))
+                        eq(BATCH_SIZE)
                 );
     }
 
@@ -249,25 +245,21 @@ class OutboxPollingSchedulerTest {
     @DisplayName("검증 : 5분 이전 threshold들 전달")
     void publishPendingEvents_PassThresholdParameter() {
         // given
-        given(outboxRepository.findPendingEvents(
-                any(), any(), any(), anyInt(), any()
-        )).willReturn(List.of());
+        given(outboxClaimer.claim(any(), anyInt(), anyInt())).willReturn(List.of());
 
         // when
         outboxPublisher.publishPendingEvents();
 
         // then
-        verify(outboxRepository, times(1))
-                .findPendingEvents(
-                        eq(OutboxStatus.SEND_FAIL),
-                        eq(OutboxStatus.INIT),
+        verify(outboxClaimer, times(1))
+                .claim(
                         argThat(threshold -> {
                             LocalDateTime fiveMinutesAgo = LocalDateTime.now().minusMinutes(5);
                             return threshold.isAfter(fiveMinutesAgo.minusSeconds(10))
                                     && threshold.isBefore(fiveMinutesAgo.plusSeconds(10));
                         }),
                         eq(MAX_RETRY_COUNT),
-                        any()
+                        eq(BATCH_SIZE)
                 );
     }
 
@@ -275,21 +267,17 @@ class OutboxPollingSchedulerTest {
     @DisplayName("검증 : 배치 크기 100개 제한")
     void publishPendingEvents_BatchSizeLimit() {
         // given
-        given(outboxRepository.findPendingEvents(
-                any(), any(), any(), anyInt(), any()
-        )).willReturn(List.of());
+        given(outboxClaimer.claim(any(), anyInt(), anyInt())).willReturn(List.of());
 
         // when
         outboxPublisher.publishPendingEvents();
 
         // then
-        verify(outboxRepository, times(1))
-                .findPendingEvents(
-                        eq(OutboxStatus.SEND_FAIL),
-                        eq(OutboxStatus.INIT),
+        verify(outboxClaimer, times(1))
+                .claim(
                         any(LocalDateTime.class),
                         eq(MAX_RETRY_COUNT),
-                        eq(PageRequest.of(0, BATCH_SIZE))
+                        eq(BATCH_SIZE)
                 );
     }
 
@@ -304,9 +292,9 @@ class OutboxPollingSchedulerTest {
             outboxPublisher.shutdown();
             outboxPublisher.publishPendingEvents();
 
-            // then : Repository 조회도 하지 않음 (조기 종료)
-            verify(outboxRepository, never())
-                    .findPendingEvents(any(), any(), any(), anyInt(), any());
+            // then : 리스 획득도 하지 않음 (조기 종료)
+            verify(outboxClaimer, never())
+                    .claim(any(), anyInt(), anyInt());
 
             verify(messagePublisher, never())
                     .publish(anyString(), anyString(), anyString(), anyLong(), anyString());
@@ -323,8 +311,8 @@ class OutboxPollingSchedulerTest {
             // then : 예외 없이 안전하게 처리
             outboxPublisher.publishPendingEvents();
 
-            verify(outboxRepository, never())
-                    .findPendingEvents(any(), any(), any(), anyInt(), any());
+            verify(outboxClaimer, never())
+                    .claim(any(), anyInt(), anyInt());
         }
 
         @Test
@@ -333,9 +321,7 @@ class OutboxPollingSchedulerTest {
             // given
             Outbox outbox = OutboxFixture.failedWithRetryWithId(1L, 1L, 1);
 
-            given(outboxRepository.findPendingEvents(
-                    any(), any(), any(), anyInt(), any()
-            )).willReturn(List.of(outbox));
+            given(outboxClaimer.claim(any(), anyInt(), anyInt())).willReturn(List.of(outbox));
 
             // when : shutdown 호출 전 정상 동작
             outboxPublisher.publishPendingEvents();
@@ -345,7 +331,114 @@ class OutboxPollingSchedulerTest {
                     .publish(anyString(), anyString(), anyString(), anyLong(), anyString());
 
             verify(outboxStatusUpdater, times(1))
-                    .markAsPublished(1L);
+                    .markBatch(List.of(1L), List.of());
+        }
+    }
+
+    @Nested
+    @DisplayName("PIPELINED 모드")
+    class PipelinedModeTest {
+
+        private OutboxPollingScheduler pipelinedScheduler;
+
+        @BeforeEach
+        void setUp() {
+            pipelinedScheduler = new OutboxPollingScheduler(
+                    outboxClaimer,
+                    messagePublisher,
+                    outboxStatusUpdater,
+                    pipelinedRelay,
+                    laneDispatcher,
+                    meterRegistry,
+                    BATCH_SIZE,
+                    STALE_THRESHOLD_MINUTES,
+                    MAX_RETRY_COUNT,
+                    OutboxRelayMode.PIPELINED
+            );
+        }
+
+        @Test
+        @DisplayName("성공 : 배치를 릴레이에 위임하고 ACK/NACK 결과를 일괄 기록")
+        void publishPendingEvents_Pipelined_RecordsResultsInBulk() {
+            // given
+            List<Outbox> batch = List.of(
+                    OutboxFixture.failedWithRetryWithId(1L, 1L, 0),
+                    OutboxFixture.failedWithRetryWithId(2L, 2L, 0),
+                    OutboxFixture.failedWithRetryWithId(3L, 3L, 0)
+            );
+
+            given(outboxClaimer.claim(any(), anyInt(), anyInt())).willReturn(batch);
+            given(pipelinedRelay.relay(batch))
+                    .willReturn(new OutboxRelayResult(List.of(1L, 3L), List.of(2L)));
+
+            // when
+            pipelinedScheduler.publishPendingEvents();
+
+            // then : 건별 publish 호출 없음
+            verify(messagePublisher, never())
+                    .publish(anyString(), anyString(), anyString(), anyLong(), anyString());
+
+            verify(outboxStatusUpdater).markBatch(List.of(1L, 3L), List.of(2L));
+
+            assertThat(meterRegistry.get("outbox_events_published_total")
+                    .tag("result", "success").counter().count()).isEqualTo(2.0);
+            assertThat(meterRegistry.get("outbox_events_published_total")
+                    .tag("result", "fail").counter().count()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("outbox_relay_batch_duration")
+                    .tag("mode", "PIPELINED").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 : 이벤트 없으면 릴레이 호출 없음")
+        void publishPendingEvents_Pipelined_EmptyList_NoRelay() {
+            // given
+            given(outboxClaimer.claim(any(), anyInt(), anyInt())).willReturn(List.of());
+
+            // when
+            pipelinedScheduler.publishPendingEvents();
+
+            // then
+            verify(pipelinedRelay, never()).relay(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("PARTITIONED 모드")
+    class PartitionedModeTest {
+
+        @Test
+        @DisplayName("성공 : 배치를 레인 디스패처에 위임하고 결과를 일괄 기록")
+        void publishPendingEvents_Partitioned_DelegatesToLanes() {
+            // given
+            OutboxPollingScheduler partitionedScheduler = new OutboxPollingScheduler(
+                    outboxClaimer,
+                    messagePublisher,
+                    outboxStatusUpdater,
+                    pipelinedRelay,
+                    laneDispatcher,
+                    meterRegistry,
+                    BATCH_SIZE,
+                    STALE_THRESHOLD_MINUTES,
+                    MAX_RETRY_COUNT,
+                    OutboxRelayMode.PARTITIONED
+            );
+
+            List<Outbox> batch = List.of(
+                    OutboxFixture.failedWithRetryWithId(1L, 1L, 0),
+                    OutboxFixture.walletCreatedFailedWithId(2L, 1L, 0)
+            );
+            given(outboxClaimer.claim(any(), anyInt(), anyInt())).willReturn(batch);
+            given(laneDispatcher.dispatch(batch))
+                    .willReturn(new OutboxRelayResult(List.of(1L), List.of(2L)));
+
+            // when
+            partitionedScheduler.publishPendingEvents();
+
+            // then
+            verify(messagePublisher, never())
+                    .publish(anyString(), anyString(), anyString(), anyLong(), anyString());
+            verify(pipelinedRelay, never()).relay(any());
+            verify(outboxStatusUpdater).markBatch(List.of(1L), List.of(2L));
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,153 @@
+package com.ureca.snac.outbox.service;
+
+import com.ureca.snac.outbox.entity.Outbox;
+import com.ureca.snac.outbox.fixture.OutboxFixture;
+import com.ureca.snac.outbox.repository.OutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * OutboxClaimer 단위 테스트
+ * <p>
+ * SKIP LOCKED 조회 결과에 리스 기록
+ * 앞선 이벤트가 배치 밖에 있는 Aggregate 의 뒤 이벤트 제외
+ * 리스 만료 시각 = 획득 시각 + leaseSeconds
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxClaimer 테스트")
+class OutboxClaimerTest {
+
+    private static final int LEASE_SECONDS = 60;
+    private static final int MAX_RETRY = 10;
+    private static final int LIMIT = 100;
+
+    private OutboxClaimer outboxClaimer;
+    private SimpleMeterRegistry meterRegistry;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxClaimer = new OutboxClaimer(outboxRepository, meterRegistry, LEASE_SECONDS);
+    }
+
+    @Test
+    @DisplayName("성공 : 잠근 ID에 노드 ID와 리스 만료 시각 기록 후 엔티티 반환")
+    void claim_lockedIds_recordsLease() {
+        // given
+        List<Long> ids = List.of(1L, 2L);
+        List<Outbox> claimed = List.of(
+                OutboxFixture.failedWithRetryWithId(1L, 1L, 0),
+                OutboxFixture.failedWithRetryWithId(2L, 2L, 0)
+        );
+        given(outboxRepository.findClaimableIdsForUpdate(any(LocalDateTime.class), eq(MAX_RETRY), any(LocalDateTime.class), eq(LIMIT)))
+                .willReturn(ids);
+        given(outboxRepository.findByIdInOrderByIdAsc(ids)).willReturn(claimed);
+
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        List<Outbox> result = outboxClaimer.claim(before.minusMinutes(5), MAX_RETRY, LIMIT);
+
+        // then
+        assertThat(result).isEqualTo(claimed);
+        // 2건 최악 소요 시간(2 × 5s + 30s)이 설정값보다 짧으므로 설정값 사용
+        verify(outboxRepository).claimAll(
+                eq(ids),
+                eq(outboxClaimer.getNodeId()),
+                argThat(leaseUntil -> !leaseUntil.isBefore(before.plusSeconds(LEASE_SECONDS))
+                        && leaseUntil.isBefore(before.plusSeconds(LEASE_SECONDS + 10)))
+        );
+        assertThat(meterRegistry.get("outbox_lease_claimed_total").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("성공 : 앞선 이벤트가 배치 밖에 있는 Aggregate 의 뒤 이벤트는 리스를 잡지 않음")
+    void claim_blockedByEarlierEvent_excluded() {
+        // given
+        List<Long> lockedIds = List.of(1L, 2L, 3L);
+        List<Outbox> claimed = List.of(
+                OutboxFixture.failedWithRetryWithId(1L, 1L, 0),
+                OutboxFixture.failedWithRetryWithId(3L, 3L, 0)
+        );
+        given(outboxRepository.findClaimableIdsForUpdate(any(), eq(MAX_RETRY), any(), eq(LIMIT)))
+                .willReturn(lockedIds);
+        given(outboxRepository.findIdsBlockedByEarlierEvent(lockedIds, MAX_RETRY)).willReturn(List.of(2L));
+        given(outboxRepository.findByIdInOrderByIdAsc(List.of(1L, 3L))).willReturn(claimed);
+
+        // when
+        List<Outbox> result = outboxClaimer.claim(LocalDateTime.now(), MAX_RETRY, LIMIT);
+
+        // then
+        assertThat(result).isEqualTo(claimed);
+        verify(outboxRepository).claimAll(eq(List.of(1L, 3L)), eq(outboxClaimer.getNodeId()), any());
+        assertThat(meterRegistry.get("outbox_lease_deferred_total").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공 : 잠근 이벤트가 모두 보류되면 리스 기록 생략")
+    void claim_allBlocked_skipsUpdate() {
+        // given
+        List<Long> lockedIds = List.of(2L);
+        given(outboxRepository.findClaimableIdsForUpdate(any(), eq(MAX_RETRY), any(), eq(LIMIT)))
+                .willReturn(lockedIds);
+        given(outboxRepository.findIdsBlockedByEarlierEvent(lockedIds, MAX_RETRY)).willReturn(List.of(2L));
+
+        // when
+        List<Outbox> result = outboxClaimer.claim(LocalDateTime.now(), MAX_RETRY, LIMIT);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(outboxRepository, never()).claimAll(anyCollection(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("성공 : 획득 대상 없으면 리스 기록 생략")
+    void claim_nothingClaimable_skipsUpdate() {
+        // given
+        given(outboxRepository.findClaimableIdsForUpdate(any(), eq(MAX_RETRY), any(), eq(LIMIT)))
+                .willReturn(List.of());
+
+        // when
+        List<Outbox> result = outboxClaimer.claim(LocalDateTime.now(), MAX_RETRY, LIMIT);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(outboxRepository, never()).claimAll(anyCollection(), anyString(), any());
+        verify(outboxRepository, never()).findByIdInOrderByIdAsc(anyCollection());
+    }
+
+    @Test
+    @DisplayName("성공 : 리스는 배치 최악 소요 시간(건수 × Confirm 타임아웃)보다 짧게 잡지 않음")
+    void effectiveLeaseSeconds_coversWorstCaseBatch() {
+        // 100건 × 5s + 30s = 530s > 설정값 60s
+        assertThat(outboxClaimer.effectiveLeaseSeconds(100)).isEqualTo(530L);
+        assertThat(outboxClaimer.effectiveLeaseSeconds(2)).isEqualTo(LEASE_SECONDS);
+    }
+
+    @Test
+    @DisplayName("성공 : 노드 ID는 claimed_by 컬럼 길이(64) 이내")
+    void nodeId_fitsColumnLength() {
+        assertThat(outboxClaimer.getNodeId()).isNotBlank().hasSizeLessThanOrEqualTo(64);
+    }
+}
@@ -0,0 +1,149 @@
+package com.ureca.snac.outbox.service;
+
+import com.ureca.snac.common.event.AggregateType;
+import com.ureca.snac.common.event.EventType;
+import com.ureca.snac.outbox.entity.Outbox;
+import com.ureca.snac.outbox.entity.OutboxStatus;
+import com.ureca.snac.outbox.fixture.OutboxFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * OutboxLaneDispatcher 단위 테스트
+ * <p>
+ * 같은 Aggregate는 같은 레인 + ID 순서 유지
+ * 선행 이벤트 실패 시 같은 Aggregate 후속 이벤트 건너뜀
+ * 레인 Gauge 등록
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxLaneDispatcher 테스트")
+class OutboxLaneDispatcherTest {
+
+    private static final int LANE_COUNT = 4;
+
+    // 테스트 결정성을 위해 호출 스레드에서 바로 실행
+    private final Executor directExecutor = Runnable::run;
+
+    private OutboxLaneDispatcher dispatcher;
+    private SimpleMeterRegistry meterRegistry;
+
+    @Mock
+    private OutboxMessagePublisher messagePublisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new OutboxLaneDispatcher(messagePublisher, directExecutor, meterRegistry, LANE_COUNT);
+    }
+
+    @Test
+    @DisplayName("성공 : 같은 Aggregate는 항상 같은 레인")
+    void laneOf_sameAggregate_sameLane() {
+        Outbox first = memberEvent(1L, 7L);
+        Outbox second = memberEvent(2L, 7L);
+
+        assertThat(dispatcher.laneOf(first)).isEqualTo(dispatcher.laneOf(second));
+        assertThat(dispatcher.laneOf(first)).isBetween(0, LANE_COUNT - 1);
+    }
+
+    @Test
+    @DisplayName("성공 : 같은 Aggregate 이벤트는 ID 순서대로 발행")
+    void dispatch_sameAggregate_publishedInIdOrder() {
+        // given
+        Outbox first = memberEvent(1L, 7L);
+        Outbox second = memberEvent(2L, 7L);
+
+        // when
+        OutboxRelayResult result = dispatcher.dispatch(List.of(first, second));
+
+        // then
+        InOrder inOrder = inOrder(messagePublisher);
+        inOrder.verify(messagePublisher).publish(eq(first.getEventId()), anyString(), anyString(), anyLong(), anyString());
+        inOrder.verify(messagePublisher).publish(eq(second.getEventId()), anyString(), anyString(), anyLong(), anyString());
+
+        assertThat(result.publishedIds()).containsExactly(1L, 2L);
+        assertThat(result.failedIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실패 : 선행 이벤트 실패 시 같은 Aggregate 후속 이벤트는 발행하지 않음")
+    void dispatch_headFails_blocksSameAggregate() {
+        // given
+        Outbox first = memberEvent(1L, 7L);
+        Outbox second = memberEvent(2L, 7L);
+        lenient().doThrow(new AmqpException("NACK"))
+                .when(messagePublisher)
+                .publish(eq(first.getEventId()), anyString(), anyString(), anyLong(), anyString());
+
+        // when
+        OutboxRelayResult result = dispatcher.dispatch(List.of(first, second));
+
+        // then
+        verify(messagePublisher, never())
+                .publish(eq(second.getEventId()), anyString(), anyString(), anyLong(), anyString());
+        assertThat(result.publishedIds()).isEmpty();
+        assertThat(result.failedIds()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("성공 : 다른 Aggregate 실패는 영향 없음")
+    void dispatch_otherAggregateFails_notBlocked() {
+        // given
+        Outbox failing = memberEvent(1L, 7L);
+        Outbox other = OutboxFixture.builder()
+                .withId(2L)
+                .eventType(EventType.WALLET_CREATED)
+                .aggregateType(AggregateType.WALLET)
+                .aggregateId(7L)
+                .status(OutboxStatus.SEND_FAIL)
+                .build();
+        lenient().doThrow(new AmqpException("NACK"))
+                .when(messagePublisher)
+                .publish(eq(failing.getEventId()), anyString(), anyString(), anyLong(), anyString());
+
+        // when
+        OutboxRelayResult result = dispatcher.dispatch(List.of(failing, other));
+
+        // then
+        assertThat(result.publishedIds()).containsExactly(2L);
+        assertThat(result.failedIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("성공 : 레인별 depth/lag Gauge 등록, 배치 완료 후 0")
+    void gauges_registeredPerLane() {
+        // when
+        dispatcher.dispatch(List.of(memberEvent(1L, 7L)));
+
+        // then
+        assertThat(meterRegistry.find("outbox_lane_depth").gauges()).hasSize(LANE_COUNT);
+        assertThat(meterRegistry.find("outbox_lane_lag_seconds").gauges()).hasSize(LANE_COUNT);
+        assertThat(meterRegistry.find("outbox_lane_depth").gauges())
+                .allMatch(gauge -> gauge.value() == 0);
+        assertThat(meterRegistry.find("outbox_lane_lag_seconds").gauges())
+                .allMatch(gauge -> gauge.value() == 0);
+    }
+
+    private Outbox memberEvent(Long id, Long memberId) {
+        return OutboxFixture.failedWithRetryWithId(id, memberId, 0);
+    }
+}
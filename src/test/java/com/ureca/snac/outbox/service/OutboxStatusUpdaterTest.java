@@ -1,6 +1,7 @@
 package com.ureca.snac.outbox.service;
 
 import com.ureca.snac.outbox.repository.OutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,11 +11,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -23,19 +28,27 @@ import static org.mockito.Mockito.verify;
  * <p>
  * 원자적 상태 업데이트 검증
  * updated == 0 경쟁 상태(Race Condition) 처리 검증
+ * 배치 결과 일괄 업데이트 검증
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("OutboxStatusUpdater 테스트")
 class OutboxStatusUpdaterTest {
 
     private OutboxStatusUpdater outboxStatusUpdater;
+    private SimpleMeterRegistry meterRegistry;
+
+    private static final String NODE_ID = "node-a";
 
     @Mock
     private OutboxRepository outboxRepository;
 
+    @Mock
+    private OutboxClaimer outboxClaimer;
+
     @BeforeEach
     void setUp() {
-        outboxStatusUpdater = new OutboxStatusUpdater(outboxRepository);
+        meterRegistry = new SimpleMeterRegistry();
+        outboxStatusUpdater = new OutboxStatusUpdater(outboxRepository, meterRegistry, outboxClaimer);
     }
 
     @Nested
@@ -144,4 +157,69 @@ class OutboxStatusUpdaterTest {
                     .markAsFailedAndIncrementRetry(nonExistentId);
         }
     }
+
+    @Nested
+    @DisplayName("markBatch 메서드")
+    class MarkBatchTest {
+
+        @BeforeEach
+        void setUpNodeId() {
+            given(outboxClaimer.getNodeId()).willReturn(NODE_ID);
+        }
+
+        @Test
+        @DisplayName("성공 : PUBLISHED, SEND_FAIL 각각 한 문장으로 업데이트")
+        void markBatch_bothStatuses_oneStatementEach() {
+            // given
+            List<Long> publishedIds = List.of(1L, 3L);
+            List<Long> failedIds = List.of(2L);
+            given(outboxRepository.markAllAsPublished(eq(publishedIds), eq(NODE_ID), any(LocalDateTime.class)))
+                    .willReturn(2);
+            given(outboxRepository.markAllAsFailedAndIncrementRetry(failedIds, NODE_ID))
+                    .willReturn(1);
+
+            // when
+            outboxStatusUpdater.markBatch(publishedIds, failedIds);
+
+            // then
+            verify(outboxRepository, times(1))
+                    .markAllAsPublished(eq(publishedIds), eq(NODE_ID), any(LocalDateTime.class));
+            verify(outboxRepository, times(1))
+                    .markAllAsFailedAndIncrementRetry(failedIds, NODE_ID);
+
+            // 상태별 소요 시간 기록
+            assertThat(meterRegistry.get("outbox_status_batch_update_duration")
+                    .tag("status", "PUBLISHED").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("outbox_status_batch_update_duration")
+                    .tag("status", "SEND_FAIL").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 : 빈 목록은 UPDATE 생략")
+        void markBatch_emptyFailed_skipsStatement() {
+            // given
+            List<Long> publishedIds = List.of(1L);
+            given(outboxRepository.markAllAsPublished(eq(publishedIds), eq(NODE_ID), any(LocalDateTime.class)))
+                    .willReturn(1);
+
+            // when
+            outboxStatusUpdater.markBatch(publishedIds, List.of());
+
+            // then
+            verify(outboxRepository, never()).markAllAsFailedAndIncrementRetry(anyCollection(), any());
+        }
+
+        @Test
+        @DisplayName("성공 : 경쟁 상태 - 일부만 반영 (updated < 요청 수)")
+        void markBatch_partiallyApplied_gracefullyHandled() {
+            // given : 다른 스레드가 일부를 먼저 PUBLISHED로 업데이트한 상황
+            List<Long> publishedIds = List.of(1L, 2L);
+            given(outboxRepository.markAllAsPublished(eq(publishedIds), eq(NODE_ID), any(LocalDateTime.class)))
+                    .willReturn(1);
+
+            // when & then
+            assertThatCode(() -> outboxStatusUpdater.markBatch(publishedIds, List.of()))
+                    .doesNotThrowAnyException();
+        }
+    }
 }
@@ -0,0 +1,128 @@
+package com.ureca.snac.outbox.service;
+
+import com.ureca.snac.outbox.entity.Outbox;
+import com.ureca.snac.outbox.fixture.OutboxFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PipelinedOutboxRelay 단위 테스트")
+class PipelinedOutboxRelayTest {
+
+    private static final int MAX_IN_FLIGHT = 2;
+
+    private PipelinedOutboxRelay relay;
+
+    @Mock
+    private OutboxMessagePublisher messagePublisher;
+
+    @BeforeEach
+    void setUp() {
+        relay = new PipelinedOutboxRelay(messagePublisher, MAX_IN_FLIGHT);
+    }
+
+    @Test
+    @DisplayName("성공 : 모든 이벤트 ACK -> 전부 publishedIds")
+    void relay_AllAcked() {
+        // given
+        List<Outbox> batch = batchOf(1L, 2L, 3L);
+        given(messagePublisher.send(anyString(), anyString(), anyString(), anyLong(), anyString()))
+                .willAnswer(invocation -> confirmed(invocation.getArgument(0), true));
+
+        // when
+        OutboxRelayResult result = relay.relay(batch);
+
+        // then : 윈도우(2)보다 큰 배치도 전부 전송
+        verify(messagePublisher, times(3))
+                .send(anyString(), anyString(), anyString(), anyLong(), anyString());
+        assertThat(result.publishedIds()).containsExactly(1L, 2L, 3L);
+        assertThat(result.failedIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실패 : NACK 받은 이벤트는 failedIds")
+    void relay_Nacked_GoesToFailed() {
+        // given
+        List<Outbox> batch = batchOf(1L, 2L);
+        given(messagePublisher.send(eq(batch.get(0).getEventId()), anyString(), anyString(), anyLong(), anyString()))
+                .willReturn(confirmed(batch.get(0).getEventId(), true));
+        given(messagePublisher.send(eq(batch.get(1).getEventId()), anyString(), anyString(), anyLong(), anyString()))
+                .willReturn(confirmed(batch.get(1).getEventId(), false));
+
+        // when
+        OutboxRelayResult result = relay.relay(batch);
+
+        // then
+        assertThat(result.publishedIds()).containsExactly(1L);
+        assertThat(result.failedIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("실패 : 전송 예외 발생 시 윈도우 슬롯 반환 후 다음 이벤트 계속 전송")
+    void relay_SendThrows_ContinuesWithNext() {
+        // given
+        List<Outbox> batch = batchOf(1L, 2L, 3L);
+        given(messagePublisher.send(eq(batch.get(0).getEventId()), anyString(), anyString(), anyLong(), anyString()))
+                .willThrow(new AmqpException("connection refused"));
+        given(messagePublisher.send(eq(batch.get(1).getEventId()), anyString(), anyString(), anyLong(), anyString()))
+                .willReturn(confirmed(batch.get(1).getEventId(), true));
+        given(messagePublisher.send(eq(batch.get(2).getEventId()), anyString(), anyString(), anyLong(), anyString()))
+                .willReturn(confirmed(batch.get(2).getEventId(), true));
+
+        // when
+        OutboxRelayResult result = relay.relay(batch);
+
+        // then
+        assertThat(result.publishedIds()).containsExactly(2L, 3L);
+        assertThat(result.failedIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("실패 : Future 예외 완료 -> failedIds")
+    void relay_FutureCompletesExceptionally() {
+        // given
+        List<Outbox> batch = batchOf(1L);
+        CorrelationData correlationData = new CorrelationData(batch.get(0).getEventId());
+        correlationData.getFuture().completeExceptionally(new RuntimeException("channel closed"));
+        given(messagePublisher.send(anyString(), anyString(), anyString(), anyLong(), anyString()))
+                .willReturn(correlationData);
+
+        // when
+        OutboxRelayResult result = relay.relay(batch);
+
+        // then
+        assertThat(result.publishedIds()).isEmpty();
+        assertThat(result.failedIds()).containsExactly(1L);
+    }
+
+    private List<Outbox> batchOf(Long... ids) {
+        List<Outbox> batch = new ArrayList<>();
+        for (Long id : ids) {
+            batch.add(OutboxFixture.failedWithRetryWithId(id, id, 0));
+        }
+        return batch;
+    }
+
+    private CorrelationData confirmed(String eventId, boolean ack) {
+        CorrelationData correlationData = new CorrelationData(eventId);
+        correlationData.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "queue full"));
+        return correlationData;
+    }
+}
@@ -0,0 +1,161 @@
+package com.ureca.snac.trade.repository;
+
+import com.ureca.snac.board.entity.constants.Carrier;
+import com.ureca.snac.member.entity.Member;
+import com.ureca.snac.member.repository.MemberRepository;
+import com.ureca.snac.support.RepositoryTestSupport;
+import com.ureca.snac.support.fixture.MemberFixture;
+import com.ureca.snac.trade.dto.TradeStatSummary;
+import com.ureca.snac.trade.entity.Trade;
+import com.ureca.snac.trade.entity.TradeHourlyStat;
+import com.ureca.snac.trade.entity.TradeStatus;
+import com.ureca.snac.trade.entity.TradeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TradeHourlyStatRepository 슬라이스 테스트
+ * accumulate: (carrier, bucket) UPSERT 누적
+ * sumByCarrierBetween: 구간 합계, 행 없으면 0
+ * rebuildBetween: 완료 거래에서 재계산해 덮어쓰기
+ */
+@DisplayName("TradeHourlyStatRepository 슬라이스 테스트")
+@Transactional
+class TradeHourlyStatRepositoryTest extends RepositoryTestSupport {
+
+    private static final LocalDateTime BUCKET = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    @Autowired
+    private TradeHourlyStatRepository tradeHourlyStatRepository;
+
+    @Autowired
+    private TradeRepository tradeRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Nested
+    @DisplayName("accumulate 메서드")
+    class AccumulateTest {
+
+        @Test
+        @DisplayName("성공 : 같은 구간은 한 행에 누적")
+        void accumulate_sameBucket_singleRow() {
+            // when
+            tradeHourlyStatRepository.accumulate(Carrier.SKT.name(), BUCKET, 1000, 2);
+            tradeHourlyStatRepository.accumulate(Carrier.SKT.name(), BUCKET, 1500, 5);
+            em.clear();
+
+            // then
+            List<TradeHourlyStat> rows = tradeHourlyStatRepository.findAll();
+            assertThat(rows).hasSize(1);
+            assertThat(rows.get(0).getTradeCount()).isEqualTo(2);
+            assertThat(rows.get(0).getTotalPrice()).isEqualTo(2500);
+            assertThat(rows.get(0).getTotalDataAmount()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("성공 : 통신사/구간이 다르면 별도 행")
+        void accumulate_differentKey_separateRows() {
+            // when
+            tradeHourlyStatRepository.accumulate(Carrier.SKT.name(), BUCKET, 1000, 2);
+            tradeHourlyStatRepository.accumulate(Carrier.KT.name(), BUCKET, 1000, 2);
+            tradeHourlyStatRepository.accumulate(Carrier.SKT.name(), BUCKET.plusHours(1), 1000, 2);
+            em.clear();
+
+            // then
+            assertThat(tradeHourlyStatRepository.findAll()).hasSize(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("sumByCarrierBetween 메서드")
+    class SumTest {
+
+        @Test
+        @DisplayName("성공 : [from, to) 구간만 합산")
+        void sum_onlyWithinWindow() {
+            // given
+            tradeHourlyStatRepository.accumulate(Carrier.SKT.name(), BUCKET, 1000, 2);
+            tradeHourlyStatRepository.accumulate(Carrier.SKT.name(), BUCKET.plusHours(23), 3000, 4);
+            tradeHourlyStatRepository.accumulate(Carrier.SKT.name(), BUCKET.plusHours(24), 9999, 9);
+            tradeHourlyStatRepository.accumulate(Carrier.KT.name(), BUCKET, 9999, 9);
+
+            // when
+            TradeStatSummary summary = tradeHourlyStatRepository
+                    .sumByCarrierBetween(Carrier.SKT, BUCKET, BUCKET.plusHours(24));
+
+            // then
+            assertThat(summary.tradeCount()).isEqualTo(2);
+            assertThat(summary.totalPrice()).isEqualTo(4000);
+            assertThat(summary.totalDataAmount()).isEqualTo(6);
+            assertThat(summary.avgPricePerGb()).isEqualTo(4000.0 / 6);
+        }
+
+        @Test
+        @DisplayName("성공 : 집계 행이 없으면 0")
+        void sum_noRows_zero() {
+            // when
+            TradeStatSummary summary = tradeHourlyStatRepository
+                    .sumByCarrierBetween(Carrier.LG, BUCKET, BUCKET.plusHours(24));
+
+            // then
+            assertThat(summary.tradeCount()).isZero();
+            assertThat(summary.avgPricePerGb()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuildBetween 메서드")
+    class RebuildTest {
+
+        @Test
+        @DisplayName("성공 : 잘못 누적된 구간을 완료 거래 기준으로 덮어쓰고, 완료되지 않은 거래는 제외")
+        void rebuild_overwritesFromCompletedTrades() {
+            // given
+            Member member = memberRepository.save(MemberFixture.builder().id(null).build());
+            Trade first = tradeRepository.save(trade(member, 1L, 1000, 2, TradeStatus.COMPLETED));
+            tradeRepository.save(trade(member, 2L, 3000, 4, TradeStatus.COMPLETED));
+            tradeRepository.save(trade(member, 3L, 9999, 9, TradeStatus.CANCELED));
+            em.flush();
+            LocalDateTime bucket = first.getUpdatedAt().truncatedTo(ChronoUnit.HOURS);
+            tradeHourlyStatRepository.accumulate(Carrier.SKT.name(), bucket, 999, 999);
+
+            // when
+            tradeHourlyStatRepository.rebuildBetween(bucket, bucket.plusHours(1));
+            em.clear();
+
+            // then
+            List<TradeHourlyStat> rows = tradeHourlyStatRepository.findAll();
+            assertThat(rows).hasSize(1);
+            assertThat(rows.get(0).getBucketStart()).isEqualTo(bucket);
+            assertThat(rows.get(0).getTradeCount()).isEqualTo(2);
+            assertThat(rows.get(0).getTotalPrice()).isEqualTo(4000);
+            assertThat(rows.get(0).getTotalDataAmount()).isEqualTo(6);
+        }
+
+        private Trade trade(Member member, Long cardId, int priceGb, int dataAmount, TradeStatus status) {
+            return Trade.builder()
+                    .tradeType(TradeType.NORMAL)
+                    .cardId(cardId)
+                    .seller(member)
+                    .buyer(member)
+                    .carrier(Carrier.SKT)
+                    .priceGb(priceGb)
+                    .dataAmount(dataAmount)
+                    .status(status)
+                    .phone("01011111111")
+                    .point(0)
+                    .build();
+        }
+    }
+}
@@ -8,9 +8,12 @@ import com.ureca.snac.support.fixture.MemberFixture;
 import com.ureca.snac.trade.entity.Trade;
 import com.ureca.snac.trade.fixture.CardFixture;
 import com.ureca.snac.trade.fixture.TradeFixture;
+import com.ureca.snac.trade.repository.TradeRepository;
 import com.ureca.snac.trade.service.TradeAlertService;
+import com.ureca.snac.trade.service.TradeHourlyStatRecorder;
 import com.ureca.snac.trade.service.interfaces.PenaltyService;
 import com.ureca.snac.wallet.dto.CompositeBalanceResult;
+import com.ureca.snac.wallet.dto.WalletTransferPlan;
 import com.ureca.snac.wallet.service.WalletService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,10 +23,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.TransientDataAccessException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.*;
@@ -57,6 +63,12 @@ class TradeAutoItemProcessorTest extends RetryTestSupport {
     @MockitoBean
     private TradeAlertService tradeAlertService;
 
+    @MockitoBean
+    private TradeHourlyStatRecorder tradeHourlyStatRecorder;
+
+    @MockitoBean
+    private TradeRepository tradeRepository;
+
     // SlackNotifier는 RetryTestSupport에서 @MockitoBean으로 등록됨 (상속)
 
     private Member buyer;
@@ -85,6 +97,7 @@ class TradeAutoItemProcessorTest extends RetryTestSupport {
             void processRefund_shouldRetry3TimesAndSendSlackOnExhaustion() {
                 // given
                 Trade trade = TradeFixture.createPaymentConfirmedTrade(TRADE_ID, buyer, seller, CARD_ID, PRICE);
+                given(tradeRepository.findLockedById(TRADE_ID)).willReturn(Optional.of(trade));
                 willAnswer(inv -> Optional.of(
                         CardFixture.createTradingCard(CARD_ID, seller, PRICE)
                 )).given(cardRepository).findLockedById(anyLong());
@@ -105,6 +118,7 @@ class TradeAutoItemProcessorTest extends RetryTestSupport {
             void processRefund_shouldSucceedOnThirdAttempt() {
                 // given
                 Trade trade = TradeFixture.createPaymentConfirmedTrade(TRADE_ID, buyer, seller, CARD_ID, PRICE);
+                given(tradeRepository.findLockedById(TRADE_ID)).willReturn(Optional.of(trade));
                 willAnswer(inv -> Optional.of(
                         CardFixture.createTradingCard(CARD_ID, seller, PRICE)
                 )).given(cardRepository).findLockedById(anyLong());
@@ -123,6 +137,22 @@ class TradeAutoItemProcessorTest extends RetryTestSupport {
                 verify(tradeAlertService, never()).alertAutoRefundFailure(anyLong(), any());
             }
         }
+
+        @Test
+        @DisplayName("정상 : 잠금 후 재조회 시 이미 처리된 거래면 환불하지 않음")
+        void processRefund_alreadyProcessed_skips() {
+            // given
+            Trade trade = TradeFixture.createPaymentConfirmedTrade(TRADE_ID, buyer, seller, CARD_ID, PRICE);
+            Trade processed = TradeFixture.createDataSentTrade(TRADE_ID, buyer, seller, CARD_ID, PRICE);
+            given(tradeRepository.findLockedById(TRADE_ID)).willReturn(Optional.of(processed));
+
+            // when
+            tradeAutoItemProcessor.processRefund(trade);
+
+            // then
+            verify(walletService, never()).cancelCompositeEscrow(anyLong(), anyLong(), anyLong());
+            verify(penaltyService, never()).givePenalty(any(), any());
+        }
     }
 
     @Nested
@@ -138,10 +168,11 @@ class TradeAutoItemProcessorTest extends RetryTestSupport {
             void processPayout_shouldRetry3TimesAndSendSlackOnExhaustion() {
                 // given
                 Trade trade = TradeFixture.createDataSentTrade(TRADE_ID, buyer, seller, CARD_ID, PRICE);
+                given(tradeRepository.findLockedById(TRADE_ID)).willReturn(Optional.of(trade));
                 willAnswer(inv -> Optional.of(
                         CardFixture.createTradingCard(CARD_ID, seller, PRICE)
                 )).given(cardRepository).findLockedById(anyLong());
-                given(walletService.deductCompositeEscrow(anyLong(), anyLong(), anyLong()))
+                given(walletService.executeTransferPlan(any()))
                         .willThrow(new TransientDataAccessException("DB timeout") {
                         });
 
@@ -149,7 +180,7 @@ class TradeAutoItemProcessorTest extends RetryTestSupport {
                 tradeAutoItemProcessor.processPayout(trade);
 
                 // then
-                verify(walletService, times(3)).deductCompositeEscrow(anyLong(), anyLong(), anyLong());
+                verify(walletService, times(3)).executeTransferPlan(any());
                 verify(tradeAlertService, times(1)).alertAutoPayoutFailure(anyLong(), any());
             }
 
@@ -158,24 +189,56 @@ class TradeAutoItemProcessorTest extends RetryTestSupport {
             void processPayout_shouldSucceedOnThirdAttempt() {
                 // given
                 Trade trade = TradeFixture.createDataSentTrade(TRADE_ID, buyer, seller, CARD_ID, PRICE);
+                given(tradeRepository.findLockedById(TRADE_ID)).willReturn(Optional.of(trade));
                 willAnswer(inv -> Optional.of(
                         CardFixture.createTradingCard(CARD_ID, seller, PRICE)
                 )).given(cardRepository).findLockedById(anyLong());
-                given(walletService.deductCompositeEscrow(anyLong(), anyLong(), anyLong()))
+                given(walletService.executeTransferPlan(any()))
                         .willThrow(new TransientDataAccessException("DB timeout") {
                         })
                         .willThrow(new TransientDataAccessException("DB timeout") {
                         })
-                        .willReturn(new CompositeBalanceResult(0L, 0L, 0L, 0L));
-                given(walletService.depositMoney(anyLong(), anyLong())).willReturn(15000L);
+                        .willReturn(payoutBalances(15000L));
 
                 // when
                 tradeAutoItemProcessor.processPayout(trade);
 
                 // then
-                verify(walletService, times(3)).deductCompositeEscrow(anyLong(), anyLong(), anyLong());
+                verify(walletService, times(3)).executeTransferPlan(any());
                 verify(tradeAlertService, never()).alertAutoPayoutFailure(anyLong(), any());
+                verify(tradeHourlyStatRecorder, times(1)).recordCompleted(trade);
             }
         }
+
+        @Test
+        @DisplayName("정상 : 구매자 에스크로 차감과 판매자 입금을 한 이체 계획으로 적용, 판매 내역은 계획 결과 잔액으로 기록")
+        void processPayout_appliesBuyerAndSellerInOnePlan() {
+            // given
+            Trade trade = TradeFixture.createDataSentTrade(TRADE_ID, buyer, seller, CARD_ID, PRICE);
+            given(tradeRepository.findLockedById(TRADE_ID)).willReturn(Optional.of(trade));
+            willAnswer(inv -> Optional.of(
+                    CardFixture.createTradingCard(CARD_ID, seller, PRICE)
+            )).given(cardRepository).findLockedById(anyLong());
+            given(walletService.executeTransferPlan(any())).willReturn(payoutBalances(15000L));
+
+            // when
+            tradeAutoItemProcessor.processPayout(trade);
+
+            // then
+            verify(walletService, times(1)).executeTransferPlan(WalletTransferPlan.builder()
+                    .deductCompositeEscrow(buyer.getId(), PRICE, 0L)
+                    .depositMoney(seller.getId(), PRICE)
+                    .build());
+            verify(walletService, never()).depositMoney(anyLong(), anyLong());
+            verify(assetRecorder).recordTradeSell(
+                    eq(seller.getId()), eq(TRADE_ID), anyString(), eq((long) PRICE), eq(15000L));
+        }
+    }
+
+    private Map<Long, CompositeBalanceResult> payoutBalances(long sellerMoneyAfter) {
+        return Map.of(
+                buyer.getId(), new CompositeBalanceResult(0L, 0L, 0L, 0L),
+                seller.getId(), new CompositeBalanceResult(sellerMoneyAfter, 0L, 0L, 0L)
+        );
     }
-}
+}
\ No newline at end of file
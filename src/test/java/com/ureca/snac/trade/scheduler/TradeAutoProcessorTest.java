@@ -0,0 +1,154 @@
+package com.ureca.snac.trade.scheduler;
+
+import com.ureca.snac.member.entity.Member;
+import com.ureca.snac.member.repository.MemberRepository;
+import com.ureca.snac.support.TestReflectionUtils;
+import com.ureca.snac.support.fixture.MemberFixture;
+import com.ureca.snac.trade.entity.Trade;
+import com.ureca.snac.trade.entity.TradeStatus;
+import com.ureca.snac.trade.fixture.TradeFixture;
+import com.ureca.snac.trade.repository.TradeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * TradeAutoProcessor 단위 테스트
+ * <p>
+ * 마감 도래 거래만 자동 환불/정산
+ * 상태가 바뀐 거래는 큐에서 제거, 갱신된 거래는 실제 마감으로 재등록
+ * 보정 스캔은 ID만 조회해 큐에 등록
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TradeAutoProcessor 단위 테스트")
+class TradeAutoProcessorTest {
+
+    private static final Long TRADE_ID = 1L;
+    private static final Long CARD_ID = 1L;
+    private static final int PRICE = 10000;
+    private static final int BATCH_SIZE = 50;
+
+    private TradeAutoProcessor tradeAutoProcessor;
+
+    @Mock
+    private TradeRepository tradeRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private TradeAutoItemProcessor tradeAutoItemProcessor;
+
+    @Mock
+    private TradeDeadlineQueue tradeDeadlineQueue;
+
+    private Member buyer;
+    private Member seller;
+
+    @BeforeEach
+    void setUp() {
+        tradeAutoProcessor = new TradeAutoProcessor(
+                tradeRepository, memberRepository, tradeAutoItemProcessor, tradeDeadlineQueue, BATCH_SIZE);
+        buyer = MemberFixture.createMember(1L);
+        seller = MemberFixture.createMember(2L);
+    }
+
+    @Nested
+    @DisplayName("processDueDeadlines 메서드")
+    class ProcessDueDeadlinesTest {
+
+        @Test
+        @DisplayName("성공 : 마감 지난 결제 완료 거래는 자동 환불 후 큐에서 제거")
+        void processDueDeadlines_dueRefund_processesAndRemoves() {
+            // given
+            Trade trade = TradeFixture.createPaymentConfirmedTrade(TRADE_ID, buyer, seller, CARD_ID, PRICE);
+            TestReflectionUtils.setField(trade, "updatedAt", LocalDateTime.now().minusHours(49));
+            given(tradeDeadlineQueue.claimDue(any(), anyInt())).willReturn(List.of());
+            given(tradeDeadlineQueue.claimDue(TradeDeadlineType.REFUND, BATCH_SIZE)).willReturn(List.of(TRADE_ID));
+            given(tradeRepository.findById(TRADE_ID)).willReturn(Optional.of(trade));
+
+            // when
+            tradeAutoProcessor.processDueDeadlines();
+
+            // then
+            verify(tradeAutoItemProcessor).processRefund(trade);
+            verify(tradeDeadlineQueue).remove(TradeDeadlineType.REFUND, TRADE_ID);
+        }
+
+        @Test
+        @DisplayName("성공 : 이미 상태가 바뀐 거래는 처리 없이 큐에서 제거")
+        void processDueDeadlines_statusChanged_removesOnly() {
+            // given
+            Trade trade = TradeFixture.createDataSentTrade(TRADE_ID, buyer, seller, CARD_ID, PRICE);
+            trade.changeStatus(TradeStatus.COMPLETED);
+            given(tradeDeadlineQueue.claimDue(any(), anyInt())).willReturn(List.of());
+            given(tradeDeadlineQueue.claimDue(TradeDeadlineType.PAYOUT, BATCH_SIZE)).willReturn(List.of(TRADE_ID));
+            given(tradeRepository.findById(TRADE_ID)).willReturn(Optional.of(trade));
+
+            // when
+            tradeAutoProcessor.processDueDeadlines();
+
+            // then
+            verify(tradeAutoItemProcessor, never()).processPayout(any());
+            verify(tradeDeadlineQueue).remove(TradeDeadlineType.PAYOUT, TRADE_ID);
+        }
+
+        @Test
+        @DisplayName("성공 : 등록 이후 갱신된 거래는 실제 마감 시각으로 재등록")
+        void processDueDeadlines_notYetDue_reschedules() {
+            // given
+            LocalDateTime updatedAt = LocalDateTime.now().minusHours(1);
+            Trade trade = TradeFixture.createDataSentTrade(TRADE_ID, buyer, seller, CARD_ID, PRICE);
+            TestReflectionUtils.setField(trade, "updatedAt", updatedAt);
+            given(tradeDeadlineQueue.claimDue(any(), anyInt())).willReturn(List.of());
+            given(tradeDeadlineQueue.claimDue(TradeDeadlineType.PAYOUT, BATCH_SIZE)).willReturn(List.of(TRADE_ID));
+            given(tradeRepository.findById(TRADE_ID)).willReturn(Optional.of(trade));
+
+            // when
+            tradeAutoProcessor.processDueDeadlines();
+
+            // then
+            verify(tradeAutoItemProcessor, never()).processPayout(any());
+            verify(tradeDeadlineQueue).schedule(
+                    TradeDeadlineType.PAYOUT, TRADE_ID, updatedAt.plus(TradeDeadlineType.GRACE_PERIOD));
+            verify(tradeDeadlineQueue, never()).remove(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("sweepOverdueDeadlines 메서드")
+    class SweepOverdueDeadlinesTest {
+
+        @Test
+        @DisplayName("성공 : 마감 지난 거래 ID를 유형별로 큐에 등록")
+        void sweepOverdueDeadlines_schedulesOverdueIds() {
+            // given
+            given(tradeRepository.findIdsByStatusAndUpdatedAtBefore(eq(TradeStatus.PAYMENT_CONFIRMED), any()))
+                    .willReturn(List.of(1L));
+            given(tradeRepository.findIdsByStatusAndUpdatedAtBeforeAndAutoConfirmPausedFalse(eq(TradeStatus.DATA_SENT), any()))
+                    .willReturn(List.of(2L));
+
+            // when
+            tradeAutoProcessor.sweepOverdueDeadlines();
+
+            // then
+            verify(tradeDeadlineQueue).schedule(eq(TradeDeadlineType.REFUND), eq(1L), any());
+            verify(tradeDeadlineQueue).schedule(eq(TradeDeadlineType.PAYOUT), eq(2L), any());
+        }
+    }
+}
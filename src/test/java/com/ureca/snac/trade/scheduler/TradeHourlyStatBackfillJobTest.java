@@ -0,0 +1,100 @@
+package com.ureca.snac.trade.scheduler;
+
+import com.ureca.snac.board.entity.constants.Carrier;
+import com.ureca.snac.member.entity.Member;
+import com.ureca.snac.member.repository.MemberRepository;
+import com.ureca.snac.support.RepositoryTestSupport;
+import com.ureca.snac.support.fixture.MemberFixture;
+import com.ureca.snac.trade.entity.Trade;
+import com.ureca.snac.trade.entity.TradeHourlyStat;
+import com.ureca.snac.trade.entity.TradeStatus;
+import com.ureca.snac.trade.entity.TradeType;
+import com.ureca.snac.trade.repository.TradeHourlyStatRepository;
+import com.ureca.snac.trade.repository.TradeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TradeHourlyStatBackfillJob 테스트
+ * 스케줄러처럼 바깥 트랜잭션 없이 실행해도 구간별 재계산이 커밋되는지 검증
+ */
+@DisplayName("TradeHourlyStatBackfillJob 테스트")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TradeHourlyStatBackfillJobTest extends RepositoryTestSupport {
+
+    @Autowired
+    private TradeHourlyStatRepository tradeHourlyStatRepository;
+
+    @Autowired
+    private TradeRepository tradeRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        tradeHourlyStatRepository.deleteAllInBatch();
+        tradeRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Nested
+    @DisplayName("backfill 메서드")
+    class BackfillTest {
+
+        @Test
+        @DisplayName("성공 : 트랜잭션 밖에서 실행해도 끝난 구간의 완료 거래로 집계 행 생성")
+        void backfill_withoutOuterTransaction_rebuildsFinishedBuckets() {
+            // given
+            Member member = memberRepository.save(MemberFixture.builder().id(null).build());
+            Trade first = tradeRepository.save(trade(member, 1L, 1000, 2));
+            Trade second = tradeRepository.save(trade(member, 2L, 3000, 4));
+            LocalDateTime completedAt = LocalDateTime.now().minusHours(1);
+            jdbcTemplate.update("UPDATE trade SET updated_at = ? WHERE trade_id IN (?, ?)",
+                    completedAt, first.getId(), second.getId());
+
+            TradeHourlyStatBackfillJob job = new TradeHourlyStatBackfillJob(tradeHourlyStatRepository, 3, 1);
+
+            // when
+            job.backfill();
+
+            // then
+            List<TradeHourlyStat> rows = tradeHourlyStatRepository.findAll();
+            assertThat(rows).hasSize(1);
+            assertThat(rows.get(0).getBucketStart()).isEqualTo(completedAt.truncatedTo(ChronoUnit.HOURS));
+            assertThat(rows.get(0).getTradeCount()).isEqualTo(2);
+            assertThat(rows.get(0).getTotalPrice()).isEqualTo(4000);
+            assertThat(rows.get(0).getTotalDataAmount()).isEqualTo(6);
+        }
+    }
+
+    private Trade trade(Member member, Long cardId, int priceGb, int dataAmount) {
+        return Trade.builder()
+                .tradeType(TradeType.NORMAL)
+                .cardId(cardId)
+                .seller(member)
+                .buyer(member)
+                .carrier(Carrier.SKT)
+                .priceGb(priceGb)
+                .dataAmount(dataAmount)
+                .status(TradeStatus.COMPLETED)
+                .phone("01011111111")
+                .point(0)
+                .build();
+    }
+}
@@ -0,0 +1,272 @@
+package com.ureca.snac.trade.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ureca.snac.board.entity.constants.Carrier;
+import com.ureca.snac.board.entity.constants.PriceRange;
+import com.ureca.snac.trade.controller.request.BuyerFilterRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.ureca.snac.common.RedisKeyConstants.BUYER_FILTER_CHANNEL;
+import static com.ureca.snac.common.RedisKeyConstants.BUYER_FILTER_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * BuyerFilterIndex 단위 테스트
+ * <p>
+ * (통신사, 데이터량) 버킷 + 최대 가격 구간 조회
+ * 필터 교체/삭제 시 색인 정리
+ * Pub/Sub 메시지 수신 시 Redis 값으로 갱신
+ * 주기/재구독 재동기화 시 Redis 값 반영 + 놓친 삭제 정리
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BuyerFilterIndex 단위 테스트")
+class BuyerFilterIndexTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BuyerFilterIndex index;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @BeforeEach
+    void setUp() {
+        index = new BuyerFilterIndex(redisTemplate, objectMapper, new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("findMatchingBuyers 메서드")
+    class FindMatchingBuyersTest {
+
+        @Test
+        @DisplayName("성공 : 판매가 이하 최대 가격 필터는 제외, ALL은 항상 포함")
+        void findMatchingBuyers_filtersByMaxPrice() {
+            // given
+            index.put("cheap", filter(Carrier.SKT, 2, PriceRange.P0_1000));
+            index.put("middle", filter(Carrier.SKT, 2, PriceRange.P0_2000));
+            index.put("any", filter(Carrier.SKT, 2, PriceRange.ALL));
+
+            // when
+            var buyers = index.findMatchingBuyers(Carrier.SKT, 2, 1500);
+
+            // then
+            assertThat(buyers).containsExactlyInAnyOrder("middle", "any");
+        }
+
+        @Test
+        @DisplayName("성공 : 통신사/데이터량이 다르면 제외")
+        void findMatchingBuyers_differentBucket_excluded() {
+            // given
+            index.put("kt", filter(Carrier.KT, 2, PriceRange.ALL));
+            index.put("skt1", filter(Carrier.SKT, 1, PriceRange.ALL));
+
+            // when & then
+            assertThat(index.findMatchingBuyers(Carrier.SKT, 2, 1000)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공 : 비활성 필터는 매칭 제외, 전체 조회에는 포함")
+        void findMatchingBuyers_inactive_excluded() {
+            // given
+            BuyerFilterRequest inactive = filter(Carrier.SKT, 2, PriceRange.ALL);
+            inactive.setActive(false);
+            index.put("inactive", inactive);
+
+            // when & then
+            assertThat(index.findMatchingBuyers(Carrier.SKT, 2, 1000)).isEmpty();
+            assertThat(index.snapshot()).containsKey("inactive");
+        }
+
+        @Test
+        @DisplayName("성공 : 음수 가격은 매칭 없음")
+        void findMatchingBuyers_negativePrice_empty() {
+            index.put("any", filter(Carrier.SKT, 2, PriceRange.ALL));
+
+            assertThat(index.findMatchingBuyers(Carrier.SKT, 2, -1)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("put / remove 메서드")
+    class MutationTest {
+
+        @Test
+        @DisplayName("성공 : 필터 교체 시 이전 버킷에서 제거")
+        void put_replacesPreviousFilter() {
+            // given
+            index.put("buyer", filter(Carrier.SKT, 2, PriceRange.ALL));
+
+            // when
+            index.put("buyer", filter(Carrier.KT, 2, PriceRange.ALL));
+
+            // then
+            assertThat(index.findMatchingBuyers(Carrier.SKT, 2, 1000)).isEmpty();
+            assertThat(index.findMatchingBuyers(Carrier.KT, 2, 1000)).containsExactly("buyer");
+        }
+
+        @Test
+        @DisplayName("성공 : 삭제 시 색인과 전체 조회에서 제거")
+        void remove_clearsIndex() {
+            // given
+            index.put("buyer", filter(Carrier.SKT, 2, PriceRange.ALL));
+
+            // when
+            index.remove("buyer");
+
+            // then
+            assertThat(index.findMatchingBuyers(Carrier.SKT, 2, 1000)).isEmpty();
+            assertThat(index.snapshot()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("onMessage 메서드")
+    class OnMessageTest {
+
+        @Test
+        @DisplayName("성공 : 변경 알림 수신 시 Redis 값으로 갱신")
+        void onMessage_reloadsFromRedis() throws Exception {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(BUYER_FILTER_PREFIX + "buyer"))
+                    .willReturn(objectMapper.writeValueAsString(filter(Carrier.LG, 5, PriceRange.P0_2500)));
+
+            // when
+            index.onMessage(message("buyer"), null);
+
+            // then
+            assertThat(index.findMatchingBuyers(Carrier.LG, 5, 2500)).containsExactly("buyer");
+        }
+
+        @Test
+        @DisplayName("성공 : Redis 키가 없으면 로컬 색인에서도 제거")
+        void onMessage_keyDeleted_removes() {
+            // given
+            index.put("buyer", filter(Carrier.SKT, 2, PriceRange.ALL));
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(BUYER_FILTER_PREFIX + "buyer")).willReturn(null);
+
+            // when
+            index.onMessage(message("buyer"), null);
+
+            // then
+            assertThat(index.snapshot()).isEmpty();
+            assertThat(index.findMatchingBuyers(Carrier.SKT, 2, 1000)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuild 메서드")
+    class RebuildTest {
+
+        @Test
+        @DisplayName("성공 : Redis 조회 실패 시 예외 없이 빈 색인 유지")
+        void rebuild_redisFailure_doesNotThrow() {
+            // given
+            given(redisTemplate.scan(any(ScanOptions.class)))
+                    .willThrow(new RedisConnectionFailureException("connection refused"));
+
+            // when & then
+            assertThatCode(() -> index.rebuild()).doesNotThrowAnyException();
+            assertThat(index.snapshot()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공 : 재동기화 시 Redis 값으로 갱신하고 삭제 알림을 놓친 로컬 필터 제거")
+        void rebuild_resyncsAndRemovesMissing() throws Exception {
+            // given
+            index.put("kept", filter(Carrier.SKT, 2, PriceRange.ALL));
+            index.put("gone", filter(Carrier.SKT, 2, PriceRange.ALL));
+
+            Cursor<String> cursor = scanCursor(BUYER_FILTER_PREFIX + "kept");
+            given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.multiGet(List.of(BUYER_FILTER_PREFIX + "kept")))
+                    .willReturn(List.of(objectMapper.writeValueAsString(filter(Carrier.KT, 2, PriceRange.ALL))));
+            given(valueOperations.get(BUYER_FILTER_PREFIX + "gone")).willReturn(null);
+
+            // when
+            index.rebuild();
+
+            // then
+            assertThat(index.snapshot()).containsOnlyKeys("kept");
+            assertThat(index.findMatchingBuyers(Carrier.KT, 2, 1000)).containsExactly("kept");
+            assertThat(index.findMatchingBuyers(Carrier.SKT, 2, 1000)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("onChannelSubscribed 메서드")
+    class OnChannelSubscribedTest {
+
+        @Test
+        @DisplayName("성공 : 첫 구독은 기동 재구성에 맡기고, 재구독 시 재동기화")
+        void onChannelSubscribed_resubscribe_resyncs() {
+            // given
+            Cursor<String> cursor = scanCursor();
+            given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+            byte[] channel = BUYER_FILTER_CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+            // when
+            index.onChannelSubscribed(channel, 1);
+            verify(redisTemplate, after(200).never()).scan(any(ScanOptions.class));
+            index.onChannelSubscribed(channel, 1);
+
+            // then
+            verify(redisTemplate, timeout(1000)).scan(any(ScanOptions.class));
+            index.shutdown();
+        }
+    }
+
+    private BuyerFilterRequest filter(Carrier carrier, int dataAmount, PriceRange priceRange) {
+        BuyerFilterRequest filter = new BuyerFilterRequest();
+        filter.setCarrier(carrier);
+        filter.setDataAmount(dataAmount);
+        filter.setPriceRange(priceRange);
+        return filter;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cursor<String> scanCursor(String... keys) {
+        Cursor<String> cursor = mock(Cursor.class);
+        Iterator<String> iterator = List.of(keys).iterator();
+        given(cursor.hasNext()).willAnswer(invocation -> iterator.hasNext());
+        lenient().when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        return cursor;
+    }
+
+    private DefaultMessage message(String username) {
+        return new DefaultMessage(
+                BUYER_FILTER_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                username.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -0,0 +1,98 @@
+package com.ureca.snac.trade.service;
+
+import com.ureca.snac.config.RabbitMQConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static com.ureca.snac.common.RedisKeyConstants.CONNECTED_USERS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ConnectedUserCountPublisher 단위 테스트
+ * <p>
+ * 구간 안의 변경은 브로드캐스트 1회로 합류, 생략 수 기록
+ * 전송 후 변경은 다음 구간에 다시 예약
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConnectedUserCountPublisher 단위 테스트")
+class ConnectedUserCountPublisherTest {
+
+    // 예약된 전송이 테스트 중 실행되지 않도록 충분히 긴 구간
+    private static final long INTERVAL_MS = 60_000L;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConnectedUserCountPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new ConnectedUserCountPublisher(redisTemplate, rabbitTemplate, meterRegistry, INTERVAL_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Test
+    @DisplayName("성공 : 구간 안 변경 N건 -> 최신 접속자 수 1회 전송, N-1건 생략")
+    void markDirty_coalescesWithinInterval() {
+        // given
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.size(CONNECTED_USERS)).willReturn(42L);
+
+        // when
+        publisher.markDirty();
+        publisher.markDirty();
+        publisher.markDirty();
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class));
+        publisher.flush();
+
+        // then
+        verify(rabbitTemplate, times(1)).convertAndSend(RabbitMQConfig.CONNECTED_USERS_EXCHANGE, "", 42L);
+        assertThat(meterRegistry.get("connected_users_broadcast_suppressed_total").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("connected_users_broadcast_total").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공 : 전송 후 변경은 생략하지 않고 다음 구간으로 예약")
+    void markDirty_afterFlush_schedulesAgain() {
+        // given
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.size(CONNECTED_USERS)).willReturn(1L);
+        publisher.markDirty();
+        publisher.flush();
+
+        // when
+        publisher.markDirty();
+
+        // then
+        assertThat(meterRegistry.get("connected_users_broadcast_suppressed_total").counter().count()).isZero();
+        verify(rabbitTemplate, times(1)).convertAndSend(eq(RabbitMQConfig.CONNECTED_USERS_EXCHANGE), eq(""), any(Object.class));
+    }
+}
@@ -0,0 +1,180 @@
+package com.ureca.snac.trade.service;
+
+import com.ureca.snac.support.IntegrationTestSupport;
+import com.ureca.snac.trade.service.DisconnectCleanupWorker.CleanupResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static com.ureca.snac.common.RedisKeyConstants.WS_DISCONNECT_CLEANUP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * DisconnectCleanupQueue 테스트 (실제 Redis)
+ * <p>
+ * 유예 시간 안 재접속 시 정리 취소
+ * 유예 시간이 지난 회원은 batch-size 단위 묶음으로 워커에 전달
+ * 다시 시도할 회원은 lease 만료 후 다시 점유, 종료 시 유예 중인 회원은 Redis 에 남김
+ */
+@DisplayName("DisconnectCleanupQueue 테스트")
+// 컨텍스트의 대기열 빈이 테스트 항목을 가져가지 않도록 주기 분배를 사실상 끔
+@TestPropertySource(properties = "trade.disconnect-cleanup.poll-interval-ms=600000")
+class DisconnectCleanupQueueTest extends IntegrationTestSupport {
+
+    // 주기 분배가 테스트 중 돌지 않도록 start() 를 호출하지 않고 dispatchDue() 를 직접 호출
+    private static final long POLL_INTERVAL_MS = 60_000L;
+    private static final long LEASE_MS = 300L;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final DisconnectCleanupWorker worker = mock(DisconnectCleanupWorker.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private DisconnectCleanupQueue queue;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("성공 : 유예 시간 안에 재접속하면 정리하지 않음")
+    void cancel_withinGrace_skipsCleanup() {
+        // given
+        queue = queue(0L, 10, 60_000L);
+        queue.submit("user");
+
+        // when
+        queue.cancel("user");
+        queue.dispatchDue();
+
+        // then
+        verify(worker, never()).cleanup(anyList());
+        assertThat(meterRegistry.get("ws_disconnect_cleanup_reconnected_total").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공 : 유예 시간 전에는 분배하지 않음")
+    void dispatchDue_beforeGrace_keepsPending() {
+        // given
+        queue = queue(60_000L, 10, 60_000L);
+        queue.submit("user");
+
+        // when
+        queue.dispatchDue();
+
+        // then
+        verify(worker, never()).cleanup(anyList());
+        assertThat(meterRegistry.get("ws_disconnect_cleanup_queue_depth").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공 : 같은 회원 해제는 하나로 합치고, 유예가 지나면 batch-size 단위로 묶어 전달")
+    void dispatchDue_groupsIntoBatches() {
+        // given
+        queue = queue(0L, 2, 60_000L);
+        given(worker.cleanup(anyList())).willAnswer(invocation ->
+                new CleanupResult(Set.copyOf(invocation.<List<String>>getArgument(0)), Set.of(), Set.of()));
+        queue.submit("a");
+        queue.submit("a");
+        queue.submit("b");
+        queue.submit("c");
+
+        // when
+        queue.dispatchDue();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass(List.class);
+        verify(worker, timeout(1_000).times(2)).cleanup(captor.capture());
+        assertThat(captor.getAllValues()).flatExtracting(batch -> batch)
+                .containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(captor.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(2));
+        await().atMost(Duration.ofSeconds(1))
+                .untilAsserted(() -> assertThat(stringRedisTemplate.opsForZSet().zCard(WS_DISCONNECT_CLEANUP)).isZero());
+    }
+
+    @Test
+    @DisplayName("성공 : 다시 시도할 회원은 대기열에 남아 lease 만료 후 다시 전달")
+    void dispatchDue_retryUser_reclaimedAfterLease() {
+        // given
+        queue = queue(0L, 10, LEASE_MS);
+        given(worker.cleanup(anyList()))
+                .willReturn(new CleanupResult(Set.of("ok"), Set.of(), Set.of("failing")))
+                .willReturn(new CleanupResult(Set.of("failing"), Set.of(), Set.of()));
+        queue.submit("ok");
+        queue.submit("failing");
+
+        queue.dispatchDue();
+        verify(worker, timeout(1_000).times(1)).cleanup(anyList());
+        await().atMost(Duration.ofSeconds(1))
+                .untilAsserted(() -> assertThat(stringRedisTemplate.opsForZSet().score(WS_DISCONNECT_CLEANUP, "ok")).isNull());
+
+        // when
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> {
+            queue.dispatchDue();
+            verify(worker, timeout(200)).cleanup(List.of("failing"));
+        });
+
+        // then
+        assertThat(meterRegistry.get("ws_disconnect_cleanup_retry_total").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공 : max-attempts 를 넘긴 회원은 대기열에서 제거")
+    void dispatchDue_overMaxAttempts_abandons() {
+        // given
+        queue = queue(0L, 10, LEASE_MS);
+        given(worker.cleanup(anyList())).willReturn(new CleanupResult(Set.of(), Set.of(), Set.of("failing")));
+        queue.submit("failing");
+
+        // when
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> {
+            queue.dispatchDue();
+            verify(worker, timeout(200).times(2)).cleanup(anyList());
+        });
+
+        // then
+        await().atMost(Duration.ofSeconds(1))
+                .untilAsserted(() -> assertThat(stringRedisTemplate.opsForZSet().zCard(WS_DISCONNECT_CLEANUP)).isZero());
+        assertThat(meterRegistry.get("ws_disconnect_cleanup_abandoned_total").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공 : 종료 시 유예 중인 회원은 바로 정리하지 않고 Redis 에 남김")
+    void shutdown_keepsPendingInRedis() throws InterruptedException {
+        // given
+        queue = queue(60_000L, 10, 60_000L);
+        queue.submit("user");
+
+        // when
+        queue.shutdown();
+
+        // then
+        verify(worker, never()).cleanup(anyList());
+        assertThat(stringRedisTemplate.opsForZSet().score(WS_DISCONNECT_CLEANUP, "user")).isNotNull();
+    }
+
+    private DisconnectCleanupQueue queue(long graceMs, int batchSize, long leaseMs) {
+        return new DisconnectCleanupQueue(worker, stringRedisTemplate, meterRegistry,
+                graceMs, POLL_INTERVAL_MS, batchSize, leaseMs, 2, 2);
+    }
+}
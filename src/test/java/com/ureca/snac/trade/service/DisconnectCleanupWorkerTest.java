@@ -0,0 +1,159 @@
+package com.ureca.snac.trade.service;
+
+import com.ureca.snac.board.service.CardService;
+import com.ureca.snac.notification.service.NotificationService;
+import com.ureca.snac.trade.dto.TradeDto;
+import com.ureca.snac.trade.service.DisconnectCleanupWorker.CleanupResult;
+import com.ureca.snac.trade.service.interfaces.BuyFilterService;
+import com.ureca.snac.trade.service.interfaces.TradeCancelService;
+import com.ureca.snac.trade.service.interfaces.TradeProgressService;
+import com.ureca.snac.trade.service.interfaces.TradeQueryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.ureca.snac.common.RedisKeyConstants.CONNECTED_USERS;
+import static com.ureca.snac.common.RedisKeyConstants.WS_DISCONNECT_LOCK_PREFIX;
+import static com.ureca.snac.trade.entity.CancelReason.BUYER_FORCED_TERMINATION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * DisconnectCleanupWorker 단위 테스트
+ * <p>
+ * 한 회원의 정리 실패가 묶음의 다른 회원 정리를 막지 않고,
+ * 실패한 회원은 다시 시도 대상으로 돌려주는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DisconnectCleanupWorker 단위 테스트")
+class DisconnectCleanupWorkerTest {
+
+    @InjectMocks
+    private DisconnectCleanupWorker worker;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private SetOperations<String, String> setOperations;
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RLock lock;
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private TradeProgressService tradeProgressService;
+    @Mock
+    private TradeQueryService tradeQueryService;
+    @Mock
+    private TradeCancelService tradeCancelService;
+    @Mock
+    private BuyFilterService buyFilterService;
+    @Mock
+    private CardService cardService;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+    }
+
+    @Nested
+    @DisplayName("회원별 실패 격리")
+    class FailureIsolationTest {
+
+        @BeforeEach
+        void setUp() throws InterruptedException {
+            given(setOperations.isMember(eq(CONNECTED_USERS), any(Object[].class)))
+                    .willReturn(Map.<Object, Boolean>of("good", false, "bad", false));
+            given(redissonClient.getLock(anyString())).willReturn(lock);
+            given(lock.tryLock(0, 30, TimeUnit.SECONDS)).willReturn(true);
+            given(lock.isHeldByCurrentThread()).willReturn(true);
+        }
+
+        @Test
+        @DisplayName("성공 : 한 회원의 필터 삭제가 실패해도 나머지 회원은 정리하고, 실패 회원은 다시 시도로 반환")
+        void cleanup_oneUserFails_othersCleaned() {
+            // given
+            willThrow(new IllegalStateException("redis down"))
+                    .given(buyFilterService).deleteBuyerFilterByUsername("bad");
+            given(tradeQueryService.findCancellableRealTimeTrades(Set.of("good"))).willReturn(List.of());
+            given(cardService.deleteRealtimeCardsByUsernames(Set.of("good"))).willReturn(1);
+
+            // when
+            CleanupResult result = worker.cleanup(List.of("good", "bad"));
+
+            // then
+            assertThat(result.cleaned()).containsExactly("good");
+            assertThat(result.retry()).containsExactly("bad");
+            assertThat(result.skipped()).isEmpty();
+            verify(buyFilterService).deleteBuyerFilterByUsername("good");
+            verify(cardService).deleteRealtimeCardsByUsernames(Set.of("good"));
+            verify(lock, times(2)).unlock();
+        }
+
+        @Test
+        @DisplayName("성공 : 거래 강제 종료에 실패한 회원은 카드를 지우지 않고 다시 시도로 반환")
+        void cleanup_tradeCancelFails_retriesParticipant() {
+            // given
+            TradeDto trade = TradeDto.builder().tradeId(1L).buyer("bad").seller("other").build();
+            given(tradeQueryService.findCancellableRealTimeTrades(Set.of("good", "bad"))).willReturn(List.of(trade));
+            given(tradeCancelService.cancelRealTimeTrade(1L, "bad", BUYER_FORCED_TERMINATION))
+                    .willThrow(new IllegalStateException("lock timeout"));
+            given(cardService.deleteRealtimeCardsByUsernames(Set.of("good"))).willReturn(0);
+
+            // when
+            CleanupResult result = worker.cleanup(List.of("good", "bad"));
+
+            // then
+            assertThat(result.cleaned()).containsExactly("good");
+            assertThat(result.retry()).containsExactly("bad");
+            verify(notificationService, never()).sendCancelNotification(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("건너뛰기/락 점유")
+    class SkipTest {
+
+        @Test
+        @DisplayName("성공 : 재접속한 회원은 건너뛰고, 다른 노드가 정리 중인 회원은 다시 시도로 반환")
+        void cleanup_reconnectedAndLocked() throws InterruptedException {
+            // given
+            given(setOperations.isMember(eq(CONNECTED_USERS), any(Object[].class)))
+                    .willReturn(Map.<Object, Boolean>of("back", true, "busy", false));
+            given(redissonClient.getLock(WS_DISCONNECT_LOCK_PREFIX + "busy")).willReturn(lock);
+            given(lock.tryLock(0, 30, TimeUnit.SECONDS)).willReturn(false);
+
+            // when
+            CleanupResult result = worker.cleanup(List.of("back", "busy"));
+
+            // then
+            assertThat(result.cleaned()).isEmpty();
+            assertThat(result.skipped()).containsExactly("back");
+            assertThat(result.retry()).containsExactly("busy");
+            verify(buyFilterService, never()).deleteBuyerFilterByUsername(anyString());
+            verify(lock, never()).unlock();
+        }
+    }
+}
@@ -13,6 +13,8 @@ import com.ureca.snac.trade.entity.Trade;
 import com.ureca.snac.trade.fixture.CardFixture;
 import com.ureca.snac.trade.fixture.TradeFixture;
 import com.ureca.snac.trade.repository.TradeRepository;
+import com.ureca.snac.trade.scheduler.TradeDeadlineQueue;
+import com.ureca.snac.trade.scheduler.TradeDeadlineType;
 import com.ureca.snac.trade.service.interfaces.TradeInitiationService;
 import com.ureca.snac.wallet.dto.CompositeBalanceResult;
 import com.ureca.snac.wallet.service.WalletService;
@@ -63,6 +65,9 @@ class TradeInitiationServiceImplTest extends RetryTestSupport {
     @MockitoBean
     private TradeAlertService tradeAlertService;
 
+    @MockitoBean
+    private TradeDeadlineQueue tradeDeadlineQueue;
+
     // SlackNotifier는 RetryTestSupport에서 @MockitoBean으로 등록됨 (상속)
 
     private Member buyer;
@@ -143,6 +148,7 @@ class TradeInitiationServiceImplTest extends RetryTestSupport {
 
                 // then
                 verify(walletService, times(3)).moveCompositeToEscrow(anyLong(), anyLong(), anyLong());
+                verify(tradeDeadlineQueue, times(1)).scheduleAfterCommit(TradeDeadlineType.REFUND, TRADE_ID);
             }
 
             @Test
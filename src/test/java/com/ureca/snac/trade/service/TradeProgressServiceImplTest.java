@@ -1,5 +1,6 @@
 package com.ureca.snac.trade.service;
 
+import com.ureca.snac.asset.entity.TransactionDetail;
 import com.ureca.snac.asset.service.AssetRecorder;
 import com.ureca.snac.board.entity.Card;
 import com.ureca.snac.board.repository.CardRepository;
@@ -11,8 +12,10 @@ import com.ureca.snac.support.fixture.MemberFixture;
 import com.ureca.snac.trade.fixture.CardFixture;
 import com.ureca.snac.trade.fixture.TradeFixture;
 import com.ureca.snac.trade.repository.TradeRepository;
+import com.ureca.snac.trade.scheduler.TradeDeadlineQueue;
 import com.ureca.snac.trade.service.interfaces.TradeProgressService;
 import com.ureca.snac.wallet.dto.CompositeBalanceResult;
+import com.ureca.snac.wallet.dto.WalletTransferPlan;
 import com.ureca.snac.wallet.service.WalletService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +25,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.TransientDataAccessException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -63,6 +67,12 @@ class TradeProgressServiceImplTest extends RetryTestSupport {
     @MockitoBean
     private TradeAlertService tradeAlertService;
 
+    @MockitoBean
+    private TradeHourlyStatRecorder tradeHourlyStatRecorder;
+
+    @MockitoBean
+    private TradeDeadlineQueue tradeDeadlineQueue;
+
     // SlackNotifier는 RetryTestSupport에서 @MockitoBean으로 등록됨 (상속)
 
     private Member buyer;
@@ -72,6 +82,9 @@ class TradeProgressServiceImplTest extends RetryTestSupport {
     private static final Long TRADE_ID = 1L;
     private static final Long CARD_ID = 1L;
     private static final int PRICE = 10000;
+    private static final long COMPLETION_BONUS = TransactionDetail.TRADE_COMPLETION_BONUS.getDefaultAmount();
+    private static final long SELLER_MONEY_AFTER = 20000L;
+    private static final long SELLER_POINT_AFTER = 500L;
 
     @BeforeEach
     void setUp() {
@@ -85,21 +98,18 @@ class TradeProgressServiceImplTest extends RetryTestSupport {
     class ConfirmTradeTest {
 
         @Nested
-        @DisplayName("에스크로 차감 동작")
-        class EscrowDeductTest {
+        @DisplayName("이체 계획 동작")
+        class TransferPlanTest {
 
             @Test
-            @DisplayName("정상 : 머니만 사용한 거래 확정 시 deductCompositeEscrow(buyer, money, 0) 호출")
+            @DisplayName("정상 : 머니만 사용한 거래 확정 시 구매자 차감(money, 0) + 판매자 입금을 한 이체 계획으로 적용")
             void confirmTrade_moneyOnly_shouldDeductBuyerEscrow() {
                 // given — priceGb=10000, point=0 → moneyToDeduct=10000, pointToDeduct=0
                 willAnswer(inv -> Optional.of(
                         TradeFixture.createDataSentTrade(TRADE_ID, buyer, seller, CARD_ID, PRICE)
                 )).given(tradeRepository).findLockedById(anyLong());
                 given(memberRepository.findByEmail(anyString())).willReturn(Optional.of(buyer));
-                given(walletService.deductCompositeEscrow(anyLong(), anyLong(), anyLong()))
-                        .willReturn(new CompositeBalanceResult(0L, 0L, 0L, 0L));
-                given(walletService.depositMoney(anyLong(), anyLong())).willReturn(20000L);
-                given(walletService.depositPoint(anyLong(), anyLong())).willReturn(500L);
+                given(walletService.executeTransferPlan(any())).willReturn(settledBalances());
                 willAnswer(inv -> Optional.of(
                         CardFixture.createTradingCard(CARD_ID, seller, PRICE)
                 )).given(cardRepository).findLockedById(anyLong());
@@ -108,22 +118,18 @@ class TradeProgressServiceImplTest extends RetryTestSupport {
                 tradeProgressService.confirmTrade(TRADE_ID, "buyer@test.com", true);
 
                 // then
-                verify(walletService, times(1)).deductCompositeEscrow(buyer.getId(), (long) PRICE, 0L);
-                verify(walletService, times(1)).depositMoney(seller.getId(), (long) PRICE);
+                verify(walletService, times(1)).executeTransferPlan(settlementPlan((long) PRICE, 0L));
             }
 
             @Test
-            @DisplayName("정상 : 머니+포인트 복합 거래 확정 시 deductCompositeEscrow(buyer, money-point, point) 호출")
+            @DisplayName("정상 : 머니+포인트 복합 거래 확정 시 구매자 차감(money-point, point) + 판매자 입금을 한 이체 계획으로 적용")
             void confirmTrade_composite_shouldDeductBuyerEscrowWithPoint() {
                 // given — priceGb=10000, point=3000 → moneyToDeduct=7000, pointToDeduct=3000
                 willAnswer(inv -> Optional.of(
                         TradeFixture.createDataSentTradeWithPoint(TRADE_ID, buyer, seller, CARD_ID, PRICE, 3000)
                 )).given(tradeRepository).findLockedById(anyLong());
                 given(memberRepository.findByEmail(anyString())).willReturn(Optional.of(buyer));
-                given(walletService.deductCompositeEscrow(anyLong(), anyLong(), anyLong()))
-                        .willReturn(new CompositeBalanceResult(0L, 0L, 0L, 0L));
-                given(walletService.depositMoney(anyLong(), anyLong())).willReturn(20000L);
-                given(walletService.depositPoint(anyLong(), anyLong())).willReturn(500L);
+                given(walletService.executeTransferPlan(any())).willReturn(settledBalances());
                 willAnswer(inv -> Optional.of(
                         CardFixture.createTradingCard(CARD_ID, seller, PRICE)
                 )).given(cardRepository).findLockedById(anyLong());
@@ -132,22 +138,44 @@ class TradeProgressServiceImplTest extends RetryTestSupport {
                 tradeProgressService.confirmTrade(TRADE_ID, "buyer@test.com", true);
 
                 // then — priceGb(10000) - point(3000) = 7000 머니, 3000 포인트
-                verify(walletService, times(1)).deductCompositeEscrow(buyer.getId(), 7000L, 3000L);
-                verify(walletService, times(1)).depositMoney(seller.getId(), (long) PRICE);
+                verify(walletService, times(1)).executeTransferPlan(settlementPlan(7000L, 3000L));
             }
 
             @Test
-            @DisplayName("정상 : deductCompositeEscrow 장애 시 @Retryable에 의해 재시도")
-            void confirmTrade_shouldRetryOnDeductCompositeEscrowFailure() {
+            @DisplayName("정상 : 판매 대금/완료 보너스 내역은 이체 계획 적용 후 판매자 잔액으로 기록")
+            void confirmTrade_shouldRecordSellerHistoriesWithPlanBalances() {
                 // given
                 willAnswer(inv -> Optional.of(
                         TradeFixture.createDataSentTrade(TRADE_ID, buyer, seller, CARD_ID, PRICE)
                 )).given(tradeRepository).findLockedById(anyLong());
                 given(memberRepository.findByEmail(anyString())).willReturn(Optional.of(buyer));
+                given(walletService.executeTransferPlan(any())).willReturn(settledBalances());
                 willAnswer(inv -> Optional.of(
                         CardFixture.createTradingCard(CARD_ID, seller, PRICE)
                 )).given(cardRepository).findLockedById(anyLong());
-                given(walletService.deductCompositeEscrow(anyLong(), anyLong(), anyLong()))
+
+                // when
+                tradeProgressService.confirmTrade(TRADE_ID, "buyer@test.com", true);
+
+                // then
+                verify(assetRecorder).recordTradeSell(
+                        eq(seller.getId()), eq(TRADE_ID), anyString(), eq((long) PRICE), eq(SELLER_MONEY_AFTER));
+                verify(assetRecorder).recordTradeCompletionBonus(
+                        seller.getId(), TRADE_ID, COMPLETION_BONUS, SELLER_POINT_AFTER);
+            }
+
+            @Test
+            @DisplayName("정상 : 이체 계획 장애 시 @Retryable에 의해 재시도, 판매 내역 미기록")
+            void confirmTrade_shouldRetryOnTransferPlanFailure() {
+                // given
+                willAnswer(inv -> Optional.of(
+                        TradeFixture.createDataSentTrade(TRADE_ID, buyer, seller, CARD_ID, PRICE)
+                )).given(tradeRepository).findLockedById(anyLong());
+                given(memberRepository.findByEmail(anyString())).willReturn(Optional.of(buyer));
+                willAnswer(inv -> Optional.of(
+                        CardFixture.createTradingCard(CARD_ID, seller, PRICE)
+                )).given(cardRepository).findLockedById(anyLong());
+                given(walletService.executeTransferPlan(any()))
                         .willThrow(new TransientDataAccessException("DB timeout") {
                         });
 
@@ -156,9 +184,9 @@ class TradeProgressServiceImplTest extends RetryTestSupport {
                         tradeProgressService.confirmTrade(TRADE_ID, "buyer@test.com", true)
                 ).isInstanceOf(TransientDataAccessException.class);
 
-                verify(walletService, times(3)).deductCompositeEscrow(anyLong(), anyLong(), anyLong());
-                // depositMoney는 deductCompositeEscrow 성공 이후에 호출되므로, 에스크로 차감 실패 시 미호출
-                verify(walletService, never()).depositMoney(anyLong(), anyLong());
+                verify(walletService, times(3)).executeTransferPlan(any());
+                // 판매 내역은 이체 계획 성공 이후에 기록되므로, 이체 실패 시 미기록
+                verify(assetRecorder, never()).recordTradeSell(anyLong(), anyLong(), anyString(), anyLong(), anyLong());
             }
         }
 
@@ -177,9 +205,7 @@ class TradeProgressServiceImplTest extends RetryTestSupport {
                 willAnswer(inv -> Optional.of(
                         CardFixture.createTradingCard(CARD_ID, seller, PRICE)
                 )).given(cardRepository).findLockedById(anyLong());
-                given(walletService.deductCompositeEscrow(anyLong(), anyLong(), anyLong()))
-                        .willReturn(new CompositeBalanceResult(0L, 0L, 0L, 0L));
-                given(walletService.depositMoney(anyLong(), anyLong()))
+                given(walletService.executeTransferPlan(any()))
                         .willThrow(new TransientDataAccessException("DB timeout") {
                         });
 
@@ -188,7 +214,7 @@ class TradeProgressServiceImplTest extends RetryTestSupport {
                         tradeProgressService.confirmTrade(TRADE_ID, "buyer@test.com", true)
                 ).isInstanceOf(TransientDataAccessException.class);
 
-                verify(walletService, times(3)).depositMoney(anyLong(), anyLong());
+                verify(walletService, times(3)).executeTransferPlan(any());
             }
 
             @Test
@@ -202,21 +228,18 @@ class TradeProgressServiceImplTest extends RetryTestSupport {
                 willAnswer(inv -> Optional.of(
                         CardFixture.createTradingCard(CARD_ID, seller, PRICE)
                 )).given(cardRepository).findLockedById(anyLong());
-                given(walletService.deductCompositeEscrow(anyLong(), anyLong(), anyLong()))
-                        .willReturn(new CompositeBalanceResult(0L, 0L, 0L, 0L));
-                given(walletService.depositMoney(anyLong(), anyLong()))
+                given(walletService.executeTransferPlan(any()))
                         .willThrow(new TransientDataAccessException("DB timeout") {
                         })
                         .willThrow(new TransientDataAccessException("DB timeout") {
                         })
-                        .willReturn(20000L);
-                given(walletService.depositPoint(anyLong(), anyLong())).willReturn(500L);
+                        .willReturn(settledBalances());
 
                 // when
                 tradeProgressService.confirmTrade(TRADE_ID, "buyer@test.com", true);
 
                 // then
-                verify(walletService, times(3)).depositMoney(anyLong(), anyLong());
+                verify(walletService, times(3)).executeTransferPlan(any());
             }
 
             @Test
@@ -230,9 +253,7 @@ class TradeProgressServiceImplTest extends RetryTestSupport {
                 willAnswer(inv -> Optional.of(
                         CardFixture.createTradingCard(CARD_ID, seller, PRICE)
                 )).given(cardRepository).findLockedById(anyLong());
-                given(walletService.deductCompositeEscrow(anyLong(), anyLong(), anyLong()))
-                        .willReturn(new CompositeBalanceResult(0L, 0L, 0L, 0L));
-                given(walletService.depositMoney(anyLong(), anyLong()))
+                given(walletService.executeTransferPlan(any()))
                         .willThrow(new TransientDataAccessException("DB timeout") {
                         });
 
@@ -245,4 +266,22 @@ class TradeProgressServiceImplTest extends RetryTestSupport {
             }
         }
     }
+
+    // ================= Helper ====================
+
+    // 구매자 차감 → 판매자 대금 입금 → 완료 보너스 입금 순서의 확정 이체 계획
+    private WalletTransferPlan settlementPlan(long moneyToDeduct, long pointToDeduct) {
+        return WalletTransferPlan.builder()
+                .deductCompositeEscrow(buyer.getId(), moneyToDeduct, pointToDeduct)
+                .depositMoney(seller.getId(), PRICE)
+                .depositPoint(seller.getId(), COMPLETION_BONUS)
+                .build();
+    }
+
+    private Map<Long, CompositeBalanceResult> settledBalances() {
+        return Map.of(
+                buyer.getId(), new CompositeBalanceResult(0L, 0L, 0L, 0L),
+                seller.getId(), new CompositeBalanceResult(SELLER_MONEY_AFTER, 0L, SELLER_POINT_AFTER, 0L)
+        );
+    }
 }
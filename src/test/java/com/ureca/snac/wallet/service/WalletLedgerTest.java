@@ -0,0 +1,92 @@
+package com.ureca.snac.wallet.service;
+
+import com.ureca.snac.config.WalletUpdateModeProperties;
+import com.ureca.snac.member.entity.Member;
+import com.ureca.snac.support.fixture.MemberFixture;
+import com.ureca.snac.support.fixture.WalletFixture;
+import com.ureca.snac.wallet.entity.Wallet;
+import com.ureca.snac.wallet.repository.WalletPostingRepository;
+import com.ureca.snac.wallet.repository.WalletRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * WalletLedger 단위 테스트
+ * 잠금 경로 동기화(syncLocked)가 모든 연산이 LOCKING 이면 지갑 갱신과 꼬리 잠금 조회를 생략하는지 검증
+ */
+@DisplayName("WalletLedger 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class WalletLedgerTest {
+
+    @Mock
+    private WalletRepository walletRepository;
+
+    @Mock
+    private WalletPostingRepository postingRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private Wallet wallet;
+
+    @BeforeEach
+    void setUp() {
+        Member member = MemberFixture.createMember(1L);
+        wallet = WalletFixture.createWalletWithBalance(member, 10000L, 0L);
+    }
+
+    private WalletLedger createLedger(WalletUpdateMode depositMode) {
+        WalletUpdateMode locking = WalletUpdateMode.LOCKING;
+        return new WalletLedger(walletRepository, postingRepository, entityManager, transactionManager,
+                new SimpleMeterRegistry(),
+                new WalletUpdateModeProperties(depositMode, locking, depositMode, locking, locking, locking),
+                100);
+    }
+
+    @Nested
+    @DisplayName("syncLocked 메서드")
+    class SyncLockedTest {
+
+        @Test
+        @DisplayName("정상 : 모든 연산이 LOCKING 이면 지갑 갱신과 꼬리 조회 생략")
+        void syncLocked_allLocking_skipsFold() {
+            // given
+            WalletLedger ledger = createLedger(WalletUpdateMode.LOCKING);
+
+            // when
+            ledger.syncLocked(wallet);
+
+            // then
+            verifyNoInteractions(entityManager, postingRepository);
+        }
+
+        @Test
+        @DisplayName("정상 : LEDGER 연산이 있으면 지갑 갱신 후 꼬리 접기")
+        void syncLocked_ledgerEnabled_folds() {
+            // given
+            WalletLedger ledger = createLedger(WalletUpdateMode.LEDGER);
+
+            // when
+            ledger.syncLocked(wallet);
+
+            // then
+            verify(entityManager).refresh(wallet);
+            verify(postingRepository).findTailLocked(any(), any());
+        }
+    }
+}
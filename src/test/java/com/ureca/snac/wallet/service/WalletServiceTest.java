@@ -1,6 +1,8 @@
 package com.ureca.snac.wallet.service;
 
+import com.ureca.snac.asset.entity.AssetType;
 import com.ureca.snac.common.metric.TransactionAwareMetricRecorder;
+import com.ureca.snac.config.WalletUpdateModeProperties;
 import com.ureca.snac.member.entity.Member;
 import com.ureca.snac.member.exception.MemberNotFoundException;
 import com.ureca.snac.member.repository.MemberRepository;
@@ -8,6 +10,7 @@ import com.ureca.snac.support.fixture.MemberFixture;
 import com.ureca.snac.support.fixture.WalletFixture;
 import com.ureca.snac.wallet.dto.CompositeBalanceResult;
 import com.ureca.snac.wallet.dto.WalletAvailableBalanceResponse;
+import com.ureca.snac.wallet.dto.WalletTransferPlan;
 import com.ureca.snac.wallet.entity.Wallet;
 import com.ureca.snac.wallet.event.WalletCreatedEvent;
 import com.ureca.snac.wallet.exception.InsufficientBalanceException;
@@ -23,12 +26,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
@@ -52,13 +61,40 @@ class WalletServiceTest {
     @Mock
     private TransactionAwareMetricRecorder metricRecorder;
 
+    @Mock
+    private ConditionalWalletUpdater conditionalWalletUpdater;
+
+    @Mock
+    private WalletBalanceCache balanceCache;
+
+    @Mock
+    private WalletLedger ledger;
+
     @BeforeEach
     void setUp() {
-        walletService = new WalletServiceImpl(
+        walletService = createWalletService(WalletUpdateMode.LOCKING);
+        // 기본은 캐시 미적중 → loader(DB) 조회
+        lenient().when(balanceCache.get(any(), any()))
+                .thenAnswer(inv -> inv.<Supplier<CompositeBalanceResult>>getArgument(1).get());
+        // 기본은 원장 미반영 꼬리 없음 → 스냅샷 그대로
+        lenient().when(ledger.withTail(any(), any()))
+                .thenAnswer(inv -> inv.getArgument(1));
+    }
+
+    private WalletServiceImpl createWalletService(WalletUpdateMode mode) {
+        return createWalletService(new WalletUpdateModeProperties(mode, mode, mode, mode, mode, mode));
+    }
+
+    private WalletServiceImpl createWalletService(WalletUpdateModeProperties updateMode) {
+        return new WalletServiceImpl(
                 walletRepository,
                 memberRepository,
                 eventPublisher,
-                metricRecorder
+                metricRecorder,
+                updateMode,
+                conditionalWalletUpdater,
+                balanceCache,
+                ledger
         );
     }
 
@@ -149,6 +185,20 @@ class WalletServiceTest {
             assertThat(finalBalance).isEqualTo(13000L);
         }
 
+        @Test
+        @DisplayName("정상 : depositMoney - 커밋 후 잔액 캐시 무효화 등록")
+        void depositMoney_shouldEvictBalanceCacheAfterCommit() {
+            // given
+            given(walletRepository.findByMemberIdWithLock(member.getId()))
+                    .willReturn(Optional.of(wallet));
+
+            // when
+            walletService.depositMoney(member.getId(), 3000L);
+
+            // then
+            verify(balanceCache).evictAfterCommit(member.getId());
+        }
+
         @Test
         @DisplayName("정상 : withdrawMoney - 출금 후 잔액 반환")
         void withdrawMoney_shouldReturnFinalBalance() {
@@ -575,6 +625,22 @@ class WalletServiceTest {
             assertThat(response.pointBalance()).isEqualTo(2000L);
         }
 
+        @Test
+        @DisplayName("정상 : getWalletSummary - 캐시 적중 시 DB 조회 없이 스냅샷 반환")
+        void getWalletSummary_cacheHit_skipsRepository() {
+            // given
+            given(balanceCache.get(eq(1L), any()))
+                    .willReturn(new CompositeBalanceResult(7000L, 0L, 500L, 0L));
+
+            // when
+            WalletAvailableBalanceResponse response = walletService.getWalletSummary(1L);
+
+            // then
+            assertThat(response.moneyBalance()).isEqualTo(7000L);
+            assertThat(response.pointBalance()).isEqualTo(500L);
+            verify(walletRepository, never()).findByMemberId(any());
+        }
+
         @Test
         @DisplayName("예외 : getWalletSummary - 지갑 없으면 WalletNotFoundException")
         void getWalletSummary_walletNotFound_shouldThrow() {
@@ -721,4 +787,236 @@ class WalletServiceTest {
                     .isInstanceOf(InsufficientBalanceException.class);
         }
     }
+
+    @Nested
+    @DisplayName("executeTransferPlan 메서드")
+    class TransferPlanTest {
+
+        private Member seller;
+        private Member buyer;
+        private Wallet sellerWallet;
+        private Wallet buyerWallet;
+
+        @BeforeEach
+        void setUp() {
+            seller = MemberFixture.createMember(1L);
+            buyer = MemberFixture.createMember(2L);
+            sellerWallet = WalletFixture.createWalletWithBalance(seller, 0L, 0L);
+            buyerWallet = WalletFixture.createWalletWithBalance(buyer, 10000L, 0L);
+            buyerWallet.moveCompositeToEscrow(10000L, 0L);
+        }
+
+        @Test
+        @DisplayName("정상 : 계획 등록 순서와 무관하게 회원 ID 오름차순으로 한 번에 잠금 후 적용")
+        void executeTransferPlan_locksInAscendingMemberIdOrder() {
+            // given — 구매자(2) 차감을 판매자(1) 입금보다 먼저 등록
+            WalletTransferPlan plan = WalletTransferPlan.builder()
+                    .deductCompositeEscrow(buyer.getId(), 10000L, 0L)
+                    .depositMoney(seller.getId(), 10000L)
+                    .build();
+            given(walletRepository.findAllByMemberIdInWithLock(any()))
+                    .willReturn(List.of(sellerWallet, buyerWallet));
+
+            // when
+            Map<Long, CompositeBalanceResult> balances = walletService.executeTransferPlan(plan);
+
+            // then
+            verify(walletRepository).findAllByMemberIdInWithLock(
+                    argThat(ids -> List.copyOf(ids).equals(List.of(seller.getId(), buyer.getId()))));
+            verify(walletRepository, never()).findByMemberIdWithLock(any());
+
+            assertThat(balances.get(buyer.getId()).moneyEscrow()).isZero();
+            assertThat(balances.get(seller.getId()).moneyBalance()).isEqualTo(10000L);
+        }
+
+        @Test
+        @DisplayName("예외 : 계획의 지갑 중 하나라도 없으면 WalletNotFoundException")
+        void executeTransferPlan_missingWallet_shouldThrow() {
+            // given
+            WalletTransferPlan plan = WalletTransferPlan.builder()
+                    .deductCompositeEscrow(buyer.getId(), 10000L, 0L)
+                    .depositMoney(seller.getId(), 10000L)
+                    .build();
+            given(walletRepository.findAllByMemberIdInWithLock(any()))
+                    .willReturn(List.of(buyerWallet));
+
+            // when & then
+            assertThatThrownBy(() -> walletService.executeTransferPlan(plan))
+                    .isInstanceOf(WalletNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("예외 : 단계 적용 실패 시 예외 전파 (트랜잭션 전체 롤백)")
+        void executeTransferPlan_stepFailure_shouldThrow() {
+            // given — 에스크로보다 많은 금액 차감
+            WalletTransferPlan plan = WalletTransferPlan.builder()
+                    .depositMoney(seller.getId(), 20000L)
+                    .deductCompositeEscrow(buyer.getId(), 20000L, 0L)
+                    .build();
+            given(walletRepository.findAllByMemberIdInWithLock(any()))
+                    .willReturn(List.of(sellerWallet, buyerWallet));
+
+            // when & then
+            assertThatThrownBy(() -> walletService.executeTransferPlan(plan))
+                    .isInstanceOf(InsufficientBalanceException.class);
+        }
+
+        @Test
+        @DisplayName("정상 : 차감 CONDITIONAL, 입금 LEDGER 설정이면 지갑을 잠그지 않고 연산별 방식으로 적용")
+        void executeTransferPlan_honoursUpdateModes() {
+            // given
+            walletService = createWalletService(new WalletUpdateModeProperties(
+                    WalletUpdateMode.LEDGER, WalletUpdateMode.LOCKING, WalletUpdateMode.LEDGER,
+                    WalletUpdateMode.LOCKING, WalletUpdateMode.LOCKING, WalletUpdateMode.CONDITIONAL));
+            WalletTransferPlan plan = WalletTransferPlan.builder()
+                    .deductCompositeEscrow(buyer.getId(), 10000L, 0L)
+                    .depositMoney(seller.getId(), 10000L)
+                    .build();
+            given(walletRepository.findBalanceByMemberId(seller.getId()))
+                    .willReturn(Optional.of(new CompositeBalanceResult(10000L, 0L, 0L, 0L)));
+            given(walletRepository.findBalanceByMemberId(buyer.getId()))
+                    .willReturn(Optional.of(new CompositeBalanceResult(0L, 0L, 0L, 0L)));
+
+            // when
+            Map<Long, CompositeBalanceResult> balances = walletService.executeTransferPlan(plan);
+
+            // then
+            verify(conditionalWalletUpdater).deductCompositeEscrow(buyer.getId(), 10000L, 0L);
+            verify(ledger).postCredit(seller.getId(), AssetType.MONEY, 10000L, "transfer_plan");
+            verify(walletRepository, never()).findAllByMemberIdInWithLock(any());
+            verify(walletRepository, never()).findByMemberIdWithLock(any());
+            assertThat(balances.get(seller.getId()).moneyBalance()).isEqualTo(10000L);
+        }
+
+        @Test
+        @DisplayName("정상 : LOCKING 단계가 있는 지갑만 잠그고 나머지는 연산별 방식으로 적용")
+        void executeTransferPlan_locksOnlyLockingWallets() {
+            // given — 입금만 LEDGER
+            walletService = createWalletService(new WalletUpdateModeProperties(
+                    WalletUpdateMode.LEDGER, WalletUpdateMode.LOCKING, WalletUpdateMode.LOCKING,
+                    WalletUpdateMode.LOCKING, WalletUpdateMode.LOCKING, WalletUpdateMode.LOCKING));
+            WalletTransferPlan plan = WalletTransferPlan.builder()
+                    .deductCompositeEscrow(buyer.getId(), 10000L, 0L)
+                    .depositMoney(seller.getId(), 10000L)
+                    .build();
+            given(walletRepository.findByMemberIdWithLock(buyer.getId())).willReturn(Optional.of(buyerWallet));
+            given(walletRepository.findBalanceByMemberId(seller.getId()))
+                    .willReturn(Optional.of(new CompositeBalanceResult(10000L, 0L, 0L, 0L)));
+
+            // when
+            Map<Long, CompositeBalanceResult> balances = walletService.executeTransferPlan(plan);
+
+            // then
+            verify(walletRepository, never()).findByMemberIdWithLock(seller.getId());
+            verify(ledger).postCredit(seller.getId(), AssetType.MONEY, 10000L, "transfer_plan");
+            assertThat(balances.get(buyer.getId()).moneyEscrow()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("CONDITIONAL 모드")
+    class ConditionalModeTest {
+
+        @BeforeEach
+        void setUpConditional() {
+            walletService = createWalletService(WalletUpdateMode.CONDITIONAL);
+        }
+
+        @Test
+        @DisplayName("정상 : 잠금 조회 없이 조건부 UPDATE 로 입금")
+        void depositMoney_conditional_skipsLock() {
+            // given
+            given(conditionalWalletUpdater.depositMoney(1L, 5000L)).willReturn(15000L);
+
+            // when
+            long finalBalance = walletService.depositMoney(1L, 5000L);
+
+            // then
+            assertThat(finalBalance).isEqualTo(15000L);
+            verify(walletRepository, never()).findByMemberIdWithLock(any());
+            verify(metricRecorder).increment("wallet_operation_total", "type", "deposit_money", "mode", "CONDITIONAL");
+        }
+
+        @Test
+        @DisplayName("예외 : 조건부 UPDATE 잔액 부족은 그대로 전파")
+        void moveCompositeToEscrow_conditionalInsufficient_shouldThrow() {
+            // given
+            given(conditionalWalletUpdater.moveCompositeToEscrow(1L, 10000L, 0L))
+                    .willThrow(new InsufficientBalanceException());
+
+            // when & then
+            assertThatThrownBy(() -> walletService.moveCompositeToEscrow(1L, 10000L, 0L))
+                    .isInstanceOf(InsufficientBalanceException.class);
+            verify(walletRepository, never()).findByMemberIdWithLock(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("LEDGER 모드")
+    class LedgerModeTest {
+
+        @BeforeEach
+        void setUpLedger() {
+            WalletUpdateMode locking = WalletUpdateMode.LOCKING;
+            walletService = createWalletService(new WalletUpdateModeProperties(
+                    WalletUpdateMode.LEDGER, locking, WalletUpdateMode.LEDGER, locking, locking, locking));
+        }
+
+        @Test
+        @DisplayName("정상 : 지갑 행 잠금 없이 원장 분개로 입금")
+        void depositMoney_ledger_postsWithoutLock() {
+            // given
+            given(ledger.postCredit(1L, AssetType.MONEY, 5000L, "deposit_money")).willReturn(15000L);
+
+            // when
+            long finalBalance = walletService.depositMoney(1L, 5000L);
+
+            // then
+            assertThat(finalBalance).isEqualTo(15000L);
+            verify(walletRepository, never()).findByMemberIdWithLock(any());
+            verify(balanceCache).evictAfterCommit(1L);
+            verify(metricRecorder).increment("wallet_operation_total", "type", "deposit_money", "mode", "LEDGER");
+        }
+
+        @Test
+        @DisplayName("정상 : 잠금 경로는 변경 전 원장 꼬리를 먼저 접음 (접기 생략 여부는 원장이 판단)")
+        void withdrawMoney_locking_foldsLedgerTailFirst() {
+            // given
+            Member member = MemberFixture.createMember(1L);
+            Wallet wallet = WalletFixture.createWalletWithBalance(member, 10000L, 0L);
+            given(walletRepository.findByMemberIdWithLock(1L)).willReturn(Optional.of(wallet));
+
+            // when
+            walletService.withdrawMoney(1L, 3000L);
+
+            // then
+            verify(ledger).syncLocked(wallet);
+        }
+
+        @Test
+        @DisplayName("정상 : 조회 잔액은 스냅샷에 원장 꼬리를 더함")
+        void getMoneyBalance_includesLedgerTail() {
+            // given
+            Member member = MemberFixture.createMember(1L);
+            Wallet wallet = WalletFixture.createWalletWithBalance(member, 10000L, 0L);
+            given(walletRepository.findByMemberId(1L)).willReturn(Optional.of(wallet));
+            given(ledger.withTail(eq(1L), any()))
+                    .willReturn(new CompositeBalanceResult(12000L, 0L, 0L, 0L));
+
+            // when
+            long balance = walletService.getMoneyBalance(1L);
+
+            // then
+            assertThat(balance).isEqualTo(12000L);
+        }
+
+        @Test
+        @DisplayName("예외 : 잔액 검증이 필요한 연산은 LEDGER 모드 설정 불가")
+        void ledgerMode_onDebitOperation_shouldReject() {
+            WalletUpdateMode ledgerMode = WalletUpdateMode.LEDGER;
+            assertThatThrownBy(() -> new WalletUpdateModeProperties(
+                    ledgerMode, ledgerMode, ledgerMode, ledgerMode, ledgerMode, ledgerMode))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
 }